@@ -1,11 +1,11 @@
 package com.alexartauddev.licenseforge.application.application.service;
 
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.web.dto.application.ApplicationDTO;
 import com.alexartauddev.licenseforge.web.request.application.CreateApplicationRequest;
 import com.alexartauddev.licenseforge.web.request.application.UpdateApplicationRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ApplicationService {
@@ -13,7 +13,7 @@ public interface ApplicationService {
 
     ApplicationDTO getApplicationById(UUID id);
 
-    List<ApplicationDTO> getApplicationsByRealmId(UUID realmId, int page, int size);
+    CursorPage<ApplicationDTO> getApplicationsByRealmId(UUID realmId, String cursor, int page, int size);
 
     ApplicationDTO updateApplication(UUID id, UpdateApplicationRequest request);
 
@@ -2,11 +2,19 @@ package com.alexartauddev.licenseforge.application.application.service.impl;
 
 import com.alexartauddev.licenseforge.application.application.mapper.ApplicationMapper;
 import com.alexartauddev.licenseforge.application.application.service.ApplicationService;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.common.enrichment.BatchLoader;
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
+import com.alexartauddev.licenseforge.application.company.quota.QuotaService;
 import com.alexartauddev.licenseforge.application.license.service.LicenseService;
 import com.alexartauddev.licenseforge.domain.application.entity.Application;
 import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.web.dto.application.ApplicationDTO;
 import com.alexartauddev.licenseforge.web.exception.application.ApplicationNotFoundException;
+import com.alexartauddev.licenseforge.web.exception.application.InvalidLicenseKeyFormatException;
 import com.alexartauddev.licenseforge.web.request.application.CreateApplicationRequest;
 import com.alexartauddev.licenseforge.web.request.application.UpdateApplicationRequest;
 import lombok.RequiredArgsConstructor;
@@ -15,8 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +33,9 @@ public class ApplicationServiceImpl implements ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final ApplicationMapper applicationMapper;
     private final LicenseService licenseService;
+    private final CacheInvalidationBus invalidationBus;
+    private final TenantHierarchy tenantHierarchy;
+    private final QuotaService quotaService;
 
     @Override
     @Transactional
@@ -33,11 +44,19 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .name(request.getName())
                 .description(request.getDescription())
                 .realmId(request.getRealmId())
+                .licenseKeyPrefix(request.getLicenseKeyPrefix())
+                .licenseKeyGroupCount(request.getLicenseKeyGroupCount())
+                .licenseKeyGroupLength(request.getLicenseKeyGroupLength())
+                .licenseKeyAlphabet(request.getLicenseKeyAlphabet())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
+        validateLicenseKeyFormat(application);
+        quotaService.reserveApplication(request.getRealmId());
 
         Application savedApplication = applicationRepository.save(application);
+        invalidationBus.invalidate(CacheInvalidation.Type.APPLICATION, savedApplication.getId());
+        tenantHierarchy.applicationSaved(savedApplication);
 
         // Convert to DTO and set active licenses count
         ApplicationDTO dto = applicationMapper.toDTO(savedApplication);
@@ -60,16 +79,16 @@ public class ApplicationServiceImpl implements ApplicationService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ApplicationDTO> getApplicationsByRealmId(UUID realmId, int page, int size) {
-        return applicationRepository.findByRealmId(realmId).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(app -> {
-                    ApplicationDTO dto = applicationMapper.toDTO(app);
-                    dto.setActiveLicensesCount(licenseService.countActiveLicensesByAppId(app.getId()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<ApplicationDTO> getApplicationsByRealmId(UUID realmId, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        List<Application> applications = applicationRepository.findByRealmId(realmId, query);
+        Map<UUID, Long> activeLicensesCounts = BatchLoader.load(applications, Application::getId,
+                licenseService::countActiveLicensesByAppIds);
+        return CursorPage.of(applications, query, Application::getId, app -> {
+            ApplicationDTO dto = applicationMapper.toDTO(app);
+            dto.setActiveLicensesCount(activeLicensesCounts.getOrDefault(app.getId(), 0L));
+            return dto;
+        });
     }
 
     @Override
@@ -86,9 +105,30 @@ public class ApplicationServiceImpl implements ApplicationService {
             application.setDescription(request.getDescription());
         }
 
+        // Changing the license key format only affects the licenses created afterwards
+        if (request.getLicenseKeyPrefix() != null) {
+            application.setLicenseKeyPrefix(request.getLicenseKeyPrefix());
+        }
+
+        if (request.getLicenseKeyGroupCount() != null) {
+            application.setLicenseKeyGroupCount(request.getLicenseKeyGroupCount());
+        }
+
+        if (request.getLicenseKeyGroupLength() != null) {
+            application.setLicenseKeyGroupLength(request.getLicenseKeyGroupLength());
+        }
+
+        if (request.getLicenseKeyAlphabet() != null) {
+            application.setLicenseKeyAlphabet(request.getLicenseKeyAlphabet());
+        }
+
+        validateLicenseKeyFormat(application);
+
         application.setUpdatedAt(LocalDateTime.now());
 
         Application updatedApplication = applicationRepository.save(application);
+        invalidationBus.invalidate(CacheInvalidation.Type.APPLICATION, updatedApplication.getId());
+        tenantHierarchy.applicationSaved(updatedApplication);
 
         ApplicationDTO dto = applicationMapper.toDTO(updatedApplication);
         dto.setActiveLicensesCount(licenseService.countActiveLicensesByAppId(updatedApplication.getId()));
@@ -103,6 +143,9 @@ public class ApplicationServiceImpl implements ApplicationService {
                 .orElseThrow(() -> ApplicationNotFoundException.withId(id));
 
         applicationRepository.delete(application);
+        quotaService.releaseApplication(application.getRealmId());
+        invalidationBus.invalidate(CacheInvalidation.Type.APPLICATION, application.getId());
+        tenantHierarchy.applicationDeleted(application.getId());
     }
 
     @Override
@@ -110,4 +153,12 @@ public class ApplicationServiceImpl implements ApplicationService {
     public long countByRealmId(UUID realmId) {
         return applicationRepository.countByRealmId(realmId);
     }
-}
\ No newline at end of file
+
+    private static void validateLicenseKeyFormat(Application application) {
+        try {
+            application.getLicenseKeyFormat();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidLicenseKeyFormatException(e.getMessage());
+        }
+    }
+}
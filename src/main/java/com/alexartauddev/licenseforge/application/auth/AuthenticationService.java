@@ -15,8 +15,6 @@ import com.alexartauddev.licenseforge.web.response.auth.AuthenticationResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,7 +31,6 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
 
     @Transactional
     public AuthenticationResponse register(CreateUserRequest request) {
@@ -63,10 +60,8 @@ public class AuthenticationService {
         UserDTO userDTO = userMapper.toDTO(savedUser);
         userDTO.setCompanyName(company.getName());
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-
-        String jwtToken = jwtService.generateToken(userDetails);
-        String refreshToken = jwtService.generateRefreshToken(userDetails);
+        String jwtToken = jwtService.generateToken(savedUser);
+        String refreshToken = jwtService.generateRefreshToken(savedUser);
 
         return AuthenticationResponse.builder()
                 .accessToken(jwtToken)
@@ -92,10 +87,8 @@ public class AuthenticationService {
         companyRepository.findById(user.getCompanyId()).ifPresent(company ->
                 userDTO.setCompanyName(company.getName()));
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-
-        String jwtToken = jwtService.generateToken(userDetails);
-        String refreshToken = jwtService.generateRefreshToken(userDetails);
+        String jwtToken = jwtService.generateToken(user);
+        String refreshToken = jwtService.generateRefreshToken(user);
 
         return AuthenticationResponse.builder()
                 .accessToken(jwtToken)
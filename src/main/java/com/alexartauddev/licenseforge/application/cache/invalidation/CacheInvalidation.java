@@ -0,0 +1,34 @@
+package com.alexartauddev.licenseforge.application.cache.invalidation;
+
+/**
+ * Entry of a local cache that changed on one node and must be evicted on the others: the type of
+ * the entity and its ID, or no ID when every entry of that type must go
+ */
+public record CacheInvalidation(Type type, String id) {
+
+    public enum Type {
+        /**
+         * License, identified by its license key
+         */
+        LICENSE,
+        /**
+         * License key newly in use, identified by the key; only added to the key filters, since no
+         * cache can hold a license that did not exist yet
+         */
+        LICENSE_KEY,
+        USER,
+        COMPANY,
+        REALM,
+        APPLICATION,
+        TEAM,
+        TEAM_PERMISSION,
+        /**
+         * Permission matrix, identified by company ID
+         */
+        PERMISSION_MATRIX
+    }
+
+    public static CacheInvalidation of(Type type, Object id) {
+        return new CacheInvalidation(type, id != null ? id.toString() : null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.alexartauddev.licenseforge.application.cache.invalidation;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Invalidations published by a node in one message.
+ * Batches carrying invalidations are numbered in sequence by their node, so that a receiver which
+ * missed one notices the gap. A batch without invalidations is a heartbeat carrying the number of
+ * the last batch, and one with flushAll set stands for more invalidations than a batch holds.
+ */
+public record CacheInvalidationBatch(UUID nodeId, long sequence, boolean flushAll,
+                                     List<CacheInvalidation> invalidations) {
+
+    @JsonIgnore
+    public boolean isHeartbeat() {
+        return !flushAll && invalidations.isEmpty();
+    }
+}
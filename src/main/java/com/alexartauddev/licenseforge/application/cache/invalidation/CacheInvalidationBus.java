@@ -0,0 +1,212 @@
+package com.alexartauddev.licenseforge.application.cache.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the local caches of every node consistent with the changes made on the others.
+ * Services report what they changed once their transaction commits; invalidations are collected
+ * and coalesced, then published as one batch per flush interval. Each node evicts the entries of
+ * the batches published by the others.
+ * Batches are numbered per node, and a heartbeat carrying the last number is published when a node
+ * has been idle, so a receiver that missed a batch (broker outage, failed publish, dropped
+ * connection) notices the gap within a heartbeat interval and evicts all its caches instead.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private final CacheInvalidationPublisher publisher;
+    private final LocalCacheEvictor evictor;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long heartbeatIntervalNanos;
+    private final UUID nodeId = UUID.randomUUID();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<CacheInvalidation> pending = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> lastSequences = new ConcurrentHashMap<>();
+    private final Counter publishedCounter;
+    private final Counter failedPublishCounter;
+    private final Counter receivedCounter;
+    private final Counter fullFlushCounter;
+
+    private long lastPublishAttempt = System.nanoTime();
+
+    public CacheInvalidationBus(
+            CacheInvalidationPublisher publisher,
+            LocalCacheEvictor evictor,
+            MeterRegistry meterRegistry,
+            @Value("${licenseforge.cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${licenseforge.cache.invalidation.max-batch-size:1000}") int maxBatchSize,
+            @Value("${licenseforge.cache.invalidation.heartbeat-interval:5s}") Duration heartbeatInterval) {
+        this.publisher = publisher;
+        this.evictor = evictor;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+        this.publishedCounter = Counter.builder("licenseforge.cache.invalidation.published")
+                .description("Cache invalidations published to the other nodes")
+                .register(meterRegistry);
+        this.failedPublishCounter = Counter.builder("licenseforge.cache.invalidation.publish_failures")
+                .description("Invalidation batches that failed to publish, flushed in full by the other nodes")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("licenseforge.cache.invalidation.received")
+                .description("Cache invalidations received from the other nodes")
+                .register(meterRegistry);
+        this.fullFlushCounter = Counter.builder("licenseforge.cache.invalidation.full_flushes")
+                .description("Local caches evicted in full after missed or overflowing invalidation batches")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.cache.invalidation.pending", pending, Set::size)
+                .description("Cache invalidations waiting for the next batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ID of this node in the batches it publishes
+     */
+    public UUID getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Evict an entry on the other nodes once the current transaction commits, or on the next flush
+     * when there is none. The caller evicts its own caches.
+     */
+    public void invalidate(CacheInvalidation.Type type, Object id) {
+        if (!enabled) {
+            return;
+        }
+        CacheInvalidation invalidation = CacheInvalidation.of(type, id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.add(invalidation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.add(invalidation);
+            }
+        });
+    }
+
+    /**
+     * Evict every entry of a type on the other nodes, e.g. after a bulk delete
+     */
+    public void invalidateAll(CacheInvalidation.Type type) {
+        invalidate(type, null);
+    }
+
+    /**
+     * Publish the pending invalidations in batches of at most the maximum batch size, or a heartbeat
+     * once the node has been idle for the heartbeat interval
+     */
+    @Scheduled(fixedDelayString = "${licenseforge.cache.invalidation.flush-interval:100}")
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+        List<CacheInvalidation> invalidations = drainPending();
+        if (invalidations.isEmpty()) {
+            if (System.nanoTime() - lastPublishAttempt >= heartbeatIntervalNanos) {
+                send(new CacheInvalidationBatch(nodeId, sequence.get(), false, List.of()));
+            }
+            return;
+        }
+        // New keys are cheap to apply and not worth evicting everything for, so bulk mints are sent
+        // in full over as many batches as they take, after the evictions
+        List<CacheInvalidation> ordered = new ArrayList<>(invalidations.size());
+        List<CacheInvalidation> newKeys = new ArrayList<>();
+        for (CacheInvalidation invalidation : invalidations) {
+            if (invalidation.type() == CacheInvalidation.Type.LICENSE_KEY) {
+                newKeys.add(invalidation);
+            } else {
+                ordered.add(invalidation);
+            }
+        }
+        if (ordered.size() > maxBatchSize) {
+            // Evicting everything rebuilds the key filters as well, so the new keys go along
+            publish(true, List.of(), invalidations.size());
+            return;
+        }
+        ordered.addAll(newKeys);
+        for (int from = 0; from < ordered.size(); from += maxBatchSize) {
+            List<CacheInvalidation> chunk = ordered.subList(from, Math.min(from + maxBatchSize, ordered.size()));
+            publish(false, chunk, chunk.size());
+        }
+    }
+
+    /**
+     * Apply a batch published by any node, ignoring the ones this node published
+     */
+    public synchronized void receive(CacheInvalidationBatch batch) {
+        if (batch.nodeId().equals(nodeId)) {
+            return;
+        }
+        Long last = lastSequences.get(batch.nodeId());
+        if (last == null || batch.sequence() > last) {
+            lastSequences.put(batch.nodeId(), batch.sequence());
+        }
+
+        // Nothing is known of what a node published before its first batch reached this one
+        boolean gap = last != null && batch.sequence() > (batch.isHeartbeat() ? last : last + 1);
+        if (gap || batch.flushAll()) {
+            if (gap) {
+                log.warn("Missed cache invalidations from node {} (batch {} after {}), evicting all local caches",
+                        batch.nodeId(), batch.sequence(), last);
+            }
+            fullFlushCounter.increment();
+            evictor.evictAll();
+            return;
+        }
+        for (CacheInvalidation invalidation : batch.invalidations()) {
+            evictor.evict(invalidation);
+        }
+        receivedCounter.increment(batch.invalidations().size());
+    }
+
+    private List<CacheInvalidation> drainPending() {
+        List<CacheInvalidation> drained = new ArrayList<>();
+        for (Iterator<CacheInvalidation> iterator = pending.iterator(); iterator.hasNext(); ) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private void publish(boolean flushAll, List<CacheInvalidation> invalidations, int count) {
+        // The number is taken even if publishing fails, so the other nodes see the gap
+        long number = sequence.incrementAndGet();
+        if (send(new CacheInvalidationBatch(nodeId, number, flushAll, List.copyOf(invalidations)))) {
+            publishedCounter.increment(count);
+        }
+    }
+
+    private boolean send(CacheInvalidationBatch batch) {
+        lastPublishAttempt = System.nanoTime();
+        try {
+            publisher.publish(batch);
+            return true;
+        } catch (RuntimeException e) {
+            failedPublishCounter.increment();
+            log.warn("Failed to publish cache invalidation batch {}", batch.sequence(), e);
+            return false;
+        }
+    }
+}
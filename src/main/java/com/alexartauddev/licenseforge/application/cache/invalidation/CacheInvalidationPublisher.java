@@ -0,0 +1,13 @@
+package com.alexartauddev.licenseforge.application.cache.invalidation;
+
+/**
+ * Broadcasts cache invalidations to every node of the cluster
+ */
+public interface CacheInvalidationPublisher {
+
+    /**
+     * Publish a batch to every node, this one included. Delivery is not guaranteed: a lost batch is
+     * detected by its receivers from the sequence numbers.
+     */
+    void publish(CacheInvalidationBatch batch);
+}
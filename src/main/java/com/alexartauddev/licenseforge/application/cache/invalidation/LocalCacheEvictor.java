@@ -0,0 +1,117 @@
+package com.alexartauddev.licenseforge.application.cache.invalidation;
+
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
+import com.alexartauddev.licenseforge.application.jwt.cache.TokenVersionCache;
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyFilter;
+import com.alexartauddev.licenseforge.application.team.permission.PermissionMatrixService;
+import com.alexartauddev.licenseforge.domain.application.entity.Application;
+import com.alexartauddev.licenseforge.domain.company.entity.Company;
+import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
+import com.alexartauddev.licenseforge.domain.team.entity.Team;
+import com.alexartauddev.licenseforge.domain.team.entity.TeamPermission;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Evicts the entries of the local caches named by invalidations received from other nodes
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalCacheEvictor {
+
+    private final LicenseValidationCache validationCache;
+    private final LicenseKeyFilter keyFilter;
+    private final TokenVersionCache tokenVersionCache;
+    private final PermissionMatrixService permissionMatrixService;
+    private final TenantHierarchy tenantHierarchy;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evict the entries named by an invalidation
+     */
+    public void evict(CacheInvalidation invalidation) {
+        String id = invalidation.id();
+        switch (invalidation.type()) {
+            case LICENSE -> {
+                if (id == null) {
+                    validationCache.evictAll();
+                } else {
+                    validationCache.evict(id);
+                    // The license may have just been created, so its key must no longer be turned down
+                    keyFilter.add(id);
+                }
+            }
+            case LICENSE_KEY -> {
+                if (id != null) {
+                    keyFilter.add(id);
+                }
+            }
+            case USER -> {
+                if (id == null) {
+                    tokenVersionCache.evictAll();
+                } else {
+                    tokenVersionCache.evict(UUID.fromString(id));
+                }
+            }
+            case COMPANY -> {
+                evictEntity(Company.class, id);
+                reloadTenant(id, tenantHierarchy::reloadCompany);
+            }
+            case REALM -> {
+                evictEntity(Realm.class, id);
+                reloadTenant(id, tenantHierarchy::reloadRealm);
+            }
+            case APPLICATION -> {
+                evictEntity(Application.class, id);
+                reloadTenant(id, tenantHierarchy::reloadApplication);
+            }
+            case TEAM -> evictEntity(Team.class, id);
+            case TEAM_PERMISSION -> evictEntity(TeamPermission.class, id);
+            case PERMISSION_MATRIX -> {
+                if (id == null) {
+                    permissionMatrixService.evictAll();
+                } else {
+                    permissionMatrixService.evict(UUID.fromString(id));
+                }
+            }
+        }
+    }
+
+    /**
+     * Evict every local cache, when invalidations may have been missed
+     */
+    public void evictAll() {
+        validationCache.evictAll();
+        tokenVersionCache.evictAll();
+        permissionMatrixService.evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        // Keys minted on other nodes in the meantime are only known once the filter is rebuilt
+        Thread.ofVirtual().name("license-key-filter-rebuild").start(keyFilter::build);
+        Thread.ofVirtual().name("tenant-snapshot-rebuild").start(tenantHierarchy::rebuild);
+    }
+
+    // Once the entity itself is evicted, so that it is read again from the database
+    private void reloadTenant(String id, Consumer<UUID> reload) {
+        if (id == null) {
+            tenantHierarchy.rebuild();
+        } else {
+            reload.accept(UUID.fromString(id));
+        }
+    }
+
+    private void evictEntity(Class<?> entityType, String id) {
+        if (id == null) {
+            entityManagerFactory.getCache().evict(entityType);
+        } else {
+            entityManagerFactory.getCache().evict(entityType, UUID.fromString(id));
+        }
+        // Cached query results may list the entity
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+    }
+}
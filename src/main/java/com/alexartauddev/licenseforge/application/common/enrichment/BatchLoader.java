@@ -0,0 +1,34 @@
+package com.alexartauddev.licenseforge.application.common.enrichment;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves a relation for a whole list of rows with a single grouped query.
+ * DTO assembly collects the keys of the rows it is about to map, loads them once per relation,
+ * and reads the result while mapping, instead of issuing one lookup per row.
+ */
+public final class BatchLoader {
+
+    private BatchLoader() {
+    }
+
+    /**
+     * Load the values of the distinct non-null keys of the given rows.
+     * No query is issued when there are no keys. The returned map can be read with the null key
+     * of a row without a relation.
+     */
+    public static <E, K, V> Map<K, V> load(Collection<E> rows, Function<E, K> keyOf,
+                                           Function<Set<K>, Map<K, V>> query) {
+        Set<K> keys = rows.stream()
+                .map(keyOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return keys.isEmpty() ? new HashMap<>() : new HashMap<>(query.apply(keys));
+    }
+}
@@ -0,0 +1,59 @@
+package com.alexartauddev.licenseforge.application.common.pagination;
+
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
+import com.alexartauddev.licenseforge.web.exception.common.InvalidPageRequestException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A page of results with the opaque cursor of the page that follows it.
+ * The cursor is null when this page is known to be the last one.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Build the page query for a request; a cursor takes precedence over a page index
+     */
+    public static PageQuery query(String cursor, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new InvalidPageRequestException("Page must not be negative and size must be at least 1");
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return PageQuery.offset(page, size);
+        }
+        return PageQuery.after(decodeCursor(cursor), size);
+    }
+
+    /**
+     * Map a page of rows, deriving the next cursor from the ID of the last row
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, PageQuery query, Function<E, UUID> idOf, Function<E, T> mapper) {
+        String nextCursor = rows.size() == query.size() ? encodeCursor(idOf.apply(rows.get(rows.size() - 1))) : null;
+        return new CursorPage<>(rows.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public static String encodeCursor(UUID lastId) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(lastId.getMostSignificantBits());
+        buffer.putLong(lastId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static UUID decodeCursor(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException("Invalid page cursor");
+        }
+        if (bytes.length != 16) {
+            throw new InvalidPageRequestException("Invalid page cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,274 @@
+package com.alexartauddev.licenseforge.application.company.hierarchy;
+
+import com.alexartauddev.licenseforge.domain.application.entity.Application;
+import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
+import com.alexartauddev.licenseforge.domain.company.entity.Company;
+import com.alexartauddev.licenseforge.domain.company.repository.CompanyRepository;
+import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
+import com.alexartauddev.licenseforge.domain.realm.repository.RealmRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory tenant tree, read without locks through an immutable {@link TenantSnapshot}.
+ * The snapshot is built from the database at startup and then periodically, and patched in between
+ * as companies, realms and applications are written: once their transaction commits on this node,
+ * and when their cache invalidations arrive from the others.
+ * Lookups missing the snapshot, e.g. for an entity created on another node a moment ago, fall back
+ * to the repositories without patching the snapshot, so that a concurrent delete cannot be undone.
+ */
+@Slf4j
+@Component
+public class TenantHierarchy {
+
+    private final CompanyRepository companyRepository;
+    private final RealmRepository realmRepository;
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer rebuildTimer;
+    private final Counter missCounter;
+    private final Object buildLock = new Object();
+
+    private volatile TenantSnapshot snapshot = TenantSnapshot.EMPTY;
+    // Patches applied while a build is loading, applied again to the built snapshot; guarded by this
+    private List<UnaryOperator<TenantSnapshot>> patchesDuringBuild;
+
+    public TenantHierarchy(
+            CompanyRepository companyRepository,
+            RealmRepository realmRepository,
+            ApplicationRepository applicationRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.companyRepository = companyRepository;
+        this.realmRepository = realmRepository;
+        this.applicationRepository = applicationRepository;
+        // Not read-only, so that it reads from the primary: a lagging replica would drop recent tenants
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildTimer = Timer.builder("licenseforge.tenant.snapshot.rebuild")
+                .description("Time taken to rebuild the tenant snapshot from the database")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("licenseforge.tenant.snapshot.misses")
+                .description("Tenant lookups missing the snapshot and falling back to the database")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.tenant.snapshot.size", this, h -> h.snapshot.sizeInBytes())
+                .description("Estimated memory taken by the tenant snapshot")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.tenant.snapshot.companies", this, h -> h.snapshot.companyCount())
+                .description("Companies in the tenant snapshot")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.tenant.snapshot.realms", this, h -> h.snapshot.realmCount())
+                .description("Realms in the tenant snapshot")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.tenant.snapshot.applications", this, h -> h.snapshot.applicationCount())
+                .description("Applications in the tenant snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Build the snapshot from the database, at startup and then periodically to catch up with any
+     * change it missed. Changes committed while it is being built are kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${licenseforge.tenant.snapshot.rebuild-interval:3600000}",
+            initialDelayString = "${licenseforge.tenant.snapshot.rebuild-interval:3600000}")
+    public void rebuild() {
+        synchronized (buildLock) {
+            synchronized (this) {
+                patchesDuringBuild = new ArrayList<>();
+            }
+            try {
+                TenantSnapshot built = rebuildTimer.record(() -> transactionTemplate.execute(status ->
+                        TenantSnapshot.of(companyRepository.findAll(), realmRepository.findAll(),
+                                applicationRepository.findAll())));
+                synchronized (this) {
+                    for (UnaryOperator<TenantSnapshot> patch : patchesDuringBuild) {
+                        built = patch.apply(built);
+                    }
+                    snapshot = built;
+                }
+            } catch (Exception e) {
+                // The previous snapshot stays in use until the next rebuild
+                log.error("Failed to build the tenant snapshot", e);
+            } finally {
+                synchronized (this) {
+                    patchesDuringBuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Current snapshot of the tenant tree
+     */
+    public TenantSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public Optional<TenantSnapshot.CompanyNode> findCompany(UUID companyId) {
+        Optional<TenantSnapshot.CompanyNode> company = snapshot.getCompany(companyId);
+        if (company.isPresent()) {
+            return company;
+        }
+        missCounter.increment();
+        return companyRepository.findById(companyId).map(TenantSnapshot.CompanyNode::of);
+    }
+
+    public Optional<TenantSnapshot.CompanyNode> findCompanyByRealmId(String realmId) {
+        Optional<TenantSnapshot.CompanyNode> company = snapshot.getCompanyByRealmId(realmId);
+        if (company.isPresent()) {
+            return company;
+        }
+        missCounter.increment();
+        return companyRepository.findByRealmId(realmId).map(TenantSnapshot.CompanyNode::of);
+    }
+
+    /**
+     * Company owning a realm
+     */
+    public Optional<TenantSnapshot.CompanyNode> findCompanyOfRealm(UUID realmId) {
+        Optional<UUID> companyId = snapshot.getRealm(realmId).map(TenantSnapshot.RealmNode::companyId);
+        if (companyId.isEmpty()) {
+            missCounter.increment();
+            companyId = realmRepository.findById(realmId).map(Realm::getCompanyId);
+        }
+        return companyId.flatMap(this::findCompany);
+    }
+
+    /**
+     * ID of the company owning an application, through its realm
+     */
+    public Optional<UUID> findCompanyIdOfApplication(UUID appId) {
+        Optional<UUID> companyId = snapshot.getCompanyIdOfApplication(appId);
+        if (companyId.isPresent()) {
+            return companyId;
+        }
+        missCounter.increment();
+        return applicationRepository.findById(appId)
+                .flatMap(application -> realmRepository.findById(application.getRealmId()))
+                .map(Realm::getCompanyId);
+    }
+
+    /**
+     * Company owning an application, through its realm
+     */
+    public Optional<TenantSnapshot.CompanyNode> findCompanyOfApplication(UUID appId) {
+        return findCompanyIdOfApplication(appId).flatMap(this::findCompany);
+    }
+
+    /**
+     * Record a created or updated company once the current transaction commits
+     */
+    public void companySaved(Company company) {
+        afterCommit(current -> current.withCompany(company));
+    }
+
+    /**
+     * Record a deleted company once the current transaction commits
+     */
+    public void companyDeleted(UUID companyId) {
+        afterCommit(current -> current.withoutCompany(companyId));
+    }
+
+    /**
+     * Record a created or updated realm once the current transaction commits
+     */
+    public void realmSaved(Realm realm) {
+        afterCommit(current -> current.withRealm(realm));
+    }
+
+    /**
+     * Record a deleted realm once the current transaction commits
+     */
+    public void realmDeleted(UUID realmId) {
+        afterCommit(current -> current.withoutRealm(realmId));
+    }
+
+    /**
+     * Record a created or updated application once the current transaction commits
+     */
+    public void applicationSaved(Application application) {
+        afterCommit(current -> current.withApplication(application));
+    }
+
+    /**
+     * Record a deleted application once the current transaction commits
+     */
+    public void applicationDeleted(UUID appId) {
+        afterCommit(current -> current.withoutApplication(appId));
+    }
+
+    /**
+     * Reload a company changed on another node from the database
+     */
+    public void reloadCompany(UUID companyId) {
+        reload(() -> companyRepository.findById(companyId)
+                .<UnaryOperator<TenantSnapshot>>map(company -> current -> current.withCompany(company))
+                .orElse(current -> current.withoutCompany(companyId)));
+    }
+
+    /**
+     * Reload a realm changed on another node from the database
+     */
+    public void reloadRealm(UUID realmId) {
+        reload(() -> realmRepository.findById(realmId)
+                .<UnaryOperator<TenantSnapshot>>map(realm -> current -> current.withRealm(realm))
+                .orElse(current -> current.withoutRealm(realmId)));
+    }
+
+    /**
+     * Reload an application changed on another node from the database
+     */
+    public void reloadApplication(UUID appId) {
+        reload(() -> applicationRepository.findById(appId)
+                .<UnaryOperator<TenantSnapshot>>map(application -> current -> current.withApplication(application))
+                .orElse(current -> current.withoutApplication(appId)));
+    }
+
+    private void reload(Supplier<UnaryOperator<TenantSnapshot>> loader) {
+        try {
+            patch(transactionTemplate.execute(status -> loader.get()));
+        } catch (Exception e) {
+            // The snapshot stays stale for this entry until the next rebuild
+            log.warn("Failed to reload a tenant from the database", e);
+        }
+    }
+
+    private void afterCommit(UnaryOperator<TenantSnapshot> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            patch(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                patch(change);
+            }
+        });
+    }
+
+    private synchronized void patch(UnaryOperator<TenantSnapshot> change) {
+        snapshot = change.apply(snapshot);
+        if (patchesDuringBuild != null) {
+            patchesDuringBuild.add(change);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.alexartauddev.licenseforge.application.company.hierarchy;
+
+import com.alexartauddev.licenseforge.domain.application.entity.Application;
+import com.alexartauddev.licenseforge.domain.company.entity.Company;
+import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable copy of the tenant tree: companies, their realms and the applications of those realms.
+ * Every lookup is at most two hash lookups, so the company of an application is found without
+ * walking the repositories.
+ * Changes return a new snapshot that copies only the maps they touch; tenants change rarely, so
+ * the copy is cheaper than the locking a shared mutable tree would need on every read.
+ */
+public final class TenantSnapshot {
+
+    // Rough per-entry sizes with compressed references: a map slot and entry, a node, its UUIDs
+    private static final long MAP_ENTRY_BYTES = 40;
+    private static final long UUID_BYTES = 32;
+    private static final long COMPANY_NODE_BYTES = 40;
+    private static final long REALM_NODE_BYTES = 24;
+    private static final long APPLICATION_NODE_BYTES = 24;
+    private static final long STRING_BYTES = 40;
+
+    public static final TenantSnapshot EMPTY = new TenantSnapshot(Map.of(), Map.of(), Map.of(), Map.of());
+
+    private final Map<UUID, CompanyNode> companies;
+    private final Map<String, CompanyNode> companiesByRealmId;
+    private final Map<UUID, RealmNode> realms;
+    private final Map<UUID, ApplicationNode> applications;
+    private final long sizeInBytes;
+
+    private TenantSnapshot(Map<UUID, CompanyNode> companies,
+                           Map<String, CompanyNode> companiesByRealmId,
+                           Map<UUID, RealmNode> realms,
+                           Map<UUID, ApplicationNode> applications) {
+        this.companies = companies;
+        this.companiesByRealmId = companiesByRealmId;
+        this.realms = realms;
+        this.applications = applications;
+        this.sizeInBytes = estimateSize();
+    }
+
+    /**
+     * Build a snapshot of the given companies, realms and applications
+     */
+    public static TenantSnapshot of(Collection<Company> companies,
+                                    Collection<Realm> realms,
+                                    Collection<Application> applications) {
+        Map<UUID, CompanyNode> companyNodes = new HashMap<>();
+        Map<String, CompanyNode> companiesByRealmId = new HashMap<>();
+        for (Company company : companies) {
+            CompanyNode node = CompanyNode.of(company);
+            companyNodes.put(node.id(), node);
+            companiesByRealmId.put(node.realmId(), node);
+        }
+        Map<UUID, RealmNode> realmNodes = new HashMap<>();
+        for (Realm realm : realms) {
+            realmNodes.put(realm.getId(), new RealmNode(realm.getId(), realm.getCompanyId()));
+        }
+        Map<UUID, ApplicationNode> applicationNodes = new HashMap<>();
+        for (Application application : applications) {
+            applicationNodes.put(application.getId(), new ApplicationNode(application.getId(), application.getRealmId()));
+        }
+        return new TenantSnapshot(Map.copyOf(companyNodes), Map.copyOf(companiesByRealmId),
+                Map.copyOf(realmNodes), Map.copyOf(applicationNodes));
+    }
+
+    public Optional<CompanyNode> getCompany(UUID companyId) {
+        return Optional.ofNullable(companies.get(companyId));
+    }
+
+    public Optional<CompanyNode> getCompanyByRealmId(String realmId) {
+        return Optional.ofNullable(companiesByRealmId.get(realmId));
+    }
+
+    public Optional<RealmNode> getRealm(UUID realmId) {
+        return Optional.ofNullable(realms.get(realmId));
+    }
+
+    public Optional<ApplicationNode> getApplication(UUID appId) {
+        return Optional.ofNullable(applications.get(appId));
+    }
+
+    /**
+     * ID of the company owning an application, through its realm
+     */
+    public Optional<UUID> getCompanyIdOfApplication(UUID appId) {
+        ApplicationNode application = applications.get(appId);
+        if (application == null) {
+            return Optional.empty();
+        }
+        RealmNode realm = realms.get(application.realmId());
+        return realm != null ? Optional.of(realm.companyId()) : Optional.empty();
+    }
+
+    /**
+     * Snapshot with a company added or replaced
+     */
+    public TenantSnapshot withCompany(Company company) {
+        CompanyNode node = CompanyNode.of(company);
+        Map<UUID, CompanyNode> newCompanies = new HashMap<>(companies);
+        CompanyNode previous = newCompanies.put(node.id(), node);
+        Map<String, CompanyNode> newCompaniesByRealmId = new HashMap<>(companiesByRealmId);
+        if (previous != null) {
+            newCompaniesByRealmId.remove(previous.realmId());
+        }
+        newCompaniesByRealmId.put(node.realmId(), node);
+        return new TenantSnapshot(Map.copyOf(newCompanies), Map.copyOf(newCompaniesByRealmId), realms, applications);
+    }
+
+    /**
+     * Snapshot without a company; its realms are kept, as they are in the database
+     */
+    public TenantSnapshot withoutCompany(UUID companyId) {
+        CompanyNode previous = companies.get(companyId);
+        if (previous == null) {
+            return this;
+        }
+        Map<UUID, CompanyNode> newCompanies = new HashMap<>(companies);
+        newCompanies.remove(companyId);
+        Map<String, CompanyNode> newCompaniesByRealmId = new HashMap<>(companiesByRealmId);
+        newCompaniesByRealmId.remove(previous.realmId());
+        return new TenantSnapshot(Map.copyOf(newCompanies), Map.copyOf(newCompaniesByRealmId), realms, applications);
+    }
+
+    /**
+     * Snapshot with a realm added or replaced
+     */
+    public TenantSnapshot withRealm(Realm realm) {
+        Map<UUID, RealmNode> newRealms = new HashMap<>(realms);
+        newRealms.put(realm.getId(), new RealmNode(realm.getId(), realm.getCompanyId()));
+        return new TenantSnapshot(companies, companiesByRealmId, Map.copyOf(newRealms), applications);
+    }
+
+    /**
+     * Snapshot without a realm; its applications are kept, as they are in the database
+     */
+    public TenantSnapshot withoutRealm(UUID realmId) {
+        if (!realms.containsKey(realmId)) {
+            return this;
+        }
+        Map<UUID, RealmNode> newRealms = new HashMap<>(realms);
+        newRealms.remove(realmId);
+        return new TenantSnapshot(companies, companiesByRealmId, Map.copyOf(newRealms), applications);
+    }
+
+    /**
+     * Snapshot with an application added or replaced
+     */
+    public TenantSnapshot withApplication(Application application) {
+        Map<UUID, ApplicationNode> newApplications = new HashMap<>(applications);
+        newApplications.put(application.getId(), new ApplicationNode(application.getId(), application.getRealmId()));
+        return new TenantSnapshot(companies, companiesByRealmId, realms, Map.copyOf(newApplications));
+    }
+
+    /**
+     * Snapshot without an application
+     */
+    public TenantSnapshot withoutApplication(UUID appId) {
+        if (!applications.containsKey(appId)) {
+            return this;
+        }
+        Map<UUID, ApplicationNode> newApplications = new HashMap<>(applications);
+        newApplications.remove(appId);
+        return new TenantSnapshot(companies, companiesByRealmId, realms, Map.copyOf(newApplications));
+    }
+
+    public int companyCount() {
+        return companies.size();
+    }
+
+    public int realmCount() {
+        return realms.size();
+    }
+
+    public int applicationCount() {
+        return applications.size();
+    }
+
+    /**
+     * Estimated memory taken by the snapshot, from the number and kind of its entries
+     */
+    public long sizeInBytes() {
+        return sizeInBytes;
+    }
+
+    private long estimateSize() {
+        long companyBytes = 0;
+        for (CompanyNode company : companies.values()) {
+            companyBytes += 2 * MAP_ENTRY_BYTES + COMPANY_NODE_BYTES + UUID_BYTES + STRING_BYTES + company.realmId().length();
+        }
+        long realmBytes = realms.size() * (MAP_ENTRY_BYTES + REALM_NODE_BYTES + 2 * UUID_BYTES);
+        long applicationBytes = applications.size() * (MAP_ENTRY_BYTES + APPLICATION_NODE_BYTES + 2 * UUID_BYTES);
+        return companyBytes + realmBytes + applicationBytes;
+    }
+
+    /**
+     * Company with the settings needed without loading it: its realm ID string and its quotas
+     */
+    public record CompanyNode(UUID id, String realmId, int quotaApps, int quotaKeysPerApp, Company.PlanType planType) {
+
+        static CompanyNode of(Company company) {
+            return new CompanyNode(company.getId(), company.getRealmId(), company.getQuotaApps(),
+                    company.getQuotaKeysPerApp(), company.getPlanType());
+        }
+    }
+
+    public record RealmNode(UUID id, UUID companyId) {
+    }
+
+    public record ApplicationNode(UUID id, UUID realmId) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.alexartauddev.licenseforge.application.company.quota;
+
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
+import com.alexartauddev.licenseforge.domain.company.repository.TenantUsageRepository;
+import com.alexartauddev.licenseforge.web.exception.company.QuotaExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Enforces the application quota of companies and the license key quota of their applications.
+ * Usage is recorded per company and per application in the database, where creates reserve their
+ * share with a conditional update that fails past the quota, so quotas hold across instances; the
+ * quotas themselves come from the tenant snapshot.
+ * Each instance also keeps the last usage it knows of in memory, so that creates already past the
+ * quota are turned down without touching the database. Deletes on other instances only lower it on
+ * the next refresh, so it may stay above the actual usage until then; the reservation remains the
+ * last word within the quota.
+ */
+@Slf4j
+@Component
+public class QuotaService {
+
+    private final TenantUsageRepository tenantUsageRepository;
+    private final TenantHierarchy tenantHierarchy;
+    private final Counter applicationRejections;
+    private final Counter licenseKeyRejections;
+
+    private volatile Map<UUID, AtomicLong> applicationUsage = new ConcurrentHashMap<>();
+    private volatile Map<UUID, AtomicLong> licenseKeyUsage = new ConcurrentHashMap<>();
+
+    public QuotaService(
+            TenantUsageRepository tenantUsageRepository,
+            TenantHierarchy tenantHierarchy,
+            MeterRegistry meterRegistry) {
+        this.tenantUsageRepository = tenantUsageRepository;
+        this.tenantHierarchy = tenantHierarchy;
+        this.applicationRejections = Counter.builder("licenseforge.quota.rejections")
+                .description("Creates turned down for exceeding a quota")
+                .tag("quota", "applications")
+                .register(meterRegistry);
+        this.licenseKeyRejections = Counter.builder("licenseforge.quota.rejections")
+                .description("Creates turned down for exceeding a quota")
+                .tag("quota", "license_keys")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load the usage recorded in the database, at startup and then periodically to catch up with
+     * the deletes made on other instances
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${licenseforge.quota.refresh-interval:60000}",
+            initialDelayString = "${licenseforge.quota.refresh-interval:60000}")
+    public void refresh() {
+        try {
+            applicationUsage = load(TenantUsageRepository.Scope.COMPANY_APPS);
+            licenseKeyUsage = load(TenantUsageRepository.Scope.APP_LICENSES);
+        } catch (Exception e) {
+            // The usage known so far stays in use until the next refresh
+            log.error("Failed to load the quota usage", e);
+        }
+    }
+
+    /**
+     * Reserve an application in the quota of the company owning a realm, for the current transaction
+     *
+     * @throws QuotaExceededException if the company has no application left in its quota
+     */
+    public void reserveApplication(UUID realmId) {
+        tenantHierarchy.findCompanyOfRealm(realmId).ifPresent(company ->
+                reserve(TenantUsageRepository.Scope.COMPANY_APPS, applicationUsage, company.id(), 1,
+                        company.quotaApps(), applicationRejections,
+                        () -> QuotaExceededException.applications(company.id(), company.quotaApps())));
+    }
+
+    /**
+     * Give back an application of the company owning a realm once the current transaction commits
+     */
+    public void releaseApplication(UUID realmId) {
+        tenantHierarchy.findCompanyOfRealm(realmId).ifPresent(company ->
+                release(TenantUsageRepository.Scope.COMPANY_APPS, applicationUsage, company.id(), 1));
+    }
+
+    /**
+     * Give back applications of a company once the current transaction commits
+     */
+    public void releaseApplications(UUID companyId, long count) {
+        if (count > 0) {
+            release(TenantUsageRepository.Scope.COMPANY_APPS, applicationUsage, companyId, count);
+        }
+    }
+
+    /**
+     * Reserve license keys in the quota of an application, for the current transaction
+     *
+     * @throws QuotaExceededException if the application has not enough license keys left in its quota
+     */
+    public void reserveLicenseKeys(UUID appId, int count) {
+        tenantHierarchy.findCompanyOfApplication(appId).ifPresent(company ->
+                reserve(TenantUsageRepository.Scope.APP_LICENSES, licenseKeyUsage, appId, count,
+                        company.quotaKeysPerApp(), licenseKeyRejections,
+                        () -> QuotaExceededException.licenseKeys(appId, company.quotaKeysPerApp())));
+    }
+
+    /**
+     * Give back license keys of an application once the current transaction commits
+     */
+    public void releaseLicenseKeys(UUID appId, int count) {
+        release(TenantUsageRepository.Scope.APP_LICENSES, licenseKeyUsage, appId, count);
+    }
+
+    /**
+     * Last usage known to this instance of the applications of a company
+     */
+    public long getApplicationUsage(UUID companyId) {
+        AtomicLong usage = applicationUsage.get(companyId);
+        return usage != null ? usage.get() : 0;
+    }
+
+    /**
+     * Last usage known to this instance of the license keys of an application
+     */
+    public long getLicenseKeyUsage(UUID appId) {
+        AtomicLong usage = licenseKeyUsage.get(appId);
+        return usage != null ? usage.get() : 0;
+    }
+
+    private void reserve(TenantUsageRepository.Scope scope, Map<UUID, AtomicLong> usageByScope, UUID scopeId,
+                         long amount, long limit, Counter rejections, Supplier<QuotaExceededException> exceeded) {
+        AtomicLong usage = usageByScope.computeIfAbsent(scopeId, id -> new AtomicLong());
+        if (usage.get() + amount > limit) {
+            rejections.increment();
+            throw exceeded.get();
+        }
+
+        OptionalLong reserved = tenantUsageRepository.reserve(scope, scopeId, amount, limit);
+        if (reserved.isEmpty()) {
+            // Another instance took the rest of the quota: at least this much is in use
+            usage.accumulateAndGet(limit - amount + 1, Math::max);
+            rejections.increment();
+            throw exceeded.get();
+        }
+        usage.accumulateAndGet(reserved.getAsLong(), Math::max);
+        // The reservation is rolled back with the transaction, and must be given back in memory too
+        onRollback(() -> usage.accumulateAndGet(amount, (current, released) -> Math.max(0, current - released)));
+    }
+
+    private void release(TenantUsageRepository.Scope scope, Map<UUID, AtomicLong> usageByScope, UUID scopeId,
+                         long amount) {
+        tenantUsageRepository.release(scope, scopeId, amount);
+        AtomicLong usage = usageByScope.computeIfAbsent(scopeId, id -> new AtomicLong());
+        onCommit(() -> usage.accumulateAndGet(amount, (current, released) -> Math.max(0, current - released)));
+    }
+
+    private Map<UUID, AtomicLong> load(TenantUsageRepository.Scope scope) {
+        Map<UUID, AtomicLong> usage = new ConcurrentHashMap<>();
+        tenantUsageRepository.findUsage(scope).forEach((id, used) -> usage.put(id, new AtomicLong(used)));
+        return usage;
+    }
+
+    private static void onCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
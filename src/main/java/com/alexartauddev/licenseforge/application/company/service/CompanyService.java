@@ -1,11 +1,11 @@
 package com.alexartauddev.licenseforge.application.company.service;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.domain.company.entity.Company;
 import com.alexartauddev.licenseforge.web.dto.company.CompanyDTO;
 import com.alexartauddev.licenseforge.web.request.company.CreateCompanyRequest;
 import com.alexartauddev.licenseforge.web.request.company.UpdateCompanyRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface CompanyService {
@@ -15,9 +15,9 @@ public interface CompanyService {
 
     CompanyDTO getCompanyByRealmId(String realmId);
 
-    List<CompanyDTO> getAllCompanies(int page, int size);
+    CursorPage<CompanyDTO> getAllCompanies(String cursor, int page, int size);
 
-    List<CompanyDTO> getCompaniesByPlanType(Company.PlanType planType, int page, int size);
+    CursorPage<CompanyDTO> getCompaniesByPlanType(Company.PlanType planType, String cursor, int page, int size);
 
     CompanyDTO updateCompany(UUID id, UpdateCompanyRequest request);
 
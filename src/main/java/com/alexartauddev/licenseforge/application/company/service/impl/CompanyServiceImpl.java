@@ -1,7 +1,13 @@
 package com.alexartauddev.licenseforge.application.company.service.impl;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.common.enrichment.BatchLoader;
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
 import com.alexartauddev.licenseforge.application.company.mapper.CompanyMapper;
 import com.alexartauddev.licenseforge.application.company.service.CompanyService;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.company.entity.Company;
 import com.alexartauddev.licenseforge.domain.company.repository.CompanyRepository;
 import com.alexartauddev.licenseforge.domain.realm.repository.RealmRepository;
@@ -17,8 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +35,8 @@ public class CompanyServiceImpl implements CompanyService {
     private final RealmRepository realmRepository;
     private final UserRepository userRepository;
     private final CompanyMapper companyMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final TenantHierarchy tenantHierarchy;
 
     @Override
     @Transactional
@@ -48,6 +57,8 @@ public class CompanyServiceImpl implements CompanyService {
                 .build();
 
         Company savedCompany = companyRepository.save(company);
+        invalidationBus.invalidate(CacheInvalidation.Type.COMPANY, savedCompany.getId());
+        tenantHierarchy.companySaved(savedCompany);
 
         CompanyDTO dto = companyMapper.toDTO(savedCompany);
         dto.setRealmsCount(0); // New company has no realms
@@ -84,32 +95,18 @@ public class CompanyServiceImpl implements CompanyService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<CompanyDTO> getAllCompanies(int page, int size) {
-        return companyRepository.findAll().stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(company -> {
-                    CompanyDTO dto = companyMapper.toDTO(company);
-                    dto.setRealmsCount(realmRepository.countByCompanyId(company.getId()));
-                    dto.setUsersCount(userRepository.countByCompanyId(company.getId()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<CompanyDTO> getAllCompanies(String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        List<Company> companies = companyRepository.findAll(query);
+        return CursorPage.of(companies, query, Company::getId, toDTOs(companies));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<CompanyDTO> getCompaniesByPlanType(Company.PlanType planType, int page, int size) {
-        return companyRepository.findByPlanType(planType).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(company -> {
-                    CompanyDTO dto = companyMapper.toDTO(company);
-                    dto.setRealmsCount(realmRepository.countByCompanyId(company.getId()));
-                    dto.setUsersCount(userRepository.countByCompanyId(company.getId()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<CompanyDTO> getCompaniesByPlanType(Company.PlanType planType, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        List<Company> companies = companyRepository.findByPlanType(planType, query);
+        return CursorPage.of(companies, query, Company::getId, toDTOs(companies));
     }
 
     @Override
@@ -137,6 +134,8 @@ public class CompanyServiceImpl implements CompanyService {
         company.setUpdatedAt(LocalDateTime.now());
 
         Company updatedCompany = companyRepository.save(company);
+        invalidationBus.invalidate(CacheInvalidation.Type.COMPANY, updatedCompany.getId());
+        tenantHierarchy.companySaved(updatedCompany);
 
         CompanyDTO dto = companyMapper.toDTO(updatedCompany);
         dto.setRealmsCount(realmRepository.countByCompanyId(updatedCompany.getId()));
@@ -152,17 +151,33 @@ public class CompanyServiceImpl implements CompanyService {
                 .orElseThrow(() -> CompanyNotFoundException.withId(id));
 
         companyRepository.delete(company);
+        invalidationBus.invalidate(CacheInvalidation.Type.COMPANY, company.getId());
+        tenantHierarchy.companyDeleted(company.getId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public long countCompanies() {
-        return companyRepository.findAll().size();
+        return companyRepository.count();
     }
 
     @Override
     @Transactional(readOnly = true)
     public long countByPlanType(Company.PlanType planType) {
-        return companyRepository.findByPlanType(planType).size();
+        return companyRepository.countByPlanType(planType);
+    }
+
+    /**
+     * Mapper for a list of companies whose realm and user counts are loaded with one query each
+     */
+    private Function<Company, CompanyDTO> toDTOs(List<Company> companies) {
+        Map<UUID, Long> realmCounts = BatchLoader.load(companies, Company::getId, realmRepository::countByCompanyIds);
+        Map<UUID, Long> userCounts = BatchLoader.load(companies, Company::getId, userRepository::countByCompanyIds);
+        return company -> {
+            CompanyDTO dto = companyMapper.toDTO(company);
+            dto.setRealmsCount(realmCounts.getOrDefault(company.getId(), 0L));
+            dto.setUsersCount(userCounts.getOrDefault(company.getId(), 0L));
+            return dto;
+        };
     }
 }
\ No newline at end of file
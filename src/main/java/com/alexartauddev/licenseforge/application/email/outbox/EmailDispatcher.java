@@ -0,0 +1,222 @@
+package com.alexartauddev.licenseforge.application.email.outbox;
+
+import com.alexartauddev.licenseforge.application.email.sender.SmtpEmailSender;
+import com.alexartauddev.licenseforge.domain.email.entity.EmailOutboxMessage;
+import com.alexartauddev.licenseforge.domain.email.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers outbox emails on a bounded pool of workers, outside of any business transaction.
+ * Emails are handed to the pool once the transaction that queued them commits, and a poller
+ * picks up whatever the pool could not take, failed attempts due for a retry, and emails whose
+ * worker died. Each attempt first claims the email with a lease, so an email is only delivered
+ * by one worker at a time, and failures are retried with exponential backoff until the maximum
+ * number of attempts.
+ */
+@Slf4j
+@Component
+public class EmailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final SmtpEmailSender sender;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryTimer;
+    private final Timer latencyTimer;
+
+    public EmailDispatcher(
+            EmailOutboxRepository emailOutboxRepository,
+            SmtpEmailSender sender,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${licenseforge.email.dispatcher.workers:4}") int workers,
+            @Value("${licenseforge.email.dispatcher.queue-capacity:1000}") int queueCapacity,
+            @Value("${licenseforge.email.dispatcher.batch-size:100}") int batchSize,
+            @Value("${licenseforge.email.dispatcher.max-attempts:8}") int maxAttempts,
+            @Value("${licenseforge.email.dispatcher.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${licenseforge.email.dispatcher.max-backoff:1h}") Duration maxBackoff,
+            @Value("${licenseforge.email.dispatcher.lease:2m}") Duration lease,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.sender = sender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+
+        // Virtual workers do not hold a platform thread while waiting on the mail server; the pool
+        // still bounds how many emails are sent at once
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("email-dispatcher-", 1).factory()
+                : runnable -> {
+            Thread thread = new Thread(runnable, "email-dispatcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+
+        this.sentCounter = Counter.builder("licenseforge.email.sent")
+                .description("Emails delivered")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("licenseforge.email.retried")
+                .description("Failed email attempts scheduled for a retry")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("licenseforge.email.failed")
+                .description("Emails given up on after the maximum number of attempts")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("licenseforge.email.delivery")
+                .description("Time spent handing an email to the mail server")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("licenseforge.email.latency")
+                .description("Time from queueing an email to its delivery")
+                .register(meterRegistry);
+        meterRegistry.gauge("licenseforge.email.pending", pending);
+        meterRegistry.gauge("licenseforge.email.dispatch_queue", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * Hand an email to the workers once the current transaction commits, or right away without one
+     */
+    public void dispatchAfterCommit(UUID id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(id);
+                }
+            });
+        } else {
+            dispatch(id);
+        }
+    }
+
+    /**
+     * Hand an email to the workers, leaving it to the poller when the pool is saturated
+     */
+    public void dispatch(UUID id) {
+        try {
+            executor.execute(() -> deliver(id));
+        } catch (RejectedExecutionException e) {
+            log.debug("Email dispatch queue is full, email {} is left for the next poll", id);
+        }
+    }
+
+    /**
+     * Dispatch the pending emails due for an attempt, as many as the pool can queue
+     */
+    @Scheduled(fixedDelayString = "${licenseforge.email.dispatcher.poll-interval:10000}")
+    public void poll() {
+        try {
+            pending.set(emailOutboxRepository.countPending());
+            int capacity = Math.min(batchSize, executor.getQueue().remainingCapacity());
+            if (capacity == 0) {
+                return;
+            }
+            emailOutboxRepository.findDueIds(LocalDateTime.now(), capacity).forEach(this::dispatch);
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll the email outbox, retrying on next interval", e);
+        }
+    }
+
+    /**
+     * Claim and deliver one email, recording the outcome
+     */
+    public void deliver(UUID id) {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutboxMessage message = transactionTemplate.execute(status ->
+                emailOutboxRepository.claim(id, now, now.plus(lease))
+                        ? emailOutboxRepository.findById(id).orElse(null)
+                        : null);
+        if (message == null) {
+            // Already delivered, not due yet, or claimed by another worker
+            return;
+        }
+
+        try {
+            deliveryTimer.record(() -> sender.send(message));
+        } catch (RuntimeException e) {
+            recordFailure(message, e);
+            return;
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.markSent(id, sentAt));
+        sentCounter.increment();
+        latencyTimer.record(Duration.between(message.getCreatedAt(), sentAt));
+    }
+
+    private void recordFailure(EmailOutboxMessage message, RuntimeException e) {
+        String error = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        if (message.getAttempts() >= maxAttempts) {
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    message.getId(), message.getRecipient(), message.getAttempts(), error);
+            transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.markFailed(message.getId(), error));
+            failedCounter.increment();
+            return;
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(message.getAttempts()));
+        log.warn("Failed to send email {} to {} (attempt {}), retrying at {}: {}",
+                message.getId(), message.getRecipient(), message.getAttempts(), nextAttemptAt, error);
+        transactionTemplate.executeWithoutResult(status ->
+                emailOutboxRepository.scheduleRetry(message.getId(), nextAttemptAt, error));
+        retriedCounter.increment();
+    }
+
+    /**
+     * Backoff after the given number of attempts, doubling from the initial backoff up to the maximum
+     */
+    public Duration backoff(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Emails still queued are picked up by the poller after a restart
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
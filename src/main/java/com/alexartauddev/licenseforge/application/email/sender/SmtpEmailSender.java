@@ -0,0 +1,80 @@
+package com.alexartauddev.licenseforge.application.email.sender;
+
+import com.alexartauddev.licenseforge.domain.email.entity.EmailOutboxMessage;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers outbox emails over SMTP, or logs them when email is disabled.
+ * Failures are thrown so the dispatcher can retry the message.
+ */
+@Slf4j
+@Component
+public class SmtpEmailSender {
+
+    private final JavaMailSender mailSender;
+    private final String fromEmail;
+    private final boolean emailEnabled;
+
+    public SmtpEmailSender(
+            JavaMailSender mailSender,
+            @Value("${spring.mail.username}") String fromEmail,
+            @Value("${licenseforge.email.enabled:false}") boolean emailEnabled) {
+        this.mailSender = mailSender;
+        this.fromEmail = fromEmail;
+        this.emailEnabled = emailEnabled;
+    }
+
+    public void send(EmailOutboxMessage message) {
+        if (!emailEnabled) {
+            logEmailContent(message.getRecipient(), message.getSubject(), message.getBody());
+            return;
+        }
+
+        if (message.isHtml()) {
+            sendHtmlMessage(message.getRecipient(), message.getSubject(), message.getBody());
+        } else {
+            sendSimpleMessage(message.getRecipient(), message.getSubject(), message.getBody());
+        }
+        log.info("Email sent to {}", message.getRecipient());
+    }
+
+    private void sendSimpleMessage(String to, String subject, String text) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromEmail);
+        message.setTo(to);
+        message.setSubject(subject);
+        message.setText(text);
+        mailSender.send(message);
+    }
+
+    private void sendHtmlMessage(String to, String subject, String htmlContent) {
+        MimeMessage message = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom(fromEmail);
+            helper.setTo(to);
+            helper.setSubject(subject);
+            helper.setText(htmlContent, true);
+        } catch (MessagingException e) {
+            throw new MailPreparationException("Failed to prepare HTML email to " + to, e);
+        }
+        mailSender.send(message);
+    }
+
+    private void logEmailContent(String to, String subject, String content) {
+        log.info("======================================================");
+        log.info("EMAIL WOULD BE SENT TO: {}", to);
+        log.info("SUBJECT: {}", subject);
+        log.info("CONTENT:");
+        log.info("{}", content);
+        log.info("======================================================");
+    }
+}
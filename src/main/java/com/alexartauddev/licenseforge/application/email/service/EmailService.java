@@ -2,6 +2,8 @@ package com.alexartauddev.licenseforge.application.email.service;
 
 /**
  * Service for sending emails
+ * Emails are queued in the email outbox within the current transaction and delivered
+ * asynchronously once it commits, so callers never wait on the mail server.
  */
 public interface EmailService {
 
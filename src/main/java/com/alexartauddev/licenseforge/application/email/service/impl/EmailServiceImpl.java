@@ -1,80 +1,50 @@
 package com.alexartauddev.licenseforge.application.email.service.impl;
 
+import com.alexartauddev.licenseforge.application.email.outbox.EmailDispatcher;
 import com.alexartauddev.licenseforge.application.email.service.EmailService;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.alexartauddev.licenseforge.domain.email.entity.EmailOutboxMessage;
+import com.alexartauddev.licenseforge.domain.email.repository.EmailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
-
-    @Value("${spring.mail.username}")
-    private String fromEmail;
-
-    @Value("${licenseforge.email.enabled:false}")
-    private boolean emailEnabled;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailDispatcher emailDispatcher;
 
     @Override
-    @Async
+    @Transactional
     public void sendSimpleMessage(String to, String subject, String text) {
-        if (!emailEnabled) {
-            logEmailContent(to, subject, text);
-            return;
-        }
-
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(text);
-            mailSender.send(message);
-            log.info("Email sent to {}", to);
-        } catch (Exception e) {
-            log.error("Failed to send email to {}: {}", to, e.getMessage());
-            // Fallback to logging
-            logEmailContent(to, subject, text);
-        }
+        enqueue(to, subject, text, false);
     }
 
     @Override
-    @Async
+    @Transactional
     public void sendHtmlMessage(String to, String subject, String htmlContent) {
-        if (!emailEnabled) {
-            logEmailContent(to, subject, htmlContent);
-            return;
-        }
-
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-            mailSender.send(message);
-        } catch (Exception e) {
-            log.error("Failed to send HTML email to {}: {}", to, e.getMessage());
-        }
+        enqueue(to, subject, htmlContent, true);
     }
 
-    private void logEmailContent(String to, String subject, String content) {
-        log.info("======================================================");
-        log.info("EMAIL WOULD BE SENT TO: {}", to);
-        log.info("SUBJECT: {}", subject);
-        log.info("CONTENT:");
-        log.info("{}", content);
-        log.info("======================================================");
+    private void enqueue(String to, String subject, String content, boolean html) {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutboxMessage message = emailOutboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(content)
+                .html(html)
+                .status(EmailOutboxMessage.Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+
+        emailDispatcher.dispatchAfterCommit(message.getId());
+        log.debug("Email {} to {} queued", message.getId(), to);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.alexartauddev.licenseforge.application.event.outbox;
+
+import com.alexartauddev.licenseforge.domain.event.entity.DomainEvent;
+import com.alexartauddev.licenseforge.domain.event.repository.DomainEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Writes domain events to the outbox table.
+ * Events must be appended in the transaction of the change they describe, so they are published
+ * if and only if that change commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventOutbox {
+
+    private final DomainEventRepository domainEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Append an event with a JSON payload to the outbox of the current transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public DomainEvent append(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+        DomainEvent event = DomainEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .createdAt(LocalDateTime.now())
+                .build();
+        return domainEventRepository.save(event);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize domain event payload", e);
+        }
+    }
+}
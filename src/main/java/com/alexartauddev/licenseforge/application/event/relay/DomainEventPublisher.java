@@ -0,0 +1,18 @@
+package com.alexartauddev.licenseforge.application.event.relay;
+
+import com.alexartauddev.licenseforge.domain.event.entity.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Publishes outbox events to the message broker
+ */
+public interface DomainEventPublisher {
+
+    /**
+     * Publish a batch of events and wait until the broker confirmed all of them.
+     * Throws when any event was not confirmed, in which case the whole batch is published again later,
+     * so consumers must deduplicate on the message ID.
+     */
+    void publish(List<DomainEvent> events);
+}
@@ -0,0 +1,103 @@
+package com.alexartauddev.licenseforge.application.event.relay;
+
+import com.alexartauddev.licenseforge.domain.event.entity.DomainEvent;
+import com.alexartauddev.licenseforge.domain.event.repository.DomainEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Relays outbox events to the message broker.
+ * Each batch is locked, published with broker confirms and marked sent in one transaction, so
+ * events are delivered at least once and a batch that failed to publish is retried on the next run.
+ * Locked rows are skipped by other instances, which lets several relays run side by side.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "licenseforge.events.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class DomainEventRelay {
+
+    private final DomainEventRepository domainEventRepository;
+    private final DomainEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+    private final Counter publishedCounter;
+    private final Counter failedRelayCounter;
+
+    public DomainEventRelay(
+            DomainEventRepository domainEventRepository,
+            DomainEventPublisher publisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${licenseforge.events.relay.batch-size:100}") int batchSize,
+            @Value("${licenseforge.events.relay.retention:7d}") Duration retention) {
+        this.domainEventRepository = domainEventRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.publishedCounter = Counter.builder("licenseforge.events.published")
+                .description("Domain events published to the message broker")
+                .register(meterRegistry);
+        this.failedRelayCounter = Counter.builder("licenseforge.events.relay_failures")
+                .description("Failed outbox relays, retried on the next interval")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publish unsent events in batches until the outbox is drained
+     */
+    @Scheduled(fixedDelayString = "${licenseforge.events.relay.interval:1000}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = publishBatch();
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            failedRelayCounter.increment();
+            log.warn("Failed to relay domain events, retrying on next interval", e);
+        }
+    }
+
+    /**
+     * Publish one batch of unsent events
+     *
+     * @return the number of events published
+     */
+    public int publishBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            List<DomainEvent> events = domainEventRepository.lockUnsent(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            publisher.publish(events);
+            domainEventRepository.markSent(events.stream().map(DomainEvent::getId).toList(), LocalDateTime.now());
+            return events.size();
+        });
+        int count = published != null ? published : 0;
+        publishedCounter.increment(count);
+        return count;
+    }
+
+    /**
+     * Delete published events once they are past the retention period
+     */
+    @Scheduled(cron = "${licenseforge.events.relay.purge-cron:0 0 3 * * *}")
+    public void purge() {
+        Integer deleted = transactionTemplate.execute(status ->
+                domainEventRepository.deleteSentBefore(LocalDateTime.now().minus(retention)));
+        log.info("Purged {} published domain events", deleted);
+    }
+}
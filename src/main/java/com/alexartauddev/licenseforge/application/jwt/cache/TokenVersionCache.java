@@ -0,0 +1,82 @@
+package com.alexartauddev.licenseforge.application.jwt.cache;
+
+import com.alexartauddev.licenseforge.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Bounded, TTL-based cache of the current token version of each user, keyed by user ID.
+ * An access token is only accepted while the version it carries is the current one, so bumping
+ * the version revokes every token issued before. Deleted users are cached as having no version.
+ */
+@Component
+public class TokenVersionCache {
+
+    static final String CACHE_NAME = "tokenVersions";
+
+    private static final int NO_USER = -1;
+
+    private final UserRepository userRepository;
+    private final LoadingCache<UUID, Integer> cache;
+
+    public TokenVersionCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.jwt.token-version-cache.maximum-size:100000}") long maximumSize,
+            @Value("${application.security.jwt.token-version-cache.ttl:30s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(userId -> userRepository.findTokenVersionById(userId).orElse(NO_USER));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Whether a token version is the current one of an existing user
+     */
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        int current = cache.get(userId);
+        return current != NO_USER && current == tokenVersion;
+    }
+
+    /**
+     * Increment the token version of a user, revoking the tokens issued before
+     */
+    public void bump(UUID userId) {
+        userRepository.incrementTokenVersion(userId);
+        evict(userId);
+    }
+
+    /**
+     * Evict the version of a user, now and once more after the current transaction commits
+     */
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evict every version
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
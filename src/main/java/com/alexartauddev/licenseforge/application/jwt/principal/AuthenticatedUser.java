@@ -0,0 +1,32 @@
+package com.alexartauddev.licenseforge.application.jwt.principal;
+
+import com.alexartauddev.licenseforge.domain.user.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal of a request authenticated by an access token, built from the token claims alone
+ */
+public record AuthenticatedUser(UUID id, String email, User.Role role, UUID companyId, int tokenVersion)
+        implements UserDetails {
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
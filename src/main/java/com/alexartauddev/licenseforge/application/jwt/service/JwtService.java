@@ -1,10 +1,15 @@
 package com.alexartauddev.licenseforge.application.jwt.service;
 
+import com.alexartauddev.licenseforge.application.jwt.principal.AuthenticatedUser;
+import com.alexartauddev.licenseforge.domain.user.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -13,11 +18,18 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String COMPANY_ID_CLAIM = "cid";
+    static final String TOKEN_VERSION_CLAIM = "ver";
+
     @Value("${application.security.jwt.secret-key}")
     private String secretKey;
 
@@ -27,6 +39,18 @@ public class JwtService {
     @Value("${application.security.jwt.refresh-token.expiration}")
     private long refreshExpiration;
 
+    private Key signingKey;
+    private JwtParser parser;
+
+    /**
+     * Decode the signing key and build the token parser once, both are immutable and thread-safe
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -44,63 +68,94 @@ public class JwtService {
             Map<String, Object> extraClaims,
             UserDetails userDetails
     ) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        return buildToken(extraClaims, userDetails.getUsername(), jwtExpiration);
     }
 
     public String generateRefreshToken(
             UserDetails userDetails
     ) {
-        return buildToken(new HashMap<>(), userDetails, refreshExpiration);
+        return buildToken(new HashMap<>(), userDetails.getUsername(), refreshExpiration);
+    }
+
+    /**
+     * Generate an access token carrying the claims needed to authenticate the user without a lookup
+     */
+    public String generateToken(User user) {
+        return buildToken(userClaims(user), user.getEmail(), jwtExpiration);
+    }
+
+    public String generateRefreshToken(User user) {
+        return buildToken(userClaims(user), user.getEmail(), refreshExpiration);
+    }
+
+    /**
+     * Authenticate a token from its claims alone.
+     * Returns empty when the token is invalid, expired, or was issued without the user claims.
+     * The token version still has to be checked against the current version of the user.
+     */
+    public Optional<AuthenticatedUser> parseAccessToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            String userId = claims.get(USER_ID_CLAIM, String.class);
+            String role = claims.get(ROLE_CLAIM, String.class);
+            String companyId = claims.get(COMPANY_ID_CLAIM, String.class);
+            Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+            if (claims.getSubject() == null || userId == null || role == null || tokenVersion == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new AuthenticatedUser(
+                    UUID.fromString(userId),
+                    claims.getSubject(),
+                    User.Role.valueOf(role),
+                    companyId != null ? UUID.fromString(companyId) : null,
+                    tokenVersion
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            // Token is invalid, expired, malformed, or carries unknown claim values
+            return Optional.empty();
+        }
+    }
+
+    private Map<String, Object> userClaims(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId().toString());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        if (user.getCompanyId() != null) {
+            claims.put(COMPANY_ID_CLAIM, user.getCompanyId().toString());
+        }
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        return claims;
     }
 
     private String buildToken(
             Map<String, Object> extraClaims,
-            UserDetails userDetails,
+            String subject,
             long expiration
     ) {
         return Jwts
                 .builder()
                 .setClaims(extraClaims)
-                .setSubject(userDetails.getUsername())
+                .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+            // Parsing rejects expired tokens, so a single parse covers both checks
+            final String username = extractAllClaims(token).getSubject();
+            return username.equals(userDetails.getUsername());
         } catch (Exception e) {
             // Token is invalid, expired, malformed, etc.
             return false;
         }
     }
 
-    private Boolean isTokenExpired(String token) {
-        try {
-            return extractClaim(token, Claims::getExpiration).before(new Date());
-        } catch (Exception e) {
-            return true;
-        }
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return parser
                 .parseClaimsJws(token)
                 .getBody();
     }
-
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.alexartauddev.licenseforge.application.license.cache;
+
+import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded, TTL-based cache of the license state needed to answer validation requests,
+ * keyed by license key.
+ * Entries are evicted as soon as a license or its activations change, and evicted again
+ * after the surrounding transaction commits so a concurrent reader cannot re-populate
+ * the cache with pre-commit state.
+ */
+@Component
+public class LicenseValidationCache {
+
+    static final String CACHE_NAME = "licenseValidation";
+
+    private final Cache<String, Entry> cache;
+
+    public LicenseValidationCache(
+            MeterRegistry meterRegistry,
+            @Value("${licenseforge.license.validation-cache.maximum-size:100000}") long maximumSize,
+            @Value("${licenseforge.license.validation-cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the cached state for a license key, or null on a cache miss
+     */
+    public Entry get(String licenseKey) {
+        return cache.getIfPresent(licenseKey);
+    }
+
+    /**
+     * Cache the state of a license together with its current activations
+     */
+    public Entry put(License license, Collection<Activation> activations) {
+        Entry entry = Entry.of(license, activations);
+        cache.put(license.getLicenseKey(), entry);
+        return entry;
+    }
+
+    /**
+     * Evict the entry for a license key, now and once more after the current transaction commits
+     */
+    public void evict(String licenseKey) {
+        cache.invalidate(licenseKey);
+        afterCommit(() -> cache.invalidate(licenseKey));
+    }
+
+    /**
+     * Evict every entry
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Immutable snapshot of a license and the hardware IDs it is activated on
+     */
+    public record Entry(UUID licenseId,
+                        UUID appId,
+                        LocalDateTime expiresAt,
+                        boolean revoked,
+                        int maxActivations,
+                        Map<String, UUID> activationIdsByHardwareId) {
+
+        static Entry of(License license, Collection<Activation> activations) {
+            Map<String, UUID> activationIds = new HashMap<>(activations.size() * 2);
+            for (Activation activation : activations) {
+                activationIds.put(activation.getHardwareId(), activation.getId());
+            }
+            return new Entry(license.getId(), license.getAppId(), license.getExpiresAt(), license.isRevoked(),
+                    license.getMaxActivations(), Map.copyOf(activationIds));
+        }
+
+        public boolean isExpired() {
+            return expiresAt != null && LocalDateTime.now().isAfter(expiresAt);
+        }
+
+        public boolean isActivatedOn(String hardwareId) {
+            return activationIdsByHardwareId.containsKey(hardwareId);
+        }
+
+        public UUID activationIdFor(String hardwareId) {
+            return activationIdsByHardwareId.get(hardwareId);
+        }
+
+        public int activationCount() {
+            return activationIdsByHardwareId.size();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.alexartauddev.licenseforge.application.license.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload of a bulk license creation, published once per batch rather than once per license
+ */
+public record LicenseBatchEvent(
+        String type,
+        UUID appId,
+        String customerId,
+        int count,
+        LocalDateTime expiresAt,
+        int maxActivations,
+        LocalDateTime occurredAt
+) {
+
+    public static final String AGGREGATE_TYPE = "application";
+}
@@ -0,0 +1,43 @@
+package com.alexartauddev.licenseforge.application.license.event;
+
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload of a license lifecycle event, a snapshot of the license after the change.
+ * The hardware ID is only set on activation events.
+ */
+public record LicenseEvent(
+        String type,
+        UUID licenseId,
+        String licenseKey,
+        UUID appId,
+        String customerId,
+        LocalDateTime expiresAt,
+        int maxActivations,
+        int activationCount,
+        boolean revoked,
+        String hardwareId,
+        LocalDateTime occurredAt
+) {
+
+    public static final String AGGREGATE_TYPE = "license";
+
+    public static LicenseEvent of(LicenseEventType type, License license, String hardwareId) {
+        return new LicenseEvent(
+                type.getEventType(),
+                license.getId(),
+                license.getLicenseKey(),
+                license.getAppId(),
+                license.getCustomerId(),
+                license.getExpiresAt(),
+                license.getMaxActivations(),
+                license.getActivationCount(),
+                license.isRevoked(),
+                hardwareId,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.alexartauddev.licenseforge.application.license.event;
+
+/**
+ * License lifecycle events, published with their event type as routing key
+ */
+public enum LicenseEventType {
+    CREATED("license.created"),
+    BULK_CREATED("license.bulk_created"),
+    UPDATED("license.updated"),
+    REVOKED("license.revoked"),
+    DELETED("license.deleted"),
+    ACTIVATED("license.activated"),
+    DEACTIVATED("license.deactivated");
+
+    private final String eventType;
+
+    LicenseEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+}
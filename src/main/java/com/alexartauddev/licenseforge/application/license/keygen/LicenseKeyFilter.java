@@ -0,0 +1,270 @@
+package com.alexartauddev.licenseforge.application.license.keygen;
+
+import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory Bloom filter of the license keys in use.
+ * Newly generated keys are checked against it before being inserted, so that the few colliding with
+ * an existing license are generated again up front instead of being rejected by the unique
+ * constraint on the license key. Validations and activations check it before looking a key up, so
+ * that unknown keys are turned down without a query.
+ * The filter never misses a key it was given, but may report a key it was not given; such a false
+ * positive only costs the lookup the filter was meant to save. Deleted keys cannot be taken out of
+ * a Bloom filter and are only dropped by the periodic rebuild.
+ * Keys minted by another instance are added when its cache invalidations arrive, which may be only
+ * after a broker outage ends, and otherwise after the next rebuild. Turning unknown keys down is
+ * therefore disabled by default, since it would turn down a new license minted elsewhere in the
+ * meantime; it is only safe on a single instance.
+ */
+@Slf4j
+@Component
+public class LicenseKeyFilter {
+
+    private final LicenseRepository licenseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double falsePositiveRate;
+    private final long minimumCapacity;
+    private final boolean negativeLookups;
+    private final Timer rebuildTimer;
+    private final Counter rejectedCounter;
+    private final LongAdder removedSinceBuild = new LongAdder();
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+
+    public LicenseKeyFilter(
+            LicenseRepository licenseRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${licenseforge.license.key-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${licenseforge.license.key-filter.minimum-capacity:1000000}") long minimumCapacity,
+            @Value("${licenseforge.license.key-filter.negative-lookups:false}") boolean negativeLookups) {
+        this.licenseRepository = licenseRepository;
+        // PostgreSQL only streams the keys through a cursor inside a transaction. Not read-only, so
+        // that it reads from the primary: a lagging replica would miss recently minted keys, which
+        // the filter would then turn down as unknown until the next rebuild
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.falsePositiveRate = falsePositiveRate;
+        this.minimumCapacity = minimumCapacity;
+        this.negativeLookups = negativeLookups;
+        this.rebuildTimer = Timer.builder("licenseforge.license.key_filter.rebuild")
+                .description("Time taken to rebuild the license key filter from the database")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("licenseforge.license.key_filter.rejected")
+                .description("License keys turned down by the filter without a database lookup")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.license.key_filter.size", this, f -> f.filter != null ? f.filter.sizeInBytes() : 0)
+                .description("Memory taken by the license key filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.license.key_filter.keys", this, f -> f.filter != null ? f.filter.keyCount() : 0)
+                .description("License keys added to the filter since it was built")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.license.key_filter.false_positive_rate", this,
+                        f -> f.filter != null ? f.filter.expectedFalsePositiveRate() : 0)
+                .description("Estimated rate of unknown keys the filter lets through")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.license.key_filter.stale_keys", removedSinceBuild, LongAdder::sum)
+                .description("Deleted license keys still in the filter until the next rebuild")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Build the filter from the license keys in the database, at startup and then periodically to
+     * drop deleted keys and keep the false positive rate in check.
+     * Sized for twice the current number of licenses so that it absorbs growth until the next
+     * rebuild; keys added while it is being built are kept. Keys committed after the keys are read
+     * are only added once committed, by which time the new filter is either being built or in use.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${licenseforge.license.key-filter.rebuild-interval:3600000}",
+            initialDelayString = "${licenseforge.license.key-filter.rebuild-interval:3600000}")
+    public synchronized void build() {
+        try {
+            rebuildTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                long capacity = Math.max(minimumCapacity, 2 * licenseRepository.count());
+                BloomFilter built = new BloomFilter(capacity, falsePositiveRate);
+                long removed = removedSinceBuild.sum();
+                building = built;
+                try {
+                    licenseRepository.forEachLicenseKey(built::put);
+                    filter = built;
+                    removedSinceBuild.add(-removed);
+                } finally {
+                    building = null;
+                }
+            }));
+        } catch (Exception e) {
+            // The previous filter, if any, stays in use until the next rebuild
+            log.error("Failed to build the license key filter", e);
+        }
+    }
+
+    /**
+     * Whether the filter has been built
+     */
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    /**
+     * Whether a newly generated license key may already be in use; false means it certainly is not,
+     * as far as the filter was told. Reports no key until the filter is built.
+     */
+    public boolean mightExist(String licenseKey) {
+        BloomFilter current = filter;
+        return current != null && current.mightContain(licenseKey);
+    }
+
+    /**
+     * Whether a license key certainly belongs to no license, in which case it need not be looked up.
+     * Never true until the filter is built, or when negative lookups are disabled.
+     */
+    public boolean isDefinitelyAbsent(String licenseKey) {
+        BloomFilter current = filter;
+        if (!negativeLookups || current == null || current.mightContain(licenseKey)) {
+            return false;
+        }
+        rejectedCounter.increment();
+        return true;
+    }
+
+    /**
+     * Record a committed license key as being in use
+     */
+    public void add(String licenseKey) {
+        // The filter being built first: a build completing in between is in use by the time the
+        // current filter is read, since it is published before building is cleared
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(licenseKey);
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(licenseKey);
+        }
+    }
+
+    /**
+     * Record license keys as being in use once the current transaction commits, or right away
+     * outside of one. Adding them earlier would let a rebuild that reads the keys before the commit
+     * replace the filter they were added to and drop them.
+     */
+    public void addOnCommit(Collection<String> licenseKeys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            licenseKeys.forEach(this::add);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                licenseKeys.forEach(LicenseKeyFilter.this::add);
+            }
+        });
+    }
+
+    /**
+     * Record a license key as no longer in use; it stays in the filter until the next rebuild
+     */
+    public void remove(String licenseKey) {
+        removedSinceBuild.increment();
+    }
+
+    /**
+     * Fixed-size Bloom filter over strings, safe for concurrent reads and writes.
+     * The bit positions of a key are derived from two 64-bit hashes of its characters.
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashCount;
+        private final LongAdder keyCount = new LongAdder();
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = 64L * wordCount;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        }
+
+        void put(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = (combined & Long.MAX_VALUE) % bitCount;
+                long mask = 1L << bit;
+                int word = (int) (bit >>> 6);
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+                combined += hash2;
+            }
+            keyCount.increment();
+        }
+
+        boolean mightContain(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = (combined & Long.MAX_VALUE) % bitCount;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+                combined += hash2;
+            }
+            return true;
+        }
+
+        long sizeInBytes() {
+            return 8L * words.length();
+        }
+
+        long keyCount() {
+            return keyCount.sum();
+        }
+
+        // (1 - e^(-kn/m))^k for k hash functions, n keys and m bits
+        double expectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-hashCount * (double) keyCount() / bitCount), hashCount);
+        }
+
+        // FNV-1a over the characters, finished with a strong mix so that every bit depends on the whole key
+        private static long hash(String key) {
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001B3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long value) {
+            value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+            value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+            return value ^ (value >>> 31);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.alexartauddev.licenseforge.application.license.keygen;
+
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKey;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKeyFormat;
+import org.springframework.stereotype.Component;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates random license keys in a given format, checksum included.
+ * Each thread owns a DRBG instance and draws random bytes from it a block at a time, so generating
+ * a key neither contends on a shared generator nor calls it once per character. Bytes are mapped
+ * onto the alphabet by rejection sampling to keep every symbol equally likely.
+ */
+@Component
+public class LicenseKeyGenerator {
+
+    static final int BLOCK_SIZE = 1024;
+
+    private static final char GROUP_SEPARATOR = '-';
+
+    private final ThreadLocal<RandomBlock> blocks = ThreadLocal.withInitial(RandomBlock::new);
+
+    /**
+     * Generate a key in the given format
+     */
+    public String generate(LicenseKeyFormat format, String prefix) {
+        RandomBlock block = blocks.get();
+        char[] key = new char[format.keyLength(prefix)];
+        prefix.getChars(0, prefix.length(), key, 0);
+
+        int position = prefix.length();
+        for (int group = 0; group < format.getGroupCount(); group++) {
+            if (position > 0) {
+                key[position++] = GROUP_SEPARATOR;
+            }
+            for (int i = 0; i < format.getGroupLength(); i++) {
+                key[position++] = format.symbol(block.nextByteBelow(format.byteLimit()));
+            }
+        }
+        position = LicenseKey.appendChecksum(key, position);
+        return new String(key, 0, position);
+    }
+
+    /**
+     * Generate the given number of keys in the given format; they are not checked for duplicates
+     */
+    public List<String> generate(LicenseKeyFormat format, String prefix, int count) {
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(generate(format, prefix));
+        }
+        return keys;
+    }
+
+    /**
+     * Random bytes of the current thread, refilled from its own DRBG once consumed
+     */
+    private static final class RandomBlock {
+
+        private final SecureRandom random = newDrbg();
+        private final byte[] bytes = new byte[BLOCK_SIZE];
+        private int position = BLOCK_SIZE;
+
+        int nextByteBelow(int limit) {
+            while (true) {
+                if (position == BLOCK_SIZE) {
+                    random.nextBytes(bytes);
+                    position = 0;
+                }
+                int value = bytes[position++] & 0xFF;
+                if (value < limit) {
+                    return value;
+                }
+            }
+        }
+
+        private static SecureRandom newDrbg() {
+            try {
+                return SecureRandom.getInstance("DRBG",
+                        DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("DRBG is not available", e);
+            }
+        }
+    }
+}
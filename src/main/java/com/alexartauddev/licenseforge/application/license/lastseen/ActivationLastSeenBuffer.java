@@ -0,0 +1,104 @@
+package com.alexartauddev.licenseforge.application.license.lastseen;
+
+import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for activation last-seen timestamps.
+ * Heartbeats and successful validations only record a timestamp in memory; repeated
+ * sightings of the same activation are coalesced, and the latest timestamp of every
+ * activation is written in one batched update per flush interval.
+ * The configured flush interval is therefore the maximum staleness of last_seen_at.
+ */
+@Slf4j
+@Component
+public class ActivationLastSeenBuffer {
+
+    private final ActivationRepository activationRepository;
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+    private final Counter failedFlushCounter;
+
+    public ActivationLastSeenBuffer(ActivationRepository activationRepository, MeterRegistry meterRegistry) {
+        this.activationRepository = activationRepository;
+        this.flushedCounter = Counter.builder("licenseforge.activation.last_seen.flushed")
+                .description("Activation last-seen timestamps written to the database")
+                .register(meterRegistry);
+        this.failedFlushCounter = Counter.builder("licenseforge.activation.last_seen.flush_failures")
+                .description("Failed last-seen flushes, retried on the next interval")
+                .register(meterRegistry);
+        meterRegistry.gauge("licenseforge.activation.last_seen.pending", pending, Map::size);
+    }
+
+    /**
+     * Record that an activation was seen now
+     */
+    public LocalDateTime record(UUID activationId) {
+        LocalDateTime now = LocalDateTime.now();
+        record(activationId, now);
+        return now;
+    }
+
+    /**
+     * Record that an activation was seen at the given time, keeping the latest timestamp
+     */
+    public void record(UUID activationId, LocalDateTime seenAt) {
+        if (activationId == null) {
+            return;
+        }
+        pending.merge(activationId, seenAt, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    /**
+     * Number of activations waiting to be flushed
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Write all buffered timestamps in a single batched update.
+     * Timestamps recorded while the flush is running stay buffered for the next one.
+     */
+    @Scheduled(fixedDelayString = "${licenseforge.activation.last-seen.flush-interval:30000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, LocalDateTime> batch = new HashMap<>();
+        for (Map.Entry<UUID, LocalDateTime> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            activationRepository.updateLastSeen(batch);
+            flushedCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedFlushCounter.increment();
+            log.warn("Failed to flush {} activation last-seen timestamps, retrying on next interval", batch.size(), e);
+            batch.forEach(this::record);
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
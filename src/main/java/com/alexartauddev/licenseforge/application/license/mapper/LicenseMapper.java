@@ -14,10 +14,12 @@ public interface LicenseMapper {
     LicenseMapper INSTANCE = Mappers.getMapper(LicenseMapper.class);
 
     @Mapping(target = "expired", expression = "java(license.isExpired())")
+    @Mapping(target = "activationsCount", source = "activationCount")
     LicenseDTO toDTO(License license);
 
     ActivationDTO toDTO(Activation activation);
 
+    @Mapping(target = "activationCount", ignore = true)
     License toEntity(LicenseDTO dto);
 
     Activation toEntity(ActivationDTO dto);
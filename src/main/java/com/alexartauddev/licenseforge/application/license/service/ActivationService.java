@@ -1,16 +1,16 @@
 package com.alexartauddev.licenseforge.application.license.service;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.web.dto.license.ActivationDTO;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 public interface ActivationService {
     /**
      * Get all activations for a license
      */
-    List<ActivationDTO> getActivationsByLicenseId(UUID licenseId, int page, int size);
+    CursorPage<ActivationDTO> getActivationsByLicenseId(UUID licenseId, String cursor, int page, int size);
 
     /**
      * Get a specific activation by ID
@@ -30,7 +30,7 @@ public interface ActivationService {
     /**
      * Find inactive activations (not seen since a threshold time)
      */
-    List<ActivationDTO> findInactiveActivations(LocalDateTime threshold, int page, int size);
+    CursorPage<ActivationDTO> findInactiveActivations(LocalDateTime threshold, String cursor, int page, int size);
 
     /**
      * Delete an activation
@@ -1,29 +1,44 @@
 package com.alexartauddev.licenseforge.application.license.service;
 
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
+import com.alexartauddev.licenseforge.application.license.validation.ValidationResult;
 import com.alexartauddev.licenseforge.web.dto.license.ActivationDTO;
 import com.alexartauddev.licenseforge.web.dto.license.LicenseDTO;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseStatsDTO;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseValidationDTO;
 import com.alexartauddev.licenseforge.web.request.license.CreateLicenseRequest;
+import com.alexartauddev.licenseforge.web.request.license.LicenseTemplateRequest;
 import com.alexartauddev.licenseforge.web.request.license.UpdateLicenseRequest;
+import com.alexartauddev.licenseforge.web.request.license.ValidateLicenseRequest;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface LicenseService {
     LicenseDTO createLicense(CreateLicenseRequest request);
 
+    /**
+     * Create licenses in bulk from a template, in one transaction
+     *
+     * @return the license keys created, in creation order
+     */
+    List<String> createLicenses(UUID appId, int count, LicenseTemplateRequest template);
+
     LicenseDTO getLicenseById(UUID id);
 
     LicenseDTO getLicenseByKey(String licenseKey);
 
-    List<LicenseDTO> getLicensesByAppId(UUID appId, int page, int size);
+    CursorPage<LicenseDTO> getLicensesByAppId(UUID appId, String cursor, int page, int size);
 
-    List<LicenseDTO> getLicensesByCustomerId(String customerId, int page, int size);
+    CursorPage<LicenseDTO> getLicensesByCustomerId(String customerId, String cursor, int page, int size);
 
-    List<LicenseDTO> getActiveLicensesByAppId(UUID appId, int page, int size);
+    CursorPage<LicenseDTO> getActiveLicensesByAppId(UUID appId, String cursor, int page, int size);
 
-    List<LicenseDTO> getExpiringLicenses(UUID appId, LocalDateTime start, LocalDateTime end, int page, int size);
+    CursorPage<LicenseDTO> getExpiringLicenses(UUID appId, LocalDateTime start, LocalDateTime end, String cursor, int page, int size);
 
     LicenseDTO updateLicense(UUID id, UpdateLicenseRequest request);
 
@@ -37,5 +52,23 @@ public interface LicenseService {
 
     boolean validateLicense(String licenseKey, String hardwareId);
 
+    /**
+     * Validate a license key for a hardware ID, telling why it is rejected if it is
+     */
+    ValidationResult getValidationResult(String licenseKey, String hardwareId);
+
+    List<LicenseValidationDTO> validateLicenses(List<ValidateLicenseRequest> requests);
+
+    /**
+     * Count the active licenses of an application; licenses that just expired are still counted
+     * until the next expiry sweep
+     */
     long countActiveLicensesByAppId(UUID appId);
+
+    Map<UUID, Long> countActiveLicensesByAppIds(Collection<UUID> appIds);
+
+    /**
+     * Number of licenses of an application by status, with the same lag as countActiveLicensesByAppId
+     */
+    LicenseStatsDTO getLicenseStats(UUID appId);
 }
\ No newline at end of file
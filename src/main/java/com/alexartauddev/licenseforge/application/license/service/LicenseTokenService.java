@@ -0,0 +1,13 @@
+package com.alexartauddev.licenseforge.application.license.service;
+
+import com.alexartauddev.licenseforge.web.dto.license.LicenseTokenDTO;
+
+import java.util.Map;
+
+public interface LicenseTokenService {
+    LicenseTokenDTO issueToken(String licenseKey, String hardwareId);
+
+    String getActiveKeyId();
+
+    Map<String, String> getPublicKeys();
+}
@@ -0,0 +1,16 @@
+package com.alexartauddev.licenseforge.application.license.service;
+
+import com.alexartauddev.licenseforge.application.license.validation.ValidationResult;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking validation of license keys, serving the public validation traffic of the reactive
+ * server with the same rules and cache as {@link LicenseService}
+ */
+public interface ReactiveLicenseValidationService {
+
+    /**
+     * Validate a license key for a hardware ID, recording the activation as seen when it is valid
+     */
+    Mono<ValidationResult> getValidationResult(String licenseKey, String hardwareId);
+}
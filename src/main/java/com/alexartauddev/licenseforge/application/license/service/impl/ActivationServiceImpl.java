@@ -1,9 +1,17 @@
 package com.alexartauddev.licenseforge.application.license.service.impl;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+import com.alexartauddev.licenseforge.application.license.lastseen.ActivationLastSeenBuffer;
 import com.alexartauddev.licenseforge.application.license.mapper.LicenseMapper;
 import com.alexartauddev.licenseforge.application.license.service.ActivationService;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import com.alexartauddev.licenseforge.domain.license.entity.License;
 import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
+import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
 import com.alexartauddev.licenseforge.web.dto.license.ActivationDTO;
 import com.alexartauddev.licenseforge.web.exception.license.ActivationNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -11,25 +19,26 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ActivationServiceImpl implements ActivationService {
 
     private final ActivationRepository activationRepository;
+    private final LicenseRepository licenseRepository;
     private final LicenseMapper licenseMapper;
+    private final LicenseValidationCache validationCache;
+    private final ActivationLastSeenBuffer lastSeenBuffer;
+    private final CacheInvalidationBus invalidationBus;
 
     @Override
     @Transactional(readOnly = true)
-    public List<ActivationDTO> getActivationsByLicenseId(UUID licenseId, int page, int size) {
-        return activationRepository.findByLicenseId(licenseId).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(licenseMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPage<ActivationDTO> getActivationsByLicenseId(UUID licenseId, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        return CursorPage.of(activationRepository.findByLicenseId(licenseId, query), query, Activation::getId,
+                licenseMapper::toDTO);
     }
 
     @Override
@@ -50,24 +59,23 @@ public class ActivationServiceImpl implements ActivationService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ActivationDTO updateLastSeen(UUID id) {
         Activation activation = activationRepository.findById(id)
                 .orElseThrow(() -> new ActivationNotFoundException("Activation not found with id: " + id));
 
-        activation.updateLastSeen();
-        Activation updatedActivation = activationRepository.save(activation);
-        return licenseMapper.toDTO(updatedActivation);
+        // The timestamp is persisted by the write-behind buffer on its next flush
+        ActivationDTO dto = licenseMapper.toDTO(activation);
+        dto.setLastSeenAt(lastSeenBuffer.record(id));
+        return dto;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ActivationDTO> findInactiveActivations(LocalDateTime threshold, int page, int size) {
-        return activationRepository.findInactiveActivations(threshold).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(licenseMapper::toDTO)
-                .collect(Collectors.toList());
+    public CursorPage<ActivationDTO> findInactiveActivations(LocalDateTime threshold, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        return CursorPage.of(activationRepository.findInactiveActivations(threshold, query), query, Activation::getId,
+                licenseMapper::toDTO);
     }
 
     @Override
@@ -75,7 +83,14 @@ public class ActivationServiceImpl implements ActivationService {
     public void deleteActivation(UUID id) {
         Activation activation = activationRepository.findById(id)
                 .orElseThrow(() -> new ActivationNotFoundException("Activation not found with id: " + id));
+        // Validations are cached by license key, so the license is loaded to evict its entry everywhere
+        Optional<License> license = licenseRepository.findById(activation.getLicenseId());
         activationRepository.delete(activation);
+        licenseRepository.decrementActivationCount(activation.getLicenseId());
+        license.ifPresent(value -> {
+            validationCache.evict(value.getLicenseKey());
+            invalidationBus.invalidate(CacheInvalidation.Type.LICENSE, value.getLicenseKey());
+        });
     }
 
     @Override
@@ -1,26 +1,55 @@
 package com.alexartauddev.licenseforge.application.license.service.impl;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
+import com.alexartauddev.licenseforge.application.company.quota.QuotaService;
+import com.alexartauddev.licenseforge.application.event.outbox.DomainEventOutbox;
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+import com.alexartauddev.licenseforge.application.license.event.LicenseBatchEvent;
+import com.alexartauddev.licenseforge.application.license.event.LicenseEvent;
+import com.alexartauddev.licenseforge.application.license.event.LicenseEventType;
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyFilter;
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyGenerator;
+import com.alexartauddev.licenseforge.application.license.lastseen.ActivationLastSeenBuffer;
 import com.alexartauddev.licenseforge.application.license.mapper.LicenseMapper;
 import com.alexartauddev.licenseforge.application.license.service.LicenseService;
+import com.alexartauddev.licenseforge.application.license.stats.AppLicenseStatsService;
+import com.alexartauddev.licenseforge.application.license.validation.ValidationResult;
+import com.alexartauddev.licenseforge.domain.application.entity.Application;
+import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.license.entity.Activation;
 import com.alexartauddev.licenseforge.domain.license.entity.License;
 import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
 import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import com.alexartauddev.licenseforge.domain.license.valueobject.AppLicenseStats;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKeyFormat;
 import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKey;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseState;
 import com.alexartauddev.licenseforge.web.dto.license.ActivationDTO;
 import com.alexartauddev.licenseforge.web.dto.license.LicenseDTO;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseStatsDTO;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseValidationDTO;
 import com.alexartauddev.licenseforge.web.exception.license.LicenseActivationException;
 import com.alexartauddev.licenseforge.web.exception.license.LicenseNotFoundException;
-import com.alexartauddev.licenseforge.web.exception.license.LicenseValidationException;
 import com.alexartauddev.licenseforge.web.request.license.CreateLicenseRequest;
+import com.alexartauddev.licenseforge.web.request.license.LicenseTemplateRequest;
 import com.alexartauddev.licenseforge.web.request.license.UpdateLicenseRequest;
+import com.alexartauddev.licenseforge.web.request.license.ValidateLicenseRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,16 +57,30 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LicenseServiceImpl implements LicenseService {
 
+    // Key collisions are rare, so running out of attempts means key generation is broken
+    private static final int MAX_MINT_ATTEMPTS = 5;
+
     private final LicenseRepository licenseRepository;
     private final ActivationRepository activationRepository;
     private final LicenseMapper licenseMapper;
+    private final LicenseValidationCache validationCache;
+    private final ActivationLastSeenBuffer lastSeenBuffer;
+    private final DomainEventOutbox eventOutbox;
+    private final ApplicationRepository applicationRepository;
+    private final LicenseKeyGenerator keyGenerator;
+    private final LicenseKeyFilter keyFilter;
+    private final CacheInvalidationBus invalidationBus;
+    private final QuotaService quotaService;
+    private final AppLicenseStatsService statsService;
 
     @Override
     @Transactional
     public LicenseDTO createLicense(CreateLicenseRequest request) {
-        // Generate a license key with app ID as prefix
-        String prefix = request.getAppId().toString().substring(0, 4);
-        String licenseKey = LicenseKey.generate(prefix).getValue();
+        quotaService.reserveLicenseKeys(request.getAppId(), 1);
+
+        // Generate a license key in the format of the application
+        LicenseKeyFormat format = keyFormatOf(request.getAppId());
+        String licenseKey = generateUnusedKey(format, format.prefixFor(request.getAppId()));
 
         License license = License.builder()
                 .licenseKey(licenseKey)
@@ -51,9 +94,83 @@ public class LicenseServiceImpl implements LicenseService {
                 .build();
 
         License savedLicense = licenseRepository.save(license);
-        LicenseDTO dto = licenseMapper.toDTO(savedLicense);
-        dto.setActivationsCount(0); // New license has no activations
-        return dto;
+        statsService.recordChange(savedLicense.getAppId(), null, LicenseState.of(savedLicense), 1);
+        keyFilter.addOnCommit(List.of(licenseKey));
+        invalidationBus.invalidate(CacheInvalidation.Type.LICENSE_KEY, licenseKey);
+        recordEvent(LicenseEventType.CREATED, savedLicense, null);
+        return licenseMapper.toDTO(savedLicense);
+    }
+
+    @Override
+    @Transactional
+    public List<String> createLicenses(UUID appId, int count, LicenseTemplateRequest template) {
+        quotaService.reserveLicenseKeys(appId, count);
+        LicenseKeyFormat format = keyFormatOf(appId);
+        String prefix = format.prefixFor(appId);
+        LocalDateTime now = LocalDateTime.now();
+        List<String> created = new ArrayList<>(count);
+        Set<String> generated = new HashSet<>();
+
+        // Keys are generated in memory, screened against the filter of keys in use and inserted
+        // in bulk; only the ones still taken by existing licenses are generated again
+        for (int attempt = 0; created.size() < count; attempt++) {
+            if (attempt == MAX_MINT_ATTEMPTS) {
+                throw new IllegalStateException("Failed to generate " + count + " unique license keys");
+            }
+
+            List<License> batch = new ArrayList<>(count - created.size());
+            while (batch.size() < count - created.size()) {
+                String licenseKey = generateUnusedKey(format, prefix);
+                if (generated.add(licenseKey)) {
+                    batch.add(License.builder()
+                            .id(UUID.randomUUID())
+                            .licenseKey(licenseKey)
+                            .appId(appId)
+                            .customerId(template.getCustomerId())
+                            .expiresAt(template.getExpiresAt())
+                            .maxActivations(template.getMaxActivations())
+                            .revoked(false)
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .build());
+                }
+            }
+
+            Set<String> inserted = licenseRepository.insertIgnoringDuplicateKeys(batch);
+            for (License license : batch) {
+                if (inserted.contains(license.getLicenseKey())) {
+                    created.add(license.getLicenseKey());
+                    invalidationBus.invalidate(CacheInvalidation.Type.LICENSE_KEY, license.getLicenseKey());
+                } else {
+                    // Taken by a license already committed
+                    keyFilter.add(license.getLicenseKey());
+                }
+            }
+        }
+        keyFilter.addOnCommit(created);
+
+        statsService.recordChange(appId, null, new LicenseState(false, template.getExpiresAt()), created.size());
+
+        LicenseBatchEvent event = new LicenseBatchEvent(LicenseEventType.BULK_CREATED.getEventType(), appId,
+                template.getCustomerId(), count, template.getExpiresAt(), template.getMaxActivations(), now);
+        eventOutbox.append(LicenseBatchEvent.AGGREGATE_TYPE, appId, event.type(), event);
+        return created;
+    }
+
+    private LicenseKeyFormat keyFormatOf(UUID appId) {
+        return applicationRepository.findById(appId)
+                .map(Application::getLicenseKeyFormat)
+                .orElse(LicenseKeyFormat.DEFAULT);
+    }
+
+    private String generateUnusedKey(LicenseKeyFormat format, String prefix) {
+        String licenseKey = keyGenerator.generate(format, prefix);
+        // A saturated filter may report every key, so give up after a few attempts and leave the
+        // last word to the unique constraint
+        for (int attempt = 1; attempt < MAX_MINT_ATTEMPTS && keyFilter.mightExist(licenseKey); attempt++) {
+            licenseKey = keyGenerator.generate(format, prefix);
+        }
+        return licenseKey;
     }
 
     @Override
@@ -62,9 +179,7 @@ public class LicenseServiceImpl implements LicenseService {
         License license = licenseRepository.findById(id)
                 .orElseThrow(() -> LicenseNotFoundException.withId(id));
 
-        LicenseDTO dto = licenseMapper.toDTO(license);
-        dto.setActivationsCount(activationRepository.countByLicenseId(license.getId()));
-        return dto;
+        return licenseMapper.toDTO(license);
     }
 
     @Override
@@ -73,66 +188,40 @@ public class LicenseServiceImpl implements LicenseService {
         License license = licenseRepository.findByLicenseKey(licenseKey)
                 .orElseThrow(() -> LicenseNotFoundException.withKey(licenseKey));
 
-        LicenseDTO dto = licenseMapper.toDTO(license);
-        dto.setActivationsCount(activationRepository.countByLicenseId(license.getId()));
-        return dto;
+        return licenseMapper.toDTO(license);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LicenseDTO> getLicensesByAppId(UUID appId, int page, int size) {
-        return licenseRepository.findByAppId(appId).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(license -> {
-                    LicenseDTO dto = licenseMapper.toDTO(license);
-                    dto.setActivationsCount(activationRepository.countByLicenseId(license.getId()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<LicenseDTO> getLicensesByAppId(UUID appId, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        return CursorPage.of(licenseRepository.findByAppId(appId, query), query, License::getId,
+                licenseMapper::toDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LicenseDTO> getLicensesByCustomerId(String customerId, int page, int size) {
-        return licenseRepository.findByCustomerId(customerId).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(license -> {
-                    LicenseDTO dto = licenseMapper.toDTO(license);
-                    dto.setActivationsCount(activationRepository.countByLicenseId(license.getId()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<LicenseDTO> getLicensesByCustomerId(String customerId, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        return CursorPage.of(licenseRepository.findByCustomerId(customerId, query), query, License::getId,
+                licenseMapper::toDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LicenseDTO> getActiveLicensesByAppId(UUID appId, int page, int size) {
+    public CursorPage<LicenseDTO> getActiveLicensesByAppId(UUID appId, String cursor, int page, int size) {
         LocalDateTime now = LocalDateTime.now();
-        return licenseRepository.findActiveByAppId(appId, now).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(license -> {
-                    LicenseDTO dto = licenseMapper.toDTO(license);
-                    dto.setActivationsCount(activationRepository.countByLicenseId(license.getId()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        PageQuery query = CursorPage.query(cursor, page, size);
+        return CursorPage.of(licenseRepository.findActiveByAppId(appId, now, query), query, License::getId,
+                licenseMapper::toDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LicenseDTO> getExpiringLicenses(UUID appId, LocalDateTime start, LocalDateTime end, int page, int size) {
-        return licenseRepository.findExpiringLicenses(appId, start, end).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(license -> {
-                    LicenseDTO dto = licenseMapper.toDTO(license);
-                    dto.setActivationsCount(activationRepository.countByLicenseId(license.getId()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<LicenseDTO> getExpiringLicenses(UUID appId, LocalDateTime start, LocalDateTime end, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        return CursorPage.of(licenseRepository.findExpiringLicenses(appId, start, end, query), query, License::getId,
+                licenseMapper::toDTO);
     }
 
     @Override
@@ -140,6 +229,7 @@ public class LicenseServiceImpl implements LicenseService {
     public LicenseDTO updateLicense(UUID id, UpdateLicenseRequest request) {
         License license = licenseRepository.findById(id)
                 .orElseThrow(() -> LicenseNotFoundException.withId(id));
+        LicenseState before = LicenseState.of(license);
 
         if (request.getCustomerId() != null) {
             license.setCustomerId(request.getCustomerId());
@@ -160,9 +250,12 @@ public class LicenseServiceImpl implements LicenseService {
         license.setUpdatedAt(LocalDateTime.now());
 
         License updatedLicense = licenseRepository.save(license);
-        LicenseDTO dto = licenseMapper.toDTO(updatedLicense);
-        dto.setActivationsCount(activationRepository.countByLicenseId(license.getId()));
-        return dto;
+        statsService.recordChange(updatedLicense.getAppId(), before, LicenseState.of(updatedLicense), 1);
+        validationCache.evict(updatedLicense.getLicenseKey());
+        invalidationBus.invalidate(CacheInvalidation.Type.LICENSE, updatedLicense.getLicenseKey());
+        recordEvent(LicenseEventType.UPDATED, updatedLicense, null);
+
+        return licenseMapper.toDTO(updatedLicense);
     }
 
     @Override
@@ -176,6 +269,12 @@ public class LicenseServiceImpl implements LicenseService {
 
         // Delete the license
         licenseRepository.delete(license);
+        quotaService.releaseLicenseKeys(license.getAppId(), 1);
+        statsService.recordChange(license.getAppId(), LicenseState.of(license), null, 1);
+        validationCache.evict(license.getLicenseKey());
+        keyFilter.remove(license.getLicenseKey());
+        invalidationBus.invalidate(CacheInvalidation.Type.LICENSE, license.getLicenseKey());
+        recordEvent(LicenseEventType.DELETED, license, null);
     }
 
     @Override
@@ -183,19 +282,26 @@ public class LicenseServiceImpl implements LicenseService {
     public LicenseDTO revokeLicense(UUID id) {
         License license = licenseRepository.findById(id)
                 .orElseThrow(() -> LicenseNotFoundException.withId(id));
+        LicenseState before = LicenseState.of(license);
 
         license.setRevoked(true);
         license.setUpdatedAt(LocalDateTime.now());
 
         License updatedLicense = licenseRepository.save(license);
-        LicenseDTO dto = licenseMapper.toDTO(updatedLicense);
-        dto.setActivationsCount(activationRepository.countByLicenseId(license.getId()));
-        return dto;
+        statsService.recordChange(updatedLicense.getAppId(), before, LicenseState.of(updatedLicense), 1);
+        validationCache.evict(updatedLicense.getLicenseKey());
+        invalidationBus.invalidate(CacheInvalidation.Type.LICENSE, updatedLicense.getLicenseKey());
+        recordEvent(LicenseEventType.REVOKED, updatedLicense, null);
+        return licenseMapper.toDTO(updatedLicense);
     }
 
     @Override
     @Transactional
     public ActivationDTO activateLicense(String licenseKey, String hardwareId) {
+        if (keyFilter.isDefinitelyAbsent(licenseKey)) {
+            throw LicenseNotFoundException.withKey(licenseKey);
+        }
+
         License license = licenseRepository.findByLicenseKey(licenseKey)
                 .orElseThrow(() -> LicenseNotFoundException.withKey(licenseKey));
 
@@ -207,34 +313,36 @@ public class LicenseServiceImpl implements LicenseService {
             throw new LicenseActivationException("License has been revoked");
         }
 
-        // Check if this hardware ID is already activated for this license
-        Optional<Activation> existingActivation = activationRepository.findByLicenseIdAndHardwareId(license.getId(), hardwareId);
-        if (existingActivation.isPresent()) {
-            // Update the last seen timestamp
-            Activation activation = existingActivation.get();
-            activation.updateLastSeen();
-            return licenseMapper.toDTO(activationRepository.save(activation));
-        }
-
-        // Check if we've reached the maximum number of activations
-        long currentActivations = activationRepository.countByLicenseId(license.getId());
-        if (currentActivations >= license.getMaxActivations()) {
-            throw new LicenseActivationException("Maximum number of activations reached");
-        }
-
-        // Create a new activation
+        // Insert the activation unless this hardware ID is already activated for this license
+        LocalDateTime now = LocalDateTime.now();
         Activation activation = Activation.builder()
+                .id(UUID.randomUUID())
                 .licenseId(license.getId())
                 .hardwareId(hardwareId)
+                .activatedAt(now)
+                .lastSeenAt(now)
                 .build();
 
-        Activation savedActivation = activationRepository.save(activation);
+        if (!activationRepository.insertIfAbsent(activation)) {
+            Activation existingActivation = activationRepository.findByLicenseIdAndHardwareId(license.getId(), hardwareId)
+                    .orElseThrow(() -> new LicenseActivationException("Activation was removed concurrently, please retry"));
+            ActivationDTO dto = licenseMapper.toDTO(existingActivation);
+            dto.setLastSeenAt(lastSeenBuffer.record(existingActivation.getId()));
+            return dto;
+        }
+
+        // Take a seat; the conditional update serializes concurrent activations of the same license
+        // and throwing rolls back the insert above
+        if (!licenseRepository.incrementActivationCount(license.getId())) {
+            throw new LicenseActivationException("Maximum number of activations reached");
+        }
 
-        // Add the hardware ID to the license
-        license.activate(hardwareId);
-        licenseRepository.save(license);
+        license.activate(false);
+        validationCache.evict(licenseKey);
+        invalidationBus.invalidate(CacheInvalidation.Type.LICENSE, licenseKey);
+        recordEvent(LicenseEventType.ACTIVATED, license, hardwareId);
 
-        return licenseMapper.toDTO(savedActivation);
+        return licenseMapper.toDTO(activation);
     }
 
     @Override
@@ -249,49 +357,126 @@ public class LicenseServiceImpl implements LicenseService {
         }
 
         activationRepository.delete(activation.get());
-
-        // Remove the hardware ID from the license
-        license.deactivate(hardwareId);
-        licenseRepository.save(license);
+        licenseRepository.decrementActivationCount(license.getId());
+        license.deactivate();
+        validationCache.evict(licenseKey);
+        invalidationBus.invalidate(CacheInvalidation.Type.LICENSE, licenseKey);
+        recordEvent(LicenseEventType.DEACTIVATED, license, hardwareId);
 
         return true;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // Reads from the primary for the same reason as getValidationResult
+    @Transactional
     public boolean validateLicense(String licenseKey, String hardwareId) {
-        try {
-            License license = licenseRepository.findByLicenseKey(licenseKey)
-                    .orElseThrow(() -> new LicenseValidationException("Invalid license key"));
+        return getValidationResult(licenseKey, hardwareId).isValid();
+    }
 
-            if (license.isExpired()) {
-                throw new LicenseValidationException("License has expired");
+    @Override
+    // Not read-only, so that it reads from the primary: what it loads is cached for every later
+    // validation, and a lagging replica could miss a fresh activation or revocation
+    @Transactional
+    public ValidationResult getValidationResult(String licenseKey, String hardwareId) {
+        LicenseValidationCache.Entry license = validationCache.get(licenseKey);
+        if (license == null) {
+            if (keyFilter.isDefinitelyAbsent(licenseKey)) {
+                return ValidationResult.UNKNOWN_KEY;
             }
+            Optional<License> loaded = licenseRepository.findByLicenseKey(licenseKey);
+            if (loaded.isEmpty()) {
+                return ValidationResult.UNKNOWN_KEY;
+            }
+            license = validationCache.put(loaded.get(), activationRepository.findByLicenseId(loaded.get().getId()));
+        }
+
+        ValidationResult result = ValidationResult.of(license, hardwareId);
+        if (result.isValid()) {
+            lastSeenBuffer.record(license.activationIdFor(hardwareId));
+        }
+        return result;
+    }
 
-            if (license.isRevoked()) {
-                throw new LicenseValidationException("License has been revoked");
+    @Override
+    // Reads from the primary for the same reason as getValidationResult
+    @Transactional
+    public List<LicenseValidationDTO> validateLicenses(List<ValidateLicenseRequest> requests) {
+        Map<String, LicenseValidationCache.Entry> licenses = new HashMap<>();
+        Set<String> uncachedKeys = new HashSet<>();
+        for (ValidateLicenseRequest request : requests) {
+            // Malformed keys cannot belong to any license, so they are answered invalid without a lookup
+            if (!LicenseKey.isWellFormed(request.getLicenseKey())) {
+                continue;
+            }
+            LicenseValidationCache.Entry cached = validationCache.get(request.getLicenseKey());
+            if (cached != null) {
+                licenses.put(request.getLicenseKey(), cached);
+            } else if (!keyFilter.isDefinitelyAbsent(request.getLicenseKey())) {
+                uncachedKeys.add(request.getLicenseKey());
             }
+        }
 
-            Optional<Activation> activation = activationRepository.findByLicenseIdAndHardwareId(license.getId(), hardwareId);
-            if (activation.isEmpty()) {
-                throw new LicenseValidationException("License not activated for this hardware");
+        // Resolve every cache miss with one query on licenses and one on activations
+        if (!uncachedKeys.isEmpty()) {
+            List<License> loaded = licenseRepository.findByLicenseKeyIn(uncachedKeys);
+            if (!loaded.isEmpty()) {
+                Map<UUID, List<Activation>> activationsByLicenseId = activationRepository
+                        .findByLicenseIdIn(loaded.stream().map(License::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(Activation::getLicenseId));
+                for (License license : loaded) {
+                    licenses.put(license.getLicenseKey(), validationCache.put(license,
+                            activationsByLicenseId.getOrDefault(license.getId(), List.of())));
+                }
             }
+        }
 
-            // Update the last seen timestamp
-            Activation act = activation.get();
-            act.updateLastSeen();
-            activationRepository.save(act);
+        return requests.stream()
+                .map(request -> LicenseValidationDTO.builder()
+                        .licenseKey(request.getLicenseKey())
+                        .hardwareId(request.getHardwareId())
+                        .valid(isValid(licenses.get(request.getLicenseKey()), request.getHardwareId()))
+                        .build())
+                .collect(Collectors.toList());
+    }
 
-            return true;
-        } catch (Exception e) {
+    private boolean isValid(LicenseValidationCache.Entry license, String hardwareId) {
+        if (license == null || !ValidationResult.of(license, hardwareId).isValid()) {
             return false;
         }
+        lastSeenBuffer.record(license.activationIdFor(hardwareId));
+        return true;
     }
 
     @Override
     @Transactional(readOnly = true)
     public long countActiveLicensesByAppId(UUID appId) {
-        LocalDateTime now = LocalDateTime.now();
-        return licenseRepository.countActiveByAppId(appId, now);
+        return statsService.countActive(appId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> countActiveLicensesByAppIds(Collection<UUID> appIds) {
+        return statsService.countActive(appIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LicenseStatsDTO getLicenseStats(UUID appId) {
+        AppLicenseStats stats = statsService.getStats(appId);
+        return LicenseStatsDTO.builder()
+                .appId(appId)
+                .total(stats.total())
+                .active(stats.active())
+                .revoked(stats.revoked())
+                .expired(stats.expired())
+                .build();
+    }
+
+    /**
+     * Append a lifecycle event to the outbox, in the transaction of the change
+     */
+    private void recordEvent(LicenseEventType type, License license, String hardwareId) {
+        eventOutbox.append(LicenseEvent.AGGREGATE_TYPE, license.getId(), type.getEventType(),
+                LicenseEvent.of(type, license, hardwareId));
     }
 }
@@ -0,0 +1,95 @@
+package com.alexartauddev.licenseforge.application.license.service.impl;
+
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+import com.alexartauddev.licenseforge.application.license.lastseen.ActivationLastSeenBuffer;
+import com.alexartauddev.licenseforge.application.license.service.LicenseTokenService;
+import com.alexartauddev.licenseforge.application.license.token.LicenseTokenSigner;
+import com.alexartauddev.licenseforge.client.LicenseToken;
+import com.alexartauddev.licenseforge.config.LicenseTokenProperties;
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
+import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseTokenDTO;
+import com.alexartauddev.licenseforge.web.exception.license.LicenseValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class LicenseTokenServiceImpl implements LicenseTokenService {
+
+    private final LicenseRepository licenseRepository;
+    private final ActivationRepository activationRepository;
+    private final LicenseValidationCache validationCache;
+    private final ActivationLastSeenBuffer lastSeenBuffer;
+    private final LicenseTokenSigner signer;
+    private final LicenseTokenProperties properties;
+
+    @Override
+    // Reads from the primary: a license loaded on a cache miss is shared with validations, so a
+    // replica lagging behind a revocation would have it served as valid until it expires
+    @Transactional
+    public LicenseTokenDTO issueToken(String licenseKey, String hardwareId) {
+        LicenseValidationCache.Entry license = validationCache.get(licenseKey);
+        if (license == null) {
+            License loaded = licenseRepository.findByLicenseKey(licenseKey)
+                    .orElseThrow(() -> new LicenseValidationException("Invalid license key"));
+            license = validationCache.put(loaded, activationRepository.findByLicenseId(loaded.getId()));
+        }
+
+        if (license.isExpired()) {
+            throw new LicenseValidationException("License has expired");
+        }
+
+        if (license.revoked()) {
+            throw new LicenseValidationException("License has been revoked");
+        }
+
+        if (!license.isActivatedOn(hardwareId)) {
+            throw new LicenseValidationException("License not activated for this hardware");
+        }
+
+        // Tokens carry whole seconds, so truncate before deriving the other instants
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = license.expiresAt() != null
+                ? license.expiresAt().atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS)
+                : null;
+        Instant refreshBy = issuedAt.plus(properties.getRefreshInterval());
+        if (expiresAt != null && expiresAt.isBefore(refreshBy)) {
+            refreshBy = expiresAt;
+        }
+
+        LicenseToken token = new LicenseToken(signer.getActiveKeyId(), licenseKey, hardwareId, license.appId(),
+                issuedAt, refreshBy, expiresAt);
+        lastSeenBuffer.record(license.activationIdFor(hardwareId));
+
+        return LicenseTokenDTO.builder()
+                .token(signer.sign(token))
+                .keyId(token.keyId())
+                .issuedAt(toLocalDateTime(issuedAt))
+                .refreshBy(toLocalDateTime(refreshBy))
+                .expiresAt(toLocalDateTime(expiresAt))
+                .build();
+    }
+
+    @Override
+    public String getActiveKeyId() {
+        return signer.getActiveKeyId();
+    }
+
+    @Override
+    public Map<String, String> getPublicKeys() {
+        return signer.getPublicKeys();
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneId.systemDefault()) : null;
+    }
+}
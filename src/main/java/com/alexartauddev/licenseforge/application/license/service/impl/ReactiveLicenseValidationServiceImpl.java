@@ -0,0 +1,61 @@
+package com.alexartauddev.licenseforge.application.license.service.impl;
+
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyFilter;
+import com.alexartauddev.licenseforge.application.license.lastseen.ActivationLastSeenBuffer;
+import com.alexartauddev.licenseforge.application.license.service.ReactiveLicenseValidationService;
+import com.alexartauddev.licenseforge.application.license.validation.ValidationResult;
+import com.alexartauddev.licenseforge.domain.license.repository.ReactiveActivationRepository;
+import com.alexartauddev.licenseforge.domain.license.repository.ReactiveLicenseRepository;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link LicenseServiceImpl#getValidationResult}.
+ * The validation cache, the key filter and the last-seen buffer it shares with the servlet path
+ * are all in memory, so nothing here blocks an event loop; only cache misses reach the database,
+ * through R2DBC.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "licenseforge.reactive.enabled", havingValue = "true")
+public class ReactiveLicenseValidationServiceImpl implements ReactiveLicenseValidationService {
+
+    private final ReactiveLicenseRepository licenseRepository;
+    private final ReactiveActivationRepository activationRepository;
+    private final LicenseValidationCache validationCache;
+    private final LicenseKeyFilter keyFilter;
+    private final ActivationLastSeenBuffer lastSeenBuffer;
+
+    @Override
+    public Mono<ValidationResult> getValidationResult(String licenseKey, String hardwareId) {
+        // Malformed keys cannot belong to any license, so they are turned down without a lookup
+        if (!LicenseKey.isWellFormed(licenseKey)) {
+            return Mono.just(ValidationResult.UNKNOWN_KEY);
+        }
+        LicenseValidationCache.Entry cached = validationCache.get(licenseKey);
+        if (cached != null) {
+            return Mono.just(validate(cached, hardwareId));
+        }
+        if (keyFilter.isDefinitelyAbsent(licenseKey)) {
+            return Mono.just(ValidationResult.UNKNOWN_KEY);
+        }
+        return licenseRepository.findByLicenseKey(licenseKey)
+                .flatMap(license -> activationRepository.findByLicenseId(license.getId())
+                        .collectList()
+                        .map(activations -> validationCache.put(license, activations)))
+                .map(license -> validate(license, hardwareId))
+                .defaultIfEmpty(ValidationResult.UNKNOWN_KEY);
+    }
+
+    private ValidationResult validate(LicenseValidationCache.Entry license, String hardwareId) {
+        ValidationResult result = ValidationResult.of(license, hardwareId);
+        if (result.isValid()) {
+            lastSeenBuffer.record(license.activationIdFor(hardwareId));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,162 @@
+package com.alexartauddev.licenseforge.application.license.stats;
+
+import com.alexartauddev.licenseforge.domain.license.repository.AppLicenseStatsRepository;
+import com.alexartauddev.licenseforge.domain.license.valueobject.AppLicenseStats;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * License counts of each application by status, kept up to date by the license write paths in their
+ * own transaction so that counting takes a single row read.
+ * Licenses are told apart as active or expired at the point the expiry sweep of their application
+ * reached, so a license is still counted as active until the next sweep after it expires.
+ * A reconciliation counts every license again from time to time, reports how far the counts had
+ * drifted and corrects them.
+ */
+@Slf4j
+@Component
+public class AppLicenseStatsService {
+
+    private final AppLicenseStatsRepository statsRepository;
+    private final TransactionTemplate sweepTransaction;
+    private final TransactionTemplate appSweepTransaction;
+    private final TransactionTemplate snapshotTransaction;
+    private final Counter sweptCounter;
+    private final Counter correctionCounter;
+    private final Timer reconcileTimer;
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    public AppLicenseStatsService(
+            AppLicenseStatsRepository statsRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.statsRepository = statsRepository;
+        // Holds the sweep lock only, while each application is swept in a short transaction of its
+        // own that holds off its license writes no longer than it takes
+        this.sweepTransaction = new TransactionTemplate(transactionManager);
+        this.appSweepTransaction = new TransactionTemplate(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        // Licenses and counts must be read from the same snapshot to be compared; a replica will do,
+        // since corrections only apply to counts that did not change since
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.sweptCounter = Counter.builder("licenseforge.license.stats.expired_swept")
+                .description("Licenses moved from active to expired by the expiry sweep")
+                .register(meterRegistry);
+        this.correctionCounter = Counter.builder("licenseforge.license.stats.corrections")
+                .description("Application license counts corrected by the reconciliation")
+                .register(meterRegistry);
+        this.reconcileTimer = Timer.builder("licenseforge.license.stats.reconcile")
+                .description("Time taken to count every license again and correct the counts")
+                .register(meterRegistry);
+        Gauge.builder("licenseforge.license.stats.drift", lastDrift, AtomicLong::get)
+                .description("Licenses counted under the wrong status or application at the last reconciliation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Move licenses of an application from one state to another in its counts, in the current transaction
+     *
+     * @param before state of the licenses before the change, or null if they were created
+     * @param after  state of the licenses after the change, or null if they were deleted
+     */
+    public void recordChange(UUID appId, LicenseState before, LicenseState after, long count) {
+        if (count == 0 || Objects.equals(before, after)) {
+            return;
+        }
+        statsRepository.recordChange(appId, before, after, count, LocalDateTime.now());
+    }
+
+    public AppLicenseStats getStats(UUID appId) {
+        return statsRepository.findByAppId(appId).orElseGet(() -> AppLicenseStats.empty(appId));
+    }
+
+    public long countActive(UUID appId) {
+        return getStats(appId).active();
+    }
+
+    /**
+     * Count the active licenses of many applications at once, including the ones without any
+     */
+    public Map<UUID, Long> countActive(Collection<UUID> appIds) {
+        Map<UUID, AppLicenseStats> stats = statsRepository.findByAppIds(appIds);
+        Map<UUID, Long> counts = new HashMap<>();
+        for (UUID appId : appIds) {
+            AppLicenseStats appStats = stats.get(appId);
+            counts.put(appId, appStats != null ? appStats.active() : 0L);
+        }
+        return counts;
+    }
+
+    /**
+     * Move the licenses that expired since the previous sweep from active to expired, on a single
+     * instance at a time; the others skip their turn while one is sweeping
+     */
+    @Scheduled(fixedDelayString = "${licenseforge.license.stats.sweep-interval:60000}",
+            initialDelayString = "${licenseforge.license.stats.sweep-interval:60000}")
+    public void sweep() {
+        try {
+            sweepTransaction.executeWithoutResult(status -> {
+                if (!statsRepository.tryLockSweep()) {
+                    return;
+                }
+                LocalDateTime now = LocalDateTime.now();
+                for (UUID appId : statsRepository.findAppIdsToSweep(now)) {
+                    Long swept = appSweepTransaction.execute(appStatus -> statsRepository.sweepExpired(appId, now));
+                    if (swept != null) {
+                        sweptCounter.increment(swept);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            // Expired licenses stay counted as active until the next sweep
+            log.error("Failed to sweep expired licenses", e);
+        }
+    }
+
+    /**
+     * Count every license again, report the drift of the counts and correct it
+     */
+    @Scheduled(fixedDelayString = "${licenseforge.license.stats.reconcile-interval:3600000}",
+            initialDelayString = "${licenseforge.license.stats.reconcile-interval:3600000}")
+    public void reconcile() {
+        try {
+            reconcileTimer.record(() -> {
+                List<AppLicenseStatsRepository.Drift> drifts =
+                        snapshotTransaction.execute(status -> statsRepository.findDrift(LocalDateTime.now()));
+                if (drifts == null) {
+                    return;
+                }
+                lastDrift.set(drifts.stream().mapToLong(AppLicenseStatsRepository.Drift::size).sum());
+                for (AppLicenseStatsRepository.Drift drift : drifts) {
+                    log.warn("License counts of application {} drifted: {}", drift.appId(), drift);
+                    if (statsRepository.correct(drift)) {
+                        correctionCounter.increment();
+                    }
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to reconcile the application license counts", e);
+        }
+    }
+}
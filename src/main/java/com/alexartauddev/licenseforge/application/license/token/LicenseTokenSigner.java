@@ -0,0 +1,111 @@
+package com.alexartauddev.licenseforge.application.license.token;
+
+import com.alexartauddev.licenseforge.client.LicenseToken;
+import com.alexartauddev.licenseforge.client.LicenseTokenVerifier;
+import com.alexartauddev.licenseforge.config.LicenseTokenProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Signs offline license tokens with the active Ed25519 key.
+ * Keys are decoded once at startup; when none are configured an ephemeral key pair is
+ * generated, which is only suitable for development since tokens do not survive a restart.
+ */
+@Slf4j
+@Component
+public class LicenseTokenSigner {
+
+    private final String activeKeyId;
+    private final PrivateKey activePrivateKey;
+    private final Map<String, String> encodedPublicKeys;
+
+    public LicenseTokenSigner(LicenseTokenProperties properties) {
+        Map<String, String> publicKeys = new LinkedHashMap<>();
+
+        if (properties.getKeys().isEmpty()) {
+            KeyPair keyPair = generateKeyPair();
+            this.activeKeyId = "ephemeral-" + UUID.randomUUID().toString().substring(0, 8);
+            this.activePrivateKey = keyPair.getPrivate();
+            publicKeys.put(activeKeyId, Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+            log.warn("No license token signing keys configured, using ephemeral key {}", activeKeyId);
+        } else {
+            String keyId = properties.getActiveKeyId();
+            LicenseTokenProperties.SigningKey activeKey = keyId != null ? properties.getKeys().get(keyId) : null;
+            if (activeKey == null || activeKey.getPrivateKey() == null) {
+                throw new IllegalStateException(
+                        "licenseforge.license.token.active-key-id must name a configured key with a private key");
+            }
+            properties.getKeys().forEach((id, key) -> {
+                // Decode eagerly so a broken key fails startup rather than the first verification
+                PublicKey publicKey = LicenseTokenVerifier.decodePublicKey(key.getPublicKey());
+                publicKeys.put(id, Base64.getEncoder().encodeToString(publicKey.getEncoded()));
+            });
+            this.activeKeyId = keyId;
+            this.activePrivateKey = decodePrivateKey(activeKey.getPrivateKey());
+        }
+
+        this.encodedPublicKeys = Collections.unmodifiableMap(publicKeys);
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * Base64 encoded X.509 public keys of every key that may have signed a live token, by key ID
+     */
+    public Map<String, String> getPublicKeys() {
+        return encodedPublicKeys;
+    }
+
+    /**
+     * Encode and sign a token; the token's key ID must be the active key ID
+     */
+    public String sign(LicenseToken token) {
+        if (!activeKeyId.equals(token.keyId())) {
+            throw new IllegalArgumentException("Tokens can only be signed with the active key " + activeKeyId);
+        }
+        String signedContent = LicenseToken.FORMAT_PREFIX + "." + token.keyId() + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(token.toPayload());
+        try {
+            Signature signature = Signature.getInstance(LicenseToken.SIGNATURE_ALGORITHM);
+            signature.initSign(activePrivateKey);
+            signature.update(signedContent.getBytes(StandardCharsets.US_ASCII));
+            return signedContent + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to sign license token", e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(String encoded) {
+        try {
+            return KeyFactory.getInstance(LicenseToken.SIGNATURE_ALGORITHM)
+                    .generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(encoded.trim())));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid license token private key", e);
+        }
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            return KeyPairGenerator.getInstance(LicenseToken.SIGNATURE_ALGORITHM).generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to generate license token key pair", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.alexartauddev.licenseforge.application.license.validation;
+
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of validating a license key for a hardware ID, with the expiry of the license when it
+ * is known. Rejections are plain values rather than exceptions, so turning down a key costs no more
+ * than accepting one.
+ */
+public record ValidationResult(ValidationStatus status, LocalDateTime expiresAt) {
+
+    public static final ValidationResult UNKNOWN_KEY = new ValidationResult(ValidationStatus.UNKNOWN_KEY, null);
+
+    /**
+     * Validate the cached state of a license for a hardware ID
+     */
+    public static ValidationResult of(LicenseValidationCache.Entry license, String hardwareId) {
+        ValidationStatus status;
+        if (license.isExpired()) {
+            status = ValidationStatus.EXPIRED;
+        } else if (license.revoked()) {
+            status = ValidationStatus.REVOKED;
+        } else if (license.isActivatedOn(hardwareId)) {
+            status = ValidationStatus.VALID;
+        } else if (license.activationCount() >= license.maxActivations()) {
+            status = ValidationStatus.OVER_LIMIT;
+        } else {
+            status = ValidationStatus.NOT_ACTIVATED;
+        }
+        return new ValidationResult(status, license.expiresAt());
+    }
+
+    public boolean isValid() {
+        return status == ValidationStatus.VALID;
+    }
+}
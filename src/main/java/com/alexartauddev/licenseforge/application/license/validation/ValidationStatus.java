@@ -0,0 +1,16 @@
+package com.alexartauddev.licenseforge.application.license.validation;
+
+/**
+ * Outcome of validating a license key for a hardware ID
+ */
+public enum ValidationStatus {
+    VALID,
+    /** No license has this key */
+    UNKNOWN_KEY,
+    EXPIRED,
+    REVOKED,
+    /** The license is not activated on this hardware, but has a seat left to be */
+    NOT_ACTIVATED,
+    /** The license is not activated on this hardware, and all of its seats are taken */
+    OVER_LIMIT
+}
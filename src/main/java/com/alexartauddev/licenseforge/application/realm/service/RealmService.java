@@ -1,10 +1,10 @@
 package com.alexartauddev.licenseforge.application.realm.service;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.web.dto.realm.RealmDTO;
 import com.alexartauddev.licenseforge.web.request.realm.CreateRealmRequest;
 import com.alexartauddev.licenseforge.web.request.realm.UpdateRealmRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface RealmService {
@@ -12,7 +12,7 @@ public interface RealmService {
 
     RealmDTO getRealmById(UUID id);
 
-    List<RealmDTO> getRealmsByCompanyId(UUID companyId, int page, int size);
+    CursorPage<RealmDTO> getRealmsByCompanyId(UUID companyId, String cursor, int page, int size);
 
     RealmDTO updateRealm(UUID id, UpdateRealmRequest request);
 
@@ -1,8 +1,15 @@
 package com.alexartauddev.licenseforge.application.realm.service.impl;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.common.enrichment.BatchLoader;
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
+import com.alexartauddev.licenseforge.application.company.quota.QuotaService;
 import com.alexartauddev.licenseforge.application.realm.mapper.RealmMapper;
 import com.alexartauddev.licenseforge.application.realm.service.RealmService;
 import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
 import com.alexartauddev.licenseforge.domain.realm.repository.RealmRepository;
 import com.alexartauddev.licenseforge.web.dto.realm.RealmDTO;
@@ -15,8 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +32,9 @@ public class RealmServiceImpl implements RealmService {
     private final RealmRepository realmRepository;
     private final ApplicationRepository applicationRepository;
     private final RealmMapper realmMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final TenantHierarchy tenantHierarchy;
+    private final QuotaService quotaService;
 
     @Override
     @Transactional
@@ -38,6 +48,8 @@ public class RealmServiceImpl implements RealmService {
                 .build();
 
         Realm savedRealm = realmRepository.save(realm);
+        invalidationBus.invalidate(CacheInvalidation.Type.REALM, savedRealm.getId());
+        tenantHierarchy.realmSaved(savedRealm);
 
         RealmDTO dto = realmMapper.toDTO(savedRealm);
         dto.setApplicationsCount(0); // New realm has no applications
@@ -59,16 +71,15 @@ public class RealmServiceImpl implements RealmService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<RealmDTO> getRealmsByCompanyId(UUID companyId, int page, int size) {
-        return realmRepository.findByCompanyId(companyId).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(realm -> {
-                    RealmDTO dto = realmMapper.toDTO(realm);
-                    dto.setApplicationsCount(applicationRepository.countByRealmId(realm.getId()));
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<RealmDTO> getRealmsByCompanyId(UUID companyId, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        List<Realm> realms = realmRepository.findByCompanyId(companyId, query);
+        Map<UUID, Long> applicationsCounts = BatchLoader.load(realms, Realm::getId, applicationRepository::countByRealmIds);
+        return CursorPage.of(realms, query, Realm::getId, realm -> {
+            RealmDTO dto = realmMapper.toDTO(realm);
+            dto.setApplicationsCount(applicationsCounts.getOrDefault(realm.getId(), 0L));
+            return dto;
+        });
     }
 
     @Override
@@ -88,6 +99,8 @@ public class RealmServiceImpl implements RealmService {
         realm.setUpdatedAt(LocalDateTime.now());
 
         Realm updatedRealm = realmRepository.save(realm);
+        invalidationBus.invalidate(CacheInvalidation.Type.REALM, updatedRealm.getId());
+        tenantHierarchy.realmSaved(updatedRealm);
 
         RealmDTO dto = realmMapper.toDTO(updatedRealm);
         dto.setApplicationsCount(applicationRepository.countByRealmId(updatedRealm.getId()));
@@ -101,7 +114,13 @@ public class RealmServiceImpl implements RealmService {
         Realm realm = realmRepository.findById(id)
                 .orElseThrow(() -> RealmNotFoundException.withId(id));
 
+        // The applications of the realm are left behind without a way back to the company, so
+        // their share of its quota is given back with the realm
+        long applications = applicationRepository.countByRealmId(realm.getId());
         realmRepository.delete(realm);
+        quotaService.releaseApplications(realm.getCompanyId(), applications);
+        invalidationBus.invalidate(CacheInvalidation.Type.REALM, realm.getId());
+        tenantHierarchy.realmDeleted(realm.getId());
     }
 
     @Override
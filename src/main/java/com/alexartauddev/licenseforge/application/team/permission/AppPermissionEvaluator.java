@@ -0,0 +1,103 @@
+package com.alexartauddev.licenseforge.application.team.permission;
+
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
+import com.alexartauddev.licenseforge.application.jwt.principal.AuthenticatedUser;
+import com.alexartauddev.licenseforge.application.service_account.service.ServiceAccountService;
+import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
+import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import com.alexartauddev.licenseforge.domain.team.entity.TeamPermission;
+import com.alexartauddev.licenseforge.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Per-application authorization checks for {@code @PreAuthorize} expressions, e.g.
+ * {@code @PreAuthorize("@appPermissions.hasPermission(authentication, #appId, 'WRITE')")}.
+ * The service account may do anything, and administrators anything on the applications of their
+ * company; other users need their teams to have been granted the permission, as recorded in the
+ * permission matrix of their company.
+ * The company of each application is resolved through the tenant snapshot. Licenses and activations
+ * are checked against the application they belong to.
+ */
+@Component("appPermissions")
+@RequiredArgsConstructor
+public class AppPermissionEvaluator {
+
+    private final PermissionMatrixService permissionMatrixService;
+    private final TenantHierarchy tenantHierarchy;
+    private final ServiceAccountService serviceAccountService;
+    private final LicenseRepository licenseRepository;
+    private final ActivationRepository activationRepository;
+
+    /**
+     * Whether the authenticated user holds at least the given permission (READ, WRITE or ADMIN) on
+     * an application. Unknown applications are denied.
+     */
+    public boolean hasPermission(Authentication authentication, UUID appId, String permission) {
+        if (authentication == null || appId == null
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return false;
+        }
+        TeamPermission.PermissionType required = TeamPermission.PermissionType.valueOf(permission);
+        if (serviceAccountService.isServiceAccount(user.email())) {
+            return true;
+        }
+
+        UUID companyId = tenantHierarchy.findCompanyIdOfApplication(appId).orElse(null);
+        if (companyId == null || !companyId.equals(user.companyId())) {
+            return false;
+        }
+        if (user.role() == User.Role.ADMIN) {
+            return true;
+        }
+        return permissionMatrixService.getMatrix(companyId).isGranted(user.id(), appId, required);
+    }
+
+    /**
+     * Whether the authenticated user holds at least the given permission on the application of a
+     * license. Unknown licenses are denied.
+     */
+    public boolean hasLicensePermission(Authentication authentication, UUID licenseId, String permission) {
+        UUID appId = licenseId == null ? null : licenseRepository.findById(licenseId)
+                .map(License::getAppId)
+                .orElse(null);
+        return hasPermission(authentication, appId, permission);
+    }
+
+    /**
+     * Whether the authenticated user holds at least the given permission on the application of the
+     * license with the given key. Unknown keys are denied.
+     */
+    public boolean hasLicenseKeyPermission(Authentication authentication, String licenseKey, String permission) {
+        UUID appId = licenseKey == null ? null : licenseRepository.findByLicenseKey(licenseKey)
+                .map(License::getAppId)
+                .orElse(null);
+        return hasPermission(authentication, appId, permission);
+    }
+
+    /**
+     * Whether the authenticated user holds at least the given permission on the application of the
+     * license of an activation. Unknown activations are denied.
+     */
+    public boolean hasActivationPermission(Authentication authentication, UUID activationId, String permission) {
+        UUID licenseId = activationId == null ? null : activationRepository.findById(activationId)
+                .map(Activation::getLicenseId)
+                .orElse(null);
+        return hasLicensePermission(authentication, licenseId, permission);
+    }
+
+    /**
+     * Whether the authenticated user is the service account, the only one allowed to list across
+     * every company
+     */
+    public boolean isServiceAccount(Authentication authentication) {
+        return authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && serviceAccountService.isServiceAccount(user.email());
+    }
+}
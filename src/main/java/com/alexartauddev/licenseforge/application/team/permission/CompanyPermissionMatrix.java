@@ -0,0 +1,177 @@
+package com.alexartauddev.licenseforge.application.team.permission;
+
+import com.alexartauddev.licenseforge.domain.team.entity.TeamPermission;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Effective permission of every user of a company on every application its teams were granted.
+ * A user holds the highest permission granted to any of their teams: their own team and the teams
+ * they were added to. Each user has a row of one byte per application column, so a check is two
+ * hash lookups and an array read.
+ * Rows are replaced whole when the grants or memberships behind them change, so checks never lock;
+ * changes are serialized on the matrix and must be idempotent, as one may be applied to a matrix
+ * that was loaded after it was committed.
+ */
+public final class CompanyPermissionMatrix {
+
+    private final Map<UUID, Integer> appColumns = new ConcurrentHashMap<>();
+    private final Map<UUID, byte[]> rows = new ConcurrentHashMap<>();
+
+    // Sources of the rows, only touched while holding the lock of the matrix
+    private final Map<UUID, Map<UUID, TeamPermission.PermissionType>> grantsByTeam = new HashMap<>();
+    private final Map<UUID, UUID> primaryTeams = new HashMap<>();
+    private final Map<UUID, Set<UUID>> addedTeams = new HashMap<>();
+
+    /**
+     * Build the matrix of a company from its users' own teams, the teams they were added to and the
+     * permissions of those teams
+     */
+    public static CompanyPermissionMatrix of(Map<UUID, UUID> primaryTeamsByUser,
+                                             Collection<Membership> memberships,
+                                             Collection<TeamPermission> permissions) {
+        CompanyPermissionMatrix matrix = new CompanyPermissionMatrix();
+        synchronized (matrix) {
+            primaryTeamsByUser.forEach((userId, teamId) -> {
+                if (teamId != null) {
+                    matrix.primaryTeams.put(userId, teamId);
+                }
+            });
+            for (Membership membership : memberships) {
+                matrix.addedTeams.computeIfAbsent(membership.userId(), k -> new HashSet<>()).add(membership.teamId());
+            }
+            for (TeamPermission permission : permissions) {
+                matrix.grantsByTeam.computeIfAbsent(permission.getTeamId(), k -> new HashMap<>())
+                        .put(permission.getAppId(), permission.getPermissionType());
+            }
+            Set<UUID> users = new HashSet<>(matrix.primaryTeams.keySet());
+            users.addAll(matrix.addedTeams.keySet());
+            users.forEach(matrix::recompute);
+        }
+        return matrix;
+    }
+
+    /**
+     * Whether a user holds at least the given permission on an application
+     */
+    public boolean isGranted(UUID userId, UUID appId, TeamPermission.PermissionType required) {
+        Integer column = appColumns.get(appId);
+        byte[] row = rows.get(userId);
+        if (column == null || row == null || column >= row.length) {
+            return false;
+        }
+        return row[column] > required.ordinal();
+    }
+
+    /**
+     * Grant a team a permission on an application, replacing the one it had
+     */
+    public synchronized void grant(UUID teamId, UUID appId, TeamPermission.PermissionType permissionType) {
+        grantsByTeam.computeIfAbsent(teamId, k -> new HashMap<>()).put(appId, permissionType);
+        membersOf(teamId).forEach(this::recompute);
+    }
+
+    /**
+     * Revoke the permission of a team on an application
+     */
+    public synchronized void revoke(UUID teamId, UUID appId) {
+        Map<UUID, TeamPermission.PermissionType> grants = grantsByTeam.get(teamId);
+        if (grants == null || grants.remove(appId) == null) {
+            return;
+        }
+        if (grants.isEmpty()) {
+            grantsByTeam.remove(teamId);
+        }
+        membersOf(teamId).forEach(this::recompute);
+    }
+
+    /**
+     * Add a user to a team besides their own
+     */
+    public synchronized void addMember(UUID userId, UUID teamId) {
+        if (addedTeams.computeIfAbsent(userId, k -> new HashSet<>()).add(teamId)) {
+            recompute(userId);
+        }
+    }
+
+    /**
+     * Remove a user from a team they were added to; their own team is kept
+     */
+    public synchronized void removeMember(UUID userId, UUID teamId) {
+        Set<UUID> teams = addedTeams.get(userId);
+        if (teams == null || !teams.remove(teamId)) {
+            return;
+        }
+        if (teams.isEmpty()) {
+            addedTeams.remove(userId);
+        }
+        recompute(userId);
+    }
+
+    /**
+     * Number of users with a row
+     */
+    public int userCount() {
+        return rows.size();
+    }
+
+    private Set<UUID> membersOf(UUID teamId) {
+        Set<UUID> members = new HashSet<>();
+        primaryTeams.forEach((userId, primaryTeam) -> {
+            if (primaryTeam.equals(teamId)) {
+                members.add(userId);
+            }
+        });
+        addedTeams.forEach((userId, teams) -> {
+            if (teams.contains(teamId)) {
+                members.add(userId);
+            }
+        });
+        return members;
+    }
+
+    private void recompute(UUID userId) {
+        Set<UUID> teams = new HashSet<>(addedTeams.getOrDefault(userId, Set.of()));
+        UUID primaryTeam = primaryTeams.get(userId);
+        if (primaryTeam != null) {
+            teams.add(primaryTeam);
+        }
+
+        Map<UUID, TeamPermission.PermissionType> effective = new HashMap<>();
+        for (UUID teamId : teams) {
+            grantsByTeam.getOrDefault(teamId, Map.of()).forEach((appId, permissionType) ->
+                    effective.merge(appId, permissionType, (a, b) -> a.compareTo(b) >= 0 ? a : b));
+        }
+        if (effective.isEmpty()) {
+            rows.remove(userId);
+            return;
+        }
+
+        // Columns are only appended; rows built before a column existed are shorter and hold nothing in it
+        for (UUID appId : effective.keySet()) {
+            if (!appColumns.containsKey(appId)) {
+                appColumns.put(appId, appColumns.size());
+            }
+        }
+        byte[] row = new byte[appColumns.size()];
+        effective.forEach((appId, permissionType) -> row[appColumns.get(appId)] = level(permissionType));
+        rows.put(userId, row);
+    }
+
+    // Levels start at one so that zero means no permission
+    private static byte level(TeamPermission.PermissionType permissionType) {
+        return (byte) (permissionType.ordinal() + 1);
+    }
+
+    /**
+     * Membership of a user in a team besides their own
+     */
+    public record Membership(UUID userId, UUID teamId) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.alexartauddev.licenseforge.application.team.permission;
+
+import com.alexartauddev.licenseforge.domain.team.entity.Team;
+import com.alexartauddev.licenseforge.domain.team.entity.TeamPermission;
+import com.alexartauddev.licenseforge.domain.team.repository.TeamPermissionRepository;
+import com.alexartauddev.licenseforge.domain.team.repository.TeamRepository;
+import com.alexartauddev.licenseforge.domain.user.entity.User;
+import com.alexartauddev.licenseforge.domain.user.repository.UserRepository;
+import com.alexartauddev.licenseforge.domain.user.repository.UserTeamRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Bounded cache of the permission matrix of each company, keyed by company ID.
+ * A matrix is loaded in a few queries on the first check for its company, then kept up to date
+ * in memory as team permissions and team memberships change, once their transaction commits.
+ * Changes to a user's own team or to teams as a whole drop the matrix of their company instead,
+ * to be loaded again on the next check.
+ */
+@Component
+public class PermissionMatrixService {
+
+    static final String CACHE_NAME = "permissionMatrices";
+
+    private final TeamRepository teamRepository;
+    private final TeamPermissionRepository teamPermissionRepository;
+    private final UserRepository userRepository;
+    private final UserTeamRepository userTeamRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LoadingCache<UUID, CompanyPermissionMatrix> cache;
+
+    public PermissionMatrixService(
+            TeamRepository teamRepository,
+            TeamPermissionRepository teamPermissionRepository,
+            UserRepository userRepository,
+            UserTeamRepository userTeamRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${licenseforge.permissions.matrix.maximum-size:10000}") long maximumSize,
+            @Value("${licenseforge.permissions.matrix.ttl:10m}") Duration ttl) {
+        this.teamRepository = teamRepository;
+        this.teamPermissionRepository = teamPermissionRepository;
+        this.userRepository = userRepository;
+        this.userTeamRepository = userTeamRepository;
+        // Not read-only, so that it reads from the primary: a matrix loaded from a lagging replica
+        // would miss recent grants until it is dropped
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get the permission matrix of a company, loading it on a cache miss
+     */
+    public CompanyPermissionMatrix getMatrix(UUID companyId) {
+        return cache.get(companyId);
+    }
+
+    /**
+     * Grant a team a permission on an application once the current transaction commits
+     */
+    public void permissionGranted(UUID companyId, UUID teamId, UUID appId, TeamPermission.PermissionType permissionType) {
+        afterCommit(companyId, matrix -> matrix.grant(teamId, appId, permissionType));
+    }
+
+    /**
+     * Revoke the permission of a team on an application once the current transaction commits
+     */
+    public void permissionRevoked(UUID companyId, UUID teamId, UUID appId) {
+        afterCommit(companyId, matrix -> matrix.revoke(teamId, appId));
+    }
+
+    /**
+     * Add a user to a team once the current transaction commits
+     */
+    public void memberAdded(UUID companyId, UUID userId, UUID teamId) {
+        afterCommit(companyId, matrix -> matrix.addMember(userId, teamId));
+    }
+
+    /**
+     * Remove a user from a team once the current transaction commits
+     */
+    public void memberRemoved(UUID companyId, UUID userId, UUID teamId) {
+        afterCommit(companyId, matrix -> matrix.removeMember(userId, teamId));
+    }
+
+    /**
+     * Drop the matrix of a company, now and once more after the current transaction commits
+     */
+    public void evict(UUID companyId) {
+        cache.invalidate(companyId);
+        runAfterCommit(() -> cache.invalidate(companyId));
+    }
+
+    /**
+     * Drop every matrix, now and once more after the current transaction commits
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+        runAfterCommit(cache::invalidateAll);
+    }
+
+    private CompanyPermissionMatrix load(UUID companyId) {
+        return transactionTemplate.execute(status -> {
+            List<UUID> teamIds = teamRepository.findByCompanyId(companyId).stream()
+                    .map(Team::getId)
+                    .toList();
+            Map<UUID, UUID> primaryTeams = new HashMap<>();
+            for (User user : userRepository.findByCompanyId(companyId)) {
+                primaryTeams.put(user.getId(), user.getTeamId());
+            }
+            if (teamIds.isEmpty()) {
+                return CompanyPermissionMatrix.of(primaryTeams, List.of(), List.of());
+            }
+            List<CompanyPermissionMatrix.Membership> memberships = userTeamRepository.findByTeamIdIn(teamIds).stream()
+                    .map(userTeam -> new CompanyPermissionMatrix.Membership(userTeam.getUserId(), userTeam.getTeamId()))
+                    .toList();
+            return CompanyPermissionMatrix.of(primaryTeams, memberships, teamPermissionRepository.findByTeamIdIn(teamIds));
+        });
+    }
+
+    // A change also applies to a matrix loaded while it was being committed, hence idempotent changes
+    // and the eviction when no matrix is cached yet, which waits for a load in progress
+    private void afterCommit(UUID companyId, Consumer<CompanyPermissionMatrix> change) {
+        runAfterCommit(() -> {
+            CompanyPermissionMatrix matrix = cache.getIfPresent(companyId);
+            if (matrix != null) {
+                change.accept(matrix);
+            } else {
+                cache.invalidate(companyId);
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,11 +1,11 @@
 package com.alexartauddev.licenseforge.application.team.service;
 
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.web.dto.team.TeamDTO;
 import com.alexartauddev.licenseforge.web.request.team.CreateTeamRequest;
 import com.alexartauddev.licenseforge.web.request.team.UpdateTeamRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface TeamService {
@@ -13,7 +13,7 @@ public interface TeamService {
 
     TeamDTO getTeamById(UUID id);
 
-    List<TeamDTO> getTeamsByCompanyId(UUID companyId, int page, int size);
+    CursorPage<TeamDTO> getTeamsByCompanyId(UUID companyId, String cursor, int page, int size);
 
     TeamDTO updateTeam(UUID id, UpdateTeamRequest request);
 
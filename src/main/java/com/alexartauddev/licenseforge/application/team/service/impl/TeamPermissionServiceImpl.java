@@ -1,6 +1,10 @@
 package com.alexartauddev.licenseforge.application.team.service.impl;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.common.enrichment.BatchLoader;
 import com.alexartauddev.licenseforge.application.team.mapper.TeamPermissionMapper;
+import com.alexartauddev.licenseforge.application.team.permission.PermissionMatrixService;
 import com.alexartauddev.licenseforge.application.team.service.TeamPermissionService;
 import com.alexartauddev.licenseforge.domain.application.entity.Application;
 import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
@@ -21,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,6 +37,8 @@ public class TeamPermissionServiceImpl implements TeamPermissionService {
     private final TeamRepository teamRepository;
     private final ApplicationRepository applicationRepository;
     private final TeamPermissionMapper teamPermissionMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final PermissionMatrixService permissionMatrixService;
 
     @Override
     @Transactional
@@ -58,6 +65,10 @@ public class TeamPermissionServiceImpl implements TeamPermissionService {
                 .build();
 
         TeamPermission savedTeamPermission = teamPermissionRepository.save(teamPermission);
+        invalidationBus.invalidate(CacheInvalidation.Type.TEAM_PERMISSION, savedTeamPermission.getId());
+        permissionMatrixService.permissionGranted(team.getCompanyId(), team.getId(), application.getId(),
+                savedTeamPermission.getPermissionType());
+        invalidationBus.invalidate(CacheInvalidation.Type.PERMISSION_MATRIX, team.getCompanyId());
 
         TeamPermissionDTO dto = teamPermissionMapper.toDTO(savedTeamPermission);
         dto.setTeamName(team.getName());
@@ -108,61 +119,19 @@ public class TeamPermissionServiceImpl implements TeamPermissionService {
     @Override
     @Transactional(readOnly = true)
     public List<TeamPermissionDTO> getTeamPermissionsByTeamId(UUID teamId) {
-        return teamPermissionRepository.findByTeamId(teamId).stream()
-                .map(permission -> {
-                    TeamPermissionDTO dto = teamPermissionMapper.toDTO(permission);
-
-                    // Get team name
-                    teamRepository.findById(permission.getTeamId())
-                            .ifPresent(team -> dto.setTeamName(team.getName()));
-
-                    // Get application name
-                    applicationRepository.findById(permission.getAppId())
-                            .ifPresent(app -> dto.setAppName(app.getName()));
-
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDTOs(teamPermissionRepository.findByTeamId(teamId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TeamPermissionDTO> getTeamPermissionsByAppId(UUID appId) {
-        return teamPermissionRepository.findByAppId(appId).stream()
-                .map(permission -> {
-                    TeamPermissionDTO dto = teamPermissionMapper.toDTO(permission);
-
-                    // Get team name
-                    teamRepository.findById(permission.getTeamId())
-                            .ifPresent(team -> dto.setTeamName(team.getName()));
-
-                    // Get application name
-                    applicationRepository.findById(permission.getAppId())
-                            .ifPresent(app -> dto.setAppName(app.getName()));
-
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDTOs(teamPermissionRepository.findByAppId(appId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TeamPermissionDTO> getTeamPermissionsByTeamIdAndPermissionType(UUID teamId, TeamPermission.PermissionType permissionType) {
-        return teamPermissionRepository.findByTeamIdAndPermissionType(teamId, permissionType).stream()
-                .map(permission -> {
-                    TeamPermissionDTO dto = teamPermissionMapper.toDTO(permission);
-
-                    // Get team name
-                    teamRepository.findById(permission.getTeamId())
-                            .ifPresent(team -> dto.setTeamName(team.getName()));
-
-                    // Get application name
-                    applicationRepository.findById(permission.getAppId())
-                            .ifPresent(app -> dto.setAppName(app.getName()));
-
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDTOs(teamPermissionRepository.findByTeamIdAndPermissionType(teamId, permissionType));
     }
 
     @Override
@@ -175,12 +144,17 @@ public class TeamPermissionServiceImpl implements TeamPermissionService {
         teamPermission.setUpdatedAt(LocalDateTime.now());
 
         TeamPermission updatedTeamPermission = teamPermissionRepository.save(teamPermission);
+        invalidationBus.invalidate(CacheInvalidation.Type.TEAM_PERMISSION, updatedTeamPermission.getId());
 
         TeamPermissionDTO dto = teamPermissionMapper.toDTO(updatedTeamPermission);
 
         // Get team name
-        teamRepository.findById(updatedTeamPermission.getTeamId())
-                .ifPresent(team -> dto.setTeamName(team.getName()));
+        teamRepository.findById(updatedTeamPermission.getTeamId()).ifPresent(team -> {
+            dto.setTeamName(team.getName());
+            permissionMatrixService.permissionGranted(team.getCompanyId(), team.getId(),
+                    updatedTeamPermission.getAppId(), updatedTeamPermission.getPermissionType());
+            invalidationBus.invalidate(CacheInvalidation.Type.PERMISSION_MATRIX, team.getCompanyId());
+        });
 
         // Get application name
         applicationRepository.findById(updatedTeamPermission.getAppId())
@@ -196,17 +170,44 @@ public class TeamPermissionServiceImpl implements TeamPermissionService {
                 .orElseThrow(() -> TeamPermissionNotFoundException.withId(id));
 
         teamPermissionRepository.delete(teamPermission);
+        invalidationBus.invalidate(CacheInvalidation.Type.TEAM_PERMISSION, teamPermission.getId());
+        teamRepository.findById(teamPermission.getTeamId()).ifPresent(team -> {
+            permissionMatrixService.permissionRevoked(team.getCompanyId(), team.getId(), teamPermission.getAppId());
+            invalidationBus.invalidate(CacheInvalidation.Type.PERMISSION_MATRIX, team.getCompanyId());
+        });
     }
 
     @Override
     @Transactional
     public void deleteTeamPermissionsByTeamId(UUID teamId) {
         teamPermissionRepository.deleteByTeamId(teamId);
+        invalidationBus.invalidateAll(CacheInvalidation.Type.TEAM_PERMISSION);
+        permissionMatrixService.evictAll();
+        invalidationBus.invalidateAll(CacheInvalidation.Type.PERMISSION_MATRIX);
     }
 
     @Override
     @Transactional
     public void deleteTeamPermissionsByAppId(UUID appId) {
         teamPermissionRepository.deleteByAppId(appId);
+        invalidationBus.invalidateAll(CacheInvalidation.Type.TEAM_PERMISSION);
+        permissionMatrixService.evictAll();
+        invalidationBus.invalidateAll(CacheInvalidation.Type.PERMISSION_MATRIX);
+    }
+
+    /**
+     * Map a list of permissions, loading their team and application names with one query each
+     */
+    private List<TeamPermissionDTO> toDTOs(List<TeamPermission> permissions) {
+        Map<UUID, String> teamNames = BatchLoader.load(permissions, TeamPermission::getTeamId, teamRepository::findNamesByIds);
+        Map<UUID, String> appNames = BatchLoader.load(permissions, TeamPermission::getAppId, applicationRepository::findNamesByIds);
+        return permissions.stream()
+                .map(permission -> {
+                    TeamPermissionDTO dto = teamPermissionMapper.toDTO(permission);
+                    dto.setTeamName(teamNames.get(permission.getTeamId()));
+                    dto.setAppName(appNames.get(permission.getAppId()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -1,7 +1,13 @@
 package com.alexartauddev.licenseforge.application.team.service.impl;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.common.enrichment.BatchLoader;
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.application.team.mapper.TeamMapper;
+import com.alexartauddev.licenseforge.application.team.permission.PermissionMatrixService;
 import com.alexartauddev.licenseforge.application.team.service.TeamService;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.company.entity.Company;
 import com.alexartauddev.licenseforge.domain.company.repository.CompanyRepository;
 import com.alexartauddev.licenseforge.domain.team.entity.Team;
@@ -18,8 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +36,8 @@ public class TeamServiceImpl implements TeamService {
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
     private final TeamMapper teamMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final PermissionMatrixService permissionMatrixService;
 
     @Override
     @Transactional
@@ -45,6 +54,7 @@ public class TeamServiceImpl implements TeamService {
                 .build();
 
         Team savedTeam = teamRepository.save(team);
+        invalidationBus.invalidate(CacheInvalidation.Type.TEAM, savedTeam.getId());
 
         TeamDTO dto = teamMapper.toDTO(savedTeam);
         dto.setCompanyName(company.getName());
@@ -73,23 +83,10 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<TeamDTO> getTeamsByCompanyId(UUID companyId, int page, int size) {
-        return teamRepository.findByCompanyId(companyId).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(team -> {
-                    TeamDTO dto = teamMapper.toDTO(team);
-
-                    // Get company name
-                    companyRepository.findById(team.getCompanyId()).ifPresent(company ->
-                            dto.setCompanyName(company.getName()));
-
-                    // Get members count
-                    dto.setMembersCount(userRepository.countByTeamId(team.getId()));
-
-                    return dto;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<TeamDTO> getTeamsByCompanyId(UUID companyId, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        List<Team> teams = teamRepository.findByCompanyId(companyId, query);
+        return CursorPage.of(teams, query, Team::getId, toDTOs(teams));
     }
 
     @Override
@@ -105,6 +102,7 @@ public class TeamServiceImpl implements TeamService {
         team.setUpdatedAt(LocalDateTime.now());
 
         Team updatedTeam = teamRepository.save(team);
+        invalidationBus.invalidate(CacheInvalidation.Type.TEAM, updatedTeam.getId());
 
         TeamDTO dto = teamMapper.toDTO(updatedTeam);
 
@@ -125,6 +123,9 @@ public class TeamServiceImpl implements TeamService {
                 .orElseThrow(() -> TeamNotFoundException.withId(id));
 
         teamRepository.delete(team);
+        invalidationBus.invalidate(CacheInvalidation.Type.TEAM, team.getId());
+        permissionMatrixService.evict(team.getCompanyId());
+        invalidationBus.invalidate(CacheInvalidation.Type.PERMISSION_MATRIX, team.getCompanyId());
     }
 
     @Override
@@ -132,4 +133,18 @@ public class TeamServiceImpl implements TeamService {
     public long countByCompanyId(UUID companyId) {
         return teamRepository.countByCompanyId(companyId);
     }
+
+    /**
+     * Mapper for a list of teams whose company names and member counts are loaded with one query each
+     */
+    private Function<Team, TeamDTO> toDTOs(List<Team> teams) {
+        Map<UUID, String> companyNames = BatchLoader.load(teams, Team::getCompanyId, companyRepository::findNamesByIds);
+        Map<UUID, Long> membersCounts = BatchLoader.load(teams, Team::getId, userRepository::countByTeamIds);
+        return team -> {
+            TeamDTO dto = teamMapper.toDTO(team);
+            dto.setCompanyName(companyNames.get(team.getCompanyId()));
+            dto.setMembersCount(membersCounts.getOrDefault(team.getId(), 0L));
+            return dto;
+        };
+    }
 }
\ No newline at end of file
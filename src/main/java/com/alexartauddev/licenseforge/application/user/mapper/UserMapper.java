@@ -3,6 +3,7 @@ package com.alexartauddev.licenseforge.application.user.mapper;
 import com.alexartauddev.licenseforge.domain.user.entity.User;
 import com.alexartauddev.licenseforge.web.dto.user.UserDTO;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 @Mapper(componentModel = "spring")
@@ -11,5 +12,6 @@ public interface UserMapper {
 
     UserDTO toDTO(User user);
 
+    @Mapping(target = "tokenVersion", ignore = true)
     User toEntity(UserDTO dto);
 }
\ No newline at end of file
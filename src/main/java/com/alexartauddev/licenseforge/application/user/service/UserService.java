@@ -1,12 +1,12 @@
 package com.alexartauddev.licenseforge.application.user.service;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.domain.user.entity.User;
 import com.alexartauddev.licenseforge.web.dto.user.UserDTO;
 import com.alexartauddev.licenseforge.web.request.user.ChangePasswordRequest;
 import com.alexartauddev.licenseforge.web.request.user.CreateUserRequest;
 import com.alexartauddev.licenseforge.web.request.user.UpdateUserRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface UserService {
@@ -16,13 +16,13 @@ public interface UserService {
 
     UserDTO getUserByEmail(String email);
 
-    List<UserDTO> getAllUsers(int page, int size);
+    CursorPage<UserDTO> getAllUsers(String cursor, int page, int size);
 
-    List<UserDTO> getUsersByCompanyId(UUID companyId, int page, int size);
+    CursorPage<UserDTO> getUsersByCompanyId(UUID companyId, String cursor, int page, int size);
 
-    List<UserDTO> getUsersByTeamId(UUID teamId, int page, int size);
+    CursorPage<UserDTO> getUsersByTeamId(UUID teamId, String cursor, int page, int size);
 
-    List<UserDTO> getUsersByRoleAndCompanyId(User.Role role, UUID companyId, int page, int size);
+    CursorPage<UserDTO> getUsersByRoleAndCompanyId(User.Role role, UUID companyId, String cursor, int page, int size);
 
     UserDTO updateUser(UUID id, UpdateUserRequest request);
 
@@ -1,8 +1,15 @@
 package com.alexartauddev.licenseforge.application.user.service.impl;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.common.enrichment.BatchLoader;
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
+import com.alexartauddev.licenseforge.application.jwt.cache.TokenVersionCache;
+import com.alexartauddev.licenseforge.application.team.permission.PermissionMatrixService;
 import com.alexartauddev.licenseforge.application.user.mapper.UserMapper;
 import com.alexartauddev.licenseforge.application.user.service.PasswordService;
 import com.alexartauddev.licenseforge.application.user.service.UserService;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.company.repository.CompanyRepository;
 import com.alexartauddev.licenseforge.domain.team.repository.TeamRepository;
 import com.alexartauddev.licenseforge.domain.user.entity.User;
@@ -23,8 +30,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +43,9 @@ public class UserServiceImpl implements UserService {
     private final TeamRepository teamRepository;
     private final PasswordService passwordService;
     private final UserMapper userMapper;
+    private final TokenVersionCache tokenVersionCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final PermissionMatrixService permissionMatrixService;
 
     @Override
     @Transactional
@@ -70,6 +81,9 @@ public class UserServiceImpl implements UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        if (savedUser.getTeamId() != null) {
+            evictPermissionMatrix(savedUser.getCompanyId());
+        }
 
         return enrichUserDTO(userMapper.toDTO(savedUser));
     }
@@ -94,42 +108,34 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserDTO> getAllUsers(int page, int size) {
-        return userRepository.findAll().stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(user -> enrichUserDTO(userMapper.toDTO(user)))
-                .collect(Collectors.toList());
+    public CursorPage<UserDTO> getAllUsers(String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        List<User> users = userRepository.findAll(query);
+        return CursorPage.of(users, query, User::getId, toDTOs(users));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserDTO> getUsersByCompanyId(UUID companyId, int page, int size) {
-        return userRepository.findByCompanyId(companyId).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(user -> enrichUserDTO(userMapper.toDTO(user)))
-                .collect(Collectors.toList());
+    public CursorPage<UserDTO> getUsersByCompanyId(UUID companyId, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        List<User> users = userRepository.findByCompanyId(companyId, query);
+        return CursorPage.of(users, query, User::getId, toDTOs(users));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserDTO> getUsersByTeamId(UUID teamId, int page, int size) {
-        return userRepository.findByTeamId(teamId).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(user -> enrichUserDTO(userMapper.toDTO(user)))
-                .collect(Collectors.toList());
+    public CursorPage<UserDTO> getUsersByTeamId(UUID teamId, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        List<User> users = userRepository.findByTeamId(teamId, query);
+        return CursorPage.of(users, query, User::getId, toDTOs(users));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserDTO> getUsersByRoleAndCompanyId(User.Role role, UUID companyId, int page, int size) {
-        return userRepository.findByRoleAndCompanyId(role, companyId).stream()
-                .skip((long) page * size)
-                .limit(size)
-                .map(user -> enrichUserDTO(userMapper.toDTO(user)))
-                .collect(Collectors.toList());
+    public CursorPage<UserDTO> getUsersByRoleAndCompanyId(User.Role role, UUID companyId, String cursor, int page, int size) {
+        PageQuery query = CursorPage.query(cursor, page, size);
+        List<User> users = userRepository.findByRoleAndCompanyId(role, companyId, query);
+        return CursorPage.of(users, query, User::getId, toDTOs(users));
     }
 
     @Override
@@ -161,11 +167,15 @@ public class UserServiceImpl implements UserService {
             teamRepository.findById(request.getTeamId())
                     .orElseThrow(() -> new TeamNotFoundException("Team not found with id: " + request.getTeamId()));
             user.setTeamId(request.getTeamId());
+            evictPermissionMatrix(user.getCompanyId());
         }
 
         user.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
+        // Tokens carry the email and role, so revoke the ones issued before the update
+        tokenVersionCache.bump(id);
+        invalidationBus.invalidate(CacheInvalidation.Type.USER, id);
 
         return enrichUserDTO(userMapper.toDTO(updatedUser));
     }
@@ -192,6 +202,8 @@ public class UserServiceImpl implements UserService {
         user.setUpdatedAt(LocalDateTime.now());
 
         userRepository.save(user);
+        tokenVersionCache.bump(id);
+        invalidationBus.invalidate(CacheInvalidation.Type.USER, id);
     }
 
     @Override
@@ -201,6 +213,9 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> UserNotFoundException.withId(id));
 
         userRepository.delete(user);
+        tokenVersionCache.evict(id);
+        invalidationBus.invalidate(CacheInvalidation.Type.USER, id);
+        evictPermissionMatrix(user.getCompanyId());
     }
 
     @Override
@@ -221,6 +236,28 @@ public class UserServiceImpl implements UserService {
         return userRepository.countByTeamId(teamId);
     }
 
+    /**
+     * Drop the permission matrix of a company after a user's own team changed
+     */
+    private void evictPermissionMatrix(UUID companyId) {
+        permissionMatrixService.evict(companyId);
+        invalidationBus.invalidate(CacheInvalidation.Type.PERMISSION_MATRIX, companyId);
+    }
+
+    /**
+     * Mapper for a list of users whose company and team names are loaded with one query each
+     */
+    private Function<User, UserDTO> toDTOs(List<User> users) {
+        Map<UUID, String> companyNames = BatchLoader.load(users, User::getCompanyId, companyRepository::findNamesByIds);
+        Map<UUID, String> teamNames = BatchLoader.load(users, User::getTeamId, teamRepository::findNamesByIds);
+        return user -> {
+            UserDTO dto = userMapper.toDTO(user);
+            dto.setCompanyName(companyNames.get(user.getCompanyId()));
+            dto.setTeamName(teamNames.get(user.getTeamId()));
+            return dto;
+        };
+    }
+
     // Helper method to enrich DTO with company and team names
     private UserDTO enrichUserDTO(UserDTO dto) {
         if (dto.getCompanyId() != null) {
@@ -1,5 +1,8 @@
 package com.alexartauddev.licenseforge.application.user.service.impl;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.team.permission.PermissionMatrixService;
 import com.alexartauddev.licenseforge.application.user.service.UserTeamService;
 import com.alexartauddev.licenseforge.domain.team.entity.Team;
 import com.alexartauddev.licenseforge.domain.team.repository.TeamRepository;
@@ -28,6 +31,8 @@ public class UserTeamServiceImpl implements UserTeamService {
     private final UserTeamRepository userTeamRepository;
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
+    private final PermissionMatrixService permissionMatrixService;
+    private final CacheInvalidationBus invalidationBus;
 
     @Override
     @Transactional
@@ -59,6 +64,8 @@ public class UserTeamServiceImpl implements UserTeamService {
                 .build();
 
         userTeamRepository.save(userTeam);
+        permissionMatrixService.memberAdded(team.getCompanyId(), userId, teamId);
+        invalidationBus.invalidate(CacheInvalidation.Type.PERMISSION_MATRIX, team.getCompanyId());
         log.info("User {} added to team {}", userId, teamId);
     }
 
@@ -71,6 +78,10 @@ public class UserTeamServiceImpl implements UserTeamService {
 
         // Delete the relationship
         userTeamRepository.deleteByUserIdAndTeamId(userId, teamId);
+        teamRepository.findById(teamId).ifPresent(team -> {
+            permissionMatrixService.memberRemoved(team.getCompanyId(), userId, teamId);
+            invalidationBus.invalidate(CacheInvalidation.Type.PERMISSION_MATRIX, team.getCompanyId());
+        });
         log.info("User {} removed from team {}", userId, teamId);
     }
 
@@ -0,0 +1,104 @@
+package com.alexartauddev.licenseforge.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Claims of an offline license token.
+ * A token has the form {@code LF1.<keyId>.<payload>.<signature>}, where the payload is the
+ * base64url encoded binary form of these claims and the signature is an Ed25519 signature
+ * over everything before the last dot.
+ * <p>
+ * A token proves that the license was valid and activated on the hardware when it was issued.
+ * It may be trusted offline until {@link #refreshBy()}, after which the client has to ask the
+ * server for a new one. {@link #expiresAt()} is the license expiry and is null for perpetual licenses.
+ * <p>
+ * This package has no dependencies outside the JDK so it can be embedded in client applications.
+ */
+public record LicenseToken(String keyId,
+                           String licenseKey,
+                           String hardwareId,
+                           UUID appId,
+                           Instant issuedAt,
+                           Instant refreshBy,
+                           Instant expiresAt) {
+
+    public static final String FORMAT_PREFIX = "LF1";
+    public static final String SIGNATURE_ALGORITHM = "Ed25519";
+
+    private static final byte PAYLOAD_VERSION = 1;
+    private static final long NO_EXPIRY = Long.MIN_VALUE;
+
+    public LicenseToken {
+        Objects.requireNonNull(keyId, "keyId");
+        Objects.requireNonNull(licenseKey, "licenseKey");
+        Objects.requireNonNull(hardwareId, "hardwareId");
+        Objects.requireNonNull(appId, "appId");
+        Objects.requireNonNull(issuedAt, "issuedAt");
+        Objects.requireNonNull(refreshBy, "refreshBy");
+        if (keyId.isEmpty() || keyId.indexOf('.') >= 0) {
+            throw new IllegalArgumentException("Key ID must be non-empty and must not contain '.'");
+        }
+    }
+
+    public boolean isLicenseExpired(Instant now) {
+        return expiresAt != null && now.isAfter(expiresAt);
+    }
+
+    public boolean isRefreshDue(Instant now) {
+        return !now.isBefore(refreshBy);
+    }
+
+    /**
+     * Binary form of the claims, without the key ID which travels in the token header
+     */
+    public byte[] toPayload() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(PAYLOAD_VERSION);
+            out.writeUTF(licenseKey);
+            out.writeUTF(hardwareId);
+            out.writeLong(appId.getMostSignificantBits());
+            out.writeLong(appId.getLeastSignificantBits());
+            out.writeLong(issuedAt.getEpochSecond());
+            out.writeLong(refreshBy.getEpochSecond());
+            out.writeLong(expiresAt != null ? expiresAt.getEpochSecond() : NO_EXPIRY);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read claims back from their binary form
+     *
+     * @throws IllegalArgumentException if the payload is not a supported token payload
+     */
+    public static LicenseToken fromPayload(String keyId, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != PAYLOAD_VERSION) {
+                throw new IllegalArgumentException("Unsupported token payload version");
+            }
+            String licenseKey = in.readUTF();
+            String hardwareId = in.readUTF();
+            UUID appId = new UUID(in.readLong(), in.readLong());
+            Instant issuedAt = Instant.ofEpochSecond(in.readLong());
+            Instant refreshBy = Instant.ofEpochSecond(in.readLong());
+            long expiry = in.readLong();
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Trailing bytes in token payload");
+            }
+            return new LicenseToken(keyId, licenseKey, hardwareId, appId, issuedAt, refreshBy,
+                    expiry == NO_EXPIRY ? null : Instant.ofEpochSecond(expiry));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated token payload", e);
+        }
+    }
+}
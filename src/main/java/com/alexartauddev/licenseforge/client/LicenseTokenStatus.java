@@ -0,0 +1,27 @@
+package com.alexartauddev.licenseforge.client;
+
+/**
+ * Outcome of verifying an offline license token
+ */
+public enum LicenseTokenStatus {
+    /** Signature, license and hardware match and the refresh window has not elapsed */
+    VALID,
+    /** The token is authentic but its refresh window elapsed; ask the server for a new one */
+    REFRESH_REQUIRED,
+    /** The token is authentic but the license itself has expired */
+    LICENSE_EXPIRED,
+    /** The token was issued for another license key */
+    LICENSE_MISMATCH,
+    /** The token was issued for another machine */
+    HARDWARE_MISMATCH,
+    /** The token was signed with a key this verifier does not know */
+    UNKNOWN_KEY,
+    /** The signature does not match the token content */
+    INVALID_SIGNATURE,
+    /** The value is not a license token */
+    MALFORMED;
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
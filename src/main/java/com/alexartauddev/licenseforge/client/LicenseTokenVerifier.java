@@ -0,0 +1,136 @@
+package com.alexartauddev.licenseforge.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verifies offline license tokens locally, without contacting the server.
+ * <p>
+ * Construct it with the public keys published by the server at
+ * {@code GET /api/v1/licenses/token-keys}, keyed by key ID. Keep retired keys around until the
+ * tokens they signed have passed their refresh window so key rotation does not lock clients out.
+ * Instances are immutable and thread-safe.
+ */
+public final class LicenseTokenVerifier {
+
+    private final Map<String, PublicKey> publicKeys;
+
+    public LicenseTokenVerifier(Map<String, PublicKey> publicKeys) {
+        this.publicKeys = Map.copyOf(publicKeys);
+    }
+
+    /**
+     * Create a verifier from base64 encoded X.509 public keys, keyed by key ID
+     */
+    public static LicenseTokenVerifier fromEncodedKeys(Map<String, String> encodedPublicKeys) {
+        Map<String, PublicKey> keys = new HashMap<>();
+        encodedPublicKeys.forEach((keyId, encoded) -> keys.put(keyId, decodePublicKey(encoded)));
+        return new LicenseTokenVerifier(keys);
+    }
+
+    /**
+     * Decode a base64 encoded X.509 Ed25519 public key
+     */
+    public static PublicKey decodePublicKey(String encoded) {
+        try {
+            return KeyFactory.getInstance(LicenseToken.SIGNATURE_ALGORITHM)
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded.trim())));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + LicenseToken.SIGNATURE_ALGORITHM + " public key", e);
+        }
+    }
+
+    /**
+     * Verify a token for the given license key and hardware ID at the current time
+     */
+    public Verification verify(String token, String licenseKey, String hardwareId) {
+        return verify(token, licenseKey, hardwareId, Instant.now());
+    }
+
+    /**
+     * Verify a token for the given license key and hardware ID at the given time
+     */
+    public Verification verify(String token, String licenseKey, String hardwareId, Instant now) {
+        if (token == null) {
+            return Verification.failed(LicenseTokenStatus.MALFORMED);
+        }
+
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 4 || !LicenseToken.FORMAT_PREFIX.equals(parts[0])) {
+            return Verification.failed(LicenseTokenStatus.MALFORMED);
+        }
+
+        PublicKey publicKey = publicKeys.get(parts[1]);
+        if (publicKey == null) {
+            return Verification.failed(LicenseTokenStatus.UNKNOWN_KEY);
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = Base64.getUrlDecoder().decode(parts[2]);
+            signature = Base64.getUrlDecoder().decode(parts[3]);
+        } catch (IllegalArgumentException e) {
+            return Verification.failed(LicenseTokenStatus.MALFORMED);
+        }
+
+        String signedContent = token.substring(0, token.lastIndexOf('.'));
+        if (!isSignatureValid(publicKey, signedContent, signature)) {
+            return Verification.failed(LicenseTokenStatus.INVALID_SIGNATURE);
+        }
+
+        LicenseToken claims;
+        try {
+            claims = LicenseToken.fromPayload(parts[1], payload);
+        } catch (IllegalArgumentException e) {
+            return Verification.failed(LicenseTokenStatus.MALFORMED);
+        }
+
+        if (!claims.licenseKey().equals(licenseKey)) {
+            return new Verification(LicenseTokenStatus.LICENSE_MISMATCH, claims);
+        }
+        if (!claims.hardwareId().equals(hardwareId)) {
+            return new Verification(LicenseTokenStatus.HARDWARE_MISMATCH, claims);
+        }
+        if (claims.isLicenseExpired(now)) {
+            return new Verification(LicenseTokenStatus.LICENSE_EXPIRED, claims);
+        }
+        if (claims.isRefreshDue(now)) {
+            return new Verification(LicenseTokenStatus.REFRESH_REQUIRED, claims);
+        }
+        return new Verification(LicenseTokenStatus.VALID, claims);
+    }
+
+    private static boolean isSignatureValid(PublicKey publicKey, String signedContent, byte[] signature) {
+        try {
+            Signature verifier = Signature.getInstance(LicenseToken.SIGNATURE_ALGORITHM);
+            verifier.initVerify(publicKey);
+            verifier.update(signedContent.getBytes(StandardCharsets.US_ASCII));
+            return verifier.verify(signature);
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Verification outcome; the claims are present whenever the signature was verified
+     */
+    public record Verification(LicenseTokenStatus status, LicenseToken token) {
+
+        static Verification failed(LicenseTokenStatus status) {
+            return new Verification(status, null);
+        }
+
+        public boolean isValid() {
+            return status.isValid();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.alexartauddev.licenseforge.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate second-level and query caches on Caffeine, through JCache.
+ * Regions are created up front from {@link HibernateCacheProperties}, and Hibernate fails to start
+ * if an entity or query uses a region that is not configured. Cache hits and misses of every
+ * region are exported from the Hibernate statistics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "licenseforge.hibernate.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    @Bean
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("licenseforge-hibernate"), getClass().getClassLoader());
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            cacheManager.createCache(name, configuration);
+        });
+        // Must outlive every cached query result, so it is neither bounded nor expired
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                             HibernateCacheProperties properties) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> properties.getRegions().keySet().forEach(region -> {
+            ToDoubleFunction<Statistics> hits = stats -> count(stats, region, CacheRegionStatistics::getHitCount);
+            ToDoubleFunction<Statistics> misses = stats -> count(stats, region, CacheRegionStatistics::getMissCount);
+            FunctionCounter.builder("licenseforge.hibernate.cache.gets", statistics, hits)
+                    .description("Second-level cache lookups")
+                    .tags("region", region, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("licenseforge.hibernate.cache.gets", statistics, misses)
+                    .description("Second-level cache lookups")
+                    .tags("region", region, "result", "miss")
+                    .register(registry);
+            Gauge.builder("licenseforge.hibernate.cache.hit_ratio", statistics, stats -> {
+                        double hitCount = hits.applyAsDouble(stats);
+                        double total = hitCount + misses.applyAsDouble(stats);
+                        return total == 0 ? 0 : hitCount / total;
+                    })
+                    .description("Share of second-level cache lookups served from the cache")
+                    .tag("region", region)
+                    .register(registry);
+        });
+    }
+
+    private static double count(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> counter) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics != null ? counter.applyAsLong(regionStatistics) : 0;
+    }
+}
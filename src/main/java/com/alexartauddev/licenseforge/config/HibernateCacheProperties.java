@@ -0,0 +1,44 @@
+package com.alexartauddev.licenseforge.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Regions of the Hibernate second-level cache, holding the rarely changing tenant hierarchy rows.
+ * Every node caches on its own, so the time to live of a region bounds how long another node may
+ * serve a row after it changed.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "licenseforge.hibernate.cache")
+public class HibernateCacheProperties {
+
+    /**
+     * Whether entities and queries are cached
+     */
+    private boolean enabled = true;
+
+    /**
+     * Size and time to live of each region, by region name; entity regions are named in the
+     * {@code @Cache} annotation of their entity
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+        /**
+         * Maximum number of entries
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Time after which an entry is reloaded from the database
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+    }
+}
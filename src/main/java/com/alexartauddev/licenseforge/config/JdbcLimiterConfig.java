@@ -0,0 +1,59 @@
+package com.alexartauddev.licenseforge.config;
+
+import com.alexartauddev.licenseforge.infrastructure.persistence.datasource.ConcurrencyLimitingDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Bounds concurrent JDBC connection use, which virtual threads would otherwise leave unbounded.
+ * Enabled by default together with virtual threads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "licenseforge.jdbc.limiter.enabled", havingValue = "true")
+public class JdbcLimiterConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+            @Value("${licenseforge.jdbc.limiter.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+            @Value("${licenseforge.jdbc.limiter.acquire-timeout:5s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the application DataSource, which the pools behind it (if any) are only reached through
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN_NAME.equals(beanName)
+                        && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder jdbcLimiterMetrics(DataSource dataSource) throws SQLException {
+        ConcurrencyLimitingDataSource limiter = dataSource.unwrap(ConcurrencyLimitingDataSource.class);
+        return registry -> {
+            Gauge.builder("licenseforge.jdbc.limiter.active", limiter, ConcurrencyLimitingDataSource::getActiveCount)
+                    .description("JDBC connections in use through the limiter")
+                    .register(registry);
+            Gauge.builder("licenseforge.jdbc.limiter.waiting", limiter, ConcurrencyLimitingDataSource::getWaitingCount)
+                    .description("Callers waiting for a JDBC connection")
+                    .register(registry);
+            FunctionCounter.builder("licenseforge.jdbc.limiter.rejected", limiter, ConcurrencyLimitingDataSource::getRejectedCount)
+                    .description("Callers that gave up waiting for a JDBC connection")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.alexartauddev.licenseforge.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Signing keys and refresh window of offline license tokens.
+ * Every configured key is published for verification; only the active key signs new tokens,
+ * so a key is rotated by adding a new one, making it active, and removing the private key
+ * (then the whole entry) of the old one once its tokens have been refreshed.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "licenseforge.license.token")
+public class LicenseTokenProperties {
+
+    /**
+     * ID of the key used to sign new tokens
+     */
+    private String activeKeyId;
+
+    /**
+     * Signing keys by key ID
+     */
+    private Map<String, SigningKey> keys = new LinkedHashMap<>();
+
+    /**
+     * How long a client may rely on a token before it has to ask for a new one
+     */
+    private Duration refreshInterval = Duration.ofHours(24);
+
+    @Data
+    public static class SigningKey {
+        /**
+         * Base64 encoded PKCS#8 Ed25519 private key, only required for the active key
+         */
+        private String privateKey;
+
+        /**
+         * Base64 encoded X.509 Ed25519 public key
+         */
+        private String publicKey;
+    }
+}
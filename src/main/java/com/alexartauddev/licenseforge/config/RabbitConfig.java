@@ -0,0 +1,50 @@
+package com.alexartauddev.licenseforge.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitConfig {
+
+    /**
+     * Durable topic exchange of the domain events, declared on the broker on first connection.
+     * Consumers bind their own queues with routing keys such as license.* or license.activated.
+     */
+    @Bean
+    public TopicExchange domainEventsExchange(@Value("${licenseforge.events.exchange:licenseforge.events}") String name) {
+        return new TopicExchange(name, true, false);
+    }
+
+    /**
+     * Fanout exchange of the cache invalidations, delivering every batch to the queue of every node
+     */
+    @Bean
+    @ConditionalOnProperty(name = "licenseforge.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public FanoutExchange cacheInvalidationExchange(
+            @Value("${licenseforge.cache.invalidation.exchange:licenseforge.cache-invalidation}") String name) {
+        return new FanoutExchange(name, true, false);
+    }
+
+    /**
+     * Uniquely named, exclusive queue of this node, deleted when it disconnects
+     */
+    @Bean
+    @ConditionalOnProperty(name = "licenseforge.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public Queue cacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "licenseforge.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+    public Binding cacheInvalidationBinding(Queue cacheInvalidationQueue, FanoutExchange cacheInvalidationExchange) {
+        return BindingBuilder.bind(cacheInvalidationQueue).to(cacheInvalidationExchange);
+    }
+}
@@ -0,0 +1,84 @@
+package com.alexartauddev.licenseforge.config;
+
+import com.alexartauddev.licenseforge.web.handler.license.LicenseValidationHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.time.Duration;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * Non-blocking server for the public validation traffic, on its own port next to the servlet
+ * stack that keeps serving the admin API.
+ * Validations run on a few event loop threads and reach the database through R2DBC, so the number
+ * of connected clients is bounded by sockets rather than threads. The server is not behind the
+ * servlet security filter chain and only exposes the unauthenticated validate endpoints.
+ */
+@Configuration
+@ConditionalOnProperty(name = "licenseforge.reactive.enabled", havingValue = "true")
+public class ReactiveServerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionFactory(
+            @Value("${licenseforge.reactive.r2dbc.url}") String url,
+            @Value("${licenseforge.reactive.r2dbc.username:${spring.datasource.username}}") String username,
+            @Value("${licenseforge.reactive.r2dbc.password:${spring.datasource.password}}") String password,
+            @Value("${licenseforge.reactive.r2dbc.max-size:10}") int maxSize,
+            @Value("${licenseforge.reactive.r2dbc.acquire-timeout:5s}") Duration acquireTimeout) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-validation")
+                .initialSize(Math.min(2, maxSize))
+                .maxSize(maxSize)
+                .maxAcquireTime(acquireTimeout)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ConnectionPool reactiveConnectionFactory) {
+        return DatabaseClient.create(reactiveConnectionFactory);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> licenseValidationRoutes(LicenseValidationHandler handler) {
+        return RouterFunctions.route()
+                .add(RouterFunctions.route(GET("/api/v1/licenses/{licenseKey}/validate"), handler::validateLicense))
+                .add(RouterFunctions.route(GET("/api/v2/licenses/{licenseKey}/validate"), handler::getValidationResult))
+                .build();
+    }
+
+    @Bean
+    public ReactiveValidationServer reactiveValidationServer(
+            RouterFunction<ServerResponse> licenseValidationRoutes,
+            ObjectMapper objectMapper,
+            @Value("${licenseforge.reactive.port:8081}") int port,
+            @Value("${licenseforge.reactive.event-loop-threads:0}") int eventLoopThreads) {
+        // Same JSON as the servlet stack, dates included
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveValidationServer(RouterFunctions.toHttpHandler(licenseValidationRoutes, strategies),
+                port, eventLoopThreads);
+    }
+}
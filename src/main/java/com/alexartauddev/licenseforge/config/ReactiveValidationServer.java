@@ -0,0 +1,74 @@
+package com.alexartauddev.licenseforge.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * Reactor Netty server started and stopped with the application context
+ */
+@Slf4j
+public class ReactiveValidationServer implements SmartLifecycle {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private volatile LoopResources loopResources;
+    private volatile DisposableServer server;
+
+    /**
+     * @param eventLoopThreads event loop threads, or 0 for one per processor (4 at least)
+     */
+    public ReactiveValidationServer(HttpHandler httpHandler, int port, int eventLoopThreads) {
+        this.httpHandler = httpHandler;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads > 0
+                ? eventLoopThreads
+                : Math.max(4, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public void start() {
+        loopResources = LoopResources.create("reactive-validation", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive validation server started on port {} with {} event loop threads",
+                server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow(SHUTDOWN_TIMEOUT);
+            server = null;
+        }
+        if (loopResources != null) {
+            loopResources.disposeLater().block(SHUTDOWN_TIMEOUT);
+            loopResources = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Port the server is bound to, which differs from the configured one when that is 0
+     */
+    public int getPort() {
+        return server != null ? server.port() : port;
+    }
+}
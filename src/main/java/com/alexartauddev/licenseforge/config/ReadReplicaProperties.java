@@ -0,0 +1,61 @@
+package com.alexartauddev.licenseforge.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas serving the read-only transactions, and the bounds on how stale their reads may be
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "licenseforge.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * Whether read-only transactions are sent to the replicas
+     */
+    private boolean enabled;
+
+    /**
+     * Replicas, each with its own connection pool configured like the primary one
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Replication lag above which a replica stops serving reads until it catches up
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * How long the reads of a client go to the primary after it sent a write
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+        /**
+         * JDBC URL of the replica
+         */
+        private String url;
+
+        /**
+         * User name, defaulting to the one of the primary
+         */
+        private String username;
+
+        /**
+         * Password, defaulting to the one of the primary
+         */
+        private String password;
+
+        /**
+         * Pool size, defaulting to the one of the primary
+         */
+        private Integer maximumPoolSize;
+    }
+}
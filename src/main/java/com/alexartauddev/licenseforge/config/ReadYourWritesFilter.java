@@ -0,0 +1,71 @@
+package com.alexartauddev.licenseforge.config;
+
+import com.alexartauddev.licenseforge.infrastructure.persistence.datasource.ReadYourWritesContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Sends the reads of a client to the primary for a while after it wrote, so that it sees its own
+ * writes even when the replicas lag behind.
+ * The response to a write request carries a header holding the time until which the client's
+ * reads must go to the primary; a client that sends the header back with its next requests has
+ * them pinned until then. The rest of the write request itself is pinned as well.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        long pinnedUntil;
+        if (READ_METHODS.contains(request.getMethod())) {
+            // A client can only pin its reads for as long as a write of its own would
+            pinnedUntil = Math.min(parse(request.getHeader(HEADER)), now + windowMillis);
+        } else {
+            pinnedUntil = now + windowMillis;
+            response.setHeader(HEADER, Long.toString(pinnedUntil));
+        }
+
+        if (pinnedUntil <= now) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ReadYourWritesContext.pinUntil(pinnedUntil);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private static long parse(String header) {
+        if (header == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.alexartauddev.licenseforge.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -13,6 +15,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -38,6 +41,10 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         // Permit license validation endpoint
                         .requestMatchers("/api/v1/licenses/*/validate").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v2/licenses/*/validate").permitAll()
+                        // Permit offline token refresh and token key endpoints
+                        .requestMatchers(HttpMethod.POST, "/api/v1/licenses/*/token").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/licenses/token-keys").permitAll()
                         // Permit company registration endpoint
                         .requestMatchers("/api/v1/onboarding/company").permitAll()                        // Require authentication for all other endpoints
                         .anyRequest().authenticated()
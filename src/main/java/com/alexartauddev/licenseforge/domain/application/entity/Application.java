@@ -1,7 +1,10 @@
 package com.alexartauddev.licenseforge.domain.application.entity;
 
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKeyFormat;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
 
 import java.time.LocalDateTime;
@@ -9,6 +12,8 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "applications")
 @Table(name = "applications")
 @Getter
 @Setter
@@ -31,12 +36,32 @@ public class Application {
     @Column(nullable = false)
     private UUID realmId;
 
+    // License key format settings; unset ones fall back to the default format
+    @Column(length = 16)
+    private String licenseKeyPrefix;
+
+    @Column
+    private Integer licenseKeyGroupCount;
+
+    @Column
+    private Integer licenseKeyGroupLength;
+
+    @Column(length = 64)
+    private String licenseKeyAlphabet;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Format of the license keys generated for this application
+     */
+    public LicenseKeyFormat getLicenseKeyFormat() {
+        return LicenseKeyFormat.of(licenseKeyPrefix, licenseKeyGroupCount, licenseKeyGroupLength, licenseKeyAlphabet);
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
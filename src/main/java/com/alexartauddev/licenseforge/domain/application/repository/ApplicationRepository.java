@@ -2,8 +2,11 @@
 package com.alexartauddev.licenseforge.domain.application.repository;
 
 import com.alexartauddev.licenseforge.domain.application.entity.Application;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,6 +36,11 @@ public interface ApplicationRepository {
      */
     List<Application> findByRealmId(UUID realmId);
 
+    /**
+     * Find all applications that belong to a specific realm, one page at a time ordered by ID
+     */
+    List<Application> findByRealmId(UUID realmId, PageQuery page);
+
     /**
      * Find an application by its name and realm ID
      */
@@ -47,4 +55,14 @@ public interface ApplicationRepository {
      * Delete an application
      */
     void delete(Application application);
-}
\ No newline at end of file
+
+    /**
+     * Count applications for each of the given realm IDs; realms without applications are left out
+     */
+    Map<UUID, Long> countByRealmIds(Collection<UUID> realmIds);
+
+    /**
+     * Find the names of the given applications by ID; unknown IDs are left out
+     */
+    Map<UUID, String> findNamesByIds(Collection<UUID> ids);
+}
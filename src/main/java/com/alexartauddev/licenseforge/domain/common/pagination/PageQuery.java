@@ -0,0 +1,44 @@
+package com.alexartauddev.licenseforge.domain.common.pagination;
+
+import java.util.UUID;
+
+/**
+ * A page of rows ordered by ID.
+ * A page either continues after the last ID of the previous page (keyset) or starts at
+ * page * size (offset). Keyset pages cost the same however deep they are; offset pages
+ * are kept for clients that still send page numbers.
+ */
+public record PageQuery(UUID after, int page, int size) {
+
+    /**
+     * Lowest UUID in database order, used as the lower bound of a first page
+     */
+    public static final UUID MIN_ID = new UUID(0L, 0L);
+
+    public PageQuery {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        if (after != null && page != 0) {
+            throw new IllegalArgumentException("A keyset page cannot also have a page index");
+        }
+    }
+
+    public static PageQuery offset(int page, int size) {
+        return new PageQuery(null, page, size);
+    }
+
+    public static PageQuery after(UUID lastId, int size) {
+        return new PageQuery(lastId, 0, size);
+    }
+
+    /**
+     * Exclusive lower bound on the ID of the rows of this page
+     */
+    public UUID afterOrMin() {
+        return after != null ? after : MIN_ID;
+    }
+}
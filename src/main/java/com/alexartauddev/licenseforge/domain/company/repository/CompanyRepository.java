@@ -1,9 +1,12 @@
 // Path: src/main/java/com/alexartauddev/licenseforge/domain/company/repository/CompanyRepository.java
 package com.alexartauddev.licenseforge.domain.company.repository;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.company.entity.Company;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +31,11 @@ public interface CompanyRepository {
      */
     List<Company> findAll();
 
+    /**
+     * Find all companies, one page at a time ordered by ID
+     */
+    List<Company> findAll(PageQuery page);
+
     /**
      * Find a company by its realm ID
      */
@@ -48,8 +56,28 @@ public interface CompanyRepository {
      */
     List<Company> findByPlanType(Company.PlanType planType);
 
+    /**
+     * Find all companies of a specific plan type, one page at a time ordered by ID
+     */
+    List<Company> findByPlanType(Company.PlanType planType, PageQuery page);
+
     /**
      * Delete a company
      */
     void delete(Company company);
-}
\ No newline at end of file
+
+    /**
+     * Find the names of the given companies by ID; unknown IDs are left out
+     */
+    Map<UUID, String> findNamesByIds(Collection<UUID> ids);
+
+    /**
+     * Count all companies
+     */
+    long count();
+
+    /**
+     * Count companies by plan type
+     */
+    long countByPlanType(Company.PlanType planType);
+}
@@ -0,0 +1,36 @@
+package com.alexartauddev.licenseforge.domain.company.repository;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Repository interface for the quota usage of companies and applications
+ * This is a technology-agnostic interface in the domain layer
+ */
+public interface TenantUsageRepository {
+
+    /**
+     * Add to the usage of a company or application if it stays within the limit
+     *
+     * @return the usage after the reservation, or empty if it would exceed the limit
+     */
+    OptionalLong reserve(Scope scope, UUID scopeId, long amount, long limit);
+
+    /**
+     * Subtract from the usage of a company or application, without going below zero
+     */
+    void release(Scope scope, UUID scopeId, long amount);
+
+    /**
+     * Find the usage of every company or application with one recorded
+     */
+    Map<UUID, Long> findUsage(Scope scope);
+
+    enum Scope {
+        // Applications of a company
+        COMPANY_APPS,
+        // License keys of an application
+        APP_LICENSES
+    }
+}
@@ -0,0 +1,57 @@
+package com.alexartauddev.licenseforge.domain.email.repository;
+
+import com.alexartauddev.licenseforge.domain.email.entity.EmailOutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for the email outbox
+ * This is a technology-agnostic interface in the domain layer
+ */
+public interface EmailOutboxRepository {
+
+    /**
+     * Save an email
+     */
+    EmailOutboxMessage save(EmailOutboxMessage message);
+
+    /**
+     * Find an email by its ID
+     */
+    Optional<EmailOutboxMessage> findById(UUID id);
+
+    /**
+     * Find the IDs of the oldest pending emails due for an attempt
+     */
+    List<UUID> findDueIds(LocalDateTime now, int limit);
+
+    /**
+     * Claim a pending email due for an attempt, counting the attempt and leasing it until the given time
+     *
+     * @return true if this caller claimed the email, false if it is not due or was claimed by another worker
+     */
+    boolean claim(UUID id, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * Mark an email as sent and clear its body
+     */
+    void markSent(UUID id, LocalDateTime sentAt);
+
+    /**
+     * Schedule another attempt of a pending email
+     */
+    void scheduleRetry(UUID id, LocalDateTime nextAttemptAt, String error);
+
+    /**
+     * Give up on an email and clear its body
+     */
+    void markFailed(UUID id, String error);
+
+    /**
+     * Count the emails waiting for delivery
+     */
+    long countPending();
+}
@@ -0,0 +1,35 @@
+package com.alexartauddev.licenseforge.domain.event.repository;
+
+import com.alexartauddev.licenseforge.domain.event.entity.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for the DomainEvent outbox
+ * This is a technology-agnostic interface in the domain layer
+ */
+public interface DomainEventRepository {
+
+    /**
+     * Save a domain event
+     */
+    DomainEvent save(DomainEvent event);
+
+    /**
+     * Lock the oldest unsent events for the current transaction, skipping the ones another relay holds
+     */
+    List<DomainEvent> lockUnsent(int limit);
+
+    /**
+     * Mark events as published
+     */
+    int markSent(Collection<UUID> ids, LocalDateTime sentAt);
+
+    /**
+     * Delete the events published before the given time
+     */
+    int deleteSentBefore(LocalDateTime threshold);
+}
@@ -10,7 +10,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "activations", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"license_id", "hardware_id"})
+        @UniqueConstraint(name = "uc_activations_license_hardware", columnNames = {"license_id", "hardware_id"})
 })
 @Getter
 @Setter
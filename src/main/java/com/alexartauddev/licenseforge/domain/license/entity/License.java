@@ -1,14 +1,11 @@
 package com.alexartauddev.licenseforge.domain.license.entity;
 
 import jakarta.persistence.*;
-import jakarta.persistence.FetchType;
 import lombok.*;
 import org.hibernate.proxy.HibernateProxy;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -43,18 +40,16 @@ public class License {
     @Column(nullable = false)
     private boolean revoked;
 
+    // Maintained atomically in the database by activation and deactivation, never written from the entity
+    @Column(nullable = false, updatable = false)
+    private int activationCount;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "license_activations", joinColumns = @JoinColumn(name = "license_id"))
-    @Column(name = "hardware_id")
-    @Builder.Default
-    private Set<String> hardwareIds = new HashSet<>();
-
     public boolean isExpired() {
         // Check if expires at is null first
         if (expiresAt == null) return false; // No expiration date means never expires
@@ -63,17 +58,23 @@ public class License {
         return now.isAfter(expiresAt);
     }
 
-    public boolean canActivate(String hardwareId) {
-        return !isExpired() && !revoked && (hardwareIds.contains(hardwareId) || hardwareIds.size() < maxActivations);
+    // Bound hardware lives in the activations table; the caller tells whether this hardware is already bound
+    public boolean canActivate(boolean alreadyActivated) {
+        return !isExpired() && !revoked && (alreadyActivated || activationCount < maxActivations);
     }
 
-    public boolean activate(String hardwareId) {
-        if (!canActivate(hardwareId)) return false;
-        return hardwareIds.add(hardwareId);
+    // Mirrors a seat taken in the database, the column itself is only written by the repository
+    public boolean activate(boolean alreadyActivated) {
+        if (!canActivate(alreadyActivated)) return false;
+        if (!alreadyActivated) activationCount++;
+        return true;
     }
 
-    public boolean deactivate(String hardwareId) {
-        return hardwareIds.remove(hardwareId);
+    // Mirrors a seat released in the database
+    public boolean deactivate() {
+        if (activationCount == 0) return false;
+        activationCount--;
+        return true;
     }
 
     @Override
@@ -1,10 +1,13 @@
 // Path: src/main/java/com/alexartauddev/licenseforge/domain/license/repository/ActivationRepository.java
 package com.alexartauddev.licenseforge.domain.license.repository;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.license.entity.Activation;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,6 +22,13 @@ public interface ActivationRepository {
      */
     Activation save(Activation activation);
 
+    /**
+     * Insert an activation unless the hardware ID is already activated for the license
+     *
+     * @return true if the activation was inserted, false if it already existed
+     */
+    boolean insertIfAbsent(Activation activation);
+
     /**
      * Find an activation by its ID
      */
@@ -34,6 +44,16 @@ public interface ActivationRepository {
      */
     List<Activation> findByLicenseId(UUID licenseId);
 
+    /**
+     * Find all activations for a specific license, one page at a time ordered by ID
+     */
+    List<Activation> findByLicenseId(UUID licenseId, PageQuery page);
+
+    /**
+     * Find all activations of any of the given licenses
+     */
+    List<Activation> findByLicenseIdIn(Collection<UUID> licenseIds);
+
     /**
      * Find an activation by license ID and hardware ID
      */
@@ -49,6 +69,19 @@ public interface ActivationRepository {
      */
     List<Activation> findInactiveActivations(LocalDateTime threshold);
 
+    /**
+     * Find activations that haven't been seen recently (potentially inactive), one page at a time ordered by ID
+     */
+    List<Activation> findInactiveActivations(LocalDateTime threshold, PageQuery page);
+
+    /**
+     * Update the last-seen timestamps of several activations at once.
+     * A timestamp never moves backwards; unknown activation IDs are ignored.
+     *
+     * @return the number of activations updated
+     */
+    int updateLastSeen(Map<UUID, LocalDateTime> lastSeenByActivationId);
+
     /**
      * Delete activations for a specific license
      */
@@ -0,0 +1,87 @@
+package com.alexartauddev.licenseforge.domain.license.repository;
+
+import com.alexartauddev.licenseforge.domain.license.valueobject.AppLicenseStats;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseState;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for the license counts of applications
+ * This is a technology-agnostic interface in the domain layer
+ */
+public interface AppLicenseStatsRepository {
+
+    /**
+     * Move licenses of an application from one state to another in its counts
+     *
+     * @param before state of the licenses before the change, or null if they were created
+     * @param after  state of the licenses after the change, or null if they were deleted
+     * @param count  number of licenses that made the same change
+     * @param now    current time, where the expiry sweep starts for an application without counts
+     */
+    void recordChange(UUID appId, LicenseState before, LicenseState after, long count, LocalDateTime now);
+
+    /**
+     * Find the license counts of an application
+     */
+    Optional<AppLicenseStats> findByAppId(UUID appId);
+
+    /**
+     * Find the license counts of many applications at once
+     */
+    Map<UUID, AppLicenseStats> findByAppIds(Collection<UUID> appIds);
+
+    /**
+     * Take the lock that lets a single instance sweep at a time, until the current transaction ends
+     *
+     * @return false if another instance holds it
+     */
+    boolean tryLockSweep();
+
+    /**
+     * Find the applications with licenses that expired since their previous sweep
+     */
+    List<UUID> findAppIdsToSweep(LocalDateTime now);
+
+    /**
+     * Move the licenses of an application that expired since its previous sweep from active to
+     * expired, after the license writes of the application in progress
+     *
+     * @return the number of licenses moved
+     */
+    long sweepExpired(UUID appId, LocalDateTime now);
+
+    /**
+     * Count the licenses of every application again and compare with the counts kept. Must run in a
+     * snapshot of the database, so that both sides agree on which writes happened.
+     *
+     * @param now current time, for applications with licenses but no counts
+     */
+    List<Drift> findDrift(LocalDateTime now);
+
+    /**
+     * Add a drift to the counts it was found in, unless they changed since
+     *
+     * @return true if the counts were corrected
+     */
+    boolean correct(Drift drift);
+
+    /**
+     * Difference between the actual license counts of an application and the counts kept
+     *
+     * @param version    version of the counts kept, or null if the application had none
+     * @param sweptUntil where the expiry sweep of the application stood
+     */
+    record Drift(UUID appId, Long version, LocalDateTime sweptUntil,
+                 long total, long active, long revoked, long expired) {
+
+        public long size() {
+            return Math.abs(total) + Math.abs(active) + Math.abs(revoked) + Math.abs(expired);
+        }
+    }
+}
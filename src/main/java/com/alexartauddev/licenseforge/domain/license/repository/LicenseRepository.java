@@ -1,12 +1,17 @@
 // Path: src/main/java/com/alexartauddev/licenseforge/domain/license/repository/LicenseRepository.java
 package com.alexartauddev.licenseforge.domain.license.repository;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.license.entity.License;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for License entities
@@ -19,6 +24,13 @@ public interface LicenseRepository {
      */
     License save(License license);
 
+    /**
+     * Insert new licenses in bulk, skipping those whose license key is already taken
+     *
+     * @return the license keys that were inserted
+     */
+    Set<String> insertIgnoringDuplicateKeys(List<License> licenses);
+
     /**
      * Find a license by its ID
      */
@@ -29,38 +41,90 @@ public interface LicenseRepository {
      */
     List<License> findAll();
 
+    /**
+     * Pass every license key to the given action, reading them in chunks rather than all at once
+     */
+    void forEachLicenseKey(Consumer<String> action);
+
+    /**
+     * Count all licenses
+     */
+    long count();
+
     /**
      * Find a license by its license key
      */
     Optional<License> findByLicenseKey(String licenseKey);
 
+    /**
+     * Find all licenses matching any of the given license keys
+     */
+    List<License> findByLicenseKeyIn(Collection<String> licenseKeys);
+
     /**
      * Find all licenses for a specific application
      */
     List<License> findByAppId(UUID appId);
 
+    /**
+     * Find all licenses for a specific application, one page at a time ordered by ID
+     */
+    List<License> findByAppId(UUID appId, PageQuery page);
+
     /**
      * Find all licenses for a specific customer
      */
     List<License> findByCustomerId(String customerId);
 
+    /**
+     * Find all licenses for a specific customer, one page at a time ordered by ID
+     */
+    List<License> findByCustomerId(String customerId, PageQuery page);
+
     /**
      * Find all active (not revoked and not expired) licenses for a specific application
      */
     List<License> findActiveByAppId(UUID appId, LocalDateTime now);
 
+    /**
+     * Find all active (not revoked and not expired) licenses for a specific application, one page at a time ordered by ID
+     */
+    List<License> findActiveByAppId(UUID appId, LocalDateTime now, PageQuery page);
+
     /**
      * Find licenses that are expiring soon for a specific application
      */
     List<License> findExpiringLicenses(UUID appId, LocalDateTime start, LocalDateTime end);
 
+    /**
+     * Find licenses that are expiring soon for a specific application, one page at a time ordered by ID
+     */
+    List<License> findExpiringLicenses(UUID appId, LocalDateTime start, LocalDateTime end, PageQuery page);
+
     /**
      * Count the number of active licenses for a specific application
      */
     long countActiveByAppId(UUID appId, LocalDateTime now);
 
+    /**
+     * Take an activation seat if the license has one left
+     *
+     * @return true if a seat was taken, false if all seats are in use
+     */
+    boolean incrementActivationCount(UUID licenseId);
+
+    /**
+     * Release an activation seat
+     */
+    void decrementActivationCount(UUID licenseId);
+
     /**
      * Delete a license
      */
     void delete(License license);
-}
\ No newline at end of file
+
+    /**
+     * Count the number of active licenses for each of the given applications; applications without active licenses are left out
+     */
+    Map<UUID, Long> countActiveByAppIds(Collection<UUID> appIds, LocalDateTime now);
+}
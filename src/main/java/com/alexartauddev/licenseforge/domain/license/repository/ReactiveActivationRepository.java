@@ -0,0 +1,18 @@
+package com.alexartauddev.licenseforge.domain.license.repository;
+
+import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking repository of Activation entities, for the reactive validation path
+ * This is a technology-agnostic interface in the domain layer
+ */
+public interface ReactiveActivationRepository {
+
+    /**
+     * Find the activations of a license
+     */
+    Flux<Activation> findByLicenseId(UUID licenseId);
+}
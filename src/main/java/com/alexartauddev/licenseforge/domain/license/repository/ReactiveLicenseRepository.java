@@ -0,0 +1,16 @@
+package com.alexartauddev.licenseforge.domain.license.repository;
+
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking repository of License entities, for the reactive validation path
+ * This is a technology-agnostic interface in the domain layer
+ */
+public interface ReactiveLicenseRepository {
+
+    /**
+     * Find a license by its key, or complete empty when there is none
+     */
+    Mono<License> findByLicenseKey(String licenseKey);
+}
@@ -0,0 +1,13 @@
+package com.alexartauddev.licenseforge.domain.license.valueobject;
+
+import java.util.UUID;
+
+/**
+ * Number of licenses of an application by status; every license is either active, revoked or expired
+ */
+public record AppLicenseStats(UUID appId, long total, long active, long revoked, long expired) {
+
+    public static AppLicenseStats empty(UUID appId) {
+        return new AppLicenseStats(appId, 0, 0, 0, 0);
+    }
+}
@@ -1,10 +1,47 @@
 package com.alexartauddev.licenseforge.domain.license.valueobject;
 
-import java.security.SecureRandom;
-
+/**
+ * License key, made of dash-separated groups of letters and digits followed by a checksum, e.g.
+ * {@code 3f2a-K7QM-2XBW-RT9P-HC4N_1QF7W}.
+ * The checksum suffix starts with a separator and a format version marker, then carries a CRC-32 of
+ * the rest of the key, folded to 20 bits. It lets malformed or made-up keys be rejected without any
+ * lookup. Keys issued before the checksum was introduced have no marker and are only checked
+ * against their original layout: a 4-character hex prefix and 4 groups of 4 characters.
+ */
 public class LicenseKey {
+
+    public static final char CHECKSUM_SEPARATOR = '_';
+    public static final char CHECKSUM_VERSION = '1';
+    public static final int CHECKSUM_LENGTH = 4;
+
+    /**
+     * Number of characters the checksum adds to a key
+     */
+    public static final int SUFFIX_LENGTH = 2 + CHECKSUM_LENGTH;
+
+    // Upper bound of the keys any format can produce, well above the longest one
+    public static final int MAX_LENGTH = 1024;
+
+    private static final char GROUP_SEPARATOR = '-';
+    private static final int LEGACY_LENGTH = 24;
+    private static final char[] CHECKSUM_SYMBOLS = LicenseKeyFormat.DEFAULT_ALPHABET.toCharArray();
+    private static final boolean[] LEGACY_SYMBOLS = new boolean[128];
+    private static final int[] CRC_TABLE = new int[256];
+
+    static {
+        for (char symbol : CHECKSUM_SYMBOLS) {
+            LEGACY_SYMBOLS[symbol] = true;
+        }
+        for (int i = 0; i < 256; i++) {
+            int crc = i;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0xEDB88320 : crc >>> 1;
+            }
+            CRC_TABLE[i] = crc;
+        }
+    }
+
     private final String value;
-    private static final SecureRandom random = new SecureRandom();
 
     private LicenseKey(String value) {
         this.value = value;
@@ -14,22 +51,107 @@ public class LicenseKey {
         return value;
     }
 
-    public static LicenseKey generate(String prefix) {
-        StringBuilder key = new StringBuilder(prefix);
+    /**
+     * Parse a license key, checking its layout and checksum
+     *
+     * @throws IllegalArgumentException if the key is malformed
+     */
+    public static LicenseKey parse(String value) {
+        if (!isWellFormed(value)) {
+            throw new IllegalArgumentException("Malformed license key");
+        }
+        return new LicenseKey(value);
+    }
+
+    /**
+     * Whether a value has the layout of a license key and, unless it predates checksums, a matching
+     * checksum. Runs in time depending on the length of the value only, and allocates nothing.
+     */
+    public static boolean isWellFormed(CharSequence value) {
+        if (value == null || value.length() > MAX_LENGTH) {
+            return false;
+        }
+        int length = value.length();
+        if (length > SUFFIX_LENGTH && value.charAt(length - SUFFIX_LENGTH) == CHECKSUM_SEPARATOR) {
+            return isWellFormedChecked(value, length - SUFFIX_LENGTH);
+        }
+        return length == LEGACY_LENGTH && isWellFormedLegacy(value);
+    }
 
-        // Add 4 groups of 4 alphanumeric characters
+    /**
+     * Write the checksum suffix of the key body held in the first characters of the given array
+     *
+     * @return the length of the key with its checksum
+     */
+    public static int appendChecksum(char[] key, int bodyLength) {
+        int checksum = checksum(key, bodyLength);
+        key[bodyLength] = CHECKSUM_SEPARATOR;
+        key[bodyLength + 1] = CHECKSUM_VERSION;
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            key[bodyLength + 2 + i] = checksumSymbol(checksum, i);
+        }
+        return bodyLength + SUFFIX_LENGTH;
+    }
+
+    private static boolean isWellFormedChecked(CharSequence value, int bodyLength) {
+        // Accumulate every defect instead of returning at the first one, so that the time taken
+        // does not reveal how close a guess came
+        int defects = value.charAt(bodyLength + 1) ^ CHECKSUM_VERSION;
+        int groups = 0;
+        boolean previousWasSeparator = true;
+        int crc = ~0;
+        for (int i = 0; i < bodyLength; i++) {
+            char c = value.charAt(i);
+            boolean separator = c == GROUP_SEPARATOR;
+            defects |= !separator && !isAlphanumeric(c) ? 1 : 0;
+            defects |= separator && previousWasSeparator ? 1 : 0;
+            groups += separator ? 1 : 0;
+            previousWasSeparator = separator;
+            crc = (crc >>> 8) ^ CRC_TABLE[(crc ^ c) & 0xFF];
+        }
+        defects |= previousWasSeparator || groups == 0 ? 1 : 0;
+
+        int checksum = fold(~crc);
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            defects |= value.charAt(bodyLength + 2 + i) ^ checksumSymbol(checksum, i);
+        }
+        return defects == 0;
+    }
+
+    private static boolean isWellFormedLegacy(CharSequence value) {
+        int defects = 0;
         for (int i = 0; i < 4; i++) {
-            key.append("-");
-            for (int j = 0; j < 4; j++) {
-                key.append(randomAlphaNumeric());
-            }
+            char c = value.charAt(i);
+            defects |= (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') ? 0 : 1;
+        }
+        for (int i = 4; i < LEGACY_LENGTH; i++) {
+            char c = value.charAt(i);
+            boolean expectSeparator = (i - 4) % 5 == 0;
+            defects |= expectSeparator
+                    ? (c == GROUP_SEPARATOR ? 0 : 1)
+                    : (c < 128 && LEGACY_SYMBOLS[c] ? 0 : 1);
+        }
+        return defects == 0;
+    }
+
+    private static int checksum(char[] body, int length) {
+        int crc = ~0;
+        for (int i = 0; i < length; i++) {
+            crc = (crc >>> 8) ^ CRC_TABLE[(crc ^ body[i]) & 0xFF];
         }
+        return fold(~crc);
+    }
+
+    // 20 bits, i.e. 4 symbols of 5 bits
+    private static int fold(int crc) {
+        return (crc ^ (crc >>> 20)) & 0xFFFFF;
+    }
 
-        return new LicenseKey(key.toString());
+    private static char checksumSymbol(int checksum, int index) {
+        return CHECKSUM_SYMBOLS[(checksum >>> (5 * (CHECKSUM_LENGTH - 1 - index))) & 0x1F];
     }
 
-    private static char randomAlphaNumeric() {
-        String chars = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // Removed similar looking characters
-        return chars.charAt(random.nextInt(chars.length()));
+    private static boolean isAlphanumeric(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,145 @@
+package com.alexartauddev.licenseforge.domain.license.valueobject;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Shape of the license keys of an application: an optional prefix followed by groups of random
+ * characters drawn from an alphabet, separated by dashes, and the checksum suffix of {@link LicenseKey}
+ * (e.g. {@code 3f2a-K7QM-2XBW-RT9P-HC4N_1QF7W})
+ */
+public final class LicenseKeyFormat {
+
+    public static final String DEFAULT_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // Removed similar looking characters
+    public static final int DEFAULT_GROUP_COUNT = 4;
+    public static final int DEFAULT_GROUP_LENGTH = 4;
+
+    public static final int MAX_PREFIX_LENGTH = 16;
+    public static final int MAX_GROUP_COUNT = 16;
+    public static final int MAX_GROUP_LENGTH = 32;
+    public static final int MAX_ALPHABET_SIZE = 64;
+
+    // Keys must stay hard to guess and unlikely to collide, whatever the format
+    private static final double MIN_ENTROPY_BITS = 40;
+
+    public static final LicenseKeyFormat DEFAULT =
+            new LicenseKeyFormat(null, DEFAULT_GROUP_COUNT, DEFAULT_GROUP_LENGTH, DEFAULT_ALPHABET);
+
+    private final String prefix;
+    private final int groupCount;
+    private final int groupLength;
+    private final char[] symbols;
+    private final int byteLimit;
+
+    private LicenseKeyFormat(String prefix, int groupCount, int groupLength, String alphabet) {
+        if (prefix != null && (prefix.isEmpty() || prefix.length() > MAX_PREFIX_LENGTH || !isAlphanumeric(prefix))) {
+            throw new IllegalArgumentException("Key prefix must be 1 to " + MAX_PREFIX_LENGTH + " letters or digits");
+        }
+        if (groupCount < 1 || groupCount > MAX_GROUP_COUNT) {
+            throw new IllegalArgumentException("Key group count must be between 1 and " + MAX_GROUP_COUNT);
+        }
+        if (groupLength < 1 || groupLength > MAX_GROUP_LENGTH) {
+            throw new IllegalArgumentException("Key group length must be between 1 and " + MAX_GROUP_LENGTH);
+        }
+        if (alphabet.length() < 2 || alphabet.length() > MAX_ALPHABET_SIZE || !isAlphanumeric(alphabet)
+                || alphabet.chars().distinct().count() != alphabet.length()) {
+            throw new IllegalArgumentException("Key alphabet must be 2 to " + MAX_ALPHABET_SIZE
+                    + " distinct letters or digits");
+        }
+        if (groupCount * groupLength * Math.log(alphabet.length()) / Math.log(2) < MIN_ENTROPY_BITS) {
+            throw new IllegalArgumentException("Key format must carry at least " + (int) MIN_ENTROPY_BITS
+                    + " random bits; add groups, lengthen them or widen the alphabet");
+        }
+
+        this.prefix = prefix;
+        this.groupCount = groupCount;
+        this.groupLength = groupLength;
+        this.symbols = alphabet.toCharArray();
+        // Largest multiple of the alphabet size a random byte can take, so that the bytes kept map
+        // uniformly onto the alphabet
+        this.byteLimit = 256 - 256 % symbols.length;
+    }
+
+    /**
+     * Format with the given settings, any of which falls back to the default when null
+     *
+     * @throws IllegalArgumentException if the settings do not describe a usable format
+     */
+    public static LicenseKeyFormat of(String prefix, Integer groupCount, Integer groupLength, String alphabet) {
+        if (prefix == null && groupCount == null && groupLength == null && alphabet == null) {
+            return DEFAULT;
+        }
+        return new LicenseKeyFormat(prefix,
+                groupCount != null ? groupCount : DEFAULT_GROUP_COUNT,
+                groupLength != null ? groupLength : DEFAULT_GROUP_LENGTH,
+                alphabet != null ? alphabet : DEFAULT_ALPHABET);
+    }
+
+    /**
+     * Prefix of the keys of an application: the configured one, or the first characters of its ID
+     */
+    public String prefixFor(UUID appId) {
+        return prefix != null ? prefix : appId.toString().substring(0, 4);
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    public int getGroupLength() {
+        return groupLength;
+    }
+
+    public String getAlphabet() {
+        return new String(symbols);
+    }
+
+    /**
+     * Length of a key with the given prefix, checksum included
+     */
+    public int keyLength(String keyPrefix) {
+        return keyPrefix.length() + groupCount * (groupLength + 1) + LicenseKey.SUFFIX_LENGTH;
+    }
+
+    /**
+     * Symbol for a random byte, which must be below {@link #byteLimit()}
+     */
+    public char symbol(int randomByte) {
+        return symbols[randomByte % symbols.length];
+    }
+
+    /**
+     * Exclusive upper bound of the random bytes that map uniformly onto the alphabet; bytes at or
+     * above it must be discarded
+     */
+    public int byteLimit() {
+        return byteLimit;
+    }
+
+    private static boolean isAlphanumeric(String value) {
+        return value.chars().allMatch(c -> c < 128 && Character.isLetterOrDigit(c));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LicenseKeyFormat that)) return false;
+        return groupCount == that.groupCount && groupLength == that.groupLength
+                && Objects.equals(prefix, that.prefix) && getAlphabet().equals(that.getAlphabet());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(prefix, groupCount, groupLength, getAlphabet());
+    }
+
+    @Override
+    public String toString() {
+        return "LicenseKeyFormat{prefix=" + prefix + ", groupCount=" + groupCount + ", groupLength=" + groupLength
+                + ", alphabet=" + getAlphabet() + "}";
+    }
+}
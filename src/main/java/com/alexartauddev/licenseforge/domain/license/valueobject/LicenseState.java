@@ -0,0 +1,15 @@
+package com.alexartauddev.licenseforge.domain.license.valueobject;
+
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+
+import java.time.LocalDateTime;
+
+/**
+ * The settings of a license that decide its status: revoked, expired at some point, or active
+ */
+public record LicenseState(boolean revoked, LocalDateTime expiresAt) {
+
+    public static LicenseState of(License license) {
+        return new LicenseState(license.isRevoked(), license.getExpiresAt());
+    }
+}
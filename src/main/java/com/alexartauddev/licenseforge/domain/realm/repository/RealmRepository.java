@@ -2,9 +2,12 @@
 package com.alexartauddev.licenseforge.domain.realm.repository;
 
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,6 +37,11 @@ public interface RealmRepository {
      */
     List<Realm> findByCompanyId(UUID companyId);
 
+    /**
+     * Find all realms that belong to a specific company, one page at a time ordered by ID
+     */
+    List<Realm> findByCompanyId(UUID companyId, PageQuery page);
+
     /**
      * Find a realm by its name and company ID
      */
@@ -48,4 +56,9 @@ public interface RealmRepository {
      * Delete a realm
      */
     void delete(Realm realm);
-}
\ No newline at end of file
+
+    /**
+     * Count realms for each of the given company IDs; companies without realms are left out
+     */
+    Map<UUID, Long> countByCompanyIds(Collection<UUID> companyIds);
+}
@@ -2,6 +2,8 @@ package com.alexartauddev.licenseforge.domain.team.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.proxy.HibernateProxy;
 
 import java.time.LocalDateTime;
@@ -9,6 +11,8 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team_permissions")
 @Table(name = "team_permissions", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"team_id", "app_id"})
 })
@@ -2,6 +2,7 @@ package com.alexartauddev.licenseforge.domain.team.repository;
 
 import com.alexartauddev.licenseforge.domain.team.entity.TeamPermission;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,6 +33,11 @@ public interface TeamPermissionRepository {
      */
     List<TeamPermission> findByTeamId(UUID teamId);
 
+    /**
+     * Find all permissions of the given teams
+     */
+    List<TeamPermission> findByTeamIdIn(Collection<UUID> teamIds);
+
     /**
      * Find all permissions for a specific application
      */
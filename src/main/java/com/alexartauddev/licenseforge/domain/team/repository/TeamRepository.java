@@ -1,9 +1,12 @@
 // Path: src/main/java/com/alexartauddev/licenseforge/domain/team/repository/TeamRepository.java
 package com.alexartauddev.licenseforge.domain.team.repository;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.team.entity.Team;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,6 +36,11 @@ public interface TeamRepository {
      */
     List<Team> findByCompanyId(UUID companyId);
 
+    /**
+     * Find all teams that belong to a specific company, one page at a time ordered by ID
+     */
+    List<Team> findByCompanyId(UUID companyId, PageQuery page);
+
     /**
      * Find a team by its name and company ID
      */
@@ -47,4 +55,9 @@ public interface TeamRepository {
      * Delete a team
      */
     void delete(Team team);
-}
\ No newline at end of file
+
+    /**
+     * Find the names of the given teams by ID; unknown IDs are left out
+     */
+    Map<UUID, String> findNamesByIds(Collection<UUID> ids);
+}
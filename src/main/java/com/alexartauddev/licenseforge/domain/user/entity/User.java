@@ -44,6 +44,10 @@ public class User {
     @Column
     private UUID teamId;
 
+    // Embedded in access tokens and bumped atomically in the database to revoke them, never written from the entity
+    @Column(nullable = false, updatable = false)
+    private int tokenVersion;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -1,8 +1,11 @@
 package com.alexartauddev.licenseforge.domain.user.repository;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.user.entity.User;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +30,11 @@ public interface UserRepository {
      */
     List<User> findAll();
 
+    /**
+     * Find all users, one page at a time ordered by ID
+     */
+    List<User> findAll(PageQuery page);
+
     /**
      * Find a user by their email address
      */
@@ -37,16 +45,31 @@ public interface UserRepository {
      */
     List<User> findByCompanyId(UUID companyId);
 
+    /**
+     * Find all users that belong to a specific company, one page at a time ordered by ID
+     */
+    List<User> findByCompanyId(UUID companyId, PageQuery page);
+
     /**
      * Find all users that belong to a specific team
      */
     List<User> findByTeamId(UUID teamId);
 
+    /**
+     * Find all users that belong to a specific team, one page at a time ordered by ID
+     */
+    List<User> findByTeamId(UUID teamId, PageQuery page);
+
     /**
      * Find all users with a specific role in a company
      */
     List<User> findByRoleAndCompanyId(User.Role role, UUID companyId);
 
+    /**
+     * Find all users with a specific role in a company, one page at a time ordered by ID
+     */
+    List<User> findByRoleAndCompanyId(User.Role role, UUID companyId, PageQuery page);
+
     /**
      * Check if an email address is already registered
      */
@@ -62,8 +85,28 @@ public interface UserRepository {
      */
     long countByTeamId(UUID teamId);
 
+    /**
+     * Find the token version of a user, empty if the user does not exist
+     */
+    Optional<Integer> findTokenVersionById(UUID id);
+
+    /**
+     * Atomically increment the token version of a user, revoking the access tokens issued before
+     */
+    void incrementTokenVersion(UUID id);
+
     /**
      * Delete a user
      */
     void delete(User user);
-}
\ No newline at end of file
+
+    /**
+     * Count users for each of the given company IDs; companies without users are left out
+     */
+    Map<UUID, Long> countByCompanyIds(Collection<UUID> companyIds);
+
+    /**
+     * Count users for each of the given team IDs; teams without users are left out
+     */
+    Map<UUID, Long> countByTeamIds(Collection<UUID> teamIds);
+}
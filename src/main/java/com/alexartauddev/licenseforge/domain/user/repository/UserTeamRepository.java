@@ -2,6 +2,7 @@ package com.alexartauddev.licenseforge.domain.user.repository;
 
 import com.alexartauddev.licenseforge.domain.user.entity.UserTeam;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +38,11 @@ public interface UserTeamRepository {
      */
     List<UserTeam> findByTeamId(UUID teamId);
 
+    /**
+     * Find all user relationships for the given teams
+     */
+    List<UserTeam> findByTeamIdIn(Collection<UUID> teamIds);
+
     /**
      * Find a specific user-team relationship
      */
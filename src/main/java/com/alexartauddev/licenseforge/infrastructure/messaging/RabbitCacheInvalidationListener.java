@@ -0,0 +1,39 @@
+package com.alexartauddev.licenseforge.infrastructure.messaging;
+
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBatch;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Consumes the cache invalidation batches of every node from the queue of this node
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "licenseforge.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class RabbitCacheInvalidationListener {
+
+    private final CacheInvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(queues = "#{cacheInvalidationQueue.name}")
+    public void onMessage(Message message) {
+        CacheInvalidationBatch batch;
+        try {
+            batch = objectMapper.readValue(message.getBody(), CacheInvalidationBatch.class);
+        } catch (IOException e) {
+            // Redelivering it would fail again; the sender's next batch reveals the gap
+            log.warn("Discarding malformed cache invalidation message", e);
+            return;
+        }
+        invalidationBus.receive(batch);
+    }
+}
@@ -0,0 +1,53 @@
+package com.alexartauddev.licenseforge.infrastructure.messaging;
+
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBatch;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Publishes cache invalidation batches to the RabbitMQ fanout exchange every node listens on.
+ * Messages are transient and not confirmed: a lost batch shows up as a gap in the sequence numbers.
+ */
+@Component
+public class RabbitCacheInvalidationPublisher implements CacheInvalidationPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final String exchange;
+
+    public RabbitCacheInvalidationPublisher(
+            RabbitTemplate rabbitTemplate,
+            ObjectMapper objectMapper,
+            @Value("${licenseforge.cache.invalidation.exchange:licenseforge.cache-invalidation}") String exchange) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.exchange = exchange;
+    }
+
+    @Override
+    public void publish(CacheInvalidationBatch batch) {
+        rabbitTemplate.send(exchange, "", toMessage(batch));
+    }
+
+    private Message toMessage(CacheInvalidationBatch batch) {
+        try {
+            return MessageBuilder.withBody(objectMapper.writeValueAsBytes(batch))
+                    .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                    .setContentEncoding(StandardCharsets.UTF_8.name())
+                    .setDeliveryMode(MessageDeliveryMode.NON_PERSISTENT)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cache invalidation batch", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.alexartauddev.licenseforge.infrastructure.messaging;
+
+import com.alexartauddev.licenseforge.application.event.relay.DomainEventPublisher;
+import com.alexartauddev.licenseforge.domain.event.entity.DomainEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Publishes outbox events to the RabbitMQ topic exchange, routed by event type.
+ * A batch is sent on a single channel and confirmed at once, which requires
+ * spring.rabbitmq.publisher-confirm-type=simple.
+ */
+@Component
+public class RabbitDomainEventPublisher implements DomainEventPublisher {
+
+    static final String AGGREGATE_TYPE_HEADER = "aggregate_type";
+    static final String AGGREGATE_ID_HEADER = "aggregate_id";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final Duration confirmTimeout;
+
+    public RabbitDomainEventPublisher(
+            RabbitTemplate rabbitTemplate,
+            @Value("${licenseforge.events.exchange:licenseforge.events}") String exchange,
+            @Value("${licenseforge.events.confirm-timeout:10s}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        rabbitTemplate.invoke(operations -> {
+            for (DomainEvent event : events) {
+                operations.send(exchange, event.getEventType(), toMessage(event));
+            }
+            // Throws when any message is nacked or not confirmed in time
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+    }
+
+    private static Message toMessage(DomainEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(event.getId().toString())
+                .setType(event.getEventType())
+                .setTimestamp(Timestamp.valueOf(event.getCreatedAt()))
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setHeader(AGGREGATE_TYPE_HEADER, event.getAggregateType())
+                .setHeader(AGGREGATE_ID_HEADER, event.getAggregateId().toString())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.datasource;
+
+/**
+ * Tells the replica routing that reads of the current thread must go to the primary, until a
+ * given time, because they follow a write of the same client that replicas may not have yet
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Long> PINNED_UNTIL = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * Send the reads of the current thread to the primary until the given epoch milliseconds
+     */
+    public static void pinUntil(long epochMillis) {
+        PINNED_UNTIL.set(epochMillis);
+    }
+
+    /**
+     * Whether the reads of the current thread must go to the primary
+     */
+    public static boolean isPinned() {
+        Long pinnedUntil = PINNED_UNTIL.get();
+        return pinnedUntil != null && pinnedUntil > System.currentTimeMillis();
+    }
+
+    public static void clear() {
+        PINNED_UNTIL.remove();
+    }
+}
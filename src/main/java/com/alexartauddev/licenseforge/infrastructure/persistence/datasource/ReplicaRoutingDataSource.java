@@ -0,0 +1,148 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource of read-only transactions, spreading them over the read replicas in turn.
+ * Replicas lagging behind the primary by more than the configured bound, or failing the lag check,
+ * are left out until a later check finds them caught up. Reads fall back to the primary when no
+ * replica is left, and always go to it for a thread pinned by {@link ReadYourWritesContext}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // Zero when the replica has replayed all it received, since an idle primary leaves the last
+    // replay timestamp behind without any lag; null when the database is not a replica
+    static final String REPLICATION_LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter pinnedReads;
+    private final Counter fallbackReads;
+
+    private volatile List<DataSource> available = List.of();
+
+    /**
+     * @param replicas replica DataSources by name, used until the first lag check has passed them
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.pinnedReads = readCounter(meterRegistry, "primary_pinned");
+        this.fallbackReads = readCounter(meterRegistry, "primary_fallback");
+        for (String name : this.replicas.keySet()) {
+            lagSeconds.put(name, Double.NaN);
+            Gauge.builder("licenseforge.datasource.replica.lag", lagSeconds, lags -> lags.get(name))
+                    .description("Replication lag of a read replica as of its last check, NaN when it failed")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("licenseforge.datasource.replica.available", this, routing -> routing.available.size())
+                .description("Read replicas within the lag bound")
+                .register(meterRegistry);
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("licenseforge.datasource.read_routing")
+                .description("Connections handed out to read-only transactions, by target")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    private DataSource route() {
+        if (ReadYourWritesContext.isPinned()) {
+            pinnedReads.increment();
+            return primary;
+        }
+        List<DataSource> current = available;
+        if (current.isEmpty()) {
+            fallbackReads.increment();
+            return primary;
+        }
+        replicaReads.increment();
+        return current.get(Math.floorMod(next.getAndIncrement(), current.size()));
+    }
+
+    /**
+     * Measure the lag of every replica and keep those within the bound.
+     * Runs at startup, so reads stay on the primary until the replicas have been checked once.
+     */
+    @Scheduled(fixedDelayString = "${licenseforge.datasource.read-replicas.lag-check-interval:5000}")
+    public void checkReplicationLag() {
+        List<DataSource> withinBound = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            double lag = measureLag(replica.getKey(), replica.getValue());
+            lagSeconds.put(replica.getKey(), lag);
+            if (lag <= maxLagSeconds) {
+                withinBound.add(replica.getValue());
+            } else if (!Double.isNaN(lag)) {
+                log.warn("Read replica {} is {}s behind the primary, reads are sent elsewhere", replica.getKey(), lag);
+            }
+        }
+        available = List.copyOf(withinBound);
+    }
+
+    private static double measureLag(String name, DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+            return resultSet.next() ? resultSet.getDouble(1) : Double.NaN;
+        } catch (SQLException e) {
+            log.warn("Failed to check the replication lag of read replica {}, reads are sent elsewhere", name, e);
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Close the replica pools; the primary is closed by its owner
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
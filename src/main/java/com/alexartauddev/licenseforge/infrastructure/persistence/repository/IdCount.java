@@ -0,0 +1,20 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Projection of a grouped count query, selected as {@code SELECT x.parentId AS id, COUNT(x) AS total}
+ */
+public interface IdCount {
+
+    UUID getId();
+
+    long getTotal();
+
+    static Map<UUID, Long> toMap(List<IdCount> rows) {
+        return rows.stream().collect(Collectors.toMap(IdCount::getId, IdCount::getTotal));
+    }
+}
@@ -0,0 +1,20 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Projection of a name lookup query, selected as {@code SELECT x.id AS id, x.name AS name}
+ */
+public interface IdName {
+
+    UUID getId();
+
+    String getName();
+
+    static Map<UUID, String> toMap(List<IdName> rows) {
+        return rows.stream().collect(Collectors.toMap(IdName::getId, IdName::getName));
+    }
+}
@@ -0,0 +1,24 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository;
+
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Translates domain page queries into Spring Data pageables.
+ * Paged finders take the lower ID bound from {@link PageQuery#afterOrMin()} and this pageable,
+ * so keyset and offset pages share one query: a keyset page has an ID bound and no offset,
+ * an offset page has the minimum ID bound and an offset.
+ */
+public final class PageQueries {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private PageQueries() {
+    }
+
+    public static Pageable toPageable(PageQuery query) {
+        return PageRequest.of(query.page(), query.size(), BY_ID);
+    }
+}
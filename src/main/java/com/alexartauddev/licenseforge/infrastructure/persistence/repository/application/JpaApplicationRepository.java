@@ -2,9 +2,15 @@ package com.alexartauddev.licenseforge.infrastructure.persistence.repository.app
 
 import com.alexartauddev.licenseforge.domain.application.entity.Application;
 import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdCount;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdName;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.PageQueries;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,6 +46,11 @@ public class JpaApplicationRepository implements ApplicationRepository {
         return repository.findByRealmId(realmId);
     }
 
+    @Override
+    public List<Application> findByRealmId(UUID realmId, PageQuery page) {
+        return repository.findByRealmIdAndIdGreaterThan(realmId, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public Optional<Application> findByNameAndRealmId(String name, UUID realmId) {
         return repository.findByNameAndRealmId(name, realmId);
@@ -54,4 +65,14 @@ public class JpaApplicationRepository implements ApplicationRepository {
     public void delete(Application application) {
         repository.delete(application);
     }
+
+    @Override
+    public Map<UUID, Long> countByRealmIds(Collection<UUID> realmIds) {
+        return IdCount.toMap(repository.countGroupedByRealmId(realmIds));
+    }
+
+    @Override
+    public Map<UUID, String> findNamesByIds(Collection<UUID> ids) {
+        return IdName.toMap(repository.findNamesByIdIn(ids));
+    }
 }
@@ -1,9 +1,18 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.application;
 
 import com.alexartauddev.licenseforge.domain.application.entity.Application;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdCount;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,9 +24,18 @@ import java.util.UUID;
 @Repository
 interface SpringDataApplicationRepository extends JpaRepository<Application, UUID> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Application> findByRealmId(UUID realmId);
 
+    List<Application> findByRealmIdAndIdGreaterThan(UUID realmId, UUID after, Pageable pageable);
+
     Optional<Application> findByNameAndRealmId(String name, UUID realmId);
 
     long countByRealmId(UUID realmId);
-}
\ No newline at end of file
+
+    @Query("SELECT a.realmId AS id, COUNT(a) AS total FROM Application a WHERE a.realmId IN :realmIds GROUP BY a.realmId")
+    List<IdCount> countGroupedByRealmId(@Param("realmIds") Collection<UUID> realmIds);
+
+    @Query("SELECT a.id AS id, a.name AS name FROM Application a WHERE a.id IN :ids")
+    List<IdName> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+}
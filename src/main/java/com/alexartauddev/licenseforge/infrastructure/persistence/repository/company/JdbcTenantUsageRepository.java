@@ -0,0 +1,60 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository.company;
+
+import com.alexartauddev.licenseforge.domain.company.repository.TenantUsageRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of the TenantUsageRepository interface
+ */
+@Repository
+public class JdbcTenantUsageRepository implements TenantUsageRepository {
+
+    // One statement creates the row on first use or adds to it; the row lock taken by the update
+    // serializes reservations across instances until their transaction ends
+    private static final String RESERVE_SQL = """
+            INSERT INTO tenant_usage (scope, scope_id, used)
+            SELECT ?, ?, ? WHERE ? <= ?
+            ON CONFLICT (scope, scope_id) DO UPDATE SET used = tenant_usage.used + EXCLUDED.used
+            WHERE tenant_usage.used + EXCLUDED.used <= ?
+            RETURNING used
+            """;
+
+    private static final String RELEASE_SQL =
+            "UPDATE tenant_usage SET used = GREATEST(used - ?, 0) WHERE scope = ? AND scope_id = ?";
+
+    private static final String FIND_USAGE_SQL = "SELECT scope_id, used FROM tenant_usage WHERE scope = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTenantUsageRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public OptionalLong reserve(Scope scope, UUID scopeId, long amount, long limit) {
+        List<Long> used = jdbcTemplate.queryForList(RESERVE_SQL, Long.class,
+                scope.name(), scopeId, amount, amount, limit, limit);
+        return used.isEmpty() ? OptionalLong.empty() : OptionalLong.of(used.get(0));
+    }
+
+    @Override
+    public void release(Scope scope, UUID scopeId, long amount) {
+        jdbcTemplate.update(RELEASE_SQL, amount, scope.name(), scopeId);
+    }
+
+    @Override
+    public Map<UUID, Long> findUsage(Scope scope) {
+        Map<UUID, Long> usage = new HashMap<>();
+        jdbcTemplate.query(FIND_USAGE_SQL, (RowCallbackHandler) resultSet ->
+                usage.put(resultSet.getObject(1, UUID.class), resultSet.getLong(2)), scope.name());
+        return usage;
+    }
+}
@@ -1,10 +1,15 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.company;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.company.entity.Company;
 import com.alexartauddev.licenseforge.domain.company.repository.CompanyRepository;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdName;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.PageQueries;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,6 +40,11 @@ public class JpaCompanyRepository implements CompanyRepository {
         return repository.findAll();
     }
 
+    @Override
+    public List<Company> findAll(PageQuery page) {
+        return repository.findByIdGreaterThan(page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public Optional<Company> findByRealmId(String realmId) {
         return repository.findByRealmId(realmId);
@@ -55,8 +65,28 @@ public class JpaCompanyRepository implements CompanyRepository {
         return repository.findByPlanType(planType);
     }
 
+    @Override
+    public List<Company> findByPlanType(Company.PlanType planType, PageQuery page) {
+        return repository.findByPlanTypeAndIdGreaterThan(planType, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public void delete(Company company) {
         repository.delete(company);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<UUID, String> findNamesByIds(Collection<UUID> ids) {
+        return IdName.toMap(repository.findNamesByIdIn(ids));
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public long countByPlanType(Company.PlanType planType) {
+        return repository.countByPlanType(planType);
+    }
+}
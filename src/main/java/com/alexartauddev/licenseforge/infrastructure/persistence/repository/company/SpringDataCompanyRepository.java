@@ -1,9 +1,17 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.company;
 
 import com.alexartauddev.licenseforge.domain.company.entity.Company;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +22,9 @@ import java.util.UUID;
 @Repository
 interface SpringDataCompanyRepository extends JpaRepository<Company, UUID> {
 
+    List<Company> findByIdGreaterThan(UUID after, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Company> findByRealmId(String realmId);
 
     Optional<Company> findByName(String name);
@@ -21,4 +32,11 @@ interface SpringDataCompanyRepository extends JpaRepository<Company, UUID> {
     boolean existsByRealmId(String realmId);
 
     List<Company> findByPlanType(Company.PlanType planType);
-}
\ No newline at end of file
+
+    List<Company> findByPlanTypeAndIdGreaterThan(Company.PlanType planType, UUID after, Pageable pageable);
+
+    @Query("SELECT c.id AS id, c.name AS name FROM Company c WHERE c.id IN :ids")
+    List<IdName> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    long countByPlanType(Company.PlanType planType);
+}
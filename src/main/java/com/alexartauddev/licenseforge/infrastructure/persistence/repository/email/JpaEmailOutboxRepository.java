@@ -0,0 +1,64 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository.email;
+
+import com.alexartauddev.licenseforge.domain.email.entity.EmailOutboxMessage;
+import com.alexartauddev.licenseforge.domain.email.repository.EmailOutboxRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JPA implementation of the EmailOutboxRepository interface
+ */
+@Repository
+public class JpaEmailOutboxRepository implements EmailOutboxRepository {
+
+    private final SpringDataEmailOutboxRepository repository;
+
+    public JpaEmailOutboxRepository(SpringDataEmailOutboxRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public EmailOutboxMessage save(EmailOutboxMessage message) {
+        return repository.save(message);
+    }
+
+    @Override
+    public Optional<EmailOutboxMessage> findById(UUID id) {
+        return repository.findById(id);
+    }
+
+    @Override
+    public List<UUID> findDueIds(LocalDateTime now, int limit) {
+        return repository.findDueIds(EmailOutboxMessage.Status.PENDING, now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public boolean claim(UUID id, LocalDateTime now, LocalDateTime leaseUntil) {
+        return repository.claim(id, EmailOutboxMessage.Status.PENDING, now, leaseUntil) == 1;
+    }
+
+    @Override
+    public void markSent(UUID id, LocalDateTime sentAt) {
+        repository.markSent(id, EmailOutboxMessage.Status.SENT, sentAt);
+    }
+
+    @Override
+    public void scheduleRetry(UUID id, LocalDateTime nextAttemptAt, String error) {
+        repository.scheduleRetry(id, nextAttemptAt, error);
+    }
+
+    @Override
+    public void markFailed(UUID id, String error) {
+        repository.markFailed(id, EmailOutboxMessage.Status.FAILED, error);
+    }
+
+    @Override
+    public long countPending() {
+        return repository.countByStatus(EmailOutboxMessage.Status.PENDING);
+    }
+}
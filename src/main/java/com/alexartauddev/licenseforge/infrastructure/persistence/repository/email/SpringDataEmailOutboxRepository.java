@@ -0,0 +1,55 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository.email;
+
+import com.alexartauddev.licenseforge.domain.email.entity.EmailOutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for EmailOutboxMessage entities
+ */
+@Repository
+interface SpringDataEmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+
+    @Query("SELECT m.id FROM EmailOutboxMessage m WHERE m.status = :status AND m.nextAttemptAt <= :now " +
+            "ORDER BY m.nextAttemptAt")
+    List<UUID> findDueIds(@Param("status") EmailOutboxMessage.Status status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EmailOutboxMessage m SET m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil " +
+            "WHERE m.id = :id AND m.status = :status AND m.nextAttemptAt <= :now")
+    int claim(@Param("id") UUID id,
+              @Param("status") EmailOutboxMessage.Status status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = :status, m.sentAt = :sentAt, m.body = NULL, " +
+            "m.lastError = NULL WHERE m.id = :id")
+    int markSent(@Param("id") UUID id,
+                 @Param("status") EmailOutboxMessage.Status status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.nextAttemptAt = :nextAttemptAt, m.lastError = :error WHERE m.id = :id")
+    int scheduleRetry(@Param("id") UUID id,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = :status, m.body = NULL, m.lastError = :error WHERE m.id = :id")
+    int markFailed(@Param("id") UUID id,
+                   @Param("status") EmailOutboxMessage.Status status,
+                   @Param("error") String error);
+
+    long countByStatus(EmailOutboxMessage.Status status);
+}
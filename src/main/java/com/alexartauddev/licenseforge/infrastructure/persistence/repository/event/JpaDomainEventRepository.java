@@ -0,0 +1,43 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository.event;
+
+import com.alexartauddev.licenseforge.domain.event.entity.DomainEvent;
+import com.alexartauddev.licenseforge.domain.event.repository.DomainEventRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA implementation of the DomainEventRepository interface
+ */
+@Repository
+public class JpaDomainEventRepository implements DomainEventRepository {
+
+    private final SpringDataDomainEventRepository repository;
+
+    public JpaDomainEventRepository(SpringDataDomainEventRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public DomainEvent save(DomainEvent event) {
+        return repository.save(event);
+    }
+
+    @Override
+    public List<DomainEvent> lockUnsent(int limit) {
+        return repository.lockUnsent(limit);
+    }
+
+    @Override
+    public int markSent(Collection<UUID> ids, LocalDateTime sentAt) {
+        return ids.isEmpty() ? 0 : repository.markSent(ids, sentAt);
+    }
+
+    @Override
+    public int deleteSentBefore(LocalDateTime threshold) {
+        return repository.deleteSentBefore(threshold);
+    }
+}
@@ -0,0 +1,32 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository.event;
+
+import com.alexartauddev.licenseforge.domain.event.entity.DomainEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for DomainEvent entities
+ */
+@Repository
+interface SpringDataDomainEventRepository extends JpaRepository<DomainEvent, UUID> {
+
+    @Query(value = "SELECT * FROM domain_events WHERE sent_at IS NULL " +
+            "ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<DomainEvent> lockUnsent(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE DomainEvent e SET e.sentAt = :sentAt WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("DELETE FROM DomainEvent e WHERE e.sentAt < :threshold")
+    int deleteSentBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,238 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository.license;
+
+import com.alexartauddev.licenseforge.domain.license.repository.AppLicenseStatsRepository;
+import com.alexartauddev.licenseforge.domain.license.valueobject.AppLicenseStats;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseState;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC implementation of the AppLicenseStatsRepository interface
+ */
+@Repository
+public class JdbcAppLicenseStatsRepository implements AppLicenseStatsRepository {
+
+    // A new row starts sweeping at the given time, which the caller classified the licenses against;
+    // an existing row classifies them against where its sweep stands
+    private static final String RECORD_CHANGE_SQL = """
+            INSERT INTO app_license_stats AS s (app_id, total, active, revoked, expired, swept_until)
+            VALUES (:appId, :total, :active, :revoked, :expired, :now)
+            ON CONFLICT (app_id) DO UPDATE SET
+                total = s.total + EXCLUDED.total,
+                revoked = s.revoked + EXCLUDED.revoked,
+                active = s.active
+                    + CASE WHEN :afterUnrevoked AND (:afterExpiresAt IS NULL OR :afterExpiresAt > s.swept_until) THEN :count ELSE 0 END
+                    - CASE WHEN :beforeUnrevoked AND (:beforeExpiresAt IS NULL OR :beforeExpiresAt > s.swept_until) THEN :count ELSE 0 END,
+                expired = s.expired
+                    + CASE WHEN :afterUnrevoked AND :afterExpiresAt <= s.swept_until THEN :count ELSE 0 END
+                    - CASE WHEN :beforeUnrevoked AND :beforeExpiresAt <= s.swept_until THEN :count ELSE 0 END,
+                version = s.version + 1
+            """;
+
+    private static final String FIND_SQL =
+            "SELECT app_id, total, active, revoked, expired FROM app_license_stats WHERE app_id IN (:appIds)";
+
+    // Arbitrary key of the advisory lock held by the instance sweeping
+    private static final long SWEEP_LOCK_KEY = 0x4C46535745455031L;
+
+    private static final String TRY_LOCK_SWEEP_SQL = "SELECT pg_try_advisory_xact_lock(:key)";
+
+    private static final String FIND_APPS_TO_SWEEP_SQL = """
+            SELECT s.app_id FROM app_license_stats s
+            WHERE s.swept_until < :now AND EXISTS (
+                SELECT 1 FROM licenses l
+                WHERE l.app_id = s.app_id AND l.revoked = false
+                  AND l.expires_at > s.swept_until AND l.expires_at <= :now)
+            """;
+
+    // Waits for the license writes of the application in progress, and holds off new ones until the
+    // sweep commits, so that none is classified against a sweep position that moved under it
+    private static final String LOCK_APP_SQL =
+            "SELECT swept_until FROM app_license_stats WHERE app_id = :appId FOR UPDATE";
+
+    // A statement of its own, so that it sees the writes committed while waiting for the lock
+    private static final String SWEEP_SQL = """
+            UPDATE app_license_stats s
+            SET active = s.active - c.expired, expired = s.expired + c.expired, swept_until = :now,
+                version = s.version + 1
+            FROM (SELECT COUNT(*) AS expired FROM licenses l
+                  WHERE l.app_id = :appId AND l.revoked = false
+                    AND l.expires_at > :sweptUntil AND l.expires_at <= :now) c
+            WHERE s.app_id = :appId
+            RETURNING c.expired
+            """;
+
+    private static final String FIND_DRIFT_SQL = """
+            SELECT d.* FROM (
+                SELECT COALESCE(c.app_id, s.app_id) AS app_id,
+                       s.version,
+                       COALESCE(s.swept_until, :now) AS swept_until,
+                       COALESCE(c.total, 0) - COALESCE(s.total, 0) AS total,
+                       COALESCE(c.active, 0) - COALESCE(s.active, 0) AS active,
+                       COALESCE(c.revoked, 0) - COALESCE(s.revoked, 0) AS revoked,
+                       COALESCE(c.expired, 0) - COALESCE(s.expired, 0) AS expired
+                FROM app_license_stats s
+                FULL JOIN (
+                    SELECT l.app_id,
+                           COUNT(*) AS total,
+                           COUNT(*) FILTER (WHERE NOT l.revoked
+                               AND (l.expires_at IS NULL OR l.expires_at > COALESCE(st.swept_until, :now))) AS active,
+                           COUNT(*) FILTER (WHERE l.revoked) AS revoked,
+                           COUNT(*) FILTER (WHERE NOT l.revoked
+                               AND l.expires_at <= COALESCE(st.swept_until, :now)) AS expired
+                    FROM licenses l
+                    LEFT JOIN app_license_stats st ON st.app_id = l.app_id
+                    GROUP BY l.app_id
+                ) c ON c.app_id = s.app_id
+            ) d
+            WHERE d.total <> 0 OR d.active <> 0 OR d.revoked <> 0 OR d.expired <> 0
+            """;
+
+    private static final String CORRECT_SQL = """
+            UPDATE app_license_stats
+            SET total = total + :total, active = active + :active, revoked = revoked + :revoked,
+                expired = expired + :expired, version = version + 1
+            WHERE app_id = :appId AND version = :version
+            """;
+
+    private static final String INSERT_MISSING_SQL = """
+            INSERT INTO app_license_stats (app_id, total, active, revoked, expired, swept_until)
+            VALUES (:appId, :total, :active, :revoked, :expired, :sweptUntil)
+            ON CONFLICT (app_id) DO NOTHING
+            """;
+
+    private static final RowMapper<AppLicenseStats> STATS_MAPPER = (resultSet, rowNum) -> new AppLicenseStats(
+            resultSet.getObject("app_id", UUID.class),
+            resultSet.getLong("total"),
+            resultSet.getLong("active"),
+            resultSet.getLong("revoked"),
+            resultSet.getLong("expired"));
+
+    private static final RowMapper<Drift> DRIFT_MAPPER = (resultSet, rowNum) -> new Drift(
+            resultSet.getObject("app_id", UUID.class),
+            resultSet.getObject("version", Long.class),
+            resultSet.getTimestamp("swept_until").toLocalDateTime(),
+            resultSet.getLong("total"),
+            resultSet.getLong("active"),
+            resultSet.getLong("revoked"),
+            resultSet.getLong("expired"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcAppLicenseStatsRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void recordChange(UUID appId, LicenseState before, LicenseState after, long count, LocalDateTime now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("appId", appId)
+                .addValue("count", count)
+                .addValue("now", Timestamp.valueOf(now), Types.TIMESTAMP)
+                .addValue("total", count * (present(after) - present(before)))
+                .addValue("revoked", count * (revoked(after) - revoked(before)))
+                .addValue("active", count * (active(after, now) - active(before, now)))
+                .addValue("expired", count * (expired(after, now) - expired(before, now)))
+                .addValue("beforeUnrevoked", before != null && !before.revoked(), Types.BOOLEAN)
+                .addValue("beforeExpiresAt", timestamp(before), Types.TIMESTAMP)
+                .addValue("afterUnrevoked", after != null && !after.revoked(), Types.BOOLEAN)
+                .addValue("afterExpiresAt", timestamp(after), Types.TIMESTAMP);
+        jdbcTemplate.update(RECORD_CHANGE_SQL, parameters);
+    }
+
+    @Override
+    public Optional<AppLicenseStats> findByAppId(UUID appId) {
+        return Optional.ofNullable(findByAppIds(List.of(appId)).get(appId));
+    }
+
+    @Override
+    public Map<UUID, AppLicenseStats> findByAppIds(Collection<UUID> appIds) {
+        if (appIds.isEmpty()) {
+            return Map.of();
+        }
+        return jdbcTemplate.query(FIND_SQL, new MapSqlParameterSource("appIds", appIds), STATS_MAPPER).stream()
+                .collect(Collectors.toMap(AppLicenseStats::appId, Function.identity()));
+    }
+
+    @Override
+    public boolean tryLockSweep() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK_SWEEP_SQL,
+                new MapSqlParameterSource("key", SWEEP_LOCK_KEY), Boolean.class));
+    }
+
+    @Override
+    public List<UUID> findAppIdsToSweep(LocalDateTime now) {
+        return jdbcTemplate.queryForList(FIND_APPS_TO_SWEEP_SQL,
+                new MapSqlParameterSource("now", Timestamp.valueOf(now)), UUID.class);
+    }
+
+    @Override
+    public long sweepExpired(UUID appId, LocalDateTime now) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("appId", appId)
+                .addValue("now", Timestamp.valueOf(now), Types.TIMESTAMP);
+        List<Timestamp> sweptUntil = jdbcTemplate.queryForList(LOCK_APP_SQL, parameters, Timestamp.class);
+        // Already swept past this point by an instance that held the sweep before
+        if (sweptUntil.isEmpty() || !sweptUntil.get(0).toLocalDateTime().isBefore(now)) {
+            return 0;
+        }
+        parameters.addValue("sweptUntil", sweptUntil.get(0), Types.TIMESTAMP);
+        return jdbcTemplate.queryForList(SWEEP_SQL, parameters, Long.class).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public List<Drift> findDrift(LocalDateTime now) {
+        return jdbcTemplate.query(FIND_DRIFT_SQL, new MapSqlParameterSource("now", Timestamp.valueOf(now)), DRIFT_MAPPER);
+    }
+
+    @Override
+    public boolean correct(Drift drift) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("appId", drift.appId())
+                .addValue("version", drift.version())
+                .addValue("sweptUntil", Timestamp.valueOf(drift.sweptUntil()), Types.TIMESTAMP)
+                .addValue("total", drift.total())
+                .addValue("active", drift.active())
+                .addValue("revoked", drift.revoked())
+                .addValue("expired", drift.expired());
+        // Counts missing altogether equal the drift; a write may have created them in the meantime
+        return jdbcTemplate.update(drift.version() == null ? INSERT_MISSING_SQL : CORRECT_SQL, parameters) == 1;
+    }
+
+    private static int present(LicenseState state) {
+        return state != null ? 1 : 0;
+    }
+
+    private static int revoked(LicenseState state) {
+        return state != null && state.revoked() ? 1 : 0;
+    }
+
+    private static int active(LicenseState state, LocalDateTime sweptUntil) {
+        return state != null && !state.revoked()
+                && (state.expiresAt() == null || state.expiresAt().isAfter(sweptUntil)) ? 1 : 0;
+    }
+
+    private static int expired(LicenseState state, LocalDateTime sweptUntil) {
+        return state != null && !state.revoked()
+                && state.expiresAt() != null && !state.expiresAt().isAfter(sweptUntil) ? 1 : 0;
+    }
+
+    private static Timestamp timestamp(LicenseState state) {
+        return state != null && state.expiresAt() != null ? Timestamp.valueOf(state.expiresAt()) : null;
+    }
+}
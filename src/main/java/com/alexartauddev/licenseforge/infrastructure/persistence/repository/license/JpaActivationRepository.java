@@ -1,11 +1,19 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.license;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.license.entity.Activation;
 import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.PageQueries;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,10 +23,19 @@ import java.util.UUID;
 @Repository
 public class JpaActivationRepository implements ActivationRepository {
 
+    private static final String UPDATE_LAST_SEEN_SQL = """
+            UPDATE activations a
+            SET last_seen_at = v.last_seen_at
+            FROM unnest(?, ?) AS v(id, last_seen_at)
+            WHERE a.id = v.id AND a.last_seen_at < v.last_seen_at
+            """;
+
     private final SpringDataActivationRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public JpaActivationRepository(SpringDataActivationRepository repository) {
+    public JpaActivationRepository(SpringDataActivationRepository repository, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -26,6 +43,12 @@ public class JpaActivationRepository implements ActivationRepository {
         return repository.save(activation);
     }
 
+    @Override
+    public boolean insertIfAbsent(Activation activation) {
+        return repository.insertIfAbsent(activation.getId(), activation.getLicenseId(), activation.getHardwareId(),
+                activation.getActivatedAt(), activation.getLastSeenAt()) == 1;
+    }
+
     @Override
     public Optional<Activation> findById(UUID id) {
         return repository.findById(id);
@@ -41,6 +64,16 @@ public class JpaActivationRepository implements ActivationRepository {
         return repository.findByLicenseId(licenseId);
     }
 
+    @Override
+    public List<Activation> findByLicenseId(UUID licenseId, PageQuery page) {
+        return repository.findByLicenseIdAndIdGreaterThan(licenseId, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
+    @Override
+    public List<Activation> findByLicenseIdIn(Collection<UUID> licenseIds) {
+        return repository.findByLicenseIdIn(licenseIds);
+    }
+
     @Override
     public Optional<Activation> findByLicenseIdAndHardwareId(UUID licenseId, String hardwareId) {
         return repository.findByLicenseIdAndHardwareId(licenseId, hardwareId);
@@ -56,6 +89,36 @@ public class JpaActivationRepository implements ActivationRepository {
         return repository.findInactiveActivations(threshold);
     }
 
+    @Override
+    public List<Activation> findInactiveActivations(LocalDateTime threshold, PageQuery page) {
+        return repository.findByLastSeenAtBeforeAndIdGreaterThan(threshold, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
+    @Override
+    public int updateLastSeen(Map<UUID, LocalDateTime> lastSeenByActivationId) {
+        if (lastSeenByActivationId.isEmpty()) {
+            return 0;
+        }
+
+        UUID[] ids = new UUID[lastSeenByActivationId.size()];
+        Timestamp[] lastSeen = new Timestamp[ids.length];
+        int i = 0;
+        for (Map.Entry<UUID, LocalDateTime> entry : lastSeenByActivationId.entrySet()) {
+            ids[i] = entry.getKey();
+            lastSeen[i] = Timestamp.valueOf(entry.getValue());
+            i++;
+        }
+
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPDATE_LAST_SEEN_SQL);
+            Array idArray = connection.createArrayOf("uuid", ids);
+            Array lastSeenArray = connection.createArrayOf("timestamp", lastSeen);
+            statement.setArray(1, idArray);
+            statement.setArray(2, lastSeenArray);
+            return statement;
+        });
+    }
+
     @Override
     public long deleteByLicenseId(UUID licenseId) {
         return repository.deleteByLicenseId(licenseId);
@@ -1,13 +1,25 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.license;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.license.entity.License;
 import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdCount;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.PageQueries;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * JPA implementation of the LicenseRepository interface
@@ -15,10 +27,25 @@ import java.util.UUID;
 @Repository
 public class JpaLicenseRepository implements LicenseRepository {
 
+    // Each chunk is a single statement whose rows are passed as one array per column
+    private static final int INSERT_CHUNK_SIZE = 10_000;
+
+    private static final String INSERT_IGNORING_DUPLICATE_KEYS_SQL = """
+            INSERT INTO licenses (id, license_key, app_id, customer_id, expires_at, max_activations,
+                                  revoked, activation_count, created_at, updated_at)
+            SELECT * FROM unnest(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (license_key) DO NOTHING
+            RETURNING license_key
+            """;
+
+    private static final int KEY_FETCH_SIZE = 10_000;
+
     private final SpringDataLicenseRepository repository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public JpaLicenseRepository(SpringDataLicenseRepository repository) {
+    public JpaLicenseRepository(SpringDataLicenseRepository repository, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -26,6 +53,58 @@ public class JpaLicenseRepository implements LicenseRepository {
         return repository.save(license);
     }
 
+    @Override
+    public Set<String> insertIgnoringDuplicateKeys(List<License> licenses) {
+        Set<String> inserted = new HashSet<>();
+        for (int from = 0; from < licenses.size(); from += INSERT_CHUNK_SIZE) {
+            List<License> chunk = licenses.subList(from, Math.min(from + INSERT_CHUNK_SIZE, licenses.size()));
+            inserted.addAll(insertChunk(chunk));
+        }
+        return inserted;
+    }
+
+    private List<String> insertChunk(List<License> licenses) {
+        int size = licenses.size();
+        UUID[] ids = new UUID[size];
+        String[] keys = new String[size];
+        UUID[] appIds = new UUID[size];
+        String[] customerIds = new String[size];
+        Timestamp[] expiresAt = new Timestamp[size];
+        Integer[] maxActivations = new Integer[size];
+        Boolean[] revoked = new Boolean[size];
+        Integer[] activationCounts = new Integer[size];
+        Timestamp[] createdAt = new Timestamp[size];
+        Timestamp[] updatedAt = new Timestamp[size];
+        for (int i = 0; i < size; i++) {
+            License license = licenses.get(i);
+            ids[i] = license.getId();
+            keys[i] = license.getLicenseKey();
+            appIds[i] = license.getAppId();
+            customerIds[i] = license.getCustomerId();
+            expiresAt[i] = license.getExpiresAt() != null ? Timestamp.valueOf(license.getExpiresAt()) : null;
+            maxActivations[i] = license.getMaxActivations();
+            revoked[i] = license.isRevoked();
+            activationCounts[i] = license.getActivationCount();
+            createdAt[i] = Timestamp.valueOf(license.getCreatedAt());
+            updatedAt[i] = Timestamp.valueOf(license.getUpdatedAt());
+        }
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_IGNORING_DUPLICATE_KEYS_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            statement.setArray(2, connection.createArrayOf("varchar", keys));
+            statement.setArray(3, connection.createArrayOf("uuid", appIds));
+            statement.setArray(4, connection.createArrayOf("varchar", customerIds));
+            statement.setArray(5, connection.createArrayOf("timestamp", expiresAt));
+            statement.setArray(6, connection.createArrayOf("int4", maxActivations));
+            statement.setArray(7, connection.createArrayOf("bool", revoked));
+            statement.setArray(8, connection.createArrayOf("int4", activationCounts));
+            statement.setArray(9, connection.createArrayOf("timestamp", createdAt));
+            statement.setArray(10, connection.createArrayOf("timestamp", updatedAt));
+            return statement;
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+
     @Override
     public Optional<License> findById(UUID id) {
         return repository.findById(id);
@@ -36,38 +115,93 @@ public class JpaLicenseRepository implements LicenseRepository {
         return repository.findAll();
     }
 
+    @Override
+    public void forEachLicenseKey(Consumer<String> action) {
+        // PostgreSQL only streams the rows through a cursor inside a transaction
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT license_key FROM licenses");
+            statement.setFetchSize(KEY_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> action.accept(resultSet.getString(1)));
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
     @Override
     public Optional<License> findByLicenseKey(String licenseKey) {
         return repository.findByLicenseKey(licenseKey);
     }
 
+    @Override
+    public List<License> findByLicenseKeyIn(Collection<String> licenseKeys) {
+        return repository.findByLicenseKeyIn(licenseKeys);
+    }
+
     @Override
     public List<License> findByAppId(UUID appId) {
         return repository.findByAppId(appId);
     }
 
+    @Override
+    public List<License> findByAppId(UUID appId, PageQuery page) {
+        return repository.findByAppIdAndIdGreaterThan(appId, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public List<License> findByCustomerId(String customerId) {
         return repository.findByCustomerId(customerId);
     }
 
+    @Override
+    public List<License> findByCustomerId(String customerId, PageQuery page) {
+        return repository.findByCustomerIdAndIdGreaterThan(customerId, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public List<License> findActiveByAppId(UUID appId, LocalDateTime now) {
         return repository.findActiveByAppId(appId, now);
     }
 
+    @Override
+    public List<License> findActiveByAppId(UUID appId, LocalDateTime now, PageQuery page) {
+        return repository.findActiveByAppIdAndIdGreaterThan(appId, now, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public List<License> findExpiringLicenses(UUID appId, LocalDateTime start, LocalDateTime end) {
         return repository.findExpiringLicenses(appId, start, end);
     }
 
+    @Override
+    public List<License> findExpiringLicenses(UUID appId, LocalDateTime start, LocalDateTime end, PageQuery page) {
+        return repository.findExpiringLicensesAndIdGreaterThan(appId, start, end, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public long countActiveByAppId(UUID appId, LocalDateTime now) {
         return repository.countActiveByAppId(appId, now);
     }
 
+    @Override
+    public boolean incrementActivationCount(UUID licenseId) {
+        return repository.incrementActivationCount(licenseId) == 1;
+    }
+
+    @Override
+    public void decrementActivationCount(UUID licenseId) {
+        repository.decrementActivationCount(licenseId);
+    }
+
     @Override
     public void delete(License license) {
         repository.delete(license);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<UUID, Long> countActiveByAppIds(Collection<UUID> appIds, LocalDateTime now) {
+        return IdCount.toMap(repository.countActiveGroupedByAppId(appIds, now));
+    }
+}
@@ -0,0 +1,50 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository.license;
+
+import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import com.alexartauddev.licenseforge.domain.license.repository.ReactiveActivationRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * R2DBC implementation of the ReactiveActivationRepository interface
+ */
+@Repository
+@ConditionalOnProperty(name = "licenseforge.reactive.enabled", havingValue = "true")
+public class R2dbcActivationRepository implements ReactiveActivationRepository {
+
+    private static final String FIND_BY_LICENSE_ID_SQL = """
+            SELECT id, license_id, hardware_id, activated_at, last_seen_at
+            FROM activations
+            WHERE license_id = :licenseId
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcActivationRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Activation> findByLicenseId(UUID licenseId) {
+        return databaseClient.sql(FIND_BY_LICENSE_ID_SQL)
+                .bind("licenseId", licenseId)
+                .map(R2dbcActivationRepository::toActivation)
+                .all();
+    }
+
+    private static Activation toActivation(Readable row) {
+        return Activation.builder()
+                .id(row.get("id", UUID.class))
+                .licenseId(row.get("license_id", UUID.class))
+                .hardwareId(row.get("hardware_id", String.class))
+                .activatedAt(row.get("activated_at", LocalDateTime.class))
+                .lastSeenAt(row.get("last_seen_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.alexartauddev.licenseforge.infrastructure.persistence.repository.license;
+
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+import com.alexartauddev.licenseforge.domain.license.repository.ReactiveLicenseRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * R2DBC implementation of the ReactiveLicenseRepository interface
+ */
+@Repository
+@ConditionalOnProperty(name = "licenseforge.reactive.enabled", havingValue = "true")
+public class R2dbcLicenseRepository implements ReactiveLicenseRepository {
+
+    private static final String FIND_BY_LICENSE_KEY_SQL = """
+            SELECT id, license_key, app_id, customer_id, expires_at, max_activations, revoked,
+                   activation_count, created_at, updated_at
+            FROM licenses
+            WHERE license_key = :licenseKey
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcLicenseRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<License> findByLicenseKey(String licenseKey) {
+        return databaseClient.sql(FIND_BY_LICENSE_KEY_SQL)
+                .bind("licenseKey", licenseKey)
+                .map(R2dbcLicenseRepository::toLicense)
+                .one();
+    }
+
+    private static License toLicense(Readable row) {
+        return License.builder()
+                .id(row.get("id", UUID.class))
+                .licenseKey(row.get("license_key", String.class))
+                .appId(row.get("app_id", UUID.class))
+                .customerId(row.get("customer_id", String.class))
+                .expiresAt(row.get("expires_at", LocalDateTime.class))
+                .maxActivations(row.get("max_activations", Integer.class))
+                .revoked(row.get("revoked", Boolean.class))
+                .activationCount(row.get("activation_count", Integer.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -2,12 +2,18 @@ package com.alexartauddev.licenseforge.infrastructure.persistence.repository.lic
 
 
 import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +26,10 @@ interface SpringDataActivationRepository extends JpaRepository<Activation, UUID>
 
     List<Activation> findByLicenseId(UUID licenseId);
 
+    List<Activation> findByLicenseIdAndIdGreaterThan(UUID licenseId, UUID after, Pageable pageable);
+
+    List<Activation> findByLicenseIdIn(Collection<UUID> licenseIds);
+
     Optional<Activation> findByLicenseIdAndHardwareId(UUID licenseId, String hardwareId);
 
     long countByLicenseId(UUID licenseId);
@@ -27,5 +37,18 @@ interface SpringDataActivationRepository extends JpaRepository<Activation, UUID>
     @Query("SELECT a FROM Activation a WHERE a.lastSeenAt < :threshold")
     List<Activation> findInactiveActivations(@Param("threshold") LocalDateTime threshold);
 
+    List<Activation> findByLastSeenAtBeforeAndIdGreaterThan(LocalDateTime threshold, UUID after, Pageable pageable);
+
     long deleteByLicenseId(UUID licenseId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "activations"))
+    @Query(value = "INSERT INTO activations (id, license_id, hardware_id, activated_at, last_seen_at) " +
+            "VALUES (:id, :licenseId, :hardwareId, :activatedAt, :lastSeenAt) " +
+            "ON CONFLICT (license_id, hardware_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("licenseId") UUID licenseId,
+                       @Param("hardwareId") String hardwareId,
+                       @Param("activatedAt") LocalDateTime activatedAt,
+                       @Param("lastSeenAt") LocalDateTime lastSeenAt);
 }
\ No newline at end of file
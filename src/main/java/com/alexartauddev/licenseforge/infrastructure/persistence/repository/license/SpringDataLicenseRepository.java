@@ -1,12 +1,19 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.license;
 
 import com.alexartauddev.licenseforge.domain.license.entity.License;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,16 +26,42 @@ interface SpringDataLicenseRepository extends JpaRepository<License, UUID> {
 
     Optional<License> findByLicenseKey(String licenseKey);
 
+    List<License> findByLicenseKeyIn(Collection<String> licenseKeys);
+
     List<License> findByAppId(UUID appId);
 
+    List<License> findByAppIdAndIdGreaterThan(UUID appId, UUID after, Pageable pageable);
+
     List<License> findByCustomerId(String customerId);
 
+    List<License> findByCustomerIdAndIdGreaterThan(String customerId, UUID after, Pageable pageable);
+
     @Query("SELECT l FROM License l WHERE l.appId = :appId AND l.revoked = false AND (l.expiresAt IS NULL OR l.expiresAt > :now)")
     List<License> findActiveByAppId(@Param("appId") UUID appId, @Param("now") LocalDateTime now);
 
+    @Query("SELECT l FROM License l WHERE l.appId = :appId AND l.revoked = false AND (l.expiresAt IS NULL OR l.expiresAt > :now) AND l.id > :after")
+    List<License> findActiveByAppIdAndIdGreaterThan(@Param("appId") UUID appId, @Param("now") LocalDateTime now, @Param("after") UUID after, Pageable pageable);
+
     @Query("SELECT l FROM License l WHERE l.appId = :appId AND l.revoked = false AND l.expiresAt BETWEEN :start AND :end")
     List<License> findExpiringLicenses(@Param("appId") UUID appId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+    @Query("SELECT l FROM License l WHERE l.appId = :appId AND l.revoked = false AND l.expiresAt BETWEEN :start AND :end AND l.id > :after")
+    List<License> findExpiringLicensesAndIdGreaterThan(@Param("appId") UUID appId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("after") UUID after, Pageable pageable);
+
     @Query("SELECT COUNT(l) FROM License l WHERE l.appId = :appId AND l.revoked = false AND (l.expiresAt IS NULL OR l.expiresAt > :now)")
     long countActiveByAppId(@Param("appId") UUID appId, @Param("now") LocalDateTime now);
-}
\ No newline at end of file
+
+    // Native statements evict every second-level cache region unless they name the tables they write
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "licenses"))
+    @Query(value = "UPDATE licenses SET activation_count = activation_count + 1 WHERE id = :id AND activation_count < max_activations", nativeQuery = true)
+    int incrementActivationCount(@Param("id") UUID id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "licenses"))
+    @Query(value = "UPDATE licenses SET activation_count = activation_count - 1 WHERE id = :id AND activation_count > 0", nativeQuery = true)
+    int decrementActivationCount(@Param("id") UUID id);
+
+    @Query("SELECT l.appId AS id, COUNT(l) AS total FROM License l WHERE l.appId IN :appIds AND l.revoked = false AND (l.expiresAt IS NULL OR l.expiresAt > :now) GROUP BY l.appId")
+    List<IdCount> countActiveGroupedByAppId(@Param("appIds") Collection<UUID> appIds, @Param("now") LocalDateTime now);
+}
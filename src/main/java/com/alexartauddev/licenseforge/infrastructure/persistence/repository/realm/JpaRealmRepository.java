@@ -1,10 +1,15 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.realm;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
 import com.alexartauddev.licenseforge.domain.realm.repository.RealmRepository;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdCount;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.PageQueries;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -40,6 +45,11 @@ public class JpaRealmRepository implements RealmRepository {
         return repository.findByCompanyId(companyId);
     }
 
+    @Override
+    public List<Realm> findByCompanyId(UUID companyId, PageQuery page) {
+        return repository.findByCompanyIdAndIdGreaterThan(companyId, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public Optional<Realm> findByNameAndCompanyId(String name, UUID companyId) {
         return repository.findByNameAndCompanyId(name, companyId);
@@ -54,4 +64,9 @@ public class JpaRealmRepository implements RealmRepository {
     public void delete(Realm realm) {
         repository.delete(realm);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<UUID, Long> countByCompanyIds(Collection<UUID> companyIds) {
+        return IdCount.toMap(repository.countGroupedByCompanyId(companyIds));
+    }
+}
@@ -1,9 +1,17 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.realm;
 
 import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,9 +22,15 @@ import java.util.UUID;
 @Repository
 interface SpringDataRealmRepository extends JpaRepository<Realm, UUID> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Realm> findByCompanyId(UUID companyId);
 
+    List<Realm> findByCompanyIdAndIdGreaterThan(UUID companyId, UUID after, Pageable pageable);
+
     Optional<Realm> findByNameAndCompanyId(String name, UUID companyId);
 
     long countByCompanyId(UUID companyId);
+
+    @Query("SELECT r.companyId AS id, COUNT(r) AS total FROM Realm r WHERE r.companyId IN :companyIds GROUP BY r.companyId")
+    List<IdCount> countGroupedByCompanyId(@Param("companyIds") Collection<UUID> companyIds);
 }
@@ -4,6 +4,7 @@ import com.alexartauddev.licenseforge.domain.team.entity.TeamPermission;
 import com.alexartauddev.licenseforge.domain.team.repository.TeamPermissionRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,6 +41,11 @@ public class JpaTeamPermissionRepository implements TeamPermissionRepository {
         return repository.findByTeamId(teamId);
     }
 
+    @Override
+    public List<TeamPermission> findByTeamIdIn(Collection<UUID> teamIds) {
+        return repository.findByTeamIdIn(teamIds);
+    }
+
     @Override
     public List<TeamPermission> findByAppId(UUID appId) {
         return repository.findByAppId(appId);
@@ -1,10 +1,15 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.team;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.team.entity.Team;
 import com.alexartauddev.licenseforge.domain.team.repository.TeamRepository;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdName;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.PageQueries;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,6 +42,11 @@ public class JpaTeamRepository implements TeamRepository {
         return repository.findByCompanyId(companyId);
     }
 
+    @Override
+    public List<Team> findByCompanyId(UUID companyId, PageQuery page) {
+        return repository.findByCompanyIdAndIdGreaterThan(companyId, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public Optional<Team> findByNameAndCompanyId(String name, UUID companyId) {
         return repository.findByNameAndCompanyId(name, companyId);
@@ -51,4 +61,9 @@ public class JpaTeamRepository implements TeamRepository {
     public void delete(Team team) {
         repository.delete(team);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<UUID, String> findNamesByIds(Collection<UUID> ids) {
+        return IdName.toMap(repository.findNamesByIdIn(ids));
+    }
+}
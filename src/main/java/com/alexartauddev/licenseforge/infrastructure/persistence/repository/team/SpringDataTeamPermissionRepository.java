@@ -1,9 +1,13 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.team;
 
 import com.alexartauddev.licenseforge.domain.team.entity.TeamPermission;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,10 +18,15 @@ import java.util.UUID;
 @Repository
 interface SpringDataTeamPermissionRepository extends JpaRepository<TeamPermission, UUID> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TeamPermission> findByTeamId(UUID teamId);
 
+    List<TeamPermission> findByTeamIdIn(Collection<UUID> teamIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TeamPermission> findByAppId(UUID appId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<TeamPermission> findByTeamIdAndAppId(UUID teamId, UUID appId);
 
     List<TeamPermission> findByTeamIdAndPermissionType(UUID teamId, TeamPermission.PermissionType permissionType);
@@ -1,9 +1,17 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.team;
 
 import com.alexartauddev.licenseforge.domain.team.entity.Team;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,9 +22,15 @@ import java.util.UUID;
 @Repository
 interface SpringDataTeamRepository extends JpaRepository<Team, UUID> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Team> findByCompanyId(UUID companyId);
 
+    List<Team> findByCompanyIdAndIdGreaterThan(UUID companyId, UUID after, Pageable pageable);
+
     Optional<Team> findByNameAndCompanyId(String name, UUID companyId);
 
     long countByCompanyId(UUID companyId);
-}
\ No newline at end of file
+
+    @Query("SELECT t.id AS id, t.name AS name FROM Team t WHERE t.id IN :ids")
+    List<IdName> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -1,10 +1,15 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.user;
 
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.user.entity.User;
 import com.alexartauddev.licenseforge.domain.user.repository.UserRepository;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdCount;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.PageQueries;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,6 +40,11 @@ public class JpaUserRepository implements UserRepository {
         return repository.findAll();
     }
 
+    @Override
+    public List<User> findAll(PageQuery page) {
+        return repository.findByIdGreaterThan(page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         return repository.findByEmail(email);
@@ -45,16 +55,31 @@ public class JpaUserRepository implements UserRepository {
         return repository.findByCompanyId(companyId);
     }
 
+    @Override
+    public List<User> findByCompanyId(UUID companyId, PageQuery page) {
+        return repository.findByCompanyIdAndIdGreaterThan(companyId, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public List<User> findByTeamId(UUID teamId) {
         return repository.findByTeamId(teamId);
     }
 
+    @Override
+    public List<User> findByTeamId(UUID teamId, PageQuery page) {
+        return repository.findByTeamIdAndIdGreaterThan(teamId, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public List<User> findByRoleAndCompanyId(User.Role role, UUID companyId) {
         return repository.findByRoleAndCompanyId(role, companyId);
     }
 
+    @Override
+    public List<User> findByRoleAndCompanyId(User.Role role, UUID companyId, PageQuery page) {
+        return repository.findByRoleAndCompanyIdAndIdGreaterThan(role, companyId, page.afterOrMin(), PageQueries.toPageable(page));
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         return repository.existsByEmail(email);
@@ -70,8 +95,28 @@ public class JpaUserRepository implements UserRepository {
         return repository.countByTeamId(teamId);
     }
 
+    @Override
+    public Optional<Integer> findTokenVersionById(UUID id) {
+        return repository.findTokenVersionById(id);
+    }
+
+    @Override
+    public void incrementTokenVersion(UUID id) {
+        repository.incrementTokenVersion(id);
+    }
+
     @Override
     public void delete(User user) {
         repository.delete(user);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<UUID, Long> countByCompanyIds(Collection<UUID> companyIds) {
+        return IdCount.toMap(repository.countGroupedByCompanyId(companyIds));
+    }
+
+    @Override
+    public Map<UUID, Long> countByTeamIds(Collection<UUID> teamIds) {
+        return IdCount.toMap(repository.countGroupedByTeamId(teamIds));
+    }
+}
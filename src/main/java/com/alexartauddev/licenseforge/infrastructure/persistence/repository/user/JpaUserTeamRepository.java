@@ -4,6 +4,7 @@ import com.alexartauddev.licenseforge.domain.user.entity.UserTeam;
 import com.alexartauddev.licenseforge.domain.user.repository.UserTeamRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +46,11 @@ public class JpaUserTeamRepository implements UserTeamRepository {
         return repository.findByTeamId(teamId);
     }
 
+    @Override
+    public List<UserTeam> findByTeamIdIn(Collection<UUID> teamIds) {
+        return repository.findByTeamIdIn(teamIds);
+    }
+
     @Override
     public Optional<UserTeam> findByUserIdAndTeamId(UUID userId, UUID teamId) {
         return repository.findByUserIdAndTeamId(userId, teamId);
@@ -1,9 +1,18 @@
 package com.alexartauddev.licenseforge.infrastructure.persistence.repository.user;
 
 import com.alexartauddev.licenseforge.domain.user.entity.User;
+import com.alexartauddev.licenseforge.infrastructure.persistence.repository.IdCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,17 +23,39 @@ import java.util.UUID;
 @Repository
 interface SpringDataUserRepository extends JpaRepository<User, UUID> {
 
+    List<User> findByIdGreaterThan(UUID after, Pageable pageable);
+
     Optional<User> findByEmail(String email);
 
     List<User> findByCompanyId(UUID companyId);
 
+    List<User> findByCompanyIdAndIdGreaterThan(UUID companyId, UUID after, Pageable pageable);
+
     List<User> findByTeamId(UUID teamId);
 
+    List<User> findByTeamIdAndIdGreaterThan(UUID teamId, UUID after, Pageable pageable);
+
     List<User> findByRoleAndCompanyId(User.Role role, UUID companyId);
 
+    List<User> findByRoleAndCompanyIdAndIdGreaterThan(User.Role role, UUID companyId, UUID after, Pageable pageable);
+
     boolean existsByEmail(String email);
 
     long countByCompanyId(UUID companyId);
 
     long countByTeamId(UUID teamId);
-}
\ No newline at end of file
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") UUID id);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = "UPDATE users SET token_version = token_version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementTokenVersion(@Param("id") UUID id);
+
+    @Query("SELECT u.companyId AS id, COUNT(u) AS total FROM User u WHERE u.companyId IN :companyIds GROUP BY u.companyId")
+    List<IdCount> countGroupedByCompanyId(@Param("companyIds") Collection<UUID> companyIds);
+
+    @Query("SELECT u.teamId AS id, COUNT(u) AS total FROM User u WHERE u.teamId IN :teamIds GROUP BY u.teamId")
+    List<IdCount> countGroupedByTeamId(@Param("teamIds") Collection<UUID> teamIds);
+}
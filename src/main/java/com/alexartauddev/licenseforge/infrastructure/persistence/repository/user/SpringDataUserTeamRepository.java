@@ -4,6 +4,7 @@ import com.alexartauddev.licenseforge.domain.user.entity.UserTeam;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +19,8 @@ interface SpringDataUserTeamRepository extends JpaRepository<UserTeam, UUID> {
 
     List<UserTeam> findByTeamId(UUID teamId);
 
+    List<UserTeam> findByTeamIdIn(Collection<UUID> teamIds);
+
     Optional<UserTeam> findByUserIdAndTeamId(UUID userId, UUID teamId);
 
     void deleteByUserIdAndTeamId(UUID userId, UUID teamId);
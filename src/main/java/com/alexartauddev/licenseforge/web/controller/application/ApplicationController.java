@@ -1,5 +1,6 @@
 package com.alexartauddev.licenseforge.web.controller.application;
 import com.alexartauddev.licenseforge.application.application.service.ApplicationService;
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.web.dto.application.ApplicationDTO;
 import com.alexartauddev.licenseforge.web.request.application.CreateApplicationRequest;
 import com.alexartauddev.licenseforge.web.request.application.UpdateApplicationRequest;
@@ -13,9 +14,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -37,6 +38,7 @@ public class ApplicationController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get application by ID")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #id, 'READ')")
     public ResponseEntity<ApplicationResponse> getApplicationById(
             @Parameter(description = "Application ID", required = true)
             @PathVariable UUID id) {
@@ -49,17 +51,20 @@ public class ApplicationController {
     public ResponseEntity<ApplicationListResponse> getApplicationsByRealmId(
             @Parameter(description = "Realm ID", required = true)
             @PathVariable UUID realmId,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<ApplicationDTO> applications = applicationService.getApplicationsByRealmId(realmId, page, size);
+        CursorPage<ApplicationDTO> applications = applicationService.getApplicationsByRealmId(realmId, cursor, page, size);
         long total = applicationService.countByRealmId(realmId);
-        return ResponseEntity.ok(new ApplicationListResponse(applications, total, page, size));
+        return ResponseEntity.ok(new ApplicationListResponse(applications.items(), total, page, size, applications.nextCursor()));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update an application")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #id, 'WRITE')")
     public ResponseEntity<ApplicationResponse> updateApplication(
             @Parameter(description = "Application ID", required = true)
             @PathVariable UUID id,
@@ -70,6 +75,7 @@ public class ApplicationController {
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete an application")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #id, 'ADMIN')")
     public ResponseEntity<Void> deleteApplication(
             @Parameter(description = "Application ID", required = true)
             @PathVariable UUID id) {
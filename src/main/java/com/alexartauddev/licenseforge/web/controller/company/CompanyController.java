@@ -1,5 +1,6 @@
 package com.alexartauddev.licenseforge.web.controller.company;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.application.company.service.CompanyService;
 import com.alexartauddev.licenseforge.domain.company.entity.Company;
 import com.alexartauddev.licenseforge.web.dto.company.CompanyDTO;
@@ -17,7 +18,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -50,13 +50,15 @@ public class CompanyController {
     @GetMapping
     @Operation(summary = "Get all companies")
     public ResponseEntity<CompanyListResponse> getAllCompanies(
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<CompanyDTO> companies = companyService.getAllCompanies(page, size);
+        CursorPage<CompanyDTO> companies = companyService.getAllCompanies(cursor, page, size);
         long total = companyService.countCompanies();
-        return ResponseEntity.ok(new CompanyListResponse(companies, total, page, size));
+        return ResponseEntity.ok(new CompanyListResponse(companies.items(), total, page, size, companies.nextCursor()));
     }
 
     @GetMapping("/plan/{planType}")
@@ -64,13 +66,15 @@ public class CompanyController {
     public ResponseEntity<CompanyListResponse> getCompaniesByPlanType(
             @Parameter(description = "Plan type", required = true)
             @PathVariable Company.PlanType planType,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<CompanyDTO> companies = companyService.getCompaniesByPlanType(planType, page, size);
+        CursorPage<CompanyDTO> companies = companyService.getCompaniesByPlanType(planType, cursor, page, size);
         long total = companyService.countByPlanType(planType);
-        return ResponseEntity.ok(new CompanyListResponse(companies, total, page, size));
+        return ResponseEntity.ok(new CompanyListResponse(companies.items(), total, page, size, companies.nextCursor()));
     }
 
     @PutMapping("/{id}")
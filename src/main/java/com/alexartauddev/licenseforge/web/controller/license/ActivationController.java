@@ -1,5 +1,6 @@
 package com.alexartauddev.licenseforge.web.controller.license;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.application.license.service.ActivationService;
 import com.alexartauddev.licenseforge.web.dto.license.ActivationDTO;
 import com.alexartauddev.licenseforge.web.response.license.ActivationResponse;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -23,23 +25,32 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class ActivationController {
 
+    /**
+     * Response header carrying the cursor of the next page of a bare activation list
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ActivationService activationService;
 
     @GetMapping("/license/{licenseId}")
     @Operation(summary = "Get all activations for a license")
+    @PreAuthorize("@appPermissions.hasLicensePermission(authentication, #licenseId, 'READ')")
     public ResponseEntity<List<ActivationDTO>> getActivationsByLicenseId(
             @Parameter(description = "License ID", required = true)
             @PathVariable UUID licenseId,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<ActivationDTO> activations = activationService.getActivationsByLicenseId(licenseId, page, size);
-        return ResponseEntity.ok(activations);
+        CursorPage<ActivationDTO> activations = activationService.getActivationsByLicenseId(licenseId, cursor, page, size);
+        return toResponse(activations);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get activation by ID")
+    @PreAuthorize("@appPermissions.hasActivationPermission(authentication, #id, 'READ')")
     public ResponseEntity<ActivationResponse> getActivationById(
             @Parameter(description = "Activation ID", required = true)
             @PathVariable UUID id) {
@@ -49,6 +60,7 @@ public class ActivationController {
 
     @GetMapping("/license/{licenseId}/hardware/{hardwareId}")
     @Operation(summary = "Get activation by license ID and hardware ID")
+    @PreAuthorize("@appPermissions.hasLicensePermission(authentication, #licenseId, 'READ')")
     public ResponseEntity<ActivationResponse> getActivationByLicenseIdAndHardwareId(
             @Parameter(description = "License ID", required = true)
             @PathVariable UUID licenseId,
@@ -60,6 +72,7 @@ public class ActivationController {
 
     @PutMapping("/{id}/heartbeat")
     @Operation(summary = "Update the last seen timestamp for an activation")
+    @PreAuthorize("@appPermissions.hasActivationPermission(authentication, #id, 'WRITE')")
     public ResponseEntity<ActivationResponse> updateLastSeen(
             @Parameter(description = "Activation ID", required = true)
             @PathVariable UUID id) {
@@ -69,19 +82,23 @@ public class ActivationController {
 
     @GetMapping("/inactive")
     @Operation(summary = "Find inactive activations")
+    @PreAuthorize("@appPermissions.isServiceAccount(authentication)")
     public ResponseEntity<List<ActivationDTO>> findInactiveActivations(
             @Parameter(description = "Threshold date time (ISO format)")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime threshold,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<ActivationDTO> activations = activationService.findInactiveActivations(threshold, page, size);
-        return ResponseEntity.ok(activations);
+        CursorPage<ActivationDTO> activations = activationService.findInactiveActivations(threshold, cursor, page, size);
+        return toResponse(activations);
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete an activation")
+    @PreAuthorize("@appPermissions.hasActivationPermission(authentication, #id, 'WRITE')")
     public ResponseEntity<Void> deleteActivation(
             @Parameter(description = "Activation ID", required = true)
             @PathVariable UUID id) {
@@ -91,10 +108,19 @@ public class ActivationController {
 
     @GetMapping("/license/{licenseId}/count")
     @Operation(summary = "Count activations for a license")
+    @PreAuthorize("@appPermissions.hasLicensePermission(authentication, #licenseId, 'READ')")
     public ResponseEntity<Long> countByLicenseId(
             @Parameter(description = "License ID", required = true)
             @PathVariable UUID licenseId) {
         long count = activationService.countByLicenseId(licenseId);
         return ResponseEntity.ok(count);
     }
+
+    private static ResponseEntity<List<ActivationDTO>> toResponse(CursorPage<ActivationDTO> activations) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (activations.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, activations.nextCursor());
+        }
+        return response.body(activations.items());
+    }
 }
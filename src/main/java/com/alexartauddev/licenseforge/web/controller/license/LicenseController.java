@@ -1,14 +1,28 @@
 package com.alexartauddev.licenseforge.web.controller.license;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.application.license.service.LicenseService;
+import com.alexartauddev.licenseforge.application.license.service.LicenseTokenService;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKey;
 import com.alexartauddev.licenseforge.web.dto.license.ActivationDTO;
 import com.alexartauddev.licenseforge.web.dto.license.LicenseDTO;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseStatsDTO;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseTokenDTO;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseValidationDTO;
+import com.alexartauddev.licenseforge.web.exception.license.LicenseNotFoundException;
+import com.alexartauddev.licenseforge.web.exception.license.LicenseValidationException;
 import com.alexartauddev.licenseforge.web.request.license.ActivateLicenseRequest;
+import com.alexartauddev.licenseforge.web.request.license.BatchValidateLicenseRequest;
+import com.alexartauddev.licenseforge.web.request.license.BulkCreateLicensesRequest;
 import com.alexartauddev.licenseforge.web.request.license.CreateLicenseRequest;
+import com.alexartauddev.licenseforge.web.request.license.IssueLicenseTokenRequest;
 import com.alexartauddev.licenseforge.web.request.license.UpdateLicenseRequest;
 import com.alexartauddev.licenseforge.web.response.license.ActivationResponse;
+import com.alexartauddev.licenseforge.web.response.license.BatchValidationResponse;
 import com.alexartauddev.licenseforge.web.response.license.LicenseListResponse;
 import com.alexartauddev.licenseforge.web.response.license.LicenseResponse;
+import com.alexartauddev.licenseforge.web.response.license.LicenseTokenKeysResponse;
+import com.alexartauddev.licenseforge.web.response.license.LicenseTokenResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -16,9 +30,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -31,16 +51,39 @@ import java.util.UUID;
 public class LicenseController {
 
     private final LicenseService licenseService;
+    private final LicenseTokenService licenseTokenService;
 
     @PostMapping
     @Operation(summary = "Create a new license")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #request.appId, 'WRITE')")
     public ResponseEntity<LicenseResponse> createLicense(@Valid @RequestBody CreateLicenseRequest request) {
         LicenseDTO license = licenseService.createLicense(request);
         return new ResponseEntity<>(new LicenseResponse(license), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Create licenses in bulk",
+            description = "Creates up to 100000 licenses from a template in one transaction and streams the created license keys back, one per line.")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #request.appId, 'WRITE')")
+    public ResponseEntity<StreamingResponseBody> createLicenses(@Valid @RequestBody BulkCreateLicensesRequest request) {
+        List<String> licenseKeys = licenseService.createLicenses(request.getAppId(), request.getCount(), request.getTemplate());
+        StreamingResponseBody body = outputStream -> {
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            for (String licenseKey : licenseKeys) {
+                writer.write(licenseKey);
+                writer.write('\n');
+            }
+            writer.flush();
+        };
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .contentType(MediaType.TEXT_PLAIN)
+                .header("X-Created-Count", String.valueOf(licenseKeys.size()))
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get license by ID")
+    @PreAuthorize("@appPermissions.hasLicensePermission(authentication, #id, 'READ')")
     public ResponseEntity<LicenseResponse> getLicenseById(
             @Parameter(description = "License ID", required = true)
             @PathVariable UUID id) {
@@ -50,6 +93,7 @@ public class LicenseController {
 
     @GetMapping("/key/{licenseKey}")
     @Operation(summary = "Get license by key")
+    @PreAuthorize("@appPermissions.hasLicenseKeyPermission(authentication, #licenseKey, 'READ')")
     public ResponseEntity<LicenseResponse> getLicenseByKey(
             @Parameter(description = "License key", required = true)
             @PathVariable String licenseKey) {
@@ -59,16 +103,19 @@ public class LicenseController {
 
     @GetMapping("/app/{appId}")
     @Operation(summary = "Get licenses by application ID")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #appId, 'READ')")
     public ResponseEntity<LicenseListResponse> getLicensesByAppId(
             @Parameter(description = "Application ID", required = true)
             @PathVariable UUID appId,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<LicenseDTO> licenses = licenseService.getLicensesByAppId(appId, page, size);
-        long total = licenseService.countActiveLicensesByAppId(appId);
-        return ResponseEntity.ok(new LicenseListResponse(licenses, total, page, size));
+        CursorPage<LicenseDTO> licenses = licenseService.getLicensesByAppId(appId, cursor, page, size);
+        long total = licenseService.getLicenseStats(appId).getTotal();
+        return ResponseEntity.ok(new LicenseListResponse(licenses.items(), total, page, size, licenses.nextCursor()));
     }
 
     @GetMapping("/customer/{customerId}")
@@ -76,30 +123,36 @@ public class LicenseController {
     public ResponseEntity<LicenseListResponse> getLicensesByCustomerId(
             @Parameter(description = "Customer ID", required = true)
             @PathVariable String customerId,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<LicenseDTO> licenses = licenseService.getLicensesByCustomerId(customerId, page, size);
-        return ResponseEntity.ok(new LicenseListResponse(licenses, licenses.size(), page, size));
+        CursorPage<LicenseDTO> licenses = licenseService.getLicensesByCustomerId(customerId, cursor, page, size);
+        return ResponseEntity.ok(new LicenseListResponse(licenses.items(), licenses.items().size(), page, size, licenses.nextCursor()));
     }
 
     @GetMapping("/app/{appId}/active")
     @Operation(summary = "Get active licenses by application ID")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #appId, 'READ')")
     public ResponseEntity<LicenseListResponse> getActiveLicensesByAppId(
             @Parameter(description = "Application ID", required = true)
             @PathVariable UUID appId,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<LicenseDTO> licenses = licenseService.getActiveLicensesByAppId(appId, page, size);
+        CursorPage<LicenseDTO> licenses = licenseService.getActiveLicensesByAppId(appId, cursor, page, size);
         long total = licenseService.countActiveLicensesByAppId(appId);
-        return ResponseEntity.ok(new LicenseListResponse(licenses, total, page, size));
+        return ResponseEntity.ok(new LicenseListResponse(licenses.items(), total, page, size, licenses.nextCursor()));
     }
 
     @GetMapping("/app/{appId}/expiring")
     @Operation(summary = "Get expiring licenses by application ID within a date range")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #appId, 'READ')")
     public ResponseEntity<LicenseListResponse> getExpiringLicenses(
             @Parameter(description = "Application ID", required = true)
             @PathVariable UUID appId,
@@ -107,16 +160,19 @@ public class LicenseController {
             @RequestParam LocalDateTime start,
             @Parameter(description = "End date (ISO format)")
             @RequestParam LocalDateTime end,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<LicenseDTO> licenses = licenseService.getExpiringLicenses(appId, start, end, page, size);
-        return ResponseEntity.ok(new LicenseListResponse(licenses, licenses.size(), page, size));
+        CursorPage<LicenseDTO> licenses = licenseService.getExpiringLicenses(appId, start, end, cursor, page, size);
+        return ResponseEntity.ok(new LicenseListResponse(licenses.items(), licenses.items().size(), page, size, licenses.nextCursor()));
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update a license")
+    @PreAuthorize("@appPermissions.hasLicensePermission(authentication, #id, 'WRITE')")
     public ResponseEntity<LicenseResponse> updateLicense(
             @Parameter(description = "License ID", required = true)
             @PathVariable UUID id,
@@ -127,6 +183,7 @@ public class LicenseController {
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a license")
+    @PreAuthorize("@appPermissions.hasLicensePermission(authentication, #id, 'WRITE')")
     public ResponseEntity<Void> deleteLicense(
             @Parameter(description = "License ID", required = true)
             @PathVariable UUID id) {
@@ -136,6 +193,7 @@ public class LicenseController {
 
     @PutMapping("/{id}/revoke")
     @Operation(summary = "Revoke a license")
+    @PreAuthorize("@appPermissions.hasLicensePermission(authentication, #id, 'WRITE')")
     public ResponseEntity<LicenseResponse> revokeLicense(
             @Parameter(description = "License ID", required = true)
             @PathVariable UUID id) {
@@ -149,8 +207,33 @@ public class LicenseController {
             @Parameter(description = "License key", required = true)
             @PathVariable String licenseKey,
             @Valid @RequestBody ActivateLicenseRequest request) {
+        // Malformed keys cannot belong to any license, so they are turned down without a lookup
+        if (!LicenseKey.isWellFormed(licenseKey)) {
+            throw LicenseNotFoundException.withKey(licenseKey);
+        }
         ActivationDTO activation = licenseService.activateLicense(licenseKey, request.getHardwareId());
-        return new ResponseEntity<>(new ActivationResponse(activation), HttpStatus.CREATED);
+        LicenseTokenDTO token = licenseTokenService.issueToken(licenseKey, request.getHardwareId());
+        return new ResponseEntity<>(new ActivationResponse(activation, token), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/{licenseKey}/token")
+    @Operation(summary = "Issue a signed offline token for an activated license and hardware ID")
+    public ResponseEntity<LicenseTokenResponse> issueLicenseToken(
+            @Parameter(description = "License key", required = true)
+            @PathVariable String licenseKey,
+            @Valid @RequestBody IssueLicenseTokenRequest request) {
+        if (!LicenseKey.isWellFormed(licenseKey)) {
+            throw new LicenseValidationException("Invalid license key");
+        }
+        LicenseTokenDTO token = licenseTokenService.issueToken(licenseKey, request.getHardwareId());
+        return ResponseEntity.ok(new LicenseTokenResponse(token));
+    }
+
+    @GetMapping("/token-keys")
+    @Operation(summary = "Get the public keys that verify offline license tokens")
+    public ResponseEntity<LicenseTokenKeysResponse> getLicenseTokenKeys() {
+        return ResponseEntity.ok(new LicenseTokenKeysResponse(
+                licenseTokenService.getActiveKeyId(), licenseTokenService.getPublicKeys()));
     }
 
     @DeleteMapping("/{licenseKey}/deactivate")
@@ -171,16 +254,34 @@ public class LicenseController {
             @PathVariable String licenseKey,
             @Parameter(description = "Hardware ID", required = true)
             @RequestParam String hardwareId) {
-        boolean valid = licenseService.validateLicense(licenseKey, hardwareId);
+        boolean valid = LicenseKey.isWellFormed(licenseKey) && licenseService.validateLicense(licenseKey, hardwareId);
         return valid ? ResponseEntity.ok().build() : ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
 
+    @PostMapping("/validate/batch")
+    @Operation(summary = "Validate many license key and hardware ID pairs at once")
+    public ResponseEntity<BatchValidationResponse> validateLicenses(
+            @Valid @RequestBody BatchValidateLicenseRequest request) {
+        List<LicenseValidationDTO> results = licenseService.validateLicenses(request.getLicenses());
+        return ResponseEntity.ok(new BatchValidationResponse(results));
+    }
+
     @GetMapping("/app/{appId}/count")
     @Operation(summary = "Count active licenses by application ID")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #appId, 'READ')")
     public ResponseEntity<Long> countActiveLicensesByAppId(
             @Parameter(description = "Application ID", required = true)
             @PathVariable UUID appId) {
         long count = licenseService.countActiveLicensesByAppId(appId);
         return ResponseEntity.ok(count);
     }
+
+    @GetMapping("/app/{appId}/stats")
+    @Operation(summary = "Count licenses by status for an application ID")
+    @PreAuthorize("@appPermissions.hasPermission(authentication, #appId, 'READ')")
+    public ResponseEntity<LicenseStatsDTO> getLicenseStats(
+            @Parameter(description = "Application ID", required = true)
+            @PathVariable UUID appId) {
+        return ResponseEntity.ok(licenseService.getLicenseStats(appId));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.alexartauddev.licenseforge.web.controller.license;
+
+import com.alexartauddev.licenseforge.application.license.service.LicenseService;
+import com.alexartauddev.licenseforge.application.license.validation.ValidationResult;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKey;
+import com.alexartauddev.licenseforge.web.response.license.ValidationResultResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v2/licenses")
+@RequiredArgsConstructor
+@Tag(name = "License Validation v2", description = "License validation API with reason-coded results")
+public class LicenseValidationV2Controller {
+
+    private final LicenseService licenseService;
+
+    @GetMapping("/{licenseKey}/validate")
+    @Operation(summary = "Validate a license for a hardware ID, telling why it is rejected if it is")
+    public ResponseEntity<ValidationResultResponse> validateLicense(
+            @Parameter(description = "License key", required = true)
+            @PathVariable String licenseKey,
+            @Parameter(description = "Hardware ID", required = true)
+            @RequestParam String hardwareId) {
+        // Malformed keys cannot belong to any license, so they are turned down without a lookup
+        ValidationResult result = LicenseKey.isWellFormed(licenseKey)
+                ? licenseService.getValidationResult(licenseKey, hardwareId)
+                : ValidationResult.UNKNOWN_KEY;
+        return ResponseEntity.ok(new ValidationResultResponse(result.status(), result.expiresAt()));
+    }
+}
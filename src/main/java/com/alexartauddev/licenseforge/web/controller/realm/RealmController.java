@@ -1,5 +1,6 @@
 package com.alexartauddev.licenseforge.web.controller.realm;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.application.realm.service.RealmService;
 import com.alexartauddev.licenseforge.web.dto.realm.RealmDTO;
 import com.alexartauddev.licenseforge.web.request.realm.CreateRealmRequest;
@@ -16,7 +17,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -49,13 +49,15 @@ public class RealmController {
     public ResponseEntity<RealmListResponse> getRealmsByCompanyId(
             @Parameter(description = "Company ID", required = true)
             @PathVariable UUID companyId,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<RealmDTO> realms = realmService.getRealmsByCompanyId(companyId, page, size);
+        CursorPage<RealmDTO> realms = realmService.getRealmsByCompanyId(companyId, cursor, page, size);
         long total = realmService.countByCompanyId(companyId);
-        return ResponseEntity.ok(new RealmListResponse(realms, total, page, size));
+        return ResponseEntity.ok(new RealmListResponse(realms.items(), total, page, size, realms.nextCursor()));
     }
 
     @PutMapping("/{id}")
@@ -1,5 +1,6 @@
 package com.alexartauddev.licenseforge.web.controller.team;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.application.team.service.TeamService;
 import com.alexartauddev.licenseforge.web.dto.team.TeamDTO;
 import com.alexartauddev.licenseforge.web.request.team.CreateTeamRequest;
@@ -16,7 +17,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -49,13 +49,15 @@ public class TeamController {
     public ResponseEntity<TeamListResponse> getTeamsByCompanyId(
             @Parameter(description = "Company ID", required = true)
             @PathVariable UUID companyId,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<TeamDTO> teams = teamService.getTeamsByCompanyId(companyId, page, size);
+        CursorPage<TeamDTO> teams = teamService.getTeamsByCompanyId(companyId, cursor, page, size);
         long total = teamService.countByCompanyId(companyId);
-        return ResponseEntity.ok(new TeamListResponse(teams, total, page, size));
+        return ResponseEntity.ok(new TeamListResponse(teams.items(), total, page, size, teams.nextCursor()));
     }
 
     @PutMapping("/{id}")
@@ -1,5 +1,6 @@
 package com.alexartauddev.licenseforge.web.controller.user;
 
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
 import com.alexartauddev.licenseforge.application.user.service.UserService;
 import com.alexartauddev.licenseforge.domain.user.entity.User;
 import com.alexartauddev.licenseforge.web.dto.user.UserDTO;
@@ -18,7 +19,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -58,13 +58,15 @@ public class UserController {
     @GetMapping
     @Operation(summary = "Get all users")
     public ResponseEntity<UserListResponse> getAllUsers(
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<UserDTO> users = userService.getAllUsers(page, size);
+        CursorPage<UserDTO> users = userService.getAllUsers(cursor, page, size);
         long total = userService.countByCompanyId(null); // Count all users
-        return ResponseEntity.ok(new UserListResponse(users, total, page, size));
+        return ResponseEntity.ok(new UserListResponse(users.items(), total, page, size, users.nextCursor()));
     }
 
     @GetMapping("/company/{companyId}")
@@ -72,13 +74,15 @@ public class UserController {
     public ResponseEntity<UserListResponse> getUsersByCompanyId(
             @Parameter(description = "Company ID", required = true)
             @PathVariable UUID companyId,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<UserDTO> users = userService.getUsersByCompanyId(companyId, page, size);
+        CursorPage<UserDTO> users = userService.getUsersByCompanyId(companyId, cursor, page, size);
         long total = userService.countByCompanyId(companyId);
-        return ResponseEntity.ok(new UserListResponse(users, total, page, size));
+        return ResponseEntity.ok(new UserListResponse(users.items(), total, page, size, users.nextCursor()));
     }
 
     @GetMapping("/team/{teamId}")
@@ -86,13 +90,15 @@ public class UserController {
     public ResponseEntity<UserListResponse> getUsersByTeamId(
             @Parameter(description = "Team ID", required = true)
             @PathVariable UUID teamId,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<UserDTO> users = userService.getUsersByTeamId(teamId, page, size);
+        CursorPage<UserDTO> users = userService.getUsersByTeamId(teamId, cursor, page, size);
         long total = userService.countByTeamId(teamId);
-        return ResponseEntity.ok(new UserListResponse(users, total, page, size));
+        return ResponseEntity.ok(new UserListResponse(users.items(), total, page, size, users.nextCursor()));
     }
 
     @GetMapping("/company/{companyId}/role/{role}")
@@ -102,12 +108,14 @@ public class UserController {
             @PathVariable UUID companyId,
             @Parameter(description = "User role", required = true)
             @PathVariable User.Role role,
+            @Parameter(description = "Cursor of the next page, returned by the previous page; takes precedence over page")
+            @RequestParam(required = false) String cursor,
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "20") int size) {
-        List<UserDTO> users = userService.getUsersByRoleAndCompanyId(role, companyId, page, size);
-        return ResponseEntity.ok(new UserListResponse(users, users.size(), page, size));
+        CursorPage<UserDTO> users = userService.getUsersByRoleAndCompanyId(role, companyId, cursor, page, size);
+        return ResponseEntity.ok(new UserListResponse(users.items(), users.items().size(), page, size, users.nextCursor()));
     }
 
     @PutMapping("/{id}")
@@ -17,6 +17,10 @@ public class ApplicationDTO {
     private String name;
     private String description;
     private UUID realmId;
+    private String licenseKeyPrefix;
+    private Integer licenseKeyGroupCount;
+    private Integer licenseKeyGroupLength;
+    private String licenseKeyAlphabet;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private long activeLicensesCount;
@@ -5,7 +5,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.Set;
 import java.util.UUID;
 
 @Data
@@ -22,7 +21,6 @@ public class LicenseDTO {
     private boolean revoked;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-    private Set<String> hardwareIds;
     private boolean expired;
     private long activationsCount; // Changed from int to long
 }
\ No newline at end of file
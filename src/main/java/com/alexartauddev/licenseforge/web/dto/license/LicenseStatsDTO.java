@@ -0,0 +1,20 @@
+package com.alexartauddev.licenseforge.web.dto.license;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LicenseStatsDTO {
+    private UUID appId;
+    private long total;
+    private long active;
+    private long revoked;
+    private long expired;
+}
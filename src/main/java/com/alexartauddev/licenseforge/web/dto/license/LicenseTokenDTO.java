@@ -0,0 +1,20 @@
+package com.alexartauddev.licenseforge.web.dto.license;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LicenseTokenDTO {
+    private String token;
+    private String keyId;
+    private LocalDateTime issuedAt;
+    private LocalDateTime refreshBy;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,16 @@
+package com.alexartauddev.licenseforge.web.dto.license;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LicenseValidationDTO {
+    private String licenseKey;
+    private String hardwareId;
+    private boolean valid;
+}
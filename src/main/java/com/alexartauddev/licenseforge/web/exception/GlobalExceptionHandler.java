@@ -1,8 +1,11 @@
 package com.alexartauddev.licenseforge.web.exception;
 
 import com.alexartauddev.licenseforge.web.exception.application.ApplicationNotFoundException;
+import com.alexartauddev.licenseforge.web.exception.application.InvalidLicenseKeyFormatException;
 import com.alexartauddev.licenseforge.web.exception.company.CompanyNotFoundException;
 import com.alexartauddev.licenseforge.web.exception.company.DuplicateRealmIdException;
+import com.alexartauddev.licenseforge.web.exception.company.QuotaExceededException;
+import com.alexartauddev.licenseforge.web.exception.common.InvalidPageRequestException;
 import com.alexartauddev.licenseforge.web.exception.license.ActivationNotFoundException;
 import com.alexartauddev.licenseforge.web.exception.license.LicenseActivationException;
 import com.alexartauddev.licenseforge.web.exception.license.LicenseNotFoundException;
@@ -15,6 +18,7 @@ import com.alexartauddev.licenseforge.web.exception.user.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -46,6 +50,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex, HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageRequestException(InvalidPageRequestException ex) {
+        log.error("Invalid page request: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -115,12 +125,24 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<ErrorResponse> handleQuotaExceededException(QuotaExceededException ex) {
+        log.warn("Quota exceeded: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.FORBIDDEN);
+    }
+
     @ExceptionHandler(ApplicationNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleApplicationNotFoundException(ApplicationNotFoundException ex) {
         log.error("Application not found: {}", ex.getMessage());
         return buildErrorResponse(ex, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidLicenseKeyFormatException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidLicenseKeyFormatException(InvalidLicenseKeyFormatException ex) {
+        log.error("Invalid license key format: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(RealmNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleRealmNotFoundException(RealmNotFoundException ex) {
         log.error("Realm not found: {}", ex.getMessage());
@@ -151,6 +173,13 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex, HttpStatus.BAD_REQUEST);
     }
 
+    // Raised by @PreAuthorize checks, which would otherwise end up as internal errors
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
+        log.warn("Access denied: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.FORBIDDEN);
+    }
+
     private ResponseEntity<ErrorResponse> buildErrorResponse(Exception ex, HttpStatus status) {
         ErrorResponse response = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
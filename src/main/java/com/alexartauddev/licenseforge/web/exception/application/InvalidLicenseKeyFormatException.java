@@ -0,0 +1,7 @@
+package com.alexartauddev.licenseforge.web.exception.application;
+
+public class InvalidLicenseKeyFormatException extends RuntimeException {
+    public InvalidLicenseKeyFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.alexartauddev.licenseforge.web.exception.common;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.alexartauddev.licenseforge.web.exception.company;
+
+import java.util.UUID;
+
+public class QuotaExceededException extends RuntimeException {
+    public QuotaExceededException(String message) {
+        super(message);
+    }
+
+    public static QuotaExceededException applications(UUID companyId, int quota) {
+        return new QuotaExceededException("Company " + companyId + " has reached its quota of " + quota + " applications");
+    }
+
+    public static QuotaExceededException licenseKeys(UUID appId, int quota) {
+        return new QuotaExceededException("Application " + appId + " has reached its quota of " + quota + " license keys");
+    }
+}
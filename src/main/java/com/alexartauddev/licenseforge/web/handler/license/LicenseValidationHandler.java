@@ -0,0 +1,52 @@
+package com.alexartauddev.licenseforge.web.handler.license;
+
+import com.alexartauddev.licenseforge.application.license.service.ReactiveLicenseValidationService;
+import com.alexartauddev.licenseforge.web.response.license.ValidationResultResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Functional handlers of the reactive validation server, answering exactly as the validate
+ * endpoints of {@code LicenseController} and {@code LicenseValidationV2Controller} do
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "licenseforge.reactive.enabled", havingValue = "true")
+public class LicenseValidationHandler {
+
+    private final ReactiveLicenseValidationService validationService;
+
+    /**
+     * 200 when the license is valid for the hardware ID, 401 otherwise
+     */
+    public Mono<ServerResponse> validateLicense(ServerRequest request) {
+        Optional<String> hardwareId = request.queryParam("hardwareId");
+        if (hardwareId.isEmpty()) {
+            return ServerResponse.badRequest().build();
+        }
+        return validationService.getValidationResult(request.pathVariable("licenseKey"), hardwareId.get())
+                .flatMap(result -> result.isValid()
+                        ? ServerResponse.ok().build()
+                        : ServerResponse.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
+    /**
+     * 200 with the validation status and the expiry of the license, whatever the outcome
+     */
+    public Mono<ServerResponse> getValidationResult(ServerRequest request) {
+        Optional<String> hardwareId = request.queryParam("hardwareId");
+        if (hardwareId.isEmpty()) {
+            return ServerResponse.badRequest().build();
+        }
+        return validationService.getValidationResult(request.pathVariable("licenseKey"), hardwareId.get())
+                .flatMap(result -> ServerResponse.ok()
+                        .bodyValue(new ValidationResultResponse(result.status(), result.expiresAt())));
+    }
+}
@@ -1,7 +1,10 @@
 package com.alexartauddev.licenseforge.web.request.application;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,4 +26,20 @@ public class CreateApplicationRequest {
 
     @NotNull(message = "Realm ID is required")
     private UUID realmId;
+
+    @Size(min = 1, max = 16, message = "License key prefix must be between 1 and 16 characters")
+    @Pattern(regexp = "[A-Za-z0-9]*", message = "License key prefix must only contain letters and digits")
+    private String licenseKeyPrefix;
+
+    @Min(value = 1, message = "License key group count must be at least 1")
+    @Max(value = 16, message = "License key group count must be at most 16")
+    private Integer licenseKeyGroupCount;
+
+    @Min(value = 1, message = "License key group length must be at least 1")
+    @Max(value = 32, message = "License key group length must be at most 32")
+    private Integer licenseKeyGroupLength;
+
+    @Size(min = 2, max = 64, message = "License key alphabet must be between 2 and 64 characters")
+    @Pattern(regexp = "[A-Za-z0-9]*", message = "License key alphabet must only contain letters and digits")
+    private String licenseKeyAlphabet;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.alexartauddev.licenseforge.web.request.license;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchValidateLicenseRequest {
+    @NotEmpty(message = "At least one license is required")
+    @Size(max = 1000, message = "At most 1000 licenses can be validated per batch")
+    private List<@Valid ValidateLicenseRequest> licenses;
+}
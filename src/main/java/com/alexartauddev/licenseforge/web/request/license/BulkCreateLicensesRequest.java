@@ -0,0 +1,29 @@
+package com.alexartauddev.licenseforge.web.request.license;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateLicensesRequest {
+    @NotNull(message = "Application ID is required")
+    private UUID appId;
+
+    @Min(value = 1, message = "At least one license is required")
+    @Max(value = 100000, message = "At most 100000 licenses can be created per request")
+    private int count;
+
+    @NotNull(message = "License template is required")
+    @Valid
+    private LicenseTemplateRequest template;
+}
@@ -0,0 +1,24 @@
+package com.alexartauddev.licenseforge.web.request.license;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LicenseTemplateRequest {
+    @NotBlank(message = "Customer ID is required")
+    private String customerId;
+
+    private LocalDateTime expiresAt;
+
+    @Min(value = 1, message = "Maximum activations must be at least 1")
+    private int maxActivations;
+}
@@ -17,4 +17,5 @@ public class ApplicationListResponse {
     private long total;
     private int page;
     private int size;
+    private String nextCursor;
 }
\ No newline at end of file
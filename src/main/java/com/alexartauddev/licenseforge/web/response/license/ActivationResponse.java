@@ -1,6 +1,7 @@
 package com.alexartauddev.licenseforge.web.response.license;
 
 import com.alexartauddev.licenseforge.web.dto.license.ActivationDTO;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseTokenDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,4 +13,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ActivationResponse {
     private ActivationDTO activation;
+    private LicenseTokenDTO licenseToken; // Only set when the activation was made through the license endpoint
+
+    public ActivationResponse(ActivationDTO activation) {
+        this.activation = activation;
+    }
 }
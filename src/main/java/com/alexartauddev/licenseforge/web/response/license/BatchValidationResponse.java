@@ -0,0 +1,17 @@
+package com.alexartauddev.licenseforge.web.response.license;
+
+import com.alexartauddev.licenseforge.web.dto.license.LicenseValidationDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchValidationResponse {
+    private List<LicenseValidationDTO> results; // In request order
+}
@@ -0,0 +1,17 @@
+package com.alexartauddev.licenseforge.web.response.license;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LicenseTokenKeysResponse {
+    private String activeKeyId;
+    private Map<String, String> keys; // Base64 encoded X.509 Ed25519 public keys by key ID
+}
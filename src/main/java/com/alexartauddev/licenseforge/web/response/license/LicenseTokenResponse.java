@@ -0,0 +1,15 @@
+package com.alexartauddev.licenseforge.web.response.license;
+
+import com.alexartauddev.licenseforge.web.dto.license.LicenseTokenDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LicenseTokenResponse {
+    private LicenseTokenDTO licenseToken;
+}
@@ -0,0 +1,20 @@
+package com.alexartauddev.licenseforge.web.response.license;
+
+import com.alexartauddev.licenseforge.application.license.validation.ValidationStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ValidationResultResponse {
+    private ValidationStatus status;
+    private LocalDateTime expiresAt;
+}
@@ -17,4 +17,5 @@ public class TeamListResponse {
     private long total;
     private int page;
     private int size;
+    private String nextCursor;
 }
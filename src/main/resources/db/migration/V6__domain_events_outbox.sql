@@ -0,0 +1,15 @@
+-- Transactional outbox of domain events, written in the transaction of the change they describe
+-- and published to the message broker by a relay, which sets sent_at once the broker confirmed them
+CREATE TABLE domain_events (
+    id UUID PRIMARY KEY,
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(128) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP
+);
+
+-- The relay only ever reads unsent events in creation order
+CREATE INDEX idx_domain_events_unsent ON domain_events(created_at, id) WHERE sent_at IS NULL;
+CREATE INDEX idx_domain_events_sent_at ON domain_events(sent_at) WHERE sent_at IS NOT NULL;
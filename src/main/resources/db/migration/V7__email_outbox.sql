@@ -0,0 +1,17 @@
+-- Durable queue of outgoing emails, written in the business transaction and delivered after commit.
+-- Claiming a message pushes next_attempt_at forward by a lease, so a message whose worker died is retried.
+CREATE TABLE email_outbox (
+    id UUID PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(998) NOT NULL,
+    body TEXT,
+    html BOOLEAN NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP
+);
+
+CREATE INDEX idx_email_outbox_due ON email_outbox(next_attempt_at) WHERE status = 'PENDING';
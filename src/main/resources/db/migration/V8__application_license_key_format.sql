@@ -0,0 +1,5 @@
+-- Per-application license key format; NULL settings fall back to the default format
+ALTER TABLE applications ADD COLUMN license_key_prefix VARCHAR(16);
+ALTER TABLE applications ADD COLUMN license_key_group_count INTEGER;
+ALTER TABLE applications ADD COLUMN license_key_group_length INTEGER;
+ALTER TABLE applications ADD COLUMN license_key_alphabet VARCHAR(64);
@@ -0,0 +1,20 @@
+-- Quota usage per company (applications) and per application (license keys). Creates reserve their
+-- share with a conditional update, so quotas hold across instances without counting rows.
+CREATE TABLE tenant_usage (
+    scope VARCHAR(16) NOT NULL,
+    scope_id UUID NOT NULL,
+    used BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (scope, scope_id),
+    CONSTRAINT ck_tenant_usage_used CHECK (used >= 0)
+);
+
+INSERT INTO tenant_usage (scope, scope_id, used)
+SELECT 'COMPANY_APPS', r.company_id, COUNT(*)
+FROM applications a
+JOIN realms r ON r.id = a.realm_id
+GROUP BY r.company_id;
+
+INSERT INTO tenant_usage (scope, scope_id, used)
+SELECT 'APP_LICENSES', app_id, COUNT(*)
+FROM licenses
+GROUP BY app_id;
@@ -0,0 +1,112 @@
+package com.alexartauddev.licenseforge;
+
+import com.alexartauddev.licenseforge.application.license.service.LicenseService;
+import com.alexartauddev.licenseforge.domain.application.entity.Application;
+import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
+import com.alexartauddev.licenseforge.domain.company.entity.Company;
+import com.alexartauddev.licenseforge.domain.company.repository.CompanyRepository;
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
+import com.alexartauddev.licenseforge.domain.realm.repository.RealmRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the native statements of the license write paths leave the second-level cache alone
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class SecondLevelCacheTests {
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private RealmRepository realmRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private LicenseRepository licenseRepository;
+
+    @Autowired
+    private LicenseService licenseService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Company company;
+    private Realm realm;
+    private Application application;
+    private License license;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        company = transaction.execute(status -> companyRepository.save(Company.builder()
+                .name("Cache Company")
+                .realmId(UUID.randomUUID().toString())
+                .quotaApps(10)
+                .quotaKeysPerApp(100)
+                .planType(Company.PlanType.BUSINESS)
+                .build()));
+        realm = transaction.execute(status -> realmRepository.save(Realm.builder()
+                .name("Cache Realm")
+                .companyId(company.getId())
+                .build()));
+        application = transaction.execute(status -> applicationRepository.save(Application.builder()
+                .name("Cache Application")
+                .realmId(realm.getId())
+                .build()));
+        LocalDateTime now = LocalDateTime.now();
+        license = transaction.execute(status -> licenseRepository.save(License.builder()
+                .licenseKey(UUID.randomUUID().toString())
+                .appId(application.getId())
+                .customerId("customer123")
+                .expiresAt(now.plusMonths(12))
+                .maxActivations(3)
+                .createdAt(now)
+                .updatedAt(now)
+                .build()));
+    }
+
+    @Test
+    void activateLicense_ShouldKeepCachedTenantEntities() {
+        // Arrange
+        Cache cache = entityManagerFactory.getCache();
+        cache.evictAll();
+        transaction.executeWithoutResult(status -> {
+            companyRepository.findById(company.getId());
+            realmRepository.findById(realm.getId());
+            applicationRepository.findById(application.getId());
+        });
+        assertTrue(cache.contains(Application.class, application.getId()));
+
+        // Act
+        licenseService.activateLicense(license.getLicenseKey(), "HARDWARE-ABC-123");
+        licenseService.deactivateLicense(license.getLicenseKey(), "HARDWARE-ABC-123");
+
+        // Assert
+        assertTrue(cache.contains(Company.class, company.getId()));
+        assertTrue(cache.contains(Realm.class, realm.getId()));
+        assertTrue(cache.contains(Application.class, application.getId()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.alexartauddev.licenseforge.benchmark;
+
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyGenerator;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKeyFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keys generated per second by the license key generator, compared with drawing every character
+ * from a single shared SecureRandom.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.alexartauddev.licenseforge.benchmark.LicenseKeyGeneratorBenchmark}; the
+ * number of threads defaults to the number of processors and can be passed as first argument.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LicenseKeyGeneratorBenchmark {
+
+    private static final String PREFIX = "3f2a";
+    private static final String ALPHABET = LicenseKeyFormat.DEFAULT_ALPHABET;
+
+    private final LicenseKeyGenerator generator = new LicenseKeyGenerator();
+    private final LicenseKeyFormat format = LicenseKeyFormat.DEFAULT;
+    private final SecureRandom sharedRandom = new SecureRandom();
+
+    @Benchmark
+    public String generator() {
+        return generator.generate(format, PREFIX);
+    }
+
+    @Benchmark
+    public String sharedSecureRandomPerCharacter() {
+        StringBuilder key = new StringBuilder(PREFIX);
+        for (int i = 0; i < 4; i++) {
+            key.append('-');
+            for (int j = 0; j < 4; j++) {
+                key.append(ALPHABET.charAt(sharedRandom.nextInt(ALPHABET.length())));
+            }
+        }
+        return key.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        Options options = new OptionsBuilder()
+                .include(LicenseKeyGeneratorBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.alexartauddev.licenseforge.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load test of the validate endpoint of a running instance: a fixed number of clients
+ * each send one request after another for a given duration, then throughput and latency
+ * percentiles are printed.
+ * To compare the thread modes, run it against the same instance and data started once with
+ * {@code spring.threads.virtual.enabled=false} and once with {@code true}, with a concurrency
+ * well above {@code server.tomcat.threads.max} (200 by default):
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.alexartauddev.licenseforge.benchmark.ValidateEndpointLoadRunner
+ *     -Dexec.args="http://localhost:8080 &lt;license key&gt; &lt;hardware ID&gt; 1000 30"
+ * </pre>
+ * The reactive validation server serves the same path, so running it once more against
+ * {@code http://localhost:8081} with {@code licenseforge.reactive.enabled=true} compares it with
+ * {@code LicenseController.validateLicense} under the same concurrency.
+ */
+public class ValidateEndpointLoadRunner {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: ValidateEndpointLoadRunner <base URL> <license key> <hardware ID> [concurrency] [seconds]");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0] + "/api/v1/licenses/" + args[1] + "/validate?hardwareId=" + args[2]);
+        int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 4 ? Long.parseLong(args[4]) : 30);
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        // Warm up the server before measuring
+        run(client, request, concurrency, Duration.ofSeconds(5));
+        Result result = run(client, request, concurrency, duration);
+
+        System.out.printf("%d clients for %ds: %d requests, %.0f req/s, %d errors%n",
+                concurrency, duration.toSeconds(), result.latenciesMicros.length,
+                result.latenciesMicros.length / (double) duration.toSeconds(), result.errors);
+        System.out.printf("latency p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms%n",
+                result.percentile(0.50), result.percentile(0.90), result.percentile(0.99), result.percentile(1.0));
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        LongAdder errors = new LongAdder();
+        List<Future<long[]>> clients = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            // 401 is the expected answer for an invalid license, not a failure
+                            if (response.statusCode() != 200 && response.statusCode() != 401) {
+                                errors.increment();
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = (System.nanoTime() - start) / 1_000;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            long[] all = new long[0];
+            for (Future<long[]> future : clients) {
+                long[] latencies = future.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + latencies.length);
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+            }
+            Arrays.sort(all);
+            return new Result(all, errors.sum());
+        }
+    }
+
+    private record Result(long[] latenciesMicros, long errors) {
+
+        double percentile(double percentile) {
+            if (latenciesMicros.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(latenciesMicros.length - 1, Math.ceil(percentile * latenciesMicros.length) - 1);
+            return latenciesMicros[Math.max(0, index)] / 1_000.0;
+        }
+    }
+}
@@ -2,9 +2,13 @@ package com.alexartauddev.licenseforge.unit.activation.service;
 
 import com.alexartauddev.licenseforge.application.application.mapper.ApplicationMapper;
 import com.alexartauddev.licenseforge.application.application.service.impl.ApplicationServiceImpl;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
+import com.alexartauddev.licenseforge.application.company.quota.QuotaService;
 import com.alexartauddev.licenseforge.application.license.service.LicenseService;
 import com.alexartauddev.licenseforge.domain.application.entity.Application;
 import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.web.dto.application.ApplicationDTO;
 import com.alexartauddev.licenseforge.web.exception.application.ApplicationNotFoundException;
 import com.alexartauddev.licenseforge.web.request.application.CreateApplicationRequest;
@@ -19,7 +23,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +44,15 @@ class ActivationServiceImplTest {
     @Mock
     private LicenseService licenseService;
 
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private TenantHierarchy tenantHierarchy;
+
+    @Mock
+    private QuotaService quotaService;
+
     @InjectMocks
     private ApplicationServiceImpl applicationService;
 
@@ -127,20 +142,21 @@ class ActivationServiceImplTest {
     void getApplicationsByRealmId_ShouldReturnApplications() {
         // Arrange
         List<Application> applications = Arrays.asList(application, application);
-        when(applicationRepository.findByRealmId(realmId)).thenReturn(applications);
+        when(applicationRepository.findByRealmId(realmId, PageQuery.offset(0, 10))).thenReturn(applications);
         when(applicationMapper.toDTO(any(Application.class))).thenReturn(applicationDTO);
-        when(licenseService.countActiveLicensesByAppId(any(UUID.class))).thenReturn(5L);
+        when(licenseService.countActiveLicensesByAppIds(Set.of(application.getId()))).thenReturn(Map.of(application.getId(), 5L));
 
         // Act
-        List<ApplicationDTO> result = applicationService.getApplicationsByRealmId(realmId, 0, 10);
+        List<ApplicationDTO> result = applicationService.getApplicationsByRealmId(realmId, null, 0, 10).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(applicationDTO, result.get(0));
-        verify(applicationRepository).findByRealmId(realmId);
+        verify(applicationRepository).findByRealmId(realmId, PageQuery.offset(0, 10));
         verify(applicationMapper, times(2)).toDTO(any(Application.class));
-        verify(licenseService, times(2)).countActiveLicensesByAppId(any(UUID.class));
+        verify(licenseService).countActiveLicensesByAppIds(Set.of(application.getId()));
+        verify(licenseService, never()).countActiveLicensesByAppId(any(UUID.class));
     }
 
     @Test
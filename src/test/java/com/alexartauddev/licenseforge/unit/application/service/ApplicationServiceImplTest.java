@@ -1,9 +1,16 @@
 package com.alexartauddev.licenseforge.unit.application.service;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+import com.alexartauddev.licenseforge.application.license.lastseen.ActivationLastSeenBuffer;
 import com.alexartauddev.licenseforge.application.license.mapper.LicenseMapper;
 import com.alexartauddev.licenseforge.application.license.service.impl.ActivationServiceImpl;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import com.alexartauddev.licenseforge.domain.license.entity.License;
 import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
+import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
 import com.alexartauddev.licenseforge.web.dto.license.ActivationDTO;
 import com.alexartauddev.licenseforge.web.exception.license.ActivationNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,9 +36,21 @@ class ActivationServiceImplTest {
     @Mock
     private ActivationRepository activationRepository;
 
+    @Mock
+    private LicenseRepository licenseRepository;
+
     @Mock
     private LicenseMapper licenseMapper;
 
+    @Mock
+    private LicenseValidationCache validationCache;
+
+    @Mock
+    private ActivationLastSeenBuffer lastSeenBuffer;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
     @InjectMocks
     private ActivationServiceImpl activationService;
 
@@ -70,17 +89,17 @@ class ActivationServiceImplTest {
     void getActivationsByLicenseId_ShouldReturnActivations() {
         // Arrange
         List<Activation> activations = Arrays.asList(activation, activation);
-        when(activationRepository.findByLicenseId(licenseId)).thenReturn(activations);
+        when(activationRepository.findByLicenseId(licenseId, PageQuery.offset(0, 10))).thenReturn(activations);
         when(licenseMapper.toDTO(any(Activation.class))).thenReturn(activationDTO);
 
         // Act
-        List<ActivationDTO> result = activationService.getActivationsByLicenseId(licenseId, 0, 10);
+        List<ActivationDTO> result = activationService.getActivationsByLicenseId(licenseId, null, 0, 10).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(activationDTO, result.get(0));
-        verify(activationRepository).findByLicenseId(licenseId);
+        verify(activationRepository).findByLicenseId(licenseId, PageQuery.offset(0, 10));
         verify(licenseMapper, times(2)).toDTO(any(Activation.class));
     }
 
@@ -145,8 +164,8 @@ class ActivationServiceImplTest {
     void updateLastSeen_ExistingActivation_ShouldUpdateLastSeen() {
         // Arrange
         when(activationRepository.findById(activationId)).thenReturn(Optional.of(activation));
-        when(activationRepository.save(any(Activation.class))).thenReturn(activation);
         when(licenseMapper.toDTO(activation)).thenReturn(activationDTO);
+        when(lastSeenBuffer.record(activationId)).thenReturn(now);
 
         // Act
         ActivationDTO result = activationService.updateLastSeen(activationId);
@@ -155,11 +174,12 @@ class ActivationServiceImplTest {
         assertNotNull(result);
         assertEquals(activationDTO, result);
         verify(activationRepository).findById(activationId);
-        verify(activationRepository).save(activation);
+        verify(lastSeenBuffer).record(activationId);
+        verify(activationRepository, never()).save(any(Activation.class)); // Written behind by the buffer
         verify(licenseMapper).toDTO(activation);
 
         // Verify that lastSeenAt was updated
-        assertTrue(activation.getLastSeenAt().isAfter(now.minusDays(2)));
+        assertEquals(now, result.getLastSeenAt());
     }
 
     @Test
@@ -170,7 +190,7 @@ class ActivationServiceImplTest {
         // Act & Assert
         assertThrows(ActivationNotFoundException.class, () -> activationService.updateLastSeen(activationId));
         verify(activationRepository).findById(activationId);
-        verify(activationRepository, never()).save(any(Activation.class));
+        verify(lastSeenBuffer, never()).record(any(UUID.class));
     }
 
     @Test
@@ -179,24 +199,26 @@ class ActivationServiceImplTest {
         LocalDateTime threshold = LocalDateTime.now().minusDays(7);
         List<Activation> inactiveActivations = Arrays.asList(activation);
 
-        when(activationRepository.findInactiveActivations(threshold)).thenReturn(inactiveActivations);
+        when(activationRepository.findInactiveActivations(threshold, PageQuery.offset(0, 10))).thenReturn(inactiveActivations);
         when(licenseMapper.toDTO(any(Activation.class))).thenReturn(activationDTO);
 
         // Act
-        List<ActivationDTO> result = activationService.findInactiveActivations(threshold, 0, 10);
+        List<ActivationDTO> result = activationService.findInactiveActivations(threshold, null, 0, 10).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(activationDTO, result.get(0));
-        verify(activationRepository).findInactiveActivations(threshold);
+        verify(activationRepository).findInactiveActivations(threshold, PageQuery.offset(0, 10));
         verify(licenseMapper).toDTO(any(Activation.class));
     }
 
     @Test
     void deleteActivation_ExistingActivation_ShouldDeleteActivation() {
         // Arrange
+        License license = License.builder().id(licenseId).licenseKey("3f2a-K7QM-2XBW-RT9P-HC4N").build();
         when(activationRepository.findById(activationId)).thenReturn(Optional.of(activation));
+        when(licenseRepository.findById(licenseId)).thenReturn(Optional.of(license));
 
         // Act
         activationService.deleteActivation(activationId);
@@ -204,6 +226,9 @@ class ActivationServiceImplTest {
         // Assert
         verify(activationRepository).findById(activationId);
         verify(activationRepository).delete(activation);
+        verify(licenseRepository).decrementActivationCount(licenseId);
+        verify(validationCache).evict(license.getLicenseKey());
+        verify(invalidationBus).invalidate(CacheInvalidation.Type.LICENSE, license.getLicenseKey());
     }
 
     @Test
@@ -22,13 +22,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -57,9 +53,6 @@ class AuthenticationServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
-    @Mock
-    private UserDetailsService userDetailsService;
-
     @Mock
     private Authentication authentication;
 
@@ -71,7 +64,6 @@ class AuthenticationServiceTest {
     private User user;
     private UserDTO userDTO;
     private Company company;
-    private UserDetails userDetails;
     private CreateUserRequest createUserRequest;
     private AuthenticationRequest authRequest;
 
@@ -120,12 +112,6 @@ class AuthenticationServiceTest {
                 .email("test@example.com")
                 .password("password123")
                 .build();
-
-        userDetails = new org.springframework.security.core.userdetails.User(
-                "test@example.com",
-                "hashedPassword",
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_DEVELOPER"))
-        );
     }
 
     @Test
@@ -136,9 +122,8 @@ class AuthenticationServiceTest {
         when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(userMapper.toDTO(any(User.class))).thenReturn(userDTO);
-        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
-        when(jwtService.generateToken(any(UserDetails.class))).thenReturn("jwtToken");
-        when(jwtService.generateRefreshToken(any(UserDetails.class))).thenReturn("refreshToken");
+        when(jwtService.generateToken(user)).thenReturn("jwtToken");
+        when(jwtService.generateRefreshToken(user)).thenReturn("refreshToken");
 
         // Act
         AuthenticationResponse response = authenticationService.register(createUserRequest);
@@ -154,9 +139,8 @@ class AuthenticationServiceTest {
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(any(User.class));
         verify(userMapper).toDTO(user);
-        verify(userDetailsService).loadUserByUsername("test@example.com");
-        verify(jwtService).generateToken(userDetails);
-        verify(jwtService).generateRefreshToken(userDetails);
+        verify(jwtService).generateToken(user);
+        verify(jwtService).generateRefreshToken(user);
     }
 
     @Test
@@ -190,9 +174,8 @@ class AuthenticationServiceTest {
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
         when(userMapper.toDTO(user)).thenReturn(userDTO);
         when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
-        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
-        when(jwtService.generateToken(any(UserDetails.class))).thenReturn("jwtToken");
-        when(jwtService.generateRefreshToken(any(UserDetails.class))).thenReturn("refreshToken");
+        when(jwtService.generateToken(user)).thenReturn("jwtToken");
+        when(jwtService.generateRefreshToken(user)).thenReturn("refreshToken");
         // For AuthenticationManager.authenticate (which is not void), we use when() instead of doNothing()
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(authentication);
 
@@ -211,9 +194,8 @@ class AuthenticationServiceTest {
         verify(userRepository).findByEmail("test@example.com");
         verify(userMapper).toDTO(user);
         verify(companyRepository).findById(companyId);
-        verify(userDetailsService).loadUserByUsername("test@example.com");
-        verify(jwtService).generateToken(userDetails);
-        verify(jwtService).generateRefreshToken(userDetails);
+        verify(jwtService).generateToken(user);
+        verify(jwtService).generateRefreshToken(user);
     }
 
     @Test
@@ -0,0 +1,186 @@
+package com.alexartauddev.licenseforge.unit.cache.invalidation;
+
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidation;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBatch;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationPublisher;
+import com.alexartauddev.licenseforge.application.cache.invalidation.LocalCacheEvictor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    @Mock
+    private LocalCacheEvictor evictor;
+
+    private CacheInvalidationBus bus;
+
+    private UUID otherNode;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(publisher, evictor, new SimpleMeterRegistry(), true, 2, Duration.ofHours(1));
+        otherNode = UUID.randomUUID();
+    }
+
+    @Test
+    void flush_RepeatedInvalidations_ShouldPublishThemOnceInNumberedBatch() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-1");
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-1");
+        bus.invalidate(CacheInvalidation.Type.USER, userId);
+
+        // Act
+        bus.flush();
+        bus.flush();
+
+        // Assert
+        ArgumentCaptor<CacheInvalidationBatch> captor = ArgumentCaptor.forClass(CacheInvalidationBatch.class);
+        verify(publisher).publish(captor.capture());
+        CacheInvalidationBatch batch = captor.getValue();
+        assertEquals(bus.getNodeId(), batch.nodeId());
+        assertEquals(1, batch.sequence());
+        assertFalse(batch.flushAll());
+        assertEquals(Set.of(new CacheInvalidation(CacheInvalidation.Type.LICENSE, "KEY-1"),
+                        new CacheInvalidation(CacheInvalidation.Type.USER, userId.toString())),
+                Set.copyOf(batch.invalidations()));
+    }
+
+    @Test
+    void flush_MoreInvalidationsThanBatchHolds_ShouldPublishFlushAll() {
+        // Arrange
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-1");
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-2");
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-3");
+
+        // Act
+        bus.flush();
+
+        // Assert
+        verify(publisher).publish(argThat(batch -> batch.flushAll() && batch.invalidations().isEmpty()));
+    }
+
+    @Test
+    void flush_ManyMintedKeys_ShouldSplitThemIntoNumberedBatchesWithoutFlushAll() {
+        // Arrange
+        bus.invalidate(CacheInvalidation.Type.LICENSE_KEY, "KEY-1");
+        bus.invalidate(CacheInvalidation.Type.LICENSE_KEY, "KEY-2");
+        bus.invalidate(CacheInvalidation.Type.LICENSE_KEY, "KEY-3");
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-4");
+
+        // Act
+        bus.flush();
+
+        // Assert
+        ArgumentCaptor<CacheInvalidationBatch> captor = ArgumentCaptor.forClass(CacheInvalidationBatch.class);
+        verify(publisher, times(2)).publish(captor.capture());
+        List<CacheInvalidationBatch> batches = captor.getAllValues();
+        assertEquals(List.of(1L, 2L), batches.stream().map(CacheInvalidationBatch::sequence).toList());
+        assertTrue(batches.stream().noneMatch(CacheInvalidationBatch::flushAll));
+        assertTrue(batches.stream().allMatch(batch -> batch.invalidations().size() == 2));
+        assertEquals(CacheInvalidation.Type.LICENSE, batches.get(0).invalidations().get(0).type());
+    }
+
+    @Test
+    void flush_TooManyEvictionsWithMintedKeys_ShouldPublishSingleFlushAll() {
+        // Arrange
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-1");
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-2");
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-3");
+        bus.invalidate(CacheInvalidation.Type.LICENSE_KEY, "KEY-4");
+
+        // Act
+        bus.flush();
+
+        // Assert
+        verify(publisher, times(1)).publish(argThat(batch -> batch.flushAll() && batch.sequence() == 1));
+        verifyNoMoreInteractions(publisher);
+    }
+
+    @Test
+    void receive_ConsecutiveBatches_ShouldEvictNamedEntries() {
+        // Arrange
+        CacheInvalidation first = new CacheInvalidation(CacheInvalidation.Type.LICENSE, "KEY-1");
+        CacheInvalidation second = new CacheInvalidation(CacheInvalidation.Type.COMPANY, UUID.randomUUID().toString());
+
+        // Act
+        bus.receive(new CacheInvalidationBatch(otherNode, 7, false, List.of(first)));
+        bus.receive(new CacheInvalidationBatch(otherNode, 8, false, List.of(second)));
+        bus.receive(new CacheInvalidationBatch(otherNode, 8, false, List.of()));
+
+        // Assert
+        verify(evictor).evict(first);
+        verify(evictor).evict(second);
+        verify(evictor, never()).evictAll();
+    }
+
+    @Test
+    void receive_MissedBatch_ShouldEvictAllLocalCaches() {
+        // Arrange
+        bus.receive(new CacheInvalidationBatch(otherNode, 1, false,
+                List.of(new CacheInvalidation(CacheInvalidation.Type.LICENSE, "KEY-1"))));
+
+        // Act
+        bus.receive(new CacheInvalidationBatch(otherNode, 3, false,
+                List.of(new CacheInvalidation(CacheInvalidation.Type.LICENSE, "KEY-3"))));
+
+        // Assert
+        verify(evictor).evictAll();
+        verify(evictor, never()).evict(new CacheInvalidation(CacheInvalidation.Type.LICENSE, "KEY-3"));
+    }
+
+    @Test
+    void receive_HeartbeatAheadOfLastBatch_ShouldEvictAllLocalCaches() {
+        // Arrange
+        bus.receive(new CacheInvalidationBatch(otherNode, 1, false, List.of()));
+
+        // Act
+        bus.receive(new CacheInvalidationBatch(otherNode, 2, false, List.of()));
+
+        // Assert
+        verify(evictor).evictAll();
+    }
+
+    @Test
+    void receive_OwnBatch_ShouldBeIgnored() {
+        // Act
+        bus.receive(new CacheInvalidationBatch(bus.getNodeId(), 5, true, List.of()));
+
+        // Assert
+        verifyNoInteractions(evictor);
+    }
+
+    @Test
+    void flush_PublishFails_ShouldSkipSequenceNumber() {
+        // Arrange
+        doThrow(new IllegalStateException("Broker unavailable")).doNothing().when(publisher).publish(any());
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-1");
+        bus.flush();
+        bus.invalidate(CacheInvalidation.Type.LICENSE, "KEY-2");
+
+        // Act
+        bus.flush();
+
+        // Assert
+        verify(publisher).publish(argThat(batch -> batch.sequence() == 2));
+    }
+}
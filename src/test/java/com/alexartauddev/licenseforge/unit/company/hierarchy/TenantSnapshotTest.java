@@ -0,0 +1,115 @@
+package com.alexartauddev.licenseforge.unit.company.hierarchy;
+
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantSnapshot;
+import com.alexartauddev.licenseforge.domain.application.entity.Application;
+import com.alexartauddev.licenseforge.domain.company.entity.Company;
+import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantSnapshotTest {
+
+    private Company company;
+    private Realm realm;
+    private Application application;
+    private TenantSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        company = company(UUID.randomUUID(), "acme", 3);
+        realm = Realm.builder()
+                .id(UUID.randomUUID())
+                .name("Production")
+                .companyId(company.getId())
+                .build();
+        application = application(UUID.randomUUID(), realm.getId());
+        snapshot = TenantSnapshot.of(List.of(company), List.of(realm), List.of(application));
+    }
+
+    @Test
+    void of_Tree_ShouldResolveCompanyOfApplicationAndRealmIdString() {
+        // Act & Assert
+        assertEquals(Optional.of(company.getId()), snapshot.getCompanyIdOfApplication(application.getId()));
+        assertEquals(company.getId(), snapshot.getCompanyByRealmId("acme").orElseThrow().id());
+        assertEquals(3, snapshot.getCompany(company.getId()).orElseThrow().quotaApps());
+        assertTrue(snapshot.getCompanyIdOfApplication(UUID.randomUUID()).isEmpty());
+        assertTrue(snapshot.sizeInBytes() > 0);
+    }
+
+    @Test
+    void withApplication_NewApplication_ShouldLeaveOriginalSnapshotUnchanged() {
+        // Arrange
+        Application created = application(UUID.randomUUID(), realm.getId());
+
+        // Act
+        TenantSnapshot patched = snapshot.withApplication(created);
+
+        // Assert
+        assertEquals(Optional.of(company.getId()), patched.getCompanyIdOfApplication(created.getId()));
+        assertTrue(snapshot.getApplication(created.getId()).isEmpty());
+        assertEquals(2, patched.applicationCount());
+        assertEquals(1, snapshot.applicationCount());
+        assertTrue(patched.sizeInBytes() > snapshot.sizeInBytes());
+    }
+
+    @Test
+    void withCompany_UpdatedCompany_ShouldReplaceItsNode() {
+        // Arrange
+        Company updated = company(company.getId(), "acme", 10);
+
+        // Act
+        TenantSnapshot patched = snapshot.withCompany(updated);
+
+        // Assert
+        assertEquals(10, patched.getCompany(company.getId()).orElseThrow().quotaApps());
+        assertEquals(10, patched.getCompanyByRealmId("acme").orElseThrow().quotaApps());
+        assertEquals(1, patched.companyCount());
+    }
+
+    @Test
+    void withoutRealm_DeletedRealm_ShouldNoLongerResolveItsApplications() {
+        // Act
+        TenantSnapshot patched = snapshot.withoutRealm(realm.getId());
+
+        // Assert
+        assertTrue(patched.getRealm(realm.getId()).isEmpty());
+        assertTrue(patched.getApplication(application.getId()).isPresent());
+        assertTrue(patched.getCompanyIdOfApplication(application.getId()).isEmpty());
+    }
+
+    @Test
+    void withoutCompany_DeletedCompany_ShouldDropItsRealmIdString() {
+        // Act
+        TenantSnapshot patched = snapshot.withoutCompany(company.getId());
+
+        // Assert
+        assertTrue(patched.getCompany(company.getId()).isEmpty());
+        assertTrue(patched.getCompanyByRealmId("acme").isEmpty());
+        assertSame(patched, patched.withoutCompany(company.getId()));
+    }
+
+    private static Company company(UUID id, String realmId, int quotaApps) {
+        return Company.builder()
+                .id(id)
+                .name("Acme")
+                .realmId(realmId)
+                .quotaApps(quotaApps)
+                .quotaKeysPerApp(10)
+                .planType(Company.PlanType.FREE)
+                .build();
+    }
+
+    private static Application application(UUID id, UUID realmId) {
+        return Application.builder()
+                .id(id)
+                .name("App")
+                .realmId(realmId)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.alexartauddev.licenseforge.unit.company.quota;
+
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantSnapshot;
+import com.alexartauddev.licenseforge.application.company.quota.QuotaService;
+import com.alexartauddev.licenseforge.domain.company.entity.Company;
+import com.alexartauddev.licenseforge.domain.company.repository.TenantUsageRepository;
+import com.alexartauddev.licenseforge.web.exception.company.QuotaExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuotaServiceTest {
+
+    @Mock
+    private TenantUsageRepository tenantUsageRepository;
+
+    @Mock
+    private TenantHierarchy tenantHierarchy;
+
+    private QuotaService quotaService;
+
+    private UUID appId;
+    private UUID realmId;
+    private TenantSnapshot.CompanyNode company;
+
+    @BeforeEach
+    void setUp() {
+        quotaService = new QuotaService(tenantUsageRepository, tenantHierarchy, new SimpleMeterRegistry());
+        appId = UUID.randomUUID();
+        realmId = UUID.randomUUID();
+        company = new TenantSnapshot.CompanyNode(UUID.randomUUID(), "acme", 3, 10, Company.PlanType.FREE);
+    }
+
+    @Test
+    void reserveLicenseKeys_WithinQuota_ShouldReserveInDatabase() {
+        // Arrange
+        when(tenantHierarchy.findCompanyOfApplication(appId)).thenReturn(Optional.of(company));
+        when(tenantUsageRepository.reserve(TenantUsageRepository.Scope.APP_LICENSES, appId, 4, 10))
+                .thenReturn(OptionalLong.of(7));
+
+        // Act
+        quotaService.reserveLicenseKeys(appId, 4);
+
+        // Assert
+        assertEquals(7, quotaService.getLicenseKeyUsage(appId));
+    }
+
+    @Test
+    void reserveLicenseKeys_KnownToExceedQuota_ShouldRejectWithoutDatabase() {
+        // Arrange
+        when(tenantUsageRepository.findUsage(TenantUsageRepository.Scope.COMPANY_APPS)).thenReturn(Map.of());
+        when(tenantUsageRepository.findUsage(TenantUsageRepository.Scope.APP_LICENSES)).thenReturn(Map.of(appId, 9L));
+        when(tenantHierarchy.findCompanyOfApplication(appId)).thenReturn(Optional.of(company));
+        quotaService.refresh();
+
+        // Act & Assert
+        assertThrows(QuotaExceededException.class, () -> quotaService.reserveLicenseKeys(appId, 2));
+        verify(tenantUsageRepository, never()).reserve(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void reserveApplication_QuotaTakenOnAnotherInstance_ShouldRejectAndRememberUsage() {
+        // Arrange
+        when(tenantHierarchy.findCompanyOfRealm(realmId)).thenReturn(Optional.of(company));
+        when(tenantUsageRepository.reserve(TenantUsageRepository.Scope.COMPANY_APPS, company.id(), 1, 3))
+                .thenReturn(OptionalLong.empty());
+
+        // Act & Assert
+        assertThrows(QuotaExceededException.class, () -> quotaService.reserveApplication(realmId));
+        assertEquals(3, quotaService.getApplicationUsage(company.id()));
+        assertThrows(QuotaExceededException.class, () -> quotaService.reserveApplication(realmId));
+        verify(tenantUsageRepository, times(1)).reserve(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void releaseApplication_ReservedApplication_ShouldGiveItBack() {
+        // Arrange
+        when(tenantHierarchy.findCompanyOfRealm(realmId)).thenReturn(Optional.of(company));
+        when(tenantUsageRepository.reserve(TenantUsageRepository.Scope.COMPANY_APPS, company.id(), 1, 3))
+                .thenReturn(OptionalLong.of(1));
+        quotaService.reserveApplication(realmId);
+
+        // Act
+        quotaService.releaseApplication(realmId);
+
+        // Assert
+        verify(tenantUsageRepository).release(TenantUsageRepository.Scope.COMPANY_APPS, company.id(), 1);
+        assertEquals(0, quotaService.getApplicationUsage(company.id()));
+    }
+
+    @Test
+    void reserveLicenseKeys_UnknownApplication_ShouldNotEnforceQuota() {
+        // Arrange
+        when(tenantHierarchy.findCompanyOfApplication(appId)).thenReturn(Optional.empty());
+
+        // Act
+        quotaService.reserveLicenseKeys(appId, 100);
+
+        // Assert
+        verifyNoInteractions(tenantUsageRepository);
+    }
+}
@@ -1,7 +1,10 @@
 package com.alexartauddev.licenseforge.unit.company.service;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
 import com.alexartauddev.licenseforge.application.company.mapper.CompanyMapper;
 import com.alexartauddev.licenseforge.application.company.service.impl.CompanyServiceImpl;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.company.entity.Company;
 import com.alexartauddev.licenseforge.domain.company.repository.CompanyRepository;
 import com.alexartauddev.licenseforge.domain.realm.repository.RealmRepository;
@@ -21,7 +24,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +48,12 @@ class CompanyServiceImplTest {
     @Mock
     private CompanyMapper companyMapper;
 
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private TenantHierarchy tenantHierarchy;
+
     @InjectMocks
     private CompanyServiceImpl companyService;
 
@@ -192,21 +203,23 @@ class CompanyServiceImplTest {
 
         List<Company> companies = Arrays.asList(company, company2);
 
-        when(companyRepository.findAll()).thenReturn(companies);
+        when(companyRepository.findAll(PageQuery.offset(0, 10))).thenReturn(companies);
         when(companyMapper.toDTO(any(Company.class))).thenReturn(companyDTO);
-        when(realmRepository.countByCompanyId(any(UUID.class))).thenReturn(1L);
-        when(userRepository.countByCompanyId(any(UUID.class))).thenReturn(2L);
+        when(realmRepository.countByCompanyIds(Set.of(company.getId(), company2.getId())))
+                .thenReturn(Map.of(company.getId(), 1L));
+        when(userRepository.countByCompanyIds(Set.of(company.getId(), company2.getId())))
+                .thenReturn(Map.of(company.getId(), 2L, company2.getId(), 3L));
 
         // Act
-        List<CompanyDTO> result = companyService.getAllCompanies(0, 10);
+        List<CompanyDTO> result = companyService.getAllCompanies(null, 0, 10).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(companyRepository).findAll();
+        verify(companyRepository).findAll(PageQuery.offset(0, 10));
         verify(companyMapper, times(2)).toDTO(any(Company.class));
-        verify(realmRepository, times(2)).countByCompanyId(any(UUID.class));
-        verify(userRepository, times(2)).countByCompanyId(any(UUID.class));
+        verify(realmRepository, never()).countByCompanyId(any(UUID.class));
+        verify(userRepository, never()).countByCompanyId(any(UUID.class));
     }
 
     @Test
@@ -214,22 +227,22 @@ class CompanyServiceImplTest {
         // Arrange
         List<Company> freeCompanies = Arrays.asList(company);
 
-        when(companyRepository.findByPlanType(Company.PlanType.FREE)).thenReturn(freeCompanies);
+        when(companyRepository.findByPlanType(Company.PlanType.FREE, PageQuery.offset(0, 10))).thenReturn(freeCompanies);
         when(companyMapper.toDTO(any(Company.class))).thenReturn(companyDTO);
-        when(realmRepository.countByCompanyId(any(UUID.class))).thenReturn(1L);
-        when(userRepository.countByCompanyId(any(UUID.class))).thenReturn(2L);
+        when(realmRepository.countByCompanyIds(Set.of(company.getId()))).thenReturn(Map.of(company.getId(), 1L));
+        when(userRepository.countByCompanyIds(Set.of(company.getId()))).thenReturn(Map.of(company.getId(), 2L));
 
         // Act
-        List<CompanyDTO> result = companyService.getCompaniesByPlanType(Company.PlanType.FREE, 0, 10);
+        List<CompanyDTO> result = companyService.getCompaniesByPlanType(Company.PlanType.FREE, null, 0, 10).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(companyDTO, result.get(0));
-        verify(companyRepository).findByPlanType(Company.PlanType.FREE);
+        verify(companyRepository).findByPlanType(Company.PlanType.FREE, PageQuery.offset(0, 10));
         verify(companyMapper).toDTO(any(Company.class));
-        verify(realmRepository).countByCompanyId(any(UUID.class));
-        verify(userRepository).countByCompanyId(any(UUID.class));
+        assertEquals(1L, companyDTO.getRealmsCount());
+        assertEquals(2L, companyDTO.getUsersCount());
     }
 
     @Test
@@ -306,28 +319,26 @@ class CompanyServiceImplTest {
     @Test
     void countCompanies_ShouldReturnCount() {
         // Arrange
-        List<Company> companies = Arrays.asList(company, Company.builder().build());
-        when(companyRepository.findAll()).thenReturn(companies);
+        when(companyRepository.count()).thenReturn(2L);
 
         // Act
         long result = companyService.countCompanies();
 
         // Assert
         assertEquals(2, result);
-        verify(companyRepository).findAll();
+        verify(companyRepository, never()).findAll();
     }
 
     @Test
     void countByPlanType_ShouldReturnCount() {
         // Arrange
-        List<Company> freeCompanies = Arrays.asList(company);
-        when(companyRepository.findByPlanType(Company.PlanType.FREE)).thenReturn(freeCompanies);
+        when(companyRepository.countByPlanType(Company.PlanType.FREE)).thenReturn(1L);
 
         // Act
         long result = companyService.countByPlanType(Company.PlanType.FREE);
 
         // Assert
         assertEquals(1, result);
-        verify(companyRepository).findByPlanType(Company.PlanType.FREE);
+        verify(companyRepository, never()).findByPlanType(Company.PlanType.FREE);
     }
 }
\ No newline at end of file
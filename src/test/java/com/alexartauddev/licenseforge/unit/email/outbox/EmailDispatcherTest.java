@@ -0,0 +1,179 @@
+package com.alexartauddev.licenseforge.unit.email.outbox;
+
+import com.alexartauddev.licenseforge.application.email.outbox.EmailDispatcher;
+import com.alexartauddev.licenseforge.application.email.sender.SmtpEmailSender;
+import com.alexartauddev.licenseforge.domain.email.entity.EmailOutboxMessage;
+import com.alexartauddev.licenseforge.domain.email.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InProcessMailServer mailServer;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailDispatcher dispatcher;
+    private EmailOutboxMessage message;
+
+    @BeforeEach
+    void setUp() {
+        mailServer = new InProcessMailServer();
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new EmailDispatcher(emailOutboxRepository,
+                new SmtpEmailSender(mailServer, "noreply@licenseforge.com", true),
+                transactionManager, meterRegistry, 1, 10, 100, MAX_ATTEMPTS,
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMinutes(2), false);
+
+        message = EmailOutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .recipient("admin@example.com")
+                .subject("Welcome to LicenseForge")
+                .body("<p>Welcome</p>")
+                .html(true)
+                .status(EmailOutboxMessage.Status.PENDING)
+                .attempts(1)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void deliver_ClaimedEmail_ShouldSendAndMarkSent() throws Exception {
+        // Arrange
+        when(emailOutboxRepository.claim(eq(message.getId()), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        when(emailOutboxRepository.findById(message.getId())).thenReturn(Optional.of(message));
+
+        // Act
+        dispatcher.deliver(message.getId());
+
+        // Assert
+        assertEquals(1, mailServer.received.size());
+        assertEquals("Welcome to LicenseForge", mailServer.received.get(0).getSubject());
+        verify(emailOutboxRepository).markSent(eq(message.getId()), any(LocalDateTime.class));
+        verify(emailOutboxRepository, never()).scheduleRetry(any(UUID.class), any(LocalDateTime.class), anyString());
+        assertEquals(1.0, meterRegistry.get("licenseforge.email.sent").counter().count());
+        assertEquals(1, meterRegistry.get("licenseforge.email.latency").timer().count());
+    }
+
+    @Test
+    void deliver_EmailClaimedElsewhere_ShouldNotSend() {
+        // Arrange
+        when(emailOutboxRepository.claim(eq(message.getId()), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(false);
+
+        // Act
+        dispatcher.deliver(message.getId());
+
+        // Assert
+        assertTrue(mailServer.received.isEmpty());
+        verify(emailOutboxRepository, never()).findById(any(UUID.class));
+        verify(emailOutboxRepository, never()).markSent(any(UUID.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void deliver_MailServerDown_ShouldScheduleRetryWithBackoff() {
+        // Arrange
+        mailServer.down = true;
+        message.setAttempts(2);
+        when(emailOutboxRepository.claim(eq(message.getId()), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        when(emailOutboxRepository.findById(message.getId())).thenReturn(Optional.of(message));
+
+        // Act
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.deliver(message.getId());
+
+        // Assert
+        verify(emailOutboxRepository).scheduleRetry(eq(message.getId()),
+                argThat(next -> !next.isBefore(before.plusSeconds(60))), contains("Connection refused"));
+        verify(emailOutboxRepository, never()).markSent(any(UUID.class), any(LocalDateTime.class));
+        verify(emailOutboxRepository, never()).markFailed(any(UUID.class), anyString());
+        assertEquals(1.0, meterRegistry.get("licenseforge.email.retried").counter().count());
+    }
+
+    @Test
+    void deliver_LastAttemptFailed_ShouldGiveUp() {
+        // Arrange
+        mailServer.down = true;
+        message.setAttempts(MAX_ATTEMPTS);
+        when(emailOutboxRepository.claim(eq(message.getId()), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(true);
+        when(emailOutboxRepository.findById(message.getId())).thenReturn(Optional.of(message));
+
+        // Act
+        dispatcher.deliver(message.getId());
+
+        // Assert
+        verify(emailOutboxRepository).markFailed(eq(message.getId()), contains("Connection refused"));
+        verify(emailOutboxRepository, never()).scheduleRetry(any(UUID.class), any(LocalDateTime.class), anyString());
+        assertEquals(1.0, meterRegistry.get("licenseforge.email.failed").counter().count());
+    }
+
+    @Test
+    void backoff_ShouldDoubleUpToMaximum() {
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(60), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(240), dispatcher.backoff(4));
+        assertEquals(Duration.ofMinutes(5), dispatcher.backoff(10));
+    }
+
+    @Test
+    void poll_DueEmails_ShouldUpdatePendingGauge() {
+        // Arrange
+        when(emailOutboxRepository.countPending()).thenReturn(7L);
+        when(emailOutboxRepository.findDueIds(any(LocalDateTime.class), eq(10))).thenReturn(List.of());
+
+        // Act
+        dispatcher.poll();
+
+        // Assert
+        assertEquals(7.0, meterRegistry.get("licenseforge.email.pending").gauge().value());
+    }
+
+    /**
+     * Stand-in for the SMTP server that keeps the messages it accepted, or refuses connections when down
+     */
+    private static class InProcessMailServer extends JavaMailSenderImpl {
+
+        private final List<MimeMessage> received = new ArrayList<>();
+        private boolean down;
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            if (down) {
+                throw new MailSendException("Connection refused");
+            }
+            received.addAll(List.of(mimeMessages));
+        }
+    }
+}
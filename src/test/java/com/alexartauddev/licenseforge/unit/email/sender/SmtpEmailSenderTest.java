@@ -0,0 +1,96 @@
+package com.alexartauddev.licenseforge.unit.email.sender;
+
+import com.alexartauddev.licenseforge.application.email.sender.SmtpEmailSender;
+import com.alexartauddev.licenseforge.domain.email.entity.EmailOutboxMessage;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SmtpEmailSenderTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    private String fromEmail = "test@licenseforge.com";
+    private String toEmail = "recipient@example.com";
+    private String subject = "Test Subject";
+    private String text = "Test email content";
+    private String htmlContent = "<html><body><h1>Test HTML Content</h1></body></html>";
+
+    @Test
+    void send_SimpleMessage_ShouldSendEmail() {
+        // Arrange
+        SmtpEmailSender sender = new SmtpEmailSender(mailSender, fromEmail, true);
+
+        // Act
+        sender.send(message(text, false));
+
+        // Assert
+        ArgumentCaptor<SimpleMailMessage> captor = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailSender).send(captor.capture());
+        assertEquals(fromEmail, captor.getValue().getFrom());
+        assertArrayEquals(new String[]{toEmail}, captor.getValue().getTo());
+        assertEquals(text, captor.getValue().getText());
+    }
+
+    @Test
+    void send_HtmlMessage_ShouldSendHtmlEmail() throws Exception {
+        // Arrange
+        SmtpEmailSender sender = new SmtpEmailSender(mailSender, fromEmail, true);
+        MimeMessage mimeMessage = new MimeMessage((Session) null);
+        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+
+        // Act
+        sender.send(message(htmlContent, true));
+
+        // Assert
+        verify(mailSender).send(mimeMessage);
+        assertEquals(subject, mimeMessage.getSubject());
+        assertEquals(toEmail, mimeMessage.getAllRecipients()[0].toString());
+    }
+
+    @Test
+    void send_EmailDisabled_ShouldNotSendEmail() {
+        // Arrange
+        SmtpEmailSender sender = new SmtpEmailSender(mailSender, fromEmail, false);
+
+        // Act
+        sender.send(message(htmlContent, true));
+
+        // Assert
+        verify(mailSender, never()).createMimeMessage();
+        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+    }
+
+    @Test
+    void send_ExceptionThrown_ShouldPropagateForRetry() {
+        // Arrange
+        SmtpEmailSender sender = new SmtpEmailSender(mailSender, fromEmail, true);
+        doThrow(new MailSendException("Mail error")).when(mailSender).send(any(SimpleMailMessage.class));
+
+        // Act & Assert
+        assertThrows(MailSendException.class, () -> sender.send(message(text, false)));
+    }
+
+    private EmailOutboxMessage message(String body, boolean html) {
+        return EmailOutboxMessage.builder()
+                .recipient(toEmail)
+                .subject(subject)
+                .body(body)
+                .html(html)
+                .build();
+    }
+}
@@ -1,20 +1,19 @@
 package com.alexartauddev.licenseforge.unit.email.service;
 
+import com.alexartauddev.licenseforge.application.email.outbox.EmailDispatcher;
 import com.alexartauddev.licenseforge.application.email.service.impl.EmailServiceImpl;
-import org.junit.jupiter.api.BeforeEach;
+import com.alexartauddev.licenseforge.domain.email.entity.EmailOutboxMessage;
+import com.alexartauddev.licenseforge.domain.email.repository.EmailOutboxRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.MailSendException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.test.util.ReflectionTestUtils;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -22,102 +21,62 @@ import static org.mockito.Mockito.*;
 class EmailServiceImplTest {
 
     @Mock
-    private JavaMailSender mailSender;
+    private EmailOutboxRepository emailOutboxRepository;
 
     @Mock
-    private MimeMessage mimeMessage;
+    private EmailDispatcher emailDispatcher;
 
     @InjectMocks
     private EmailServiceImpl emailService;
 
-    private String fromEmail = "test@licenseforge.com";
     private String toEmail = "recipient@example.com";
     private String subject = "Test Subject";
     private String text = "Test email content";
     private String htmlContent = "<html><body><h1>Test HTML Content</h1></body></html>";
 
-    @BeforeEach
-    void setUp() {
-        // Set properties via reflection since they would normally be injected via @Value
-        ReflectionTestUtils.setField(emailService, "fromEmail", fromEmail);
-        ReflectionTestUtils.setField(emailService, "emailEnabled", true);
-    }
-
     @Test
-    void sendSimpleMessage_EmailEnabled_ShouldSendEmail() {
+    void sendSimpleMessage_ShouldQueuePendingEmail() {
         // Arrange
-        doNothing().when(mailSender).send(any(SimpleMailMessage.class));
+        UUID id = UUID.randomUUID();
+        when(emailOutboxRepository.save(any(EmailOutboxMessage.class))).thenAnswer(invocation -> {
+            EmailOutboxMessage message = invocation.getArgument(0);
+            message.setId(id);
+            return message;
+        });
 
         // Act
         emailService.sendSimpleMessage(toEmail, subject, text);
 
         // Assert
-        verify(mailSender).send(any(SimpleMailMessage.class));
-    }
-
-    @Test
-    void sendSimpleMessage_EmailDisabled_ShouldNotSendEmail() {
-        // Arrange
-        ReflectionTestUtils.setField(emailService, "emailEnabled", false);
-
-        // Act
-        emailService.sendSimpleMessage(toEmail, subject, text);
-
-        // Assert
-        verify(mailSender, never()).send(any(SimpleMailMessage.class));
-    }
-
-    @Test
-    void sendSimpleMessage_ExceptionThrown_ShouldHandleGracefully() {
-        // Arrange
-        doThrow(new RuntimeException("Mail error")).when(mailSender).send(any(SimpleMailMessage.class));
-
-        // Act - should not throw exception
-        emailService.sendSimpleMessage(toEmail, subject, text);
-
-        // Assert
-        verify(mailSender).send(any(SimpleMailMessage.class));
-    }
-
-    @Test
-    void sendHtmlMessage_EmailEnabled_ShouldSendHtmlEmail() throws MessagingException {
-        // Arrange
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doNothing().when(mailSender).send(any(MimeMessage.class));
-
-        // Act
-        emailService.sendHtmlMessage(toEmail, subject, htmlContent);
-
-        // Assert
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
-    }
-
-    @Test
-    void sendHtmlMessage_EmailDisabled_ShouldNotSendEmail() {
-        // Arrange
-        ReflectionTestUtils.setField(emailService, "emailEnabled", false);
-
-        // Act
-        emailService.sendHtmlMessage(toEmail, subject, htmlContent);
-
-        // Assert
-        verify(mailSender, never()).createMimeMessage();
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        ArgumentCaptor<EmailOutboxMessage> captor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        EmailOutboxMessage queued = captor.getValue();
+        assertEquals(toEmail, queued.getRecipient());
+        assertEquals(subject, queued.getSubject());
+        assertEquals(text, queued.getBody());
+        assertFalse(queued.isHtml());
+        assertEquals(EmailOutboxMessage.Status.PENDING, queued.getStatus());
+        assertEquals(0, queued.getAttempts());
+        assertNotNull(queued.getNextAttemptAt());
+        verify(emailDispatcher).dispatchAfterCommit(id);
     }
 
     @Test
-    void sendHtmlMessage_ExceptionThrown_ShouldHandleGracefully() {
+    void sendHtmlMessage_ShouldQueueHtmlEmailWithoutSending() {
         // Arrange
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        doThrow(new MailSendException("HTML mail error"))
-                .when(mailSender).send(any(MimeMessage.class));
+        UUID id = UUID.randomUUID();
+        when(emailOutboxRepository.save(any(EmailOutboxMessage.class))).thenAnswer(invocation -> {
+            EmailOutboxMessage message = invocation.getArgument(0);
+            message.setId(id);
+            return message;
+        });
 
         // Act
         emailService.sendHtmlMessage(toEmail, subject, htmlContent);
 
         // Assert
-        verify(mailSender).createMimeMessage();
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailOutboxRepository).save(argThat(message -> message.isHtml() && htmlContent.equals(message.getBody())));
+        verify(emailDispatcher).dispatchAfterCommit(id);
+        verify(emailDispatcher, never()).deliver(any(UUID.class));
     }
-}
\ No newline at end of file
+}
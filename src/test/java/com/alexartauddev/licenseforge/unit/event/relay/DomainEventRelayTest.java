@@ -0,0 +1,133 @@
+package com.alexartauddev.licenseforge.unit.event.relay;
+
+import com.alexartauddev.licenseforge.application.event.relay.DomainEventPublisher;
+import com.alexartauddev.licenseforge.application.event.relay.DomainEventRelay;
+import com.alexartauddev.licenseforge.domain.event.entity.DomainEvent;
+import com.alexartauddev.licenseforge.domain.event.repository.DomainEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DomainEventRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private DomainEventRepository domainEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryPublisher publisher;
+    private SimpleMeterRegistry meterRegistry;
+    private DomainEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new InMemoryPublisher();
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new DomainEventRelay(domainEventRepository, publisher, transactionManager, meterRegistry,
+                BATCH_SIZE, Duration.ofDays(7));
+    }
+
+    @Test
+    void relay_UnsentEvents_ShouldPublishAndMarkSentUntilDrained() {
+        // Arrange
+        DomainEvent first = event("license.created");
+        DomainEvent second = event("license.activated");
+        DomainEvent third = event("license.revoked");
+        when(domainEventRepository.lockUnsent(BATCH_SIZE))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        // Act
+        relay.relay();
+
+        // Assert
+        assertEquals(List.of(first, second, third), publisher.published);
+        verify(domainEventRepository).markSent(eq(List.of(first.getId(), second.getId())), any(LocalDateTime.class));
+        verify(domainEventRepository).markSent(eq(List.of(third.getId())), any(LocalDateTime.class));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.get("licenseforge.events.published").counter().count());
+    }
+
+    @Test
+    void relay_NoUnsentEvents_ShouldNotPublish() {
+        // Arrange
+        when(domainEventRepository.lockUnsent(BATCH_SIZE)).thenReturn(List.of());
+
+        // Act
+        relay.relay();
+
+        // Assert
+        assertTrue(publisher.published.isEmpty());
+        verify(domainEventRepository, never()).markSent(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void relay_PublishNotConfirmed_ShouldLeaveEventsUnsentAndRollBack() {
+        // Arrange
+        DomainEvent event = event("license.created");
+        when(domainEventRepository.lockUnsent(BATCH_SIZE)).thenReturn(List.of(event));
+        publisher.failing = true;
+
+        // Act
+        relay.relay();
+
+        // Assert
+        verify(domainEventRepository, never()).markSent(anyCollection(), any(LocalDateTime.class));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertEquals(1.0, meterRegistry.get("licenseforge.events.relay_failures").counter().count());
+
+        // The next run publishes the same event again
+        publisher.failing = false;
+        relay.relay();
+        assertEquals(List.of(event), publisher.published);
+        verify(domainEventRepository).markSent(eq(List.of(event.getId())), any(LocalDateTime.class));
+    }
+
+    private static DomainEvent event(String eventType) {
+        return DomainEvent.builder()
+                .id(UUID.randomUUID())
+                .aggregateType("license")
+                .aggregateId(UUID.randomUUID())
+                .eventType(eventType)
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Stand-in for the broker that records confirmed events, or nacks the whole batch when failing
+     */
+    private static class InMemoryPublisher implements DomainEventPublisher {
+
+        private final List<DomainEvent> published = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void publish(List<DomainEvent> events) {
+            if (failing) {
+                throw new AmqpException("Publisher confirm timed out");
+            }
+            published.addAll(events);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.alexartauddev.licenseforge.unit.jwt.service;
 
+import com.alexartauddev.licenseforge.application.jwt.principal.AuthenticatedUser;
 import com.alexartauddev.licenseforge.application.jwt.service.JwtService;
+import com.alexartauddev.licenseforge.domain.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +14,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,8 +41,9 @@ class JwtServiceTest {
         ReflectionTestUtils.setField(jwtService, "secretKey", secretKey);
         ReflectionTestUtils.setField(jwtService, "jwtExpiration", jwtExpiration);
         ReflectionTestUtils.setField(jwtService, "refreshExpiration", refreshExpiration);
+        jwtService.init();
 
-        when(userDetails.getUsername()).thenReturn(username);
+        lenient().when(userDetails.getUsername()).thenReturn(username);
     }
 
     @Test
@@ -154,4 +159,55 @@ class JwtServiceTest {
         // The expiration date should be in the future
         assertTrue(expirationDate.after(new Date()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void parseAccessToken_UserToken_ShouldAuthenticateFromClaims() {
+        // Arrange
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email(username)
+                .role(User.Role.MANAGER)
+                .companyId(UUID.randomUUID())
+                .tokenVersion(3)
+                .build();
+        String token = jwtService.generateToken(user);
+
+        // Act
+        Optional<AuthenticatedUser> principal = jwtService.parseAccessToken(token);
+
+        // Assert
+        assertTrue(principal.isPresent());
+        assertEquals(user.getId(), principal.get().id());
+        assertEquals(username, principal.get().getUsername());
+        assertEquals(User.Role.MANAGER, principal.get().role());
+        assertEquals(user.getCompanyId(), principal.get().companyId());
+        assertEquals(3, principal.get().tokenVersion());
+        assertEquals("ROLE_MANAGER", principal.get().getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void parseAccessToken_TokenWithoutUserClaims_ShouldReturnEmpty() {
+        // Arrange
+        String token = jwtService.generateToken(userDetails);
+
+        // Act & Assert
+        assertTrue(jwtService.parseAccessToken(token).isEmpty());
+        assertTrue(jwtService.parseAccessToken("not-a-token").isEmpty());
+    }
+
+    @Test
+    void parseAccessToken_TamperedToken_ShouldReturnEmpty() {
+        // Arrange
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email(username)
+                .role(User.Role.DEVELOPER)
+                .build();
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // Act & Assert
+        assertTrue(jwtService.parseAccessToken(tampered).isEmpty());
+    }
+}
@@ -0,0 +1,182 @@
+package com.alexartauddev.licenseforge.unit.license.keygen;
+
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyFilter;
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyGenerator;
+import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKeyFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LicenseKeyFilterTest {
+
+    @Mock
+    private LicenseRepository licenseRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LicenseKeyFilter keyFilter;
+    private List<String> existingKeys;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        keyFilter = new LicenseKeyFilter(licenseRepository, transactionManager, meterRegistry, 0.01, 10_000, true);
+        existingKeys = new ArrayList<>(new LicenseKeyGenerator().generate(LicenseKeyFormat.DEFAULT, "APP1", 5_000));
+        lenient().when(licenseRepository.count()).thenReturn((long) existingKeys.size());
+        lenient().doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            existingKeys.forEach(action);
+            return null;
+        }).when(licenseRepository).forEachLicenseKey(any());
+    }
+
+    @Test
+    void mightExist_BeforeBuild_ShouldReportNoKey() {
+        // Act & Assert
+        assertFalse(keyFilter.isReady());
+        assertFalse(keyFilter.mightExist(existingKeys.get(0)));
+        assertFalse(keyFilter.isDefinitelyAbsent("APP2-AAAA-BBBB-CCCC-DDDD"));
+    }
+
+    @Test
+    void mightExist_AfterBuild_ShouldReportEveryExistingKey() {
+        // Act
+        keyFilter.build();
+
+        // Assert
+        assertTrue(keyFilter.isReady());
+        assertTrue(existingKeys.stream().allMatch(keyFilter::mightExist));
+        assertTrue(existingKeys.stream().noneMatch(keyFilter::isDefinitelyAbsent));
+        assertEquals(5_000, meterRegistry.get("licenseforge.license.key_filter.keys").gauge().value());
+        assertTrue(meterRegistry.get("licenseforge.license.key_filter.size").gauge().value() > 0);
+        assertTrue(meterRegistry.get("licenseforge.license.key_filter.false_positive_rate").gauge().value() < 0.01);
+        assertEquals(1, meterRegistry.get("licenseforge.license.key_filter.rebuild").timer().count());
+    }
+
+    @Test
+    void isDefinitelyAbsent_UnknownKeys_ShouldBeTurnedDownWithoutLookup() {
+        // Arrange
+        keyFilter.build();
+        List<String> unknownKeys = new LicenseKeyGenerator().generate(LicenseKeyFormat.DEFAULT, "APP2", 1_000);
+
+        // Act
+        long absent = unknownKeys.stream().filter(keyFilter::isDefinitelyAbsent).count();
+
+        // Assert
+        assertTrue(absent > 980, "absent: " + absent);
+        assertEquals(absent, meterRegistry.get("licenseforge.license.key_filter.rejected").counter().count());
+    }
+
+    @Test
+    void isDefinitelyAbsent_NegativeLookupsDisabled_ShouldNeverBeTrue() {
+        // Arrange
+        keyFilter = new LicenseKeyFilter(licenseRepository, transactionManager, new SimpleMeterRegistry(), 0.01, 10_000, false);
+        keyFilter.build();
+
+        // Act & Assert
+        assertTrue(keyFilter.mightExist(existingKeys.get(0)));
+        assertFalse(keyFilter.isDefinitelyAbsent("APP2-AAAA-BBBB-CCCC-DDDD"));
+    }
+
+    @Test
+    void build_AfterRemovals_ShouldDropDeletedKeys() {
+        // Arrange
+        keyFilter.build();
+        String deletedKey = existingKeys.remove(0);
+        keyFilter.remove(deletedKey);
+        assertEquals(1, meterRegistry.get("licenseforge.license.key_filter.stale_keys").gauge().value());
+
+        // Act
+        keyFilter.build();
+
+        // Assert
+        assertEquals(0, meterRegistry.get("licenseforge.license.key_filter.stale_keys").gauge().value());
+        assertEquals(4_999, meterRegistry.get("licenseforge.license.key_filter.keys").gauge().value());
+    }
+
+    @Test
+    void build_RepositoryFailure_ShouldKeepPreviousFilter() {
+        // Arrange
+        keyFilter.build();
+        doThrow(new IllegalStateException("connection lost")).when(licenseRepository).forEachLicenseKey(any());
+
+        // Act
+        keyFilter.build();
+
+        // Assert
+        assertTrue(keyFilter.mightExist(existingKeys.get(0)));
+    }
+
+    @Test
+    void mightExist_UnknownKeys_ShouldRarelyBeReported() {
+        // Arrange
+        keyFilter.build();
+        List<String> unknownKeys = new LicenseKeyGenerator().generate(LicenseKeyFormat.DEFAULT, "APP2", 10_000);
+
+        // Act
+        long falsePositives = unknownKeys.stream().filter(keyFilter::mightExist).count();
+
+        // Assert
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void add_AfterBuild_ShouldReportAddedKey() {
+        // Arrange
+        keyFilter.build();
+
+        // Act
+        keyFilter.add("APP3-AAAA-BBBB-CCCC-DDDD");
+
+        // Assert
+        assertTrue(keyFilter.mightExist("APP3-AAAA-BBBB-CCCC-DDDD"));
+        verify(licenseRepository).forEachLicenseKey(any());
+    }
+
+    @Test
+    void addOnCommit_CommittedWhileRebuilding_ShouldKeepKeyInRebuiltFilter() {
+        // Arrange
+        keyFilter.build();
+        String mintedKey = "APP3-AAAA-BBBB-CCCC-DDDD";
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            existingKeys.forEach(action);
+            // The minting transaction commits after the rebuild read the keys without it
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            return null;
+        }).when(licenseRepository).forEachLicenseKey(any());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            keyFilter.addOnCommit(List.of(mintedKey));
+            assertFalse(keyFilter.mightExist(mintedKey));
+
+            // Act
+            keyFilter.build();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertTrue(keyFilter.mightExist(mintedKey));
+        assertFalse(keyFilter.isDefinitelyAbsent(mintedKey));
+    }
+}
@@ -0,0 +1,107 @@
+package com.alexartauddev.licenseforge.unit.license.keygen;
+
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyGenerator;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKey;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKeyFormat;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LicenseKeyGeneratorTest {
+
+    private final LicenseKeyGenerator generator = new LicenseKeyGenerator();
+
+    @Test
+    void generate_DefaultFormat_ShouldMatchLegacyLayoutWithChecksum() {
+        // Act
+        String key = generator.generate(LicenseKeyFormat.DEFAULT, "3f2a");
+
+        // Assert
+        assertTrue(key.matches("3f2a(-[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{4}){4}_1[A-Z2-9]{4}"), key);
+        assertTrue(LicenseKey.isWellFormed(key));
+    }
+
+    @Test
+    void generate_CustomFormat_ShouldUseGroupsAndAlphabet() {
+        // Arrange
+        LicenseKeyFormat format = LicenseKeyFormat.of("ACME", 6, 5, "0123456789");
+
+        // Act
+        String key = generator.generate(format, format.prefixFor(UUID.randomUUID()));
+
+        // Assert
+        assertTrue(key.matches("ACME(-[0-9]{5}){6}_1[A-Z2-9]{4}"), key);
+        assertEquals(format.keyLength("ACME"), key.length());
+        assertTrue(LicenseKey.isWellFormed(key));
+    }
+
+    @Test
+    void generate_EmptyPrefix_ShouldNotStartWithSeparator() {
+        // Act
+        String key = generator.generate(LicenseKeyFormat.DEFAULT, "");
+
+        // Assert
+        assertTrue(key.matches("[A-Z2-9]{4}(-[A-Z2-9]{4}){3}_1[A-Z2-9]{4}"), key);
+    }
+
+    @Test
+    void generate_ManyKeys_ShouldDrawEverySymbolEvenly() {
+        // Arrange
+        LicenseKeyFormat format = LicenseKeyFormat.of(null, 16, 16, "ABC");
+        int[] counts = new int[3];
+
+        // Act
+        for (String key : generator.generate(format, "", 1_000)) {
+            key.substring(0, key.length() - LicenseKey.SUFFIX_LENGTH).chars()
+                    .filter(c -> c != '-')
+                    .forEach(c -> counts[c - 'A']++);
+        }
+
+        // Assert: 256 000 symbols, so each count is within a few percent of a third
+        for (int count : counts) {
+            assertEquals(256_000 / 3.0, count, 256_000 * 0.02);
+        }
+    }
+
+    @Test
+    void generate_ConcurrentThreads_ShouldNotRepeatKeys() throws Exception {
+        // Arrange
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        try {
+            List<Future<List<String>>> results = executor.invokeAll(List.of(
+                    () -> generator.generate(LicenseKeyFormat.DEFAULT, "APP1", 10_000),
+                    () -> generator.generate(LicenseKeyFormat.DEFAULT, "APP1", 10_000),
+                    () -> generator.generate(LicenseKeyFormat.DEFAULT, "APP1", 10_000),
+                    () -> generator.generate(LicenseKeyFormat.DEFAULT, "APP1", 10_000)));
+            for (Future<List<String>> result : results) {
+                keys.addAll(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertEquals(40_000, new HashSet<>(keys).size());
+    }
+
+    @Test
+    void of_InvalidSettings_ShouldBeRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> LicenseKeyFormat.of(null, 2, 4, "AB"));
+        assertThrows(IllegalArgumentException.class, () -> LicenseKeyFormat.of(null, null, null, "AAB"));
+        assertThrows(IllegalArgumentException.class, () -> LicenseKeyFormat.of("BAD-PREFIX", null, null, null));
+        assertSame(LicenseKeyFormat.DEFAULT, LicenseKeyFormat.of(null, null, null, null));
+    }
+}
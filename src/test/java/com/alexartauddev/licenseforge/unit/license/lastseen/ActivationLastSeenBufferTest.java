@@ -0,0 +1,90 @@
+package com.alexartauddev.licenseforge.unit.license.lastseen;
+
+import com.alexartauddev.licenseforge.application.license.lastseen.ActivationLastSeenBuffer;
+import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivationLastSeenBufferTest {
+
+    @Mock
+    private ActivationRepository activationRepository;
+
+    private ActivationLastSeenBuffer buffer;
+
+    private UUID activationId;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ActivationLastSeenBuffer(activationRepository, new SimpleMeterRegistry());
+        activationId = UUID.randomUUID();
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void flush_RepeatedSightings_ShouldWriteLatestTimestampOnce() {
+        // Arrange
+        buffer.record(activationId, now.minusSeconds(10));
+        buffer.record(activationId, now);
+        buffer.record(activationId, now.minusSeconds(5));
+
+        // Act
+        buffer.flush();
+
+        // Assert
+        verify(activationRepository).updateLastSeen(Map.of(activationId, now));
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    void flush_NothingRecorded_ShouldNotTouchRepository() {
+        // Act
+        buffer.flush();
+
+        // Assert
+        verify(activationRepository, never()).updateLastSeen(anyMap());
+    }
+
+    @Test
+    void flush_RepositoryFailure_ShouldKeepTimestampsForNextFlush() {
+        // Arrange
+        buffer.record(activationId, now);
+        when(activationRepository.updateLastSeen(anyMap()))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenReturn(1);
+
+        // Act
+        buffer.flush();
+        buffer.flush();
+
+        // Assert
+        verify(activationRepository, times(2)).updateLastSeen(Map.of(activationId, now));
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    void drain_ShouldFlushPendingTimestamps() {
+        // Arrange
+        buffer.record(activationId, now);
+
+        // Act
+        buffer.drain();
+
+        // Assert
+        verify(activationRepository).updateLastSeen(Map.of(activationId, now));
+    }
+}
@@ -1,24 +1,47 @@
 package com.alexartauddev.licenseforge.unit.license.service;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.common.pagination.CursorPage;
+import com.alexartauddev.licenseforge.application.company.quota.QuotaService;
+import com.alexartauddev.licenseforge.application.event.outbox.DomainEventOutbox;
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+import com.alexartauddev.licenseforge.application.license.event.LicenseEvent;
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyFilter;
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyGenerator;
+import com.alexartauddev.licenseforge.application.license.lastseen.ActivationLastSeenBuffer;
 import com.alexartauddev.licenseforge.application.license.mapper.LicenseMapper;
 import com.alexartauddev.licenseforge.application.license.service.impl.LicenseServiceImpl;
+import com.alexartauddev.licenseforge.application.license.stats.AppLicenseStatsService;
+import com.alexartauddev.licenseforge.application.license.validation.ValidationResult;
+import com.alexartauddev.licenseforge.application.license.validation.ValidationStatus;
+import com.alexartauddev.licenseforge.domain.application.entity.Application;
+import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.license.entity.Activation;
 import com.alexartauddev.licenseforge.domain.license.entity.License;
 import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
 import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseState;
 import com.alexartauddev.licenseforge.web.dto.license.ActivationDTO;
 import com.alexartauddev.licenseforge.web.dto.license.LicenseDTO;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseValidationDTO;
+import com.alexartauddev.licenseforge.web.exception.common.InvalidPageRequestException;
 import com.alexartauddev.licenseforge.web.exception.license.LicenseActivationException;
 import com.alexartauddev.licenseforge.web.exception.license.LicenseNotFoundException;
 import com.alexartauddev.licenseforge.web.request.license.CreateLicenseRequest;
+import com.alexartauddev.licenseforge.web.request.license.LicenseTemplateRequest;
 import com.alexartauddev.licenseforge.web.request.license.UpdateLicenseRequest;
+import com.alexartauddev.licenseforge.web.request.license.ValidateLicenseRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -26,6 +49,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,6 +67,34 @@ public class LicenseServiceImplTest {
     @Mock
     private LicenseMapper licenseMapper;
 
+    @Spy
+    private LicenseValidationCache validationCache =
+            new LicenseValidationCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+    @Mock
+    private ActivationLastSeenBuffer lastSeenBuffer;
+
+    @Mock
+    private DomainEventOutbox eventOutbox;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Spy
+    private LicenseKeyGenerator keyGenerator = new LicenseKeyGenerator();
+
+    @Mock
+    private LicenseKeyFilter keyFilter;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private QuotaService quotaService;
+
+    @Mock
+    private AppLicenseStatsService statsService;
+
     @InjectMocks
     private LicenseServiceImpl licenseService;
 
@@ -59,7 +111,7 @@ public class LicenseServiceImplTest {
     void setUp() {
         licenseId = UUID.randomUUID();
         appId = UUID.randomUUID();
-        licenseKey = "APP1-ABCD-EFGH-IJKL-MNOP";
+        licenseKey = "3f2a-K7QM-2XBW-RT9P-HC4N";
         hardwareId = "HARDWARE-ABC-123";
 
         license = License.builder()
@@ -72,7 +124,6 @@ public class LicenseServiceImplTest {
                 .revoked(false)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
-                .hardwareIds(new HashSet<>())
                 .build();
 
         licenseDTO = LicenseDTO.builder()
@@ -85,7 +136,6 @@ public class LicenseServiceImplTest {
                 .revoked(false)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
-                .hardwareIds(new HashSet<>())
                 .expired(false)
                 .activationsCount(0)
                 .build();
@@ -126,8 +176,116 @@ public class LicenseServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(licenseDTO, result);
-        verify(licenseRepository).save(any(License.class));
+        verify(licenseRepository).save(argThat(saved -> saved.getLicenseKey().startsWith(appId.toString().substring(0, 4) + "-")));
         verify(licenseMapper).toDTO(any(License.class));
+        verify(keyFilter).addOnCommit(argThat(keys -> keys.size() == 1));
+        verify(keyFilter, never()).add(anyString());
+        verify(eventOutbox).append(eq(LicenseEvent.AGGREGATE_TYPE), eq(licenseId), eq("license.created"),
+                argThat(payload -> payload instanceof LicenseEvent event && licenseKey.equals(event.licenseKey())));
+    }
+
+    @Test
+    void createLicense_ApplicationKeyFormat_ShouldGenerateKeyInThatFormat() {
+        // Arrange
+        CreateLicenseRequest request = CreateLicenseRequest.builder()
+                .appId(appId)
+                .customerId("customer123")
+                .maxActivations(3)
+                .build();
+        Application application = Application.builder()
+                .id(appId)
+                .licenseKeyPrefix("ACME")
+                .licenseKeyGroupCount(3)
+                .licenseKeyGroupLength(6)
+                .licenseKeyAlphabet("0123456789ABCDEF")
+                .build();
+        when(applicationRepository.findById(appId)).thenReturn(Optional.of(application));
+        when(licenseRepository.save(any(License.class))).thenReturn(license);
+
+        // Act
+        licenseService.createLicense(request);
+
+        // Assert
+        verify(licenseRepository).save(argThat(saved -> saved.getLicenseKey().matches("ACME(-[0-9A-F]{6}){3}_1[A-Z2-9]{4}")));
+    }
+
+    @Test
+    void createLicenses_ShouldInsertGeneratedKeysInBulk() {
+        // Arrange
+        LicenseTemplateRequest template = LicenseTemplateRequest.builder()
+                .customerId("reseller42")
+                .maxActivations(2)
+                .build();
+        when(licenseRepository.insertIgnoringDuplicateKeys(anyList())).thenAnswer(invocation -> {
+            List<License> batch = invocation.getArgument(0);
+            return batch.stream().map(License::getLicenseKey).collect(Collectors.toSet());
+        });
+
+        // Act
+        List<String> result = licenseService.createLicenses(appId, 500, template);
+
+        // Assert
+        assertEquals(500, result.size());
+        assertEquals(500, new HashSet<>(result).size());
+        assertTrue(result.stream().allMatch(key -> key.startsWith(appId.toString().substring(0, 4) + "-")));
+        verify(licenseRepository).insertIgnoringDuplicateKeys(argThat(batch -> batch.size() == 500
+                && batch.stream().allMatch(license -> appId.equals(license.getAppId())
+                        && "reseller42".equals(license.getCustomerId()) && license.getMaxActivations() == 2)));
+        verify(licenseRepository, never()).save(any(License.class));
+        verify(eventOutbox).append(eq("application"), eq(appId), eq("license.bulk_created"), any());
+    }
+
+    @Test
+    void createLicenses_KeyCollision_ShouldRegenerateOnlyCollidingKeys() {
+        // Arrange
+        LicenseTemplateRequest template = LicenseTemplateRequest.builder()
+                .customerId("reseller42")
+                .maxActivations(1)
+                .build();
+        List<Integer> batchSizes = new ArrayList<>();
+        when(licenseRepository.insertIgnoringDuplicateKeys(anyList())).thenAnswer(invocation -> {
+            List<License> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            // The first key of the first batch is already taken
+            return batch.stream()
+                    .skip(batchSizes.size() == 1 ? 1 : 0)
+                    .map(License::getLicenseKey)
+                    .collect(Collectors.toSet());
+        });
+
+        // Act
+        List<String> result = licenseService.createLicenses(appId, 10, template);
+
+        // Assert
+        assertEquals(List.of(10, 1), batchSizes);
+        assertEquals(10, new HashSet<>(result).size());
+        verify(keyFilter).add(anyString());
+        verify(keyFilter).addOnCommit(result);
+    }
+
+    @Test
+    void createLicenses_KeyInFilter_ShouldRegenerateBeforeInserting() {
+        // Arrange
+        LicenseTemplateRequest template = LicenseTemplateRequest.builder()
+                .maxActivations(1)
+                .build();
+        // The first key generated is reported as already in use
+        when(keyFilter.mightExist(anyString())).thenReturn(true, false);
+        List<String> insertedKeys = new ArrayList<>();
+        when(licenseRepository.insertIgnoringDuplicateKeys(anyList())).thenAnswer(invocation -> {
+            List<License> batch = invocation.getArgument(0);
+            batch.forEach(license -> insertedKeys.add(license.getLicenseKey()));
+            return new HashSet<>(insertedKeys);
+        });
+
+        // Act
+        List<String> result = licenseService.createLicenses(appId, 5, template);
+
+        // Assert
+        assertEquals(5, result.size());
+        assertEquals(insertedKeys, result);
+        verify(keyGenerator, times(6)).generate(any(), anyString());
+        verify(licenseRepository).insertIgnoringDuplicateKeys(anyList());
     }
 
     @Test
@@ -135,8 +293,6 @@ public class LicenseServiceImplTest {
         // Arrange
         when(licenseRepository.findById(licenseId)).thenReturn(Optional.of(license));
         when(licenseMapper.toDTO(license)).thenReturn(licenseDTO);
-        when(activationRepository.countByLicenseId(licenseId)).thenReturn(0L);
-
         // Act
         LicenseDTO result = licenseService.getLicenseById(licenseId);
 
@@ -145,7 +301,7 @@ public class LicenseServiceImplTest {
         assertEquals(licenseDTO, result);
         verify(licenseRepository).findById(licenseId);
         verify(licenseMapper).toDTO(license);
-        verify(activationRepository).countByLicenseId(licenseId);
+        verify(activationRepository, never()).countByLicenseId(any(UUID.class)); // Read from the activation_count column
     }
 
     @Test
@@ -163,8 +319,6 @@ public class LicenseServiceImplTest {
         // Arrange
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
         when(licenseMapper.toDTO(license)).thenReturn(licenseDTO);
-        when(activationRepository.countByLicenseId(licenseId)).thenReturn(0L);
-
         // Act
         LicenseDTO result = licenseService.getLicenseByKey(licenseKey);
 
@@ -173,7 +327,7 @@ public class LicenseServiceImplTest {
         assertEquals(licenseDTO, result);
         verify(licenseRepository).findByLicenseKey(licenseKey);
         verify(licenseMapper).toDTO(license);
-        verify(activationRepository).countByLicenseId(licenseId);
+        verify(activationRepository, never()).countByLicenseId(any(UUID.class)); // Read from the activation_count column
     }
 
     @Test
@@ -192,20 +346,45 @@ public class LicenseServiceImplTest {
         List<License> licenses = new ArrayList<>();
         licenses.add(license);
 
-        when(licenseRepository.findByAppId(appId)).thenReturn(licenses);
+        when(licenseRepository.findByAppId(appId, PageQuery.offset(0, 10))).thenReturn(licenses);
         when(licenseMapper.toDTO(license)).thenReturn(licenseDTO);
-        when(activationRepository.countByLicenseId(licenseId)).thenReturn(0L);
-
         // Act
-        List<LicenseDTO> result = licenseService.getLicensesByAppId(appId, 0, 10);
+        List<LicenseDTO> result = licenseService.getLicensesByAppId(appId, null, 0, 10).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(licenseDTO, result.get(0));
-        verify(licenseRepository).findByAppId(appId);
+        verify(licenseRepository).findByAppId(appId, PageQuery.offset(0, 10));
         verify(licenseMapper).toDTO(license);
-        verify(activationRepository).countByLicenseId(licenseId);
+        verify(activationRepository, never()).countByLicenseId(any(UUID.class)); // Read from the activation_count column
+    }
+
+    @Test
+    void getLicensesByAppId_FullPage_ShouldContinueAfterLastLicense() {
+        // Arrange
+        when(licenseRepository.findByAppId(appId, PageQuery.offset(0, 1))).thenReturn(List.of(license));
+        when(licenseRepository.findByAppId(appId, PageQuery.after(licenseId, 1))).thenReturn(List.of());
+        when(licenseMapper.toDTO(license)).thenReturn(licenseDTO);
+
+        // Act
+        CursorPage<LicenseDTO> first = licenseService.getLicensesByAppId(appId, null, 0, 1);
+        CursorPage<LicenseDTO> second = licenseService.getLicensesByAppId(appId, first.nextCursor(), 0, 1);
+
+        // Assert
+        assertEquals(List.of(licenseDTO), first.items());
+        assertNotNull(first.nextCursor());
+        assertTrue(second.items().isEmpty());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void getLicensesByAppId_InvalidPageRequest_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidPageRequestException.class, () -> licenseService.getLicensesByAppId(appId, "not-a-cursor", 0, 10));
+        assertThrows(InvalidPageRequestException.class, () -> licenseService.getLicensesByAppId(appId, null, -1, 10));
+        assertThrows(InvalidPageRequestException.class, () -> licenseService.getLicensesByAppId(appId, null, 0, 0));
+        verifyNoInteractions(licenseRepository);
     }
 
     @Test
@@ -221,8 +400,6 @@ public class LicenseServiceImplTest {
         when(licenseRepository.findById(licenseId)).thenReturn(Optional.of(license));
         when(licenseRepository.save(any(License.class))).thenReturn(license);
         when(licenseMapper.toDTO(license)).thenReturn(licenseDTO);
-        when(activationRepository.countByLicenseId(licenseId)).thenReturn(0L);
-
         // Act
         LicenseDTO result = licenseService.updateLicense(licenseId, request);
 
@@ -232,7 +409,7 @@ public class LicenseServiceImplTest {
         verify(licenseRepository).findById(licenseId);
         verify(licenseRepository).save(license);
         verify(licenseMapper).toDTO(license);
-        verify(activationRepository).countByLicenseId(licenseId);
+        verify(activationRepository, never()).countByLicenseId(any(UUID.class)); // Read from the activation_count column
 
         // Verify that the license was updated with the new values
         assertEquals("updatedCustomer", license.getCustomerId());
@@ -264,6 +441,7 @@ public class LicenseServiceImplTest {
         verify(licenseRepository).findById(licenseId);
         verify(activationRepository).deleteByLicenseId(licenseId);
         verify(licenseRepository).delete(license);
+        verify(eventOutbox).append(eq(LicenseEvent.AGGREGATE_TYPE), eq(licenseId), eq("license.deleted"), any());
     }
 
     @Test
@@ -276,6 +454,7 @@ public class LicenseServiceImplTest {
         verify(licenseRepository).findById(licenseId);
         verify(activationRepository, never()).deleteByLicenseId(any(UUID.class));
         verify(licenseRepository, never()).delete(any(License.class));
+        verifyNoInteractions(eventOutbox);
     }
 
     @Test
@@ -284,8 +463,6 @@ public class LicenseServiceImplTest {
         when(licenseRepository.findById(licenseId)).thenReturn(Optional.of(license));
         when(licenseRepository.save(any(License.class))).thenReturn(license);
         when(licenseMapper.toDTO(license)).thenReturn(licenseDTO);
-        when(activationRepository.countByLicenseId(licenseId)).thenReturn(0L);
-
         // Act
         LicenseDTO result = licenseService.revokeLicense(licenseId);
 
@@ -295,20 +472,23 @@ public class LicenseServiceImplTest {
         verify(licenseRepository).findById(licenseId);
         verify(licenseRepository).save(license);
         verify(licenseMapper).toDTO(license);
-        verify(activationRepository).countByLicenseId(licenseId);
+        verify(activationRepository, never()).countByLicenseId(any(UUID.class)); // Read from the activation_count column
 
-        // Verify that the license was revoked
+        // Verify that the license was revoked and its cached state evicted
         assertTrue(license.isRevoked());
+        verify(validationCache).evict(licenseKey);
+        verify(eventOutbox).append(eq(LicenseEvent.AGGREGATE_TYPE), eq(licenseId), eq("license.revoked"),
+                argThat(payload -> payload instanceof LicenseEvent event && event.revoked()));
+        verify(statsService).recordChange(appId, new LicenseState(false, license.getExpiresAt()),
+                new LicenseState(true, license.getExpiresAt()), 1);
     }
 
     @Test
     void activateLicense_ValidLicense_ShouldActivateLicense() {
         // Arrange
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
-        when(activationRepository.findByLicenseIdAndHardwareId(licenseId, hardwareId)).thenReturn(Optional.empty());
-        when(activationRepository.countByLicenseId(licenseId)).thenReturn(0L);
-        when(activationRepository.save(any(Activation.class))).thenReturn(activation);
-        when(licenseRepository.save(any(License.class))).thenReturn(license);
+        when(activationRepository.insertIfAbsent(any(Activation.class))).thenReturn(true);
+        when(licenseRepository.incrementActivationCount(licenseId)).thenReturn(true);
         when(licenseMapper.toDTO(any(Activation.class))).thenReturn(activationDTO);
 
         // Act
@@ -318,14 +498,37 @@ public class LicenseServiceImplTest {
         assertNotNull(result);
         assertEquals(activationDTO, result);
         verify(licenseRepository).findByLicenseKey(licenseKey);
-        verify(activationRepository).findByLicenseIdAndHardwareId(licenseId, hardwareId);
-        verify(activationRepository).countByLicenseId(licenseId);
-        verify(activationRepository).save(any(Activation.class));
-        verify(licenseRepository).save(license);
+        verify(activationRepository).insertIfAbsent(argThat(inserted ->
+                inserted.getId() != null && licenseId.equals(inserted.getLicenseId()) && hardwareId.equals(inserted.getHardwareId())));
+        verify(licenseRepository).incrementActivationCount(licenseId);
+        verify(activationRepository, never()).countByLicenseId(any(UUID.class));
+        verify(licenseRepository, never()).save(any(License.class));
         verify(licenseMapper).toDTO(any(Activation.class));
 
-        // Verify that the license activated the hardware ID
-        assertTrue(license.getHardwareIds().contains(hardwareId));
+        // Verify that the license reflects the seat taken
+        assertEquals(1, license.getActivationCount());
+        verify(eventOutbox).append(eq(LicenseEvent.AGGREGATE_TYPE), eq(licenseId), eq("license.activated"),
+                argThat(payload -> payload instanceof LicenseEvent event
+                        && hardwareId.equals(event.hardwareId()) && event.activationCount() == 1));
+    }
+
+    @Test
+    void activateLicense_AlreadyActivatedHardware_ShouldNotTakeSeat() {
+        // Arrange
+        LocalDateTime seenAt = LocalDateTime.now();
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.insertIfAbsent(any(Activation.class))).thenReturn(false);
+        when(activationRepository.findByLicenseIdAndHardwareId(licenseId, hardwareId)).thenReturn(Optional.of(activation));
+        when(licenseMapper.toDTO(activation)).thenReturn(activationDTO);
+        when(lastSeenBuffer.record(activation.getId())).thenReturn(seenAt);
+
+        // Act
+        ActivationDTO result = licenseService.activateLicense(licenseKey, hardwareId);
+
+        // Assert
+        assertEquals(seenAt, result.getLastSeenAt());
+        verify(licenseRepository, never()).incrementActivationCount(any(UUID.class));
+        verify(licenseRepository, never()).save(any(License.class));
     }
 
     @Test
@@ -341,7 +544,6 @@ public class LicenseServiceImplTest {
                 .revoked(false)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
-                .hardwareIds(new HashSet<>())
                 .build();
 
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(expiredLicense));
@@ -367,7 +569,6 @@ public class LicenseServiceImplTest {
                 .revoked(true) // Revoked
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
-                .hardwareIds(new HashSet<>())
                 .build();
 
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(revokedLicense));
@@ -384,30 +585,37 @@ public class LicenseServiceImplTest {
     void activateLicense_MaxActivationsReached_ShouldThrowException() {
         // Arrange
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
-        when(activationRepository.findByLicenseIdAndHardwareId(licenseId, hardwareId)).thenReturn(Optional.empty());
-        when(activationRepository.countByLicenseId(licenseId)).thenReturn(3L); // Max activations reached
+        when(activationRepository.insertIfAbsent(any(Activation.class))).thenReturn(true);
+        when(licenseRepository.incrementActivationCount(licenseId)).thenReturn(false); // Max activations reached
 
         // Act & Assert
         LicenseActivationException exception = assertThrows(LicenseActivationException.class,
                 () -> licenseService.activateLicense(licenseKey, hardwareId));
         assertEquals("Maximum number of activations reached", exception.getMessage());
         verify(licenseRepository).findByLicenseKey(licenseKey);
-        verify(activationRepository).findByLicenseIdAndHardwareId(licenseId, hardwareId);
-        verify(activationRepository).countByLicenseId(licenseId);
-        verify(activationRepository, never()).save(any(Activation.class));
+        verify(activationRepository).insertIfAbsent(any(Activation.class));
+        verify(licenseRepository).incrementActivationCount(licenseId);
+        verify(licenseRepository, never()).save(any(License.class));
+    }
+
+    @Test
+    void activateLicense_KeyAbsentFromFilter_ShouldThrowWithoutLookup() {
+        // Arrange
+        when(keyFilter.isDefinitelyAbsent(licenseKey)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(LicenseNotFoundException.class, () -> licenseService.activateLicense(licenseKey, hardwareId));
+        verify(licenseRepository, never()).findByLicenseKey(anyString());
     }
 
     @Test
     void deactivateLicense_ExistingActivation_ShouldRemoveActivation() {
         // Arrange
-        Set<String> hardwareIds = new HashSet<>();
-        hardwareIds.add(hardwareId);
-        license.setHardwareIds(hardwareIds);
+        license.setActivationCount(1);
 
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
         when(activationRepository.findByLicenseIdAndHardwareId(licenseId, hardwareId)).thenReturn(Optional.of(activation));
         doNothing().when(activationRepository).delete(activation);
-        when(licenseRepository.save(license)).thenReturn(license);
 
         // Act
         boolean result = licenseService.deactivateLicense(licenseKey, hardwareId);
@@ -417,10 +625,12 @@ public class LicenseServiceImplTest {
         verify(licenseRepository).findByLicenseKey(licenseKey);
         verify(activationRepository).findByLicenseIdAndHardwareId(licenseId, hardwareId);
         verify(activationRepository).delete(activation);
-        verify(licenseRepository).save(license);
+        verify(licenseRepository).decrementActivationCount(licenseId);
+        verify(licenseRepository, never()).save(any(License.class));
 
-        // Verify that the hardware ID was removed from the license
-        assertFalse(license.getHardwareIds().contains(hardwareId));
+        // Verify that the license reflects the seat released
+        assertEquals(0, license.getActivationCount());
+        verify(eventOutbox).append(eq(LicenseEvent.AGGREGATE_TYPE), eq(licenseId), eq("license.deactivated"), any());
     }
 
     @Test
@@ -437,6 +647,7 @@ public class LicenseServiceImplTest {
         verify(licenseRepository).findByLicenseKey(licenseKey);
         verify(activationRepository).findByLicenseIdAndHardwareId(licenseId, hardwareId);
         verify(activationRepository, never()).delete(any(Activation.class));
+        verify(licenseRepository, never()).decrementActivationCount(any(UUID.class));
         verify(licenseRepository, never()).save(any(License.class));
     }
 
@@ -444,7 +655,7 @@ public class LicenseServiceImplTest {
     void validateLicense_ValidLicense_ShouldReturnTrue() {
         // Arrange
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
-        when(activationRepository.findByLicenseIdAndHardwareId(licenseId, hardwareId)).thenReturn(Optional.of(activation));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
 
         // Act
         boolean result = licenseService.validateLicense(licenseKey, hardwareId);
@@ -452,8 +663,44 @@ public class LicenseServiceImplTest {
         // Assert
         assertTrue(result);
         verify(licenseRepository).findByLicenseKey(licenseKey);
-        verify(activationRepository).findByLicenseIdAndHardwareId(licenseId, hardwareId);
-        verify(activationRepository).save(activation); // Verify that last seen timestamp is updated
+        verify(activationRepository).findByLicenseId(licenseId);
+        verify(activationRepository, never()).save(any(Activation.class)); // Validation performs no writes
+        verify(lastSeenBuffer).record(activation.getId());
+    }
+
+    @Test
+    void validateLicense_CachedLicense_ShouldNotQueryRepositories() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+        licenseService.validateLicense(licenseKey, hardwareId);
+
+        // Act
+        boolean result = licenseService.validateLicense(licenseKey, hardwareId);
+
+        // Assert
+        assertTrue(result);
+        verify(licenseRepository, times(1)).findByLicenseKey(licenseKey);
+        verify(activationRepository, times(1)).findByLicenseId(licenseId);
+    }
+
+    @Test
+    void validateLicense_AfterRevocation_ShouldReloadLicenseState() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(licenseRepository.findById(licenseId)).thenReturn(Optional.of(license));
+        when(licenseRepository.save(any(License.class))).thenReturn(license);
+        when(licenseMapper.toDTO(license)).thenReturn(licenseDTO);
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+        assertTrue(licenseService.validateLicense(licenseKey, hardwareId));
+
+        // Act
+        licenseService.revokeLicense(licenseId);
+        boolean result = licenseService.validateLicense(licenseKey, hardwareId);
+
+        // Assert
+        assertFalse(result);
+        verify(licenseRepository, times(2)).findByLicenseKey(licenseKey);
     }
 
     @Test
@@ -467,7 +714,20 @@ public class LicenseServiceImplTest {
         // Assert
         assertFalse(result);
         verify(licenseRepository).findByLicenseKey(licenseKey);
-        verify(activationRepository, never()).findByLicenseIdAndHardwareId(any(UUID.class), anyString());
+        verify(activationRepository, never()).findByLicenseId(any(UUID.class));
+    }
+
+    @Test
+    void validateLicense_KeyAbsentFromFilter_ShouldReturnFalseWithoutLookup() {
+        // Arrange
+        when(keyFilter.isDefinitelyAbsent(licenseKey)).thenReturn(true);
+
+        // Act
+        boolean result = licenseService.validateLicense(licenseKey, hardwareId);
+
+        // Assert
+        assertFalse(result);
+        verify(licenseRepository, never()).findByLicenseKey(anyString());
     }
 
     @Test
@@ -483,7 +743,6 @@ public class LicenseServiceImplTest {
                 .revoked(false)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
-                .hardwareIds(new HashSet<>())
                 .build();
 
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(expiredLicense));
@@ -509,7 +768,6 @@ public class LicenseServiceImplTest {
                 .revoked(true) // Revoked
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
-                .hardwareIds(new HashSet<>())
                 .build();
 
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(revokedLicense));
@@ -526,7 +784,7 @@ public class LicenseServiceImplTest {
     void validateLicense_NonActivatedHardware_ShouldReturnFalse() {
         // Arrange
         when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
-        when(activationRepository.findByLicenseIdAndHardwareId(licenseId, hardwareId)).thenReturn(Optional.empty());
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of());
 
         // Act
         boolean result = licenseService.validateLicense(licenseKey, hardwareId);
@@ -534,20 +792,117 @@ public class LicenseServiceImplTest {
         // Assert
         assertFalse(result);
         verify(licenseRepository).findByLicenseKey(licenseKey);
-        verify(activationRepository).findByLicenseIdAndHardwareId(licenseId, hardwareId);
+        verify(activationRepository).findByLicenseId(licenseId);
+    }
+
+    @Test
+    void getValidationResult_ValidLicense_ShouldReturnValidWithExpiry() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+
+        // Act
+        ValidationResult result = licenseService.getValidationResult(licenseKey, hardwareId);
+
+        // Assert
+        assertEquals(ValidationStatus.VALID, result.status());
+        assertEquals(license.getExpiresAt(), result.expiresAt());
+        verify(lastSeenBuffer).record(activation.getId());
+    }
+
+    @Test
+    void getValidationResult_Rejections_ShouldReportReason() {
+        // Arrange
+        License expiredLicense = License.builder().id(UUID.randomUUID()).licenseKey("EXPIRED-KEY").appId(appId)
+                .expiresAt(LocalDateTime.now().minusDays(1)).maxActivations(3).build();
+        License revokedLicense = License.builder().id(UUID.randomUUID()).licenseKey("REVOKED-KEY").appId(appId)
+                .maxActivations(3).revoked(true).build();
+        License fullLicense = License.builder().id(UUID.randomUUID()).licenseKey("FULL-KEY").appId(appId)
+                .maxActivations(1).build();
+        when(licenseRepository.findByLicenseKey(anyString())).thenReturn(Optional.empty());
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(licenseRepository.findByLicenseKey("EXPIRED-KEY")).thenReturn(Optional.of(expiredLicense));
+        when(licenseRepository.findByLicenseKey("REVOKED-KEY")).thenReturn(Optional.of(revokedLicense));
+        when(licenseRepository.findByLicenseKey("FULL-KEY")).thenReturn(Optional.of(fullLicense));
+        when(activationRepository.findByLicenseId(any(UUID.class))).thenReturn(List.of());
+        when(activationRepository.findByLicenseId(fullLicense.getId())).thenReturn(List.of(activation));
+
+        // Act & Assert
+        assertSame(ValidationResult.UNKNOWN_KEY, licenseService.getValidationResult("UNKNOWN-KEY", hardwareId));
+        assertEquals(ValidationStatus.EXPIRED, licenseService.getValidationResult("EXPIRED-KEY", hardwareId).status());
+        assertEquals(ValidationStatus.REVOKED, licenseService.getValidationResult("REVOKED-KEY", hardwareId).status());
+        assertEquals(ValidationStatus.NOT_ACTIVATED, licenseService.getValidationResult(licenseKey, hardwareId).status());
+        assertEquals(ValidationStatus.OVER_LIMIT, licenseService.getValidationResult("FULL-KEY", "OTHER-HARDWARE").status());
+        verify(lastSeenBuffer, never()).record(any(UUID.class));
     }
 
     @Test
     void countActiveLicensesByAppId_ShouldReturnCount() {
         // Arrange
-        LocalDateTime now = LocalDateTime.now();
-        when(licenseRepository.countActiveByAppId(eq(appId), any(LocalDateTime.class))).thenReturn(5L);
+        when(statsService.countActive(appId)).thenReturn(5L);
 
         // Act
         long result = licenseService.countActiveLicensesByAppId(appId);
 
         // Assert
         assertEquals(5L, result);
-        verify(licenseRepository).countActiveByAppId(eq(appId), any(LocalDateTime.class));
+        verify(licenseRepository, never()).countActiveByAppId(any(UUID.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void validateLicenses_MixedBatch_ShouldResolveWithOneQueryPerTable() {
+        // Arrange
+        List<ValidateLicenseRequest> requests = List.of(
+                new ValidateLicenseRequest(licenseKey, hardwareId),
+                new ValidateLicenseRequest(licenseKey, "UNKNOWN-HARDWARE"),
+                new ValidateLicenseRequest("9c0d-K7QM-2XBW-RT9P-HC4N", hardwareId));
+        when(licenseRepository.findByLicenseKeyIn(Set.of(licenseKey, "9c0d-K7QM-2XBW-RT9P-HC4N"))).thenReturn(List.of(license));
+        when(activationRepository.findByLicenseIdIn(List.of(licenseId))).thenReturn(List.of(activation));
+
+        // Act
+        List<LicenseValidationDTO> results = licenseService.validateLicenses(requests);
+
+        // Assert
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isValid());
+        assertFalse(results.get(1).isValid());
+        assertFalse(results.get(2).isValid());
+        assertEquals("9c0d-K7QM-2XBW-RT9P-HC4N", results.get(2).getLicenseKey());
+        verify(licenseRepository, times(1)).findByLicenseKeyIn(anyCollection());
+        verify(activationRepository, times(1)).findByLicenseIdIn(anyCollection());
+        verify(licenseRepository, never()).findByLicenseKey(anyString());
+        verify(lastSeenBuffer).record(activation.getId());
+    }
+
+    @Test
+    void validateLicenses_MalformedKey_ShouldBeInvalidWithoutLookup() {
+        // Arrange
+        List<ValidateLicenseRequest> requests = List.of(new ValidateLicenseRequest("UNKNOWN-KEY", hardwareId));
+
+        // Act
+        List<LicenseValidationDTO> results = licenseService.validateLicenses(requests);
+
+        // Assert
+        assertFalse(results.get(0).isValid());
+        assertEquals("UNKNOWN-KEY", results.get(0).getLicenseKey());
+        verify(keyFilter, never()).isDefinitelyAbsent(anyString());
+        verify(licenseRepository, never()).findByLicenseKeyIn(anyCollection());
+    }
+
+    @Test
+    void validateLicenses_CachedLicenses_ShouldNotQueryRepositories() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+        licenseService.validateLicense(licenseKey, hardwareId);
+
+        // Act
+        List<LicenseValidationDTO> results =
+                licenseService.validateLicenses(List.of(new ValidateLicenseRequest(licenseKey, hardwareId)));
+
+        // Assert
+        assertTrue(results.get(0).isValid());
+        verify(licenseRepository, never()).findByLicenseKeyIn(anyCollection());
+        verify(activationRepository, never()).findByLicenseIdIn(anyCollection());
     }
 }
@@ -0,0 +1,246 @@
+package com.alexartauddev.licenseforge.unit.license.service;
+
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+import com.alexartauddev.licenseforge.application.license.lastseen.ActivationLastSeenBuffer;
+import com.alexartauddev.licenseforge.application.license.service.impl.LicenseTokenServiceImpl;
+import com.alexartauddev.licenseforge.application.license.token.LicenseTokenSigner;
+import com.alexartauddev.licenseforge.client.LicenseToken;
+import com.alexartauddev.licenseforge.client.LicenseTokenStatus;
+import com.alexartauddev.licenseforge.client.LicenseTokenVerifier;
+import com.alexartauddev.licenseforge.config.LicenseTokenProperties;
+import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
+import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import com.alexartauddev.licenseforge.web.dto.license.LicenseTokenDTO;
+import com.alexartauddev.licenseforge.web.exception.license.LicenseValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LicenseTokenServiceImplTest {
+
+    @Mock
+    private LicenseRepository licenseRepository;
+
+    @Mock
+    private ActivationRepository activationRepository;
+
+    @Mock
+    private ActivationLastSeenBuffer lastSeenBuffer;
+
+    private LicenseTokenProperties properties;
+    private LicenseTokenSigner signer;
+    private LicenseTokenServiceImpl licenseTokenService;
+
+    private UUID licenseId;
+    private UUID appId;
+    private String licenseKey;
+    private String hardwareId;
+    private License license;
+    private Activation activation;
+
+    @BeforeEach
+    void setUp() {
+        licenseId = UUID.randomUUID();
+        appId = UUID.randomUUID();
+        licenseKey = "APP1-ABCD-EFGH-IJKL-MNOP";
+        hardwareId = "HARDWARE-ABC-123";
+
+        license = License.builder()
+                .id(licenseId)
+                .licenseKey(licenseKey)
+                .appId(appId)
+                .customerId("customer123")
+                .expiresAt(LocalDateTime.now().plusMonths(12))
+                .maxActivations(3)
+                .revoked(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        activation = Activation.builder()
+                .id(UUID.randomUUID())
+                .licenseId(licenseId)
+                .hardwareId(hardwareId)
+                .activatedAt(LocalDateTime.now())
+                .lastSeenAt(LocalDateTime.now())
+                .build();
+
+        properties = new LicenseTokenProperties();
+        properties.setRefreshInterval(Duration.ofHours(24));
+        createService(new LicenseTokenSigner(properties));
+    }
+
+    private void createService(LicenseTokenSigner tokenSigner) {
+        signer = tokenSigner;
+        LicenseValidationCache validationCache =
+                new LicenseValidationCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        licenseTokenService = new LicenseTokenServiceImpl(licenseRepository, activationRepository,
+                validationCache, lastSeenBuffer, signer, properties);
+    }
+
+    private LicenseTokenVerifier verifier() {
+        return LicenseTokenVerifier.fromEncodedKeys(licenseTokenService.getPublicKeys());
+    }
+
+    @Test
+    void issueToken_ActivatedLicense_ShouldIssueVerifiableToken() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+
+        // Act
+        LicenseTokenDTO result = licenseTokenService.issueToken(licenseKey, hardwareId);
+        LicenseTokenVerifier.Verification verification = verifier().verify(result.getToken(), licenseKey, hardwareId);
+
+        // Assert
+        assertEquals(signer.getActiveKeyId(), result.getKeyId());
+        assertEquals(LicenseTokenStatus.VALID, verification.status());
+        assertEquals(appId, verification.token().appId());
+        assertEquals(hardwareId, verification.token().hardwareId());
+        assertEquals(verification.token().issuedAt().plus(Duration.ofHours(24)), verification.token().refreshBy());
+        verify(lastSeenBuffer).record(activation.getId());
+    }
+
+    @Test
+    void issueToken_RefreshWindowElapsed_ShouldRequireRefresh() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+        LicenseTokenDTO result = licenseTokenService.issueToken(licenseKey, hardwareId);
+
+        // Act
+        LicenseTokenVerifier.Verification verification = verifier().verify(result.getToken(), licenseKey, hardwareId,
+                Instant.now().plus(Duration.ofHours(25)));
+
+        // Assert
+        assertEquals(LicenseTokenStatus.REFRESH_REQUIRED, verification.status());
+    }
+
+    @Test
+    void issueToken_LicenseExpiringSoon_ShouldCapRefreshWindowAtExpiry() {
+        // Arrange
+        license.setExpiresAt(LocalDateTime.now().plusHours(2));
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+
+        // Act
+        LicenseTokenDTO result = licenseTokenService.issueToken(licenseKey, hardwareId);
+
+        // Assert
+        Instant expiresAt = license.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS);
+        LicenseToken token = verifier().verify(result.getToken(), licenseKey, hardwareId).token();
+        assertEquals(expiresAt, token.refreshBy());
+        assertEquals(expiresAt, token.expiresAt());
+    }
+
+    @Test
+    void issueToken_HardwareNotActivated_ShouldThrowException() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(LicenseValidationException.class, () -> licenseTokenService.issueToken(licenseKey, hardwareId));
+        verify(lastSeenBuffer, never()).record(any(UUID.class));
+    }
+
+    @Test
+    void issueToken_RevokedLicense_ShouldThrowException() {
+        // Arrange
+        license.setRevoked(true);
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+
+        // Act & Assert
+        assertThrows(LicenseValidationException.class, () -> licenseTokenService.issueToken(licenseKey, hardwareId));
+    }
+
+    @Test
+    void verify_TamperedToken_ShouldRejectSignature() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+        String token = licenseTokenService.issueToken(licenseKey, hardwareId).getToken();
+        String[] parts = token.split("\\.");
+        LicenseToken forged = new LicenseToken(parts[1], licenseKey, "OTHER-HARDWARE", appId,
+                Instant.now(), Instant.now().plus(Duration.ofDays(3650)), null);
+        String tampered = parts[0] + "." + parts[1] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(forged.toPayload()) + "." + parts[3];
+
+        // Act
+        LicenseTokenVerifier.Verification verification = verifier().verify(tampered, licenseKey, "OTHER-HARDWARE");
+
+        // Assert
+        assertEquals(LicenseTokenStatus.INVALID_SIGNATURE, verification.status());
+        assertNull(verification.token());
+    }
+
+    @Test
+    void verify_OtherHardware_ShouldRejectToken() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+        String token = licenseTokenService.issueToken(licenseKey, hardwareId).getToken();
+
+        // Act & Assert
+        assertEquals(LicenseTokenStatus.HARDWARE_MISMATCH, verifier().verify(token, licenseKey, "OTHER-HARDWARE").status());
+        assertEquals(LicenseTokenStatus.MALFORMED, verifier().verify("not-a-token", licenseKey, hardwareId).status());
+    }
+
+    @Test
+    void verify_AfterKeyRotation_ShouldAcceptTokensOfRetiredKey() throws Exception {
+        // Arrange
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(LicenseToken.SIGNATURE_ALGORITHM);
+        KeyPair oldKey = generator.generateKeyPair();
+        KeyPair newKey = generator.generateKeyPair();
+        properties.getKeys().put("old", signingKey(oldKey, true));
+        properties.setActiveKeyId("old");
+        createService(new LicenseTokenSigner(properties));
+
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Optional.of(license));
+        when(activationRepository.findByLicenseId(licenseId)).thenReturn(List.of(activation));
+        String oldToken = licenseTokenService.issueToken(licenseKey, hardwareId).getToken();
+
+        // Act
+        properties.getKeys().put("old", signingKey(oldKey, false));
+        properties.getKeys().put("new", signingKey(newKey, true));
+        properties.setActiveKeyId("new");
+        createService(new LicenseTokenSigner(properties));
+        String newToken = licenseTokenService.issueToken(licenseKey, hardwareId).getToken();
+
+        // Assert
+        assertTrue(newToken.startsWith("LF1.new."));
+        assertTrue(verifier().verify(oldToken, licenseKey, hardwareId).isValid());
+        assertTrue(verifier().verify(newToken, licenseKey, hardwareId).isValid());
+    }
+
+    private static LicenseTokenProperties.SigningKey signingKey(KeyPair keyPair, boolean withPrivateKey) {
+        LicenseTokenProperties.SigningKey key = new LicenseTokenProperties.SigningKey();
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        }
+        return key;
+    }
+}
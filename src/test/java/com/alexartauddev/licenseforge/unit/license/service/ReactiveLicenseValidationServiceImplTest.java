@@ -0,0 +1,133 @@
+package com.alexartauddev.licenseforge.unit.license.service;
+
+import com.alexartauddev.licenseforge.application.license.cache.LicenseValidationCache;
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyFilter;
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyGenerator;
+import com.alexartauddev.licenseforge.application.license.lastseen.ActivationLastSeenBuffer;
+import com.alexartauddev.licenseforge.application.license.service.impl.ReactiveLicenseValidationServiceImpl;
+import com.alexartauddev.licenseforge.application.license.validation.ValidationResult;
+import com.alexartauddev.licenseforge.application.license.validation.ValidationStatus;
+import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+import com.alexartauddev.licenseforge.domain.license.repository.ReactiveActivationRepository;
+import com.alexartauddev.licenseforge.domain.license.repository.ReactiveLicenseRepository;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKeyFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveLicenseValidationServiceImplTest {
+
+    @Mock
+    private ReactiveLicenseRepository licenseRepository;
+
+    @Mock
+    private ReactiveActivationRepository activationRepository;
+
+    @Spy
+    private LicenseValidationCache validationCache =
+            new LicenseValidationCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+    @Mock
+    private LicenseKeyFilter keyFilter;
+
+    @Mock
+    private ActivationLastSeenBuffer lastSeenBuffer;
+
+    @InjectMocks
+    private ReactiveLicenseValidationServiceImpl validationService;
+
+    private String licenseKey;
+    private String hardwareId;
+    private License license;
+    private Activation activation;
+
+    @BeforeEach
+    void setUp() {
+        licenseKey = new LicenseKeyGenerator().generate(LicenseKeyFormat.DEFAULT, "ab12");
+        hardwareId = "HW-001";
+        license = License.builder()
+                .id(UUID.randomUUID())
+                .licenseKey(licenseKey)
+                .appId(UUID.randomUUID())
+                .customerId("customer")
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .maxActivations(1)
+                .build();
+        activation = Activation.builder()
+                .id(UUID.randomUUID())
+                .licenseId(license.getId())
+                .hardwareId(hardwareId)
+                .build();
+    }
+
+    @Test
+    void getValidationResult_CacheMiss_ShouldLoadLicenseAndCacheIt() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Mono.just(license));
+        when(activationRepository.findByLicenseId(license.getId())).thenReturn(Flux.just(activation));
+
+        // Act & Assert
+        StepVerifier.create(validationService.getValidationResult(licenseKey, hardwareId))
+                .assertNext(result -> {
+                    assertEquals(ValidationStatus.VALID, result.status());
+                    assertEquals(license.getExpiresAt(), result.expiresAt());
+                })
+                .verifyComplete();
+        StepVerifier.create(validationService.getValidationResult(licenseKey, "OTHER-HARDWARE"))
+                .assertNext(result -> assertEquals(ValidationStatus.OVER_LIMIT, result.status()))
+                .verifyComplete();
+        verify(licenseRepository, times(1)).findByLicenseKey(licenseKey);
+        verify(lastSeenBuffer).record(activation.getId());
+    }
+
+    @Test
+    void getValidationResult_UnknownKey_ShouldReturnUnknownKey() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(licenseKey)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(validationService.getValidationResult(licenseKey, hardwareId))
+                .expectNext(ValidationResult.UNKNOWN_KEY)
+                .verifyComplete();
+        verify(activationRepository, never()).findByLicenseId(any(UUID.class));
+    }
+
+    @Test
+    void getValidationResult_KeyAbsentFromFilter_ShouldNotQuery() {
+        // Arrange
+        when(keyFilter.isDefinitelyAbsent(licenseKey)).thenReturn(true);
+
+        // Act & Assert
+        StepVerifier.create(validationService.getValidationResult(licenseKey, hardwareId))
+                .expectNext(ValidationResult.UNKNOWN_KEY)
+                .verifyComplete();
+        verifyNoInteractions(licenseRepository);
+    }
+
+    @Test
+    void getValidationResult_MalformedKey_ShouldNotLookUp() {
+        // Act & Assert
+        StepVerifier.create(validationService.getValidationResult("not-a-key", hardwareId))
+                .expectNext(ValidationResult.UNKNOWN_KEY)
+                .verifyComplete();
+        verifyNoInteractions(licenseRepository, keyFilter);
+    }
+}
@@ -0,0 +1,131 @@
+package com.alexartauddev.licenseforge.unit.license.stats;
+
+import com.alexartauddev.licenseforge.application.license.stats.AppLicenseStatsService;
+import com.alexartauddev.licenseforge.domain.license.repository.AppLicenseStatsRepository;
+import com.alexartauddev.licenseforge.domain.license.valueobject.AppLicenseStats;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AppLicenseStatsServiceTest {
+
+    @Mock
+    private AppLicenseStatsRepository statsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AppLicenseStatsService statsService;
+    private UUID appId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statsService = new AppLicenseStatsService(statsRepository, transactionManager, meterRegistry);
+        appId = UUID.randomUUID();
+    }
+
+    @Test
+    void recordChange_StateUnchanged_ShouldNotTouchCounts() {
+        // Arrange
+        LicenseState state = new LicenseState(false, LocalDateTime.now().plusDays(30));
+
+        // Act
+        statsService.recordChange(appId, state, new LicenseState(false, state.expiresAt()), 1);
+
+        // Assert
+        verifyNoInteractions(statsRepository);
+    }
+
+    @Test
+    void recordChange_LicenseRevoked_ShouldRecordChange() {
+        // Arrange
+        LicenseState before = new LicenseState(false, null);
+        LicenseState after = new LicenseState(true, null);
+
+        // Act
+        statsService.recordChange(appId, before, after, 1);
+
+        // Assert
+        verify(statsRepository).recordChange(eq(appId), eq(before), eq(after), eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    void countActive_ApplicationsWithoutCounts_ShouldCountZero() {
+        // Arrange
+        UUID otherAppId = UUID.randomUUID();
+        when(statsRepository.findByAppIds(List.of(appId, otherAppId)))
+                .thenReturn(Map.of(appId, new AppLicenseStats(appId, 10, 6, 1, 3)));
+
+        // Act
+        Map<UUID, Long> counts = statsService.countActive(List.of(appId, otherAppId));
+
+        // Assert
+        assertEquals(Map.of(appId, 6L, otherAppId, 0L), counts);
+    }
+
+    @Test
+    void sweep_ShouldSweepEachApplicationInTransactionOfItsOwn() {
+        // Arrange
+        UUID otherAppId = UUID.randomUUID();
+        when(statsRepository.tryLockSweep()).thenReturn(true);
+        when(statsRepository.findAppIdsToSweep(any(LocalDateTime.class))).thenReturn(List.of(appId, otherAppId));
+        when(statsRepository.sweepExpired(eq(appId), any(LocalDateTime.class))).thenReturn(4L);
+        when(statsRepository.sweepExpired(eq(otherAppId), any(LocalDateTime.class))).thenReturn(1L);
+
+        // Act
+        statsService.sweep();
+
+        // Assert
+        assertEquals(5, meterRegistry.get("licenseforge.license.stats.expired_swept").counter().count());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void sweep_AnotherInstanceSweeping_ShouldSkipTurn() {
+        // Arrange
+        when(statsRepository.tryLockSweep()).thenReturn(false);
+
+        // Act
+        statsService.sweep();
+
+        // Assert
+        verify(statsRepository, never()).findAppIdsToSweep(any());
+        verify(statsRepository, never()).sweepExpired(any(), any());
+    }
+
+    @Test
+    void reconcile_DriftFound_ShouldReportAndCorrectIt() {
+        // Arrange
+        AppLicenseStatsRepository.Drift changed =
+                new AppLicenseStatsRepository.Drift(appId, 7L, LocalDateTime.now(), 1, 2, 0, -1);
+        AppLicenseStatsRepository.Drift missing =
+                new AppLicenseStatsRepository.Drift(UUID.randomUUID(), null, LocalDateTime.now(), 3, 3, 0, 0);
+        when(statsRepository.findDrift(any(LocalDateTime.class))).thenReturn(List.of(changed, missing));
+        when(statsRepository.correct(changed)).thenReturn(false);
+        when(statsRepository.correct(missing)).thenReturn(true);
+
+        // Act
+        statsService.reconcile();
+
+        // Assert
+        assertEquals(10, meterRegistry.get("licenseforge.license.stats.drift").gauge().value());
+        assertEquals(1, meterRegistry.get("licenseforge.license.stats.corrections").counter().count());
+    }
+}
@@ -0,0 +1,88 @@
+package com.alexartauddev.licenseforge.unit.license.valueobject;
+
+import com.alexartauddev.licenseforge.application.license.keygen.LicenseKeyGenerator;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKey;
+import com.alexartauddev.licenseforge.domain.license.valueobject.LicenseKeyFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LicenseKeyTest {
+
+    private final LicenseKeyGenerator generator = new LicenseKeyGenerator();
+
+    @Test
+    void parse_GeneratedKey_ShouldBeAccepted() {
+        // Arrange
+        String key = generator.generate(LicenseKeyFormat.of("ACME", 5, 6, "0123456789abcdef"), "ACME");
+
+        // Act
+        LicenseKey licenseKey = LicenseKey.parse(key);
+
+        // Assert
+        assertEquals(key, licenseKey.getValue());
+    }
+
+    @Test
+    void isWellFormed_LegacyKey_ShouldBeAccepted() {
+        // Act & Assert
+        assertTrue(LicenseKey.isWellFormed("3f2a-K7QM-2XBW-RT9P-HC4N"));
+        assertFalse(LicenseKey.isWellFormed("3F2A-K7QM-2XBW-RT9P-HC4N"));
+        assertFalse(LicenseKey.isWellFormed("3f2a-K7QM-2XBW-RT9P-HC4O"));
+        assertFalse(LicenseKey.isWellFormed("3f2a-K7QM-2XBW-RT9P-HC4"));
+    }
+
+    @Test
+    void isWellFormed_SingleCharacterTypo_ShouldBeRejected() {
+        // Arrange
+        String key = generator.generate(LicenseKeyFormat.DEFAULT, "3f2a");
+        int rejected = 0;
+
+        // Act
+        for (int i = 0; i < key.length() - LicenseKey.SUFFIX_LENGTH; i++) {
+            if (key.charAt(i) == '-') {
+                continue;
+            }
+            char typo = key.charAt(i) == 'Z' ? 'Y' : 'Z';
+            String mistyped = key.substring(0, i) + typo + key.substring(i + 1);
+            rejected += LicenseKey.isWellFormed(mistyped) ? 0 : 1;
+        }
+
+        // Assert: a single-character error changes the CRC-32, and survives folding once in a million
+        assertEquals(20, rejected);
+    }
+
+    @Test
+    void isWellFormed_Garbage_ShouldBeRejected() {
+        // Act & Assert
+        assertFalse(LicenseKey.isWellFormed(null));
+        assertFalse(LicenseKey.isWellFormed(""));
+        assertFalse(LicenseKey.isWellFormed("' OR 1=1 --"));
+        assertFalse(LicenseKey.isWellFormed("ACME--K7QM_1AAAA"));
+        assertFalse(LicenseKey.isWellFormed("ACME-K7QM-_1AAAA"));
+        assertFalse(LicenseKey.isWellFormed("A".repeat(LicenseKey.MAX_LENGTH + 1)));
+        assertThrows(IllegalArgumentException.class, () -> LicenseKey.parse("3f2a-K7QM-2XBW-RT9P-HC4N_1AAAA"));
+    }
+
+    @Test
+    void isWellFormed_RandomChecksums_ShouldRarelyMatch() {
+        // Arrange
+        String key = generator.generate(LicenseKeyFormat.DEFAULT, "3f2a");
+        String body = key.substring(0, key.length() - LicenseKey.CHECKSUM_LENGTH);
+        int accepted = 0;
+
+        // Act: every checksum whose first symbol is fixed, i.e. 32 768 guesses
+        String symbols = LicenseKeyFormat.DEFAULT_ALPHABET;
+        for (int a = 0; a < 32; a++) {
+            for (int b = 0; b < 32; b++) {
+                for (int c = 0; c < 32; c++) {
+                    String guess = body + key.charAt(key.length() - 4) + symbols.charAt(a) + symbols.charAt(b) + symbols.charAt(c);
+                    accepted += LicenseKey.isWellFormed(guess) ? 1 : 0;
+                }
+            }
+        }
+
+        // Assert
+        assertEquals(1, accepted);
+    }
+}
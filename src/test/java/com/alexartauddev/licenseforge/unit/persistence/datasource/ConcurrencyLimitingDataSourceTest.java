@@ -0,0 +1,102 @@
+package com.alexartauddev.licenseforge.unit.persistence.datasource;
+
+import com.alexartauddev.licenseforge.infrastructure.persistence.datasource.ConcurrencyLimitingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 2, Duration.ofMillis(50));
+        lenient().when(targetDataSource.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void getConnection_BeyondLimit_ShouldGiveUpAfterTimeout() throws SQLException {
+        // Arrange
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(2, dataSource.getActiveCount());
+        assertEquals(1, dataSource.getRejectedCount());
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    void close_ShouldReleasePermitOnce() throws SQLException {
+        // Arrange
+        Connection first = dataSource.getConnection();
+
+        // Act
+        first.close();
+        first.close();
+
+        // Assert
+        assertEquals(0, dataSource.getActiveCount());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_WaitingCaller_ShouldGetConnectionOnceReleased() throws Exception {
+        // Arrange
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+        ConcurrencyLimitingDataSource patient = new ConcurrencyLimitingDataSource(targetDataSource, 1, Duration.ofSeconds(5));
+        Connection held = patient.getConnection();
+
+        // Act
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return patient.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }, Executors.newVirtualThreadPerTaskExecutor());
+        while (patient.getWaitingCount() == 0) {
+            Thread.onSpinWait();
+        }
+        held.close();
+
+        // Assert
+        assertNotNull(waiting.get(5, TimeUnit.SECONDS));
+        first.close();
+        assertEquals(1, dataSource.getActiveCount());
+    }
+
+    @Test
+    void getConnection_TargetFailure_ShouldReleasePermit() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("database down"));
+
+        // Act & Assert
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getActiveCount());
+    }
+}
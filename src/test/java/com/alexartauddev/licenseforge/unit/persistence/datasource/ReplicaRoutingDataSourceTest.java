@@ -0,0 +1,118 @@
+package com.alexartauddev.licenseforge.unit.persistence.datasource;
+
+import com.alexartauddev.licenseforge.infrastructure.persistence.datasource.ReadYourWritesContext;
+import com.alexartauddev.licenseforge.infrastructure.persistence.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstReplicaConnection = mock(Connection.class);
+    private final Connection secondReplicaConnection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        lenient().when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", firstReplica);
+        replicas.put("replica-2", secondReplica);
+        dataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void getConnection_BeforeLagCheck_ShouldUsePrimary() throws SQLException {
+        // Act & Assert
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_ReplicasWithinLag_ShouldAlternateBetweenThem() throws SQLException {
+        // Arrange
+        stubLag(firstReplicaConnection, 0.5);
+        stubLag(secondReplicaConnection, 0);
+        dataSource.checkReplicationLag();
+
+        // Act & Assert
+        assertSame(firstReplicaConnection, dataSource.getConnection());
+        assertSame(secondReplicaConnection, dataSource.getConnection());
+        assertSame(firstReplicaConnection, dataSource.getConnection());
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void getConnection_LaggingOrFailingReplicas_ShouldBeLeftOut() throws SQLException {
+        // Arrange
+        stubLag(firstReplicaConnection, 30);
+        when(secondReplicaConnection.createStatement()).thenThrow(new SQLException("connection refused"));
+        dataSource.checkReplicationLag();
+
+        // Act & Assert
+        assertSame(primaryConnection, dataSource.getConnection());
+
+        // Caught up replicas are used again
+        stubLag(firstReplicaConnection, 1);
+        dataSource.checkReplicationLag();
+        assertSame(firstReplicaConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_PinnedAfterWrite_ShouldUsePrimaryUntilPinExpires() throws SQLException {
+        // Arrange
+        stubLag(firstReplicaConnection, 0);
+        stubLag(secondReplicaConnection, 0);
+        dataSource.checkReplicationLag();
+
+        // Act & Assert
+        ReadYourWritesContext.pinUntil(System.currentTimeMillis() + 60_000);
+        assertSame(primaryConnection, dataSource.getConnection());
+        ReadYourWritesContext.pinUntil(System.currentTimeMillis() - 1);
+        assertSame(firstReplicaConnection, dataSource.getConnection());
+    }
+
+    private static void stubLag(Connection connection, double lagSeconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+    }
+}
@@ -1,8 +1,12 @@
 package com.alexartauddev.licenseforge.unit.realm.service;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
+import com.alexartauddev.licenseforge.application.company.quota.QuotaService;
 import com.alexartauddev.licenseforge.application.realm.mapper.RealmMapper;
 import com.alexartauddev.licenseforge.application.realm.service.impl.RealmServiceImpl;
 import com.alexartauddev.licenseforge.domain.application.repository.ApplicationRepository;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.realm.entity.Realm;
 import com.alexartauddev.licenseforge.domain.realm.repository.RealmRepository;
 import com.alexartauddev.licenseforge.web.dto.realm.RealmDTO;
@@ -19,7 +23,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +44,15 @@ class RealmServiceImplTest {
     @Mock
     private RealmMapper realmMapper;
 
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private TenantHierarchy tenantHierarchy;
+
+    @Mock
+    private QuotaService quotaService;
+
     @InjectMocks
     private RealmServiceImpl realmService;
 
@@ -127,20 +142,21 @@ class RealmServiceImplTest {
     void getRealmsByCompanyId_ShouldReturnRealms() {
         // Arrange
         List<Realm> realms = Arrays.asList(realm, realm);
-        when(realmRepository.findByCompanyId(companyId)).thenReturn(realms);
+        when(realmRepository.findByCompanyId(companyId, PageQuery.offset(0, 10))).thenReturn(realms);
         when(realmMapper.toDTO(any(Realm.class))).thenReturn(realmDTO);
-        when(applicationRepository.countByRealmId(any(UUID.class))).thenReturn(3L);
+        when(applicationRepository.countByRealmIds(Set.of(realm.getId()))).thenReturn(Map.of(realm.getId(), 3L));
 
         // Act
-        List<RealmDTO> result = realmService.getRealmsByCompanyId(companyId, 0, 10);
+        List<RealmDTO> result = realmService.getRealmsByCompanyId(companyId, null, 0, 10).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(realmDTO, result.get(0));
-        verify(realmRepository).findByCompanyId(companyId);
+        verify(realmRepository).findByCompanyId(companyId, PageQuery.offset(0, 10));
         verify(realmMapper, times(2)).toDTO(any(Realm.class));
-        verify(applicationRepository, times(2)).countByRealmId(any(UUID.class));
+        verify(applicationRepository).countByRealmIds(Set.of(realm.getId()));
+        verify(applicationRepository, never()).countByRealmId(any(UUID.class));
     }
 
     @Test
@@ -198,6 +214,20 @@ class RealmServiceImplTest {
         verify(realmRepository).delete(realm);
     }
 
+    @Test
+    void deleteRealm_WithApplications_ShouldReleaseTheirQuotaFromCompany() {
+        // Arrange
+        when(realmRepository.findById(realmId)).thenReturn(Optional.of(realm));
+        when(applicationRepository.countByRealmId(realmId)).thenReturn(3L);
+
+        // Act
+        realmService.deleteRealm(realmId);
+
+        // Assert
+        verify(quotaService).releaseApplications(companyId, 3);
+        verify(realmRepository).delete(realm);
+    }
+
     @Test
     void deleteRealm_NonExistingRealm_ShouldThrowException() {
         // Arrange
@@ -0,0 +1,161 @@
+package com.alexartauddev.licenseforge.unit.team.permission;
+
+import com.alexartauddev.licenseforge.application.company.hierarchy.TenantHierarchy;
+import com.alexartauddev.licenseforge.application.jwt.principal.AuthenticatedUser;
+import com.alexartauddev.licenseforge.application.service_account.service.ServiceAccountService;
+import com.alexartauddev.licenseforge.application.team.permission.AppPermissionEvaluator;
+import com.alexartauddev.licenseforge.application.team.permission.CompanyPermissionMatrix;
+import com.alexartauddev.licenseforge.application.team.permission.PermissionMatrixService;
+import com.alexartauddev.licenseforge.domain.license.entity.Activation;
+import com.alexartauddev.licenseforge.domain.license.entity.License;
+import com.alexartauddev.licenseforge.domain.license.repository.ActivationRepository;
+import com.alexartauddev.licenseforge.domain.license.repository.LicenseRepository;
+import com.alexartauddev.licenseforge.domain.team.entity.TeamPermission;
+import com.alexartauddev.licenseforge.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AppPermissionEvaluatorTest {
+
+    @Mock
+    private PermissionMatrixService permissionMatrixService;
+
+    @Mock
+    private TenantHierarchy tenantHierarchy;
+
+    @Mock
+    private ServiceAccountService serviceAccountService;
+
+    @Mock
+    private LicenseRepository licenseRepository;
+
+    @Mock
+    private ActivationRepository activationRepository;
+
+    @InjectMocks
+    private AppPermissionEvaluator evaluator;
+
+    private UUID companyId;
+    private UUID appId;
+    private UUID teamId;
+    private License license;
+    private Activation activation;
+    private AuthenticatedUser user;
+
+    @BeforeEach
+    void setUp() {
+        companyId = UUID.randomUUID();
+        appId = UUID.randomUUID();
+        teamId = UUID.randomUUID();
+        license = License.builder()
+                .id(UUID.randomUUID())
+                .licenseKey("3f2a-K7QM-2XBW-RT9P-HC4N")
+                .appId(appId)
+                .build();
+        activation = Activation.builder()
+                .id(UUID.randomUUID())
+                .licenseId(license.getId())
+                .hardwareId("HARDWARE-ABC-123")
+                .build();
+        user = new AuthenticatedUser(UUID.randomUUID(), "developer@example.com", User.Role.DEVELOPER, companyId, 0);
+    }
+
+    @Test
+    void hasLicensePermission_TeamGrantedRead_ShouldAllowReadOnly() {
+        // Arrange
+        when(licenseRepository.findById(license.getId())).thenReturn(Optional.of(license));
+        grant(TeamPermission.PermissionType.READ);
+
+        // Act & Assert
+        assertTrue(evaluator.hasLicensePermission(authenticated(user), license.getId(), "READ"));
+        assertFalse(evaluator.hasLicensePermission(authenticated(user), license.getId(), "WRITE"));
+    }
+
+    @Test
+    void hasLicenseKeyPermission_LicenseOfAnotherCompany_ShouldDeny() {
+        // Arrange
+        when(licenseRepository.findByLicenseKey(license.getLicenseKey())).thenReturn(Optional.of(license));
+        when(tenantHierarchy.findCompanyIdOfApplication(appId)).thenReturn(Optional.of(UUID.randomUUID()));
+
+        // Act
+        boolean granted = evaluator.hasLicenseKeyPermission(authenticated(user), license.getLicenseKey(), "READ");
+
+        // Assert
+        assertFalse(granted);
+        verifyNoInteractions(permissionMatrixService);
+    }
+
+    @Test
+    void hasLicensePermission_UnknownLicense_ShouldDeny() {
+        // Arrange
+        when(licenseRepository.findById(any())).thenReturn(Optional.empty());
+
+        // Act
+        boolean granted = evaluator.hasLicensePermission(authenticated(user), UUID.randomUUID(), "READ");
+
+        // Assert
+        assertFalse(granted);
+        verifyNoInteractions(tenantHierarchy);
+    }
+
+    @Test
+    void hasActivationPermission_TeamGrantedWrite_ShouldResolveApplicationThroughLicense() {
+        // Arrange
+        when(activationRepository.findById(activation.getId())).thenReturn(Optional.of(activation));
+        when(licenseRepository.findById(license.getId())).thenReturn(Optional.of(license));
+        grant(TeamPermission.PermissionType.WRITE);
+
+        // Act
+        boolean granted = evaluator.hasActivationPermission(authenticated(user), activation.getId(), "WRITE");
+
+        // Assert
+        assertTrue(granted);
+    }
+
+    @Test
+    void isServiceAccount_CompanyAdministrator_ShouldBeDeniedUnlikeServiceAccount() {
+        // Arrange
+        AuthenticatedUser admin = new AuthenticatedUser(UUID.randomUUID(), "admin@example.com", User.Role.ADMIN, companyId, 0);
+        when(serviceAccountService.isServiceAccount("admin@example.com")).thenReturn(false);
+        when(serviceAccountService.isServiceAccount("service@example.com")).thenReturn(true);
+        AuthenticatedUser serviceAccount =
+                new AuthenticatedUser(UUID.randomUUID(), "service@example.com", User.Role.ADMIN, companyId, 0);
+
+        // Act & Assert
+        assertFalse(evaluator.isServiceAccount(authenticated(admin)));
+        assertTrue(evaluator.isServiceAccount(authenticated(serviceAccount)));
+    }
+
+    private void grant(TeamPermission.PermissionType permissionType) {
+        when(tenantHierarchy.findCompanyIdOfApplication(appId)).thenReturn(Optional.of(companyId));
+        when(permissionMatrixService.getMatrix(companyId)).thenReturn(CompanyPermissionMatrix.of(
+                Map.of(user.id(), teamId),
+                List.of(),
+                List.of(TeamPermission.builder()
+                        .id(UUID.randomUUID())
+                        .teamId(teamId)
+                        .appId(appId)
+                        .permissionType(permissionType)
+                        .build())));
+    }
+
+    private static Authentication authenticated(AuthenticatedUser user) {
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+}
@@ -0,0 +1,114 @@
+package com.alexartauddev.licenseforge.unit.team.permission;
+
+import com.alexartauddev.licenseforge.application.team.permission.CompanyPermissionMatrix;
+import com.alexartauddev.licenseforge.domain.team.entity.TeamPermission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompanyPermissionMatrixTest {
+
+    private UUID userId;
+    private UUID ownTeamId;
+    private UUID otherTeamId;
+    private UUID appId;
+    private CompanyPermissionMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        ownTeamId = UUID.randomUUID();
+        otherTeamId = UUID.randomUUID();
+        appId = UUID.randomUUID();
+        matrix = CompanyPermissionMatrix.of(
+                Map.of(userId, ownTeamId),
+                List.of(new CompanyPermissionMatrix.Membership(userId, otherTeamId)),
+                List.of(permission(ownTeamId, appId, TeamPermission.PermissionType.READ),
+                        permission(otherTeamId, appId, TeamPermission.PermissionType.WRITE)));
+    }
+
+    @Test
+    void isGranted_UserInSeveralTeams_ShouldHoldHighestPermission() {
+        // Act & Assert
+        assertTrue(matrix.isGranted(userId, appId, TeamPermission.PermissionType.READ));
+        assertTrue(matrix.isGranted(userId, appId, TeamPermission.PermissionType.WRITE));
+        assertFalse(matrix.isGranted(userId, appId, TeamPermission.PermissionType.ADMIN));
+    }
+
+    @Test
+    void isGranted_UnknownUserOrApplication_ShouldDeny() {
+        // Act & Assert
+        assertFalse(matrix.isGranted(UUID.randomUUID(), appId, TeamPermission.PermissionType.READ));
+        assertFalse(matrix.isGranted(userId, UUID.randomUUID(), TeamPermission.PermissionType.READ));
+    }
+
+    @Test
+    void revoke_PermissionOfAddedTeam_ShouldFallBackToOwnTeam() {
+        // Act
+        matrix.revoke(otherTeamId, appId);
+
+        // Assert
+        assertTrue(matrix.isGranted(userId, appId, TeamPermission.PermissionType.READ));
+        assertFalse(matrix.isGranted(userId, appId, TeamPermission.PermissionType.WRITE));
+    }
+
+    @Test
+    void removeMember_OwnTeam_ShouldKeepItsPermissions() {
+        // Act
+        matrix.removeMember(userId, otherTeamId);
+        matrix.removeMember(userId, ownTeamId);
+
+        // Assert
+        assertTrue(matrix.isGranted(userId, appId, TeamPermission.PermissionType.READ));
+        assertFalse(matrix.isGranted(userId, appId, TeamPermission.PermissionType.WRITE));
+    }
+
+    @Test
+    void grant_NewApplication_ShouldReachEveryMemberOfTheTeam() {
+        // Arrange
+        UUID newAppId = UUID.randomUUID();
+        UUID memberId = UUID.randomUUID();
+        matrix.addMember(memberId, otherTeamId);
+
+        // Act
+        matrix.grant(otherTeamId, newAppId, TeamPermission.PermissionType.ADMIN);
+
+        // Assert
+        assertTrue(matrix.isGranted(userId, newAppId, TeamPermission.PermissionType.ADMIN));
+        assertTrue(matrix.isGranted(memberId, newAppId, TeamPermission.PermissionType.ADMIN));
+        assertTrue(matrix.isGranted(memberId, appId, TeamPermission.PermissionType.WRITE));
+        assertEquals(2, matrix.userCount());
+    }
+
+    @Test
+    void changes_AppliedTwice_ShouldBeIdempotent() {
+        // Arrange
+        UUID memberId = UUID.randomUUID();
+
+        // Act
+        matrix.addMember(memberId, otherTeamId);
+        matrix.addMember(memberId, otherTeamId);
+        matrix.removeMember(memberId, otherTeamId);
+        matrix.revoke(ownTeamId, appId);
+        matrix.revoke(ownTeamId, appId);
+
+        // Assert
+        assertFalse(matrix.isGranted(memberId, appId, TeamPermission.PermissionType.READ));
+        assertTrue(matrix.isGranted(userId, appId, TeamPermission.PermissionType.WRITE));
+        assertEquals(1, matrix.userCount());
+    }
+
+    private static TeamPermission permission(UUID teamId, UUID appId, TeamPermission.PermissionType permissionType) {
+        return TeamPermission.builder()
+                .id(UUID.randomUUID())
+                .teamId(teamId)
+                .appId(appId)
+                .permissionType(permissionType)
+                .build();
+    }
+}
@@ -1,7 +1,10 @@
 package com.alexartauddev.licenseforge.unit.team.service;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
 import com.alexartauddev.licenseforge.application.team.mapper.TeamMapper;
+import com.alexartauddev.licenseforge.application.team.permission.PermissionMatrixService;
 import com.alexartauddev.licenseforge.application.team.service.impl.TeamServiceImpl;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.company.entity.Company;
 import com.alexartauddev.licenseforge.domain.company.repository.CompanyRepository;
 import com.alexartauddev.licenseforge.domain.team.entity.Team;
@@ -22,7 +25,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,6 +49,12 @@ class TeamServiceImplTest {
     @Mock
     private TeamMapper teamMapper;
 
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private PermissionMatrixService permissionMatrixService;
+
     @InjectMocks
     private TeamServiceImpl teamService;
 
@@ -153,22 +164,24 @@ class TeamServiceImplTest {
         // Arrange
         List<Team> teams = Arrays.asList(team, team);
 
-        when(teamRepository.findByCompanyId(companyId)).thenReturn(teams);
+        when(teamRepository.findByCompanyId(companyId, PageQuery.offset(0, 10))).thenReturn(teams);
         when(teamMapper.toDTO(any(Team.class))).thenReturn(teamDTO);
-        when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
-        when(userRepository.countByTeamId(any(UUID.class))).thenReturn(3L);
+        when(companyRepository.findNamesByIds(Set.of(companyId))).thenReturn(Map.of(companyId, company.getName()));
+        when(userRepository.countByTeamIds(Set.of(team.getId()))).thenReturn(Map.of(team.getId(), 3L));
 
         // Act
-        List<TeamDTO> result = teamService.getTeamsByCompanyId(companyId, 0, 10);
+        List<TeamDTO> result = teamService.getTeamsByCompanyId(companyId, null, 0, 10).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(teamDTO, result.get(0));
-        verify(teamRepository).findByCompanyId(companyId);
+        verify(teamRepository).findByCompanyId(companyId, PageQuery.offset(0, 10));
         verify(teamMapper, times(2)).toDTO(any(Team.class));
-        verify(companyRepository, times(2)).findById(companyId);
-        verify(userRepository, times(2)).countByTeamId(any(UUID.class));
+        verify(companyRepository, never()).findById(any(UUID.class));
+        verify(userRepository, never()).countByTeamId(any(UUID.class));
+        assertEquals(company.getName(), teamDTO.getCompanyName());
+        assertEquals(3L, teamDTO.getMembersCount());
     }
 
     @Test
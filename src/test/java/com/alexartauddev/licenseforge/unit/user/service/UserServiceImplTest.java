@@ -1,8 +1,12 @@
 package com.alexartauddev.licenseforge.unit.user.service;
 
+import com.alexartauddev.licenseforge.application.cache.invalidation.CacheInvalidationBus;
+import com.alexartauddev.licenseforge.application.jwt.cache.TokenVersionCache;
+import com.alexartauddev.licenseforge.application.team.permission.PermissionMatrixService;
 import com.alexartauddev.licenseforge.application.user.mapper.UserMapper;
 import com.alexartauddev.licenseforge.application.user.service.PasswordService;
 import com.alexartauddev.licenseforge.application.user.service.impl.UserServiceImpl;
+import com.alexartauddev.licenseforge.domain.common.pagination.PageQuery;
 import com.alexartauddev.licenseforge.domain.company.repository.CompanyRepository;
 import com.alexartauddev.licenseforge.domain.team.repository.TeamRepository;
 import com.alexartauddev.licenseforge.domain.user.entity.User;
@@ -25,7 +29,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -50,6 +56,15 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private PermissionMatrixService permissionMatrixService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -215,21 +230,22 @@ class UserServiceImplTest {
 
         List<User> users = Arrays.asList(user, user2);
 
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findAll(PageQuery.offset(0, 10))).thenReturn(users);
         when(userMapper.toDTO(any(User.class))).thenReturn(userDTO);
 
-        // Use lenient for stubbing that might be called in enrichUserDTO
-        lenient().when(companyRepository.findById(any(UUID.class))).thenReturn(Optional.of(mock()));
-        lenient().when(teamRepository.findById(any(UUID.class))).thenReturn(Optional.of(mock()));
+        when(companyRepository.findNamesByIds(Set.of(companyId))).thenReturn(Map.of(companyId, "Test Company"));
+        when(teamRepository.findNamesByIds(Set.of(teamId))).thenReturn(Map.of(teamId, "Test Team"));
 
         // Act
-        List<UserDTO> result = userService.getAllUsers(0, 10);
+        List<UserDTO> result = userService.getAllUsers(null, 0, 10).items();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(userRepository).findAll();
+        verify(userRepository).findAll(PageQuery.offset(0, 10));
         verify(userMapper, times(2)).toDTO(any(User.class));
+        verify(companyRepository, never()).findById(any(UUID.class));
+        verify(teamRepository, never()).findById(any(UUID.class));
     }
 
     @Test
@@ -264,6 +280,7 @@ class UserServiceImplTest {
         verify(userRepository).existsByEmail(request.getEmail());
         verify(userRepository).save(user);
         verify(userMapper).toDTO(user);
+        verify(tokenVersionCache).bump(userId);
 
         // Verify that user properties were updated
         assertEquals("Jane", user.getFirstName());
@@ -288,6 +305,7 @@ class UserServiceImplTest {
         verify(userRepository).findById(userId);
         verify(userRepository).existsByEmail(request.getEmail());
         verify(userRepository, never()).save(any(User.class));
+        verify(tokenVersionCache, never()).bump(any(UUID.class));
     }
 
     @Test
@@ -313,6 +331,7 @@ class UserServiceImplTest {
         verify(passwordService).verifyPassword(request.getCurrentPassword(), "hashedPassword");
         verify(passwordService).hashPassword(request.getNewPassword());
         verify(userRepository).save(user);
+        verify(tokenVersionCache).bump(userId);
 
         // Verify that the password was updated
         assertEquals("newHashedPassword", user.getPasswordHash());
@@ -336,6 +355,7 @@ class UserServiceImplTest {
         verify(passwordService).verifyPassword(request.getCurrentPassword(), user.getPasswordHash());
         verify(passwordService, never()).hashPassword(anyString());
         verify(userRepository, never()).save(any(User.class));
+        verify(tokenVersionCache, never()).bump(any(UUID.class));
     }
 
     @Test
@@ -356,6 +376,7 @@ class UserServiceImplTest {
         verify(passwordService).verifyPassword(request.getCurrentPassword(), user.getPasswordHash());
         verify(passwordService, never()).hashPassword(anyString());
         verify(userRepository, never()).save(any(User.class));
+        verify(tokenVersionCache, never()).bump(any(UUID.class));
     }
 
     @Test
@@ -369,6 +390,7 @@ class UserServiceImplTest {
         // Assert
         verify(userRepository).findById(userId);
         verify(userRepository).delete(user);
+        verify(tokenVersionCache).evict(userId);
     }
 
     @Test